@@ -0,0 +1,71 @@
+package com.blake.portalplugin.bench;
+
+import com.blake.portalplugin.BlastCooldownTracker;
+import com.blake.portalplugin.BlastCooldownTracker.CooldownType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BlastCooldownTrackerBenchmark {
+
+    // A full 16-player Blast match, every weapon type
+    private static final int PLAYERS = 16;
+    private static final CooldownType[] TYPES = CooldownType.values();
+    private static final int LOOKUPS = PLAYERS * 6;
+
+    private final BlastCooldownTracker tracker = new BlastCooldownTracker();
+    private final UUID[] players = new UUID[PLAYERS];
+    private long now;
+
+    @Setup
+    public void setup() {
+        SplittableRandom rng = new SplittableRandom(11);
+        now = 1_000_000L;
+        for (int i = 0; i < PLAYERS; i++) {
+            players[i] = new UUID(rng.nextLong(), rng.nextLong());
+            for (CooldownType t : TYPES) {
+                // About half the cooldowns are still running at 'now'
+                tracker.startCooldown(players[i], t, 500 + rng.nextInt(3000), now - rng.nextInt(2000));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void isReady(Blackhole bh) {
+        for (UUID id : players) {
+            for (CooldownType t : TYPES) {
+                bh.consume(tracker.isReady(id, t, now));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void remainingAndDuration(Blackhole bh) {
+        for (UUID id : players) {
+            for (CooldownType t : TYPES) {
+                bh.consume(tracker.getRemainingMs(id, t, now));
+                bh.consume(tracker.getDurationMs(id, t));
+            }
+        }
+    }
+
+    @Benchmark
+    public void startCooldown() {
+        tracker.startCooldown(players[0], CooldownType.BASIC, 800, now);
+    }
+}
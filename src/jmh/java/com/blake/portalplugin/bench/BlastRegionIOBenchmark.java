@@ -0,0 +1,85 @@
+package com.blake.portalplugin.bench;
+
+import com.blake.portalplugin.BlastRegionIO;
+import com.blake.portalplugin.BlastRegionSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BlastRegionIOBenchmark {
+
+    // Map-sized regions: 64^3 and 128 x 64 x 128
+    @Param({"64", "128"})
+    public int size;
+
+    @Param({"DEFLATE", "NONE"})
+    public BlastRegionIO.Compression compression;
+
+    private BlastRegionSnapshot snapshot;
+    private File dir;
+    private File saveTarget;
+    private File loadSource;
+
+    @Setup
+    public void setup() throws IOException {
+        int sizeY = 64;
+        int[] data = new int[size * sizeY * size];
+
+        // Mostly air with layered terrain, roughly what a Blast map looks like
+        SplittableRandom rng = new SplittableRandom(7);
+        for (int i = 0; i < data.length; i++) {
+            int y = (i / size) % sizeY;
+            data[i] = y < 20 ? 1 + rng.nextInt(23) : (rng.nextInt(20) == 0 ? 1 + rng.nextInt(23) : 0);
+        }
+
+        snapshot = new BlastRegionSnapshot(size, sizeY, size, data);
+        snapshot.getPalette().add("minecraft:air");
+        for (int i = 1; i < 24; i++) {
+            snapshot.getPalette().add("minecraft:block_" + i + "[variant=" + (i % 4) + "]");
+        }
+
+        dir = Files.createTempDirectory("brs-bench").toFile();
+        saveTarget = new File(dir, "save.brs");
+        loadSource = new File(dir, "load.brs");
+        BlastRegionIO.save(loadSource, snapshot, compression);
+    }
+
+    @TearDown
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                //noinspection ResultOfMethodCallIgnored
+                f.delete();
+            }
+        }
+        //noinspection ResultOfMethodCallIgnored
+        dir.delete();
+    }
+
+    @Benchmark
+    public File save() throws IOException {
+        BlastRegionIO.save(saveTarget, snapshot, compression);
+        return saveTarget;
+    }
+
+    @Benchmark
+    public BlastRegionSnapshot load() throws IOException {
+        return BlastRegionIO.load(loadSource);
+    }
+}
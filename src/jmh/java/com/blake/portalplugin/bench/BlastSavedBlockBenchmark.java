@@ -0,0 +1,55 @@
+package com.blake.portalplugin.bench;
+
+import com.blake.portalplugin.BlastSavedBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BlastSavedBlockBenchmark {
+
+    private static final int COUNT = 1024;
+    private static final String[] MATERIALS = {"STONE", "WHITE_WOOL", "OAK_PLANKS", "GLASS", "RED_WOOL"};
+
+    private BlastSavedBlock[] blocks;
+    private String[] lines;
+
+    @Setup
+    public void setup() {
+        SplittableRandom rng = new SplittableRandom(3);
+        blocks = new BlastSavedBlock[COUNT];
+        lines = new String[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            blocks[i] = new BlastSavedBlock(rng.nextInt(-64, 64), rng.nextInt(0, 64), rng.nextInt(-64, 64),
+                    MATERIALS[rng.nextInt(MATERIALS.length)]);
+            lines[i] = blocks[i].serialize();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void serialize(Blackhole bh) {
+        for (BlastSavedBlock b : blocks) {
+            bh.consume(b.serialize());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void deserialize(Blackhole bh) {
+        for (String s : lines) {
+            bh.consume(BlastSavedBlock.deserialize(s));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.blake.portalplugin.bench;
+
+import com.blake.portalplugin.worldedit.Clipboard;
+import com.blake.portalplugin.worldedit.ClipboardManager.FlipAxis;
+import com.blake.portalplugin.worldedit.ClipboardTransforms;
+import org.bukkit.Material;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.data.BlockData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClipboardTransformsBenchmark {
+
+    @Param({"32", "96"})
+    public int size;
+
+    private Clipboard clipboard;
+
+    @Setup
+    public void setup() {
+        Material[] solids = {Material.STONE, Material.OAK_PLANKS, Material.WHITE_WOOL, Material.GLASS};
+        BlockFace[] faces = {BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST};
+
+        // ~16-entry palette: air, a few plain solids, and stairs in every facing
+        BlockData[] palette = new BlockData[1 + solids.length + faces.length * 2];
+        int i = 0;
+        palette[i++] = Fakes.blockData(Material.AIR, null);
+        for (Material m : solids) palette[i++] = Fakes.blockData(m, null);
+        for (BlockFace f : faces) {
+            palette[i++] = Fakes.blockData(Material.OAK_STAIRS, f);
+            palette[i++] = Fakes.blockData(Material.FURNACE, f);
+        }
+
+        SplittableRandom rng = new SplittableRandom(42);
+        Clipboard.Builder builder = new Clipboard.Builder(size, size / 2, size);
+        int volume = size * (size / 2) * size;
+        for (int idx = 0; idx < volume; idx++) {
+            builder.set(idx, palette[rng.nextInt(palette.length)]);
+        }
+        clipboard = builder.build();
+    }
+
+    @Benchmark
+    public Clipboard rotate90() {
+        return ClipboardTransforms.rotateY(clipboard, 90);
+    }
+
+    @Benchmark
+    public Clipboard rotate180() {
+        return ClipboardTransforms.rotateY(clipboard, 180);
+    }
+
+    @Benchmark
+    public Clipboard flipX() {
+        return ClipboardTransforms.flip(clipboard, FlipAxis.X);
+    }
+}
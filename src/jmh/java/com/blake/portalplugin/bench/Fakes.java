@@ -0,0 +1,148 @@
+package com.blake.portalplugin.bench;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Server;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.block.data.Directional;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Proxy-based stand-ins for the Bukkit objects the benchmarked code touches, so the
+ * benchmarks run headless against the plain API jar. Anything not handled explicitly
+ * returns a zero/empty/null default.
+ */
+public final class Fakes {
+
+    private static final Logger LOGGER = Logger.getLogger("PortalPlugin-Bench");
+
+    private Fakes() {}
+
+    /**
+     * Installs a do-nothing Server: no players online, every offline player has a name.
+     */
+    public static synchronized void installServer() {
+        if (Bukkit.getServer() != null) return;
+
+        Server server = proxy(Server.class, (proxy, m, args) -> switch (m.getName()) {
+            case "getLogger" -> LOGGER;
+            case "getName" -> "BenchServer";
+            case "getVersion", "getBukkitVersion", "getMinecraftVersion" -> "bench";
+            case "isPrimaryThread" -> true;
+            case "getOfflinePlayer" -> args[0] instanceof UUID id ? offlinePlayer(id) : null;
+            default -> objectMethod(proxy, m, args, "BenchServer");
+        });
+        Bukkit.setServer(server);
+    }
+
+    public static Plugin plugin() {
+        return proxy(Plugin.class, (proxy, m, args) -> switch (m.getName()) {
+            case "getLogger" -> LOGGER;
+            case "getName" -> "PortalPlugin";
+            case "isEnabled" -> true;
+            default -> objectMethod(proxy, m, args, "PortalPlugin");
+        });
+    }
+
+    public static OfflinePlayer offlinePlayer(UUID id) {
+        String name = "p" + id.toString().substring(0, 8);
+        return proxy(OfflinePlayer.class, (proxy, m, args) -> switch (m.getName()) {
+            case "getUniqueId" -> id;
+            case "getName" -> name;
+            default -> objectMethod(proxy, m, args, name);
+        });
+    }
+
+    /**
+     * Block state with an optional facing. Directional states implement {@link Directional}
+     * so rotate/flip exercise the same branches as real stairs or furnaces.
+     */
+    public static BlockData blockData(Material material, BlockFace facing) {
+        return new FakeBlockData(material, facing).create();
+    }
+
+    // ---------------------------------------------------------------------
+    // Internals
+    // ---------------------------------------------------------------------
+
+    private static final class FakeBlockData implements InvocationHandler {
+        private final Material material;
+        private BlockFace facing;
+
+        FakeBlockData(Material material, BlockFace facing) {
+            this.material = material;
+            this.facing = facing;
+        }
+
+        BlockData create() {
+            Class<?>[] types = facing == null
+                    ? new Class<?>[]{BlockData.class}
+                    : new Class<?>[]{BlockData.class, Directional.class};
+            return (BlockData) Proxy.newProxyInstance(Fakes.class.getClassLoader(), types, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method m, Object[] args) {
+            return switch (m.getName()) {
+                case "getMaterial" -> material;
+                case "clone" -> new FakeBlockData(material, facing).create();
+                case "getFacing" -> facing;
+                case "setFacing" -> {
+                    facing = (BlockFace) args[0];
+                    yield null;
+                }
+                case "getAsString" -> asString();
+                case "equals" -> args[0] != null && Proxy.isProxyClass(args[0].getClass())
+                        && Proxy.getInvocationHandler(args[0]) instanceof FakeBlockData o
+                        && o.material == material && o.facing == facing;
+                case "hashCode" -> material.hashCode() * 31 + (facing == null ? 0 : facing.hashCode());
+                case "toString" -> asString();
+                default -> defaultValue(m.getReturnType());
+            };
+        }
+
+        private String asString() {
+            String base = "minecraft:" + material.name().toLowerCase(Locale.ROOT);
+            return facing == null ? base : base + "[facing=" + facing.name().toLowerCase(Locale.ROOT) + "]";
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(Fakes.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object objectMethod(Object proxy, Method m, Object[] args, String label) {
+        return switch (m.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> label;
+            default -> defaultValue(m.getReturnType());
+        };
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0.0;
+        if (type == float.class) return 0.0f;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        if (type == char.class) return (char) 0;
+        if (type.isAssignableFrom(List.class)) return List.of();
+        if (type.isAssignableFrom(Set.class)) return Set.of();
+        return null;
+    }
+}
@@ -0,0 +1,95 @@
+package com.blake.portalplugin.bench;
+
+import com.blake.portalplugin.arenas.Arena;
+import com.blake.portalplugin.arenas.ArenaManager;
+import com.blake.portalplugin.queues.GameQueue;
+import com.blake.portalplugin.queues.GameQueueManager;
+import org.bukkit.Location;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arena selection in {@link GameQueueManager#handlePlayerQueued(String)}. Queued players
+ * are offline as far as the fake server knows, so the run measures the arena scan and
+ * queue bookkeeping, not teleports.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameQueueBenchmark {
+
+    private static final String GAME = "blast";
+
+    @Param({"16", "128"})
+    public int arenaCount;
+
+    private final List<Arena> arenas = new ArrayList<>();
+    private final List<UUID> queued = new ArrayList<>();
+
+    private GameQueueManager manager;
+    private GameQueue queue;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Fakes.installServer();
+
+        for (int i = 0; i < arenaCount; i++) {
+            Arena a = new Arena("arena" + i);
+            a.setMaxPlayers(8);
+            a.addSpawn(new Location(null, 0, 64, 0));
+            arenas.add(a);
+        }
+
+        // ArenaManager loads arena-data.yml in its constructor; only the arena list is needed here
+        ArenaManager arenaManager = Mockito.mock(ArenaManager.class);
+        Mockito.when(arenaManager.getAllArenas()).thenReturn(arenas);
+
+        manager = new GameQueueManager(arenaManager, null, Fakes.plugin());
+        queue = manager.createQueue(GAME);
+
+        for (int i = 0; i < 4; i++) {
+            queued.add(new UUID(0L, i));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        // Every arena busy except the last one
+        for (int i = 0; i < arenas.size(); i++) {
+            Arena a = arenas.get(i);
+            boolean busy = i < arenas.size() - 1;
+            a.setInUse(busy);
+            a.setStarted(busy);
+            a.setAssignedGame(busy ? GAME : null);
+        }
+        queue.getQueuedPlayers().clear();
+        queue.getQueuedPlayers().addAll(queued);
+    }
+
+    @Benchmark
+    public GameQueue allocateFreeArena() {
+        manager.handlePlayerQueued(GAME);
+        return queue;
+    }
+
+    @Benchmark
+    public GameQueue scanSingleQueued() {
+        // One player is not enough to open a fresh arena: pure scan, no state change
+        queue.getQueuedPlayers().subList(1, queue.getQueuedPlayers().size()).clear();
+        manager.handlePlayerQueued(GAME);
+        return queue;
+    }
+}
@@ -0,0 +1,76 @@
+package com.blake.portalplugin.stats;
+
+import com.blake.portalplugin.bench.Fakes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leaderboard reads and win updates against a board seeded in memory (no database).
+ * Lives in the stats package to reach {@link LeaderboardManager#install}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LeaderboardBenchmark {
+
+    private static final String GAME = "blast";
+
+    @Param({"1000", "100000"})
+    public int players;
+
+    private LeaderboardManager leaderboard;
+    private UUID[] ids;
+    private List<UUID> match;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Fakes.installServer();
+
+        SplittableRandom rng = new SplittableRandom(5);
+        ids = new UUID[players];
+        LeaderboardManager.Board board = new LeaderboardManager.Board();
+        for (int i = 0; i < players; i++) {
+            ids[i] = new UUID(rng.nextLong(), rng.nextLong());
+            board.add(ids[i], 1 + rng.nextInt(500));
+        }
+
+        Map<String, LeaderboardManager.Board> loaded = new HashMap<>();
+        loaded.put(GAME, board);
+
+        leaderboard = new LeaderboardManager(Fakes.plugin(), null);
+        leaderboard.install(loaded);
+
+        match = List.of(ids[0], ids[1], ids[2], ids[3]);
+    }
+
+    @Benchmark
+    public List<LeaderboardManager.Standing> top10() {
+        return leaderboard.top(GAME, 10);
+    }
+
+    @Benchmark
+    public List<PlayerStats> topStats10() {
+        return leaderboard.topStats(GAME, 10);
+    }
+
+    @Benchmark
+    public void applyResult() {
+        // Rotate winners so the ordered set re-sorts different entries each call
+        UUID winner = match.get(next++ & 3);
+        leaderboard.applyResult(GAME, winner, match);
+    }
+}
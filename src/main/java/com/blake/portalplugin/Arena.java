@@ -17,7 +17,13 @@ public class Arena {
     private int maxPlayers = 100;
 
     private final List<Location> spawnPoints = new ArrayList<>();
-    private final List<UUID> playersInArena = new ArrayList<>();
+
+    // Insertion-ordered so the last player standing is still "the first one left"
+    private final Set<UUID> playersInArena = new LinkedHashSet<>();
+    private final Set<UUID> playersView = Collections.unmodifiableSet(playersInArena);
+
+    // Owning manager's UUID -> Arena index; null for arenas built outside an ArenaManager
+    private final ArenaManager owner;
 
     // Tracks everyone who participated in this game instance
     private final Set<UUID> allPlayersEverJoined = new HashSet<>();
@@ -26,13 +32,23 @@ public class Arena {
 
     private final Map<Material, List<Location>> resetBlocks = new HashMap<>();
 
+    // Blocks changed during the current match; replayed by ArenaManager.resetArenaBlocks
+    private final ArenaChangeJournal journal = new ArenaChangeJournal();
+    private boolean resetting;
+    private int layoutVersion;
+
     // NEW: which game this arena instance is currently running (e.g. "pvp", "spleef")
     private String assignedGame = null;
 
     public Arena(String name) {
+        this(name, null);
+    }
+
+    Arena(String name, ArenaManager owner) {
         this.name = name.toLowerCase();
         this.inUse = false;
         this.started = false;
+        this.owner = owner;
     }
 
     public String getName() {
@@ -43,32 +59,73 @@ public class Arena {
     public void setInUse(boolean inUse) { this.inUse = inUse; }
 
     public boolean hasStarted() { return started; }
-    public void setStarted(boolean started) { this.started = started; }
+    public void setStarted(boolean started) {
+        boolean starting = started && !this.started;
+        this.started = started;
+        if (starting && owner != null) owner.beginJournal(this);
+    }
+
+    // Restores the saved flag on load. A match already running then has no journal, so its
+    // reset falls back to replaying every stored block.
+    void restoreStarted(boolean started) { this.started = started; }
+
+    /**
+     * True while the last match's changes are still being restored; the arena can't be
+     * allocated to a new game until it finishes.
+     */
+    public boolean isResetting() { return resetting; }
+    void setResetting(boolean resetting) { this.resetting = resetting; }
+
+    ArenaChangeJournal getJournal() { return journal; }
 
     public int getMaxPlayers() { return maxPlayers; }
     public void setMaxPlayers(int maxPlayers) { this.maxPlayers = maxPlayers; }
 
-    public void addSpawn(Location loc) { spawnPoints.add(loc); }
+    public void addSpawn(Location loc) {
+        spawnPoints.add(loc);
+        layoutVersion++;
+    }
     public List<Location> getSpawnPoints() { return spawnPoints; }
 
     public void addPlayer(Player player) {
-        UUID id = player.getUniqueId();
-        if (!playersInArena.contains(id)) {
-            playersInArena.add(id);
+        addPlayer(player.getUniqueId());
+        allPlayersEverJoined.add(player.getUniqueId());
+    }
+
+    // Restores membership from arena-data.yml without counting it as a join
+    void addPlayer(UUID id) {
+        if (playersInArena.add(id) && owner != null) {
+            owner.indexJoin(id, this);
         }
-        allPlayersEverJoined.add(id);
     }
 
     public void removePlayer(Player player) {
-        playersInArena.remove(player.getUniqueId());
+        removePlayer(player.getUniqueId());
+    }
+
+    public void removePlayer(UUID id) {
+        if (playersInArena.remove(id) && owner != null) {
+            owner.indexLeave(id, this);
+        }
     }
 
     public boolean isPlayerInArena(Player player) {
         return playersInArena.contains(player.getUniqueId());
     }
 
-    public List<UUID> getPlayers() {
-        return playersInArena;
+    /**
+     * Read-only, join-ordered view. Use addPlayer/removePlayer to change membership so the
+     * manager's player index stays in sync.
+     */
+    public Set<UUID> getPlayers() {
+        return playersView;
+    }
+
+    /**
+     * First player still in the arena (the winner once one is left), or null.
+     */
+    public UUID getFirstPlayer() {
+        return playersInArena.isEmpty() ? null : playersInArena.iterator().next();
     }
 
     public List<Player> getOnlinePlayers() {
@@ -114,12 +171,17 @@ public class Arena {
 
     public void clearResetBlocks(Material material) {
         resetBlocks.remove(material);
+        layoutVersion++;
     }
 
     public void addResetBlock(Material m, Location loc) {
         resetBlocks.computeIfAbsent(m, k -> new ArrayList<>()).add(loc);
+        layoutVersion++;
     }
 
+    // Bumped whenever spawns or reset blocks change, so cached cleanup bounds get rebuilt
+    int getLayoutVersion() { return layoutVersion; }
+
     // NEW: assigned game getters/setters
     public String getAssignedGame() {
         return assignedGame;
@@ -154,12 +216,19 @@ public class Arena {
         setStarted(false);
         setInUse(false);
         clearCountdown();
-        playersInArena.clear();
+        clearPlayers();
         setAssignedGame(null); // NEW: allow arena to be used by a different game later
         // We intentionally do NOT clear allPlayersEverJoined here;
         // that happens only after stats are recorded.
     }
 
+    private void clearPlayers() {
+        if (owner != null) {
+            for (UUID id : playersInArena) owner.indexLeave(id, this);
+        }
+        playersInArena.clear();
+    }
+
     public boolean abortCountdownIfNotEnoughPlayers() {
         if (!hasStarted() && hasCountdown() && playersInArena.size() < 2) {
             broadcast("&cCountdown stopped – not enough players.");
@@ -0,0 +1,182 @@
+package com.blake.portalplugin.arenas;
+
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Blocks changed during one match of an arena, with the state each had before its first change.
+ *
+ * Positions are packed into longs (x and z 26 bits, y 12 bits, all signed) and original states
+ * are ids into a per-match palette, so a match that breaks a few hundred blocks costs a few
+ * hundred array slots instead of Location/BlockData objects. Only the first change to a
+ * position is kept; later changes would overwrite the original with in-match state.
+ */
+final class ArenaChangeJournal {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private boolean armed;
+    private World world;
+
+    // Padded arena bounds, used to attribute explosions (they have no player)
+    private boolean bounded;
+    private int minX, minY, minZ, maxX, maxY, maxZ;
+
+    private long[] positions = new long[INITIAL_CAPACITY];
+    private int[] states = new int[INITIAL_CAPACITY];
+    private int size;
+
+    // Open addressing over positions; a slot holds index + 1, 0 is empty
+    private int[] table = new int[INITIAL_CAPACITY * 2];
+
+    private final List<BlockData> palette = new ArrayList<>();
+    private final Map<BlockData, Integer> paletteIds = new HashMap<>();
+
+    // ---------------------------------------------------------------------
+    // Lifecycle
+    // ---------------------------------------------------------------------
+
+    void arm(World world) {
+        clear();
+        this.world = world;
+        this.armed = true;
+    }
+
+    void bound(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+        this.bounded = true;
+    }
+
+    void disarm() {
+        armed = false;
+    }
+
+    void clear() {
+        armed = false;
+        bounded = false;
+        world = null;
+        size = 0;
+        Arrays.fill(table, 0);
+        palette.clear();
+        paletteIds.clear();
+    }
+
+    boolean isArmed() {
+        return armed;
+    }
+
+    World getWorld() {
+        return world;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean covers(World w, int x, int y, int z) {
+        return bounded && w == world
+                && x >= minX && x <= maxX
+                && y >= minY && y <= maxY
+                && z >= minZ && z <= maxZ;
+    }
+
+    // ---------------------------------------------------------------------
+    // Recording
+    // ---------------------------------------------------------------------
+
+    /**
+     * Notes that (x, y, z) is about to change from {@code original}. Returns false when the
+     * journal isn't armed, the block is in another world, or the position is already recorded.
+     */
+    boolean record(World w, int x, int y, int z, BlockData original) {
+        if (!armed || original == null) return false;
+        if (world == null) world = w;
+        if (w != world) return false;
+
+        long key = pack(x, y, z);
+        int mask = table.length - 1;
+        int slot = mix(key) & mask;
+        while (table[slot] != 0) {
+            if (positions[table[slot] - 1] == key) return false;
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+            states = Arrays.copyOf(states, size * 2);
+        }
+        positions[size] = key;
+        states[size] = stateId(original);
+        size++;
+        table[slot] = size;
+
+        if (size * 2 > table.length) rehash(table.length * 2);
+        return true;
+    }
+
+    private int stateId(BlockData data) {
+        Integer id = paletteIds.get(data);
+        if (id != null) return id;
+
+        int next = palette.size();
+        palette.add(data);
+        paletteIds.put(data, next);
+        return next;
+    }
+
+    private void rehash(int capacity) {
+        table = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < size; i++) {
+            int slot = mix(positions[i]) & mask;
+            while (table[slot] != 0) slot = (slot + 1) & mask;
+            table[slot] = i + 1;
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Replay
+    // ---------------------------------------------------------------------
+
+    long positionAt(int i) {
+        return positions[i];
+    }
+
+    BlockData stateAt(int i) {
+        return palette.get(states[i]);
+    }
+
+    static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    static int unpackX(long key) {
+        return (int) (key >> 38);
+    }
+
+    static int unpackY(long key) {
+        return (int) (key << 52 >> 52);
+    }
+
+    static int unpackZ(long key) {
+        return (int) (key << 26 >> 38);
+    }
+
+    private static int mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
@@ -0,0 +1,61 @@
+package com.blake.portalplugin.listeners;
+
+import com.blake.portalplugin.arenas.ArenaManager;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockMultiPlaceEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+
+/**
+ * Feeds block changes inside running arenas into their change journals, so the end-of-match
+ * reset only touches what was actually changed. Runs at MONITOR so cancelled changes
+ * (protected blocks, other listeners) are never recorded.
+ */
+public class ArenaChangeJournalListener implements Listener {
+
+    private final ArenaManager arenaManager;
+
+    public ArenaChangeJournalListener(ArenaManager arenaManager) {
+        this.arenaManager = arenaManager;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        Block block = event.getBlock();
+        arenaManager.recordChange(event.getPlayer(), block.getWorld(),
+                block.getX(), block.getY(), block.getZ(), block.getBlockData());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        // The block is already placed by now; the replaced state holds the original
+        if (event instanceof BlockMultiPlaceEvent multi) {
+            for (BlockState state : multi.getReplacedBlockStates()) {
+                record(event, state);
+            }
+            return;
+        }
+        record(event, event.getBlockReplacedState());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        arenaManager.recordExplosion(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        arenaManager.recordExplosion(event.blockList());
+    }
+
+    private void record(BlockPlaceEvent event, BlockState state) {
+        arenaManager.recordChange(event.getPlayer(), state.getWorld(),
+                state.getX(), state.getY(), state.getZ(), state.getBlockData());
+    }
+}
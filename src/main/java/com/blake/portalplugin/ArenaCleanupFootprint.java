@@ -0,0 +1,108 @@
+package com.blake.portalplugin.arenas;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.util.BoundingBox;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The boxes an arena's item cleanup clears (inferred bounds + spawn radii) and the chunks
+ * covering them, computed once per arena layout.
+ *
+ * Cleanup only asks those chunks for their entities, so its cost follows the arena's size
+ * rather than how many entities the world holds.
+ */
+final class ArenaCleanupFootprint {
+
+    record Box(World world, BoundingBox box, String label) {
+    }
+
+    private final int layoutVersion;
+    private final List<Box> boxes;
+    private final Map<World, long[]> chunksByWorld = new LinkedHashMap<>();
+    private final int chunkCount;
+
+    ArenaCleanupFootprint(int layoutVersion, List<Box> boxes) {
+        this.layoutVersion = layoutVersion;
+        this.boxes = List.copyOf(boxes);
+
+        Map<World, Set<Long>> keys = new LinkedHashMap<>();
+        for (Box b : boxes) {
+            BoundingBox box = b.box();
+            int minCx = floor(box.getMinX()) >> 4, maxCx = floor(box.getMaxX()) >> 4;
+            int minCz = floor(box.getMinZ()) >> 4, maxCz = floor(box.getMaxZ()) >> 4;
+
+            Set<Long> set = keys.computeIfAbsent(b.world(), w -> new LinkedHashSet<>());
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                for (int cz = minCz; cz <= maxCz; cz++) {
+                    set.add(key(cx, cz));
+                }
+            }
+        }
+
+        int count = 0;
+        for (Map.Entry<World, Set<Long>> e : keys.entrySet()) {
+            long[] arr = new long[e.getValue().size()];
+            int i = 0;
+            for (long k : e.getValue()) arr[i++] = k;
+            chunksByWorld.put(e.getKey(), arr);
+            count += arr.length;
+        }
+        this.chunkCount = count;
+    }
+
+    int getLayoutVersion() {
+        return layoutVersion;
+    }
+
+    List<Box> getBoxes() {
+        return boxes;
+    }
+
+    boolean isEmpty() {
+        return boxes.isEmpty();
+    }
+
+    int getChunkCount() {
+        return chunkCount;
+    }
+
+    Map<World, long[]> getChunksByWorld() {
+        return chunksByWorld;
+    }
+
+    /**
+     * Index of the first box containing the entity's position, or -1.
+     */
+    int boxOf(Entity entity) {
+        World w = entity.getWorld();
+        Location l = entity.getLocation();
+        for (int i = 0; i < boxes.size(); i++) {
+            Box b = boxes.get(i);
+            if (b.world() == w && b.box().contains(l.getX(), l.getY(), l.getZ())) return i;
+        }
+        return -1;
+    }
+
+    static int chunkX(long key) {
+        return (int) (key >> 32);
+    }
+
+    static int chunkZ(long key) {
+        return (int) key;
+    }
+
+    private static long key(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    private static int floor(double v) {
+        return (int) Math.floor(v);
+    }
+}
@@ -62,7 +62,7 @@ public class ArenaEliminationHandler {
 
         // WIN CONDITION
         if (remaining == 1) {
-            UUID winnerId = arena.getPlayers().get(0);
+            UUID winnerId = arena.getFirstPlayer();
             Player winner = Bukkit.getPlayer(winnerId);
 
             if (winner != null && winner.isOnline()) {
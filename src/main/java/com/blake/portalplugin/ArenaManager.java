@@ -2,11 +2,15 @@
 package com.blake.portalplugin.arenas;
 
 import org.bukkit.*;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.BoundingBox;
 
 import java.io.File;
@@ -18,6 +22,15 @@ public class ArenaManager {
     private final JavaPlugin plugin;
     private final Map<String, Arena> arenas = new HashMap<>();
 
+    // Maintained by Arena.addPlayer/removePlayer so move/quit checks are one lookup
+    private final Map<UUID, Arena> arenaByPlayer = new HashMap<>();
+
+    // Item cleanup boxes + chunks per arena, keyed by layout version
+    private final Map<Arena, ArenaCleanupFootprint> footprints = new HashMap<>();
+
+    // Journal replays still running, spread across ticks
+    private final Map<Arena, JournalReplay> replays = new HashMap<>();
+
     private File arenaFile;
     private FileConfiguration arenaConfig;
 
@@ -102,11 +115,11 @@ public class ArenaManager {
 
         for (String name : arenaConfig.getConfigurationSection("arenas").getKeys(false)) {
 
-            Arena arena = new Arena(name);
+            Arena arena = new Arena(name, this);
             String base = "arenas." + name;
 
             arena.setInUse(arenaConfig.getBoolean(base + ".inUse", false));
-            arena.setStarted(arenaConfig.getBoolean(base + ".started", false));
+            arena.restoreStarted(arenaConfig.getBoolean(base + ".started", false));
             arena.setMaxPlayers(arenaConfig.getInt(base + ".maxPlayers", 100));
 
             /* ---------- Load Spawns ---------- */
@@ -128,7 +141,7 @@ public class ArenaManager {
             /* ---------- Load Players ---------- */
             for (String uuid : arenaConfig.getStringList(base + ".players")) {
                 try {
-                    arena.getPlayers().add(UUID.fromString(uuid));
+                    arena.addPlayer(UUID.fromString(uuid));
                 } catch (IllegalArgumentException ignored) {}
             }
 
@@ -203,26 +216,36 @@ public class ArenaManager {
     /* ==========================================================
        -------------  RESTORE ARENA BLOCKS  ----------------------
        ========================================================== */
+
+    /**
+     * Puts the arena's blocks back after a match. When the match was journaled only the
+     * blocks that changed are restored, a few per tick (see {@link JournalReplay}), and the
+     * return value is how many are queued. Otherwise (no match running, or it started before
+     * a reload) every saved reset block is replayed immediately as before.
+     */
     public int resetArenaBlocks(Arena arena) {
 
         if (arena == null) return 0;
 
+        ArenaChangeJournal journal = arena.getJournal();
+
         plugin.getLogger().info("[PortalPlugin] resetArenaBlocks() called for arena='"
                 + arena.getName() + "' started=" + arena.hasStarted() + " inUse=" + arena.isInUse()
                 + " players=" + arena.getPlayers().size()
                 + " spawns=" + arena.getSpawnPoints().size()
-                + " resetBlocksKeys=" + arena.getResetBlocks().keySet().size());
-
-        int changed = 0;
+                + " resetBlocksKeys=" + arena.getResetBlocks().keySet().size()
+                + " journaled=" + journal.size() + " armed=" + journal.isArmed());
 
-        for (Map.Entry<Material, List<Location>> entry : arena.getResetBlocks().entrySet()) {
-            Material mat = entry.getKey();
+        int changed;
 
-            for (Location loc : entry.getValue()) {
-                if (loc == null || loc.getWorld() == null) continue;
-                loc.getBlock().setType(mat, false);
-                changed++;
-            }
+        if (journal.isArmed()) {
+            journal.disarm();
+            changed = journal.size();
+            startReplay(arena);
+        } else if (replays.containsKey(arena)) {
+            changed = 0; // the previous match's replay is still running
+        } else {
+            changed = replayResetBlocks(arena);
         }
 
         plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName() + "' block reset changed=" + changed);
@@ -250,59 +273,220 @@ public class ArenaManager {
         return changed;
     }
 
+    private int replayResetBlocks(Arena arena) {
+        int changed = 0;
+
+        for (Map.Entry<Material, List<Location>> entry : arena.getResetBlocks().entrySet()) {
+            Material mat = entry.getKey();
+
+            for (Location loc : entry.getValue()) {
+                if (loc == null || loc.getWorld() == null) continue;
+                loc.getBlock().setType(mat, false);
+                changed++;
+            }
+        }
+        return changed;
+    }
+
     /* ==========================================================
-       -------------  CLEANUP PASS WRAPPER (DEBUG)  --------------
+       -------------  MATCH CHANGE JOURNAL  ----------------------
        ========================================================== */
-    private void runArenaItemCleanupPass(Arena arena, String passName) {
-        if (arena == null) return;
 
-        plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName() + "' cleanup pass='" + passName + "' starting...");
+    // Called by Arena.setStarted when a match begins
+    void beginJournal(Arena arena) {
+        JournalReplay pending = replays.remove(arena);
+        if (pending != null) pending.finishNow();
 
-        // Determine worlds that matter for this arena
-        Set<World> worlds = new LinkedHashSet<>();
+        World world = null;
+        Bounds b = new Bounds();
         for (List<Location> list : arena.getResetBlocks().values()) {
             for (Location l : list) {
-                if (l != null && l.getWorld() != null) worlds.add(l.getWorld());
+                if (l == null || l.getWorld() == null) continue;
+                if (world == null) world = l.getWorld();
+                if (l.getWorld() == world) b.include(l.getBlockX(), l.getBlockY(), l.getBlockZ());
             }
         }
         for (Location l : arena.getSpawnPoints()) {
-            if (l != null && l.getWorld() != null) worlds.add(l.getWorld());
+            if (l == null || l.getWorld() == null) continue;
+            if (world == null) world = l.getWorld();
+            if (l.getWorld() == world) b.include(l.getBlockX(), l.getBlockY(), l.getBlockZ());
         }
 
-        if (worlds.isEmpty()) {
-            plugin.getLogger().warning("[PortalPlugin] Arena '" + arena.getName() + "' cleanup pass='" + passName
-                    + "': no worlds found from reset blocks or spawns.");
-        } else {
-            for (World w : worlds) {
-                int totalItems = w.getEntitiesByClass(Item.class).size();
-                plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName() + "' pass='" + passName
-                        + "' world='" + w.getName() + "' totalItemEntitiesBefore=" + totalItems);
+        ArenaChangeJournal journal = arena.getJournal();
+        journal.arm(world);
+
+        if (b.isValid()) {
+            int padding = plugin.getConfig().getInt("arena-cleanup.padding", 6);
+            int yDown = plugin.getConfig().getInt("arena-cleanup.yPaddingDown", 6);
+            int yUp = plugin.getConfig().getInt("arena-cleanup.yPaddingUp", 24);
+            journal.bound(b.minX - padding, b.minY - yDown, b.minZ - padding,
+                    b.maxX + padding, b.maxY + yUp, b.maxZ + padding);
+        }
+    }
+
+    /**
+     * Records a block a player is about to change, if they're in a started arena.
+     * {@code original} is the state before the change.
+     */
+    public void recordChange(Player player, World world, int x, int y, int z, BlockData original) {
+        Arena arena = arenaByPlayer.get(player.getUniqueId());
+        if (arena == null || !arena.hasStarted()) return;
+        arena.getJournal().record(world, x, y, z, original);
+    }
+
+    /**
+     * Records blocks an explosion is about to destroy, attributed to the started arena whose
+     * bounds contain them.
+     */
+    public void recordExplosion(List<Block> blocks) {
+        List<ArenaChangeJournal> armed = null;
+        for (Arena a : arenas.values()) {
+            if (!a.getJournal().isArmed()) continue;
+            if (armed == null) armed = new ArrayList<>(2);
+            armed.add(a.getJournal());
+        }
+        if (armed == null) return;
+
+        for (Block block : blocks) {
+            World w = block.getWorld();
+            int x = block.getX(), y = block.getY(), z = block.getZ();
+
+            for (ArenaChangeJournal journal : armed) {
+                if (journal.covers(w, x, y, z)) {
+                    journal.record(w, x, y, z, block.getBlockData());
+                    break;
+                }
             }
         }
+    }
+
+    private void startReplay(Arena arena) {
+        ArenaChangeJournal journal = arena.getJournal();
+        if (journal.size() == 0 || journal.getWorld() == null) {
+            journal.clear();
+            return;
+        }
+
+        double budgetMs = Math.max(0.1, plugin.getConfig().getDouble("arena-reset.tick-budget-ms", 2.0));
+        JournalReplay replay = new JournalReplay(arena, (long) (budgetMs * 1_000_000L));
+        replays.put(arena, replay);
+        arena.setResetting(true);
+
+        // First slice now so small matches are done before anyone can notice
+        replay.run();
+        if (!replay.isDone()) replay.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    /**
+     * Completes every running replay on the spot (plugin disable).
+     */
+    public void finishPendingResets() {
+        for (JournalReplay replay : new ArrayList<>(replays.values())) {
+            replay.finishNow();
+        }
+    }
+
+    /**
+     * Restores a journal in the order the blocks changed, spending at most {@code budgetNanos}
+     * of each tick. Restores skip physics, like the reset-block replay.
+     */
+    private final class JournalReplay extends BukkitRunnable {
+
+        // System.nanoTime isn't free; check the budget every few blocks
+        private static final int DEADLINE_CHECK_INTERVAL = 32;
+
+        private final Arena arena;
+        private final ArenaChangeJournal journal;
+        private final World world;
+        private final long budgetNanos;
+        private final long startedAt = System.nanoTime();
+
+        private int next;
+        private int ticks;
+        private boolean done;
+
+        JournalReplay(Arena arena, long budgetNanos) {
+            this.arena = arena;
+            this.journal = arena.getJournal();
+            this.world = journal.getWorld();
+            this.budgetNanos = budgetNanos;
+        }
 
-        int removedItems = clearDroppedItemsInArena(arena);
+        boolean isDone() {
+            return done;
+        }
+
+        @Override
+        public void run() {
+            if (done) return;
+            ticks++;
+            restoreUntil(System.nanoTime() + budgetNanos);
+        }
+
+        void finishNow() {
+            if (done) return;
+            restoreUntil(Long.MAX_VALUE);
+        }
+
+        private void restoreUntil(long deadline) {
+            int size = journal.size();
+            int processed = 0;
+
+            while (next < size) {
+                long key = journal.positionAt(next);
+                world.getBlockAt(ArenaChangeJournal.unpackX(key), ArenaChangeJournal.unpackY(key),
+                        ArenaChangeJournal.unpackZ(key)).setBlockData(journal.stateAt(next), false);
+                next++;
+
+                if (++processed % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() >= deadline) break;
+            }
+
+            if (next >= size) complete();
+        }
 
-        if (!worlds.isEmpty()) {
-            for (World w : worlds) {
-                int totalItemsAfter = w.getEntitiesByClass(Item.class).size();
-                plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName() + "' pass='" + passName
-                        + "' world='" + w.getName() + "' totalItemEntitiesAfter=" + totalItemsAfter);
+        private void complete() {
+            done = true;
+            try {
+                cancel();
+            } catch (IllegalStateException ignored) {
+                // never scheduled: finished inside the first slice
             }
+
+            plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName() + "' journal reset restored="
+                    + journal.size() + " ticks=" + ticks
+                    + " tookMs=" + (System.nanoTime() - startedAt) / 1_000_000L);
+
+            journal.clear();
+            arena.setResetting(false);
+            replays.remove(arena, this);
         }
+    }
+
+    /* ==========================================================
+       -------------  CLEANUP PASS WRAPPER (DEBUG)  --------------
+       ========================================================== */
+    private void runArenaItemCleanupPass(Arena arena, String passName) {
+        if (arena == null) return;
+
+        plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName() + "' cleanup pass='" + passName + "' starting...");
+
+        int removedItems = clearDroppedItemsInArena(arena, passName);
 
         plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName()
                 + "' cleanup pass='" + passName + "' removed=" + removedItems);
 
-        // Log a sample of any remaining item entities STILL inside our computed boxes (if any).
-        logSampleRemainingItemsInsideBoxes(arena, passName, 10);
-
         plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName() + "' cleanup pass='" + passName + "' finished.");
     }
 
     /* ==========================================================
        -------------  ITEM CLEANUP (ARENA END)  ------------------
        ========================================================== */
-    private int clearDroppedItemsInArena(Arena arena) {
+
+    /**
+     * Removes dropped items inside the arena's cleanup boxes. Only the loaded chunks of the
+     * arena's footprint are asked for entities; an unloaded chunk has no live items to clear.
+     */
+    private int clearDroppedItemsInArena(Arena arena, String passName) {
         if (arena == null) {
             plugin.getLogger().warning("[PortalPlugin] clearDroppedItemsInArena called with arena=null");
             return 0;
@@ -315,158 +499,76 @@ public class ArenaManager {
             return 0;
         }
 
-        // Inferred bounds padding
-        int padding = plugin.getConfig().getInt("arena-cleanup.padding", 6);
-        int yDown = plugin.getConfig().getInt("arena-cleanup.yPaddingDown", 6);
-        int yUp = plugin.getConfig().getInt("arena-cleanup.yPaddingUp", 24);
-
-        // Extra: cleanup around spawns by radius
-        int spawnRadius = plugin.getConfig().getInt("arena-cleanup.spawnRadius", 80);
-        int spawnYDown = plugin.getConfig().getInt("arena-cleanup.spawnRadiusYDown", 30);
-        int spawnYUp = plugin.getConfig().getInt("arena-cleanup.spawnRadiusYUp", 60);
-
-        plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName()
-                + "' cleanup config: padding=" + padding + " yDown=" + yDown + " yUp=" + yUp
-                + " spawnRadius=" + spawnRadius + " spawnYDown=" + spawnYDown + " spawnYUp=" + spawnYUp);
-
-        // Build per-world bounds based on resetBlocks + spawn points
-        Map<World, Bounds> boundsByWorld = new HashMap<>();
-
-        int resetLocs = 0;
-        for (List<Location> list : arena.getResetBlocks().values()) {
-            for (Location l : list) {
-                if (l == null || l.getWorld() == null) continue;
-                boundsByWorld.computeIfAbsent(l.getWorld(), w -> new Bounds())
-                        .include(l.getBlockX(), l.getBlockY(), l.getBlockZ());
-                resetLocs++;
-            }
-        }
-
-        int spawnLocs = 0;
-        for (Location l : arena.getSpawnPoints()) {
-            if (l == null || l.getWorld() == null) continue;
-            boundsByWorld.computeIfAbsent(l.getWorld(), w -> new Bounds())
-                    .include(l.getBlockX(), l.getBlockY(), l.getBlockZ());
-            spawnLocs++;
+        ArenaCleanupFootprint footprint = footprintFor(arena);
+        if (footprint.isEmpty()) {
+            plugin.getLogger().warning("[PortalPlugin] Arena '" + arena.getName() + "' cleanup pass='" + passName
+                    + "': no worlds found from reset blocks or spawns.");
+            return 0;
         }
 
-        plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName()
-                + "' cleanup inputs: resetBlockLocations=" + resetLocs
-                + " spawnLocations=" + spawnLocs
-                + " worldsConsidered=" + boundsByWorld.size());
-
+        List<ArenaCleanupFootprint.Box> boxes = footprint.getBoxes();
+        int[] removedPerBox = new int[boxes.size()];
         int removed = 0;
+        int loadedChunks = 0;
 
-        // 1) Remove items inside inferred bounds
-        if (boundsByWorld.isEmpty()) {
-            plugin.getLogger().warning("[PortalPlugin] Arena '" + arena.getName()
-                    + "' cleanup: boundsByWorld is empty (no reset blocks + no spawns?)");
-        } else {
-            for (Map.Entry<World, Bounds> e : boundsByWorld.entrySet()) {
-                World world = e.getKey();
-                Bounds b = e.getValue();
-
-                if (!b.isValid()) {
-                    plugin.getLogger().warning("[PortalPlugin] Arena '" + arena.getName()
-                            + "' cleanup: invalid bounds for world '" + world.getName() + "'");
-                    continue;
-                }
+        for (Map.Entry<World, long[]> e : footprint.getChunksByWorld().entrySet()) {
+            World world = e.getKey();
+
+            for (long key : e.getValue()) {
+                int cx = ArenaCleanupFootprint.chunkX(key);
+                int cz = ArenaCleanupFootprint.chunkZ(key);
+                if (!world.isChunkLoaded(cx, cz)) continue;
+                loadedChunks++;
 
-                int minX = b.minX - padding;
-                int maxX = b.maxX + padding;
-                int minY = b.minY - yDown;
-                int maxY = b.maxY + yUp;
-                int minZ = b.minZ - padding;
-                int maxZ = b.maxZ + padding;
-
-                plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName()
-                        + "' inferred-clear box world='" + world.getName()
-                        + "' X[" + minX + ".." + maxX + "]"
-                        + " Y[" + minY + ".." + maxY + "]"
-                        + " Z[" + minZ + ".." + maxZ + "]"
-                        + " (rawBounds: X[" + b.minX + ".." + b.maxX + "]"
-                        + " Y[" + b.minY + ".." + b.maxY + "]"
-                        + " Z[" + b.minZ + ".." + b.maxZ + "])");
-
-                int before = removed;
-
-                for (Entity ent : world.getEntities()) {
+                for (Entity ent : world.getChunkAt(cx, cz).getEntities()) {
                     if (!(ent instanceof Item)) continue;
 
-                    Location el = ent.getLocation();
-                    int x = el.getBlockX();
-                    int y = el.getBlockY();
-                    int z = el.getBlockZ();
+                    int box = footprint.boxOf(ent);
+                    if (box < 0) continue;
 
-                    if (x >= minX && x <= maxX
-                            && y >= minY && y <= maxY
-                            && z >= minZ && z <= maxZ) {
-                        ent.remove();
-                        removed++;
-                    }
+                    ent.remove();
+                    removedPerBox[box]++;
+                    removed++;
                 }
-
-                plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName()
-                        + "' inferred-clear removed=" + (removed - before)
-                        + " in world='" + world.getName() + "'");
             }
         }
 
-        // 2) Remove items around each spawn point (covers large arenas / sparse resetBlocks)
-        int spawnBoxIndex = 0;
-        for (Location spawn : arena.getSpawnPoints()) {
-            if (spawn == null || spawn.getWorld() == null) continue;
-
-            spawnBoxIndex++;
-
-            BoundingBox box = BoundingBox.of(
-                    spawn,
-                    Math.max(1, spawnRadius),
-                    Math.max(1, spawnYDown),
-                    Math.max(1, spawnRadius)
-            );
-
-            // Expand upward if "up" is larger than "down"
-            int extraUp = Math.max(0, spawnYUp - spawnYDown);
-            if (extraUp > 0) {
-                box = box.expand(0, extraUp, 0);
-            }
-
+        for (int i = 0; i < boxes.size(); i++) {
+            if (removedPerBox[i] == 0) continue;
             plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName()
-                    + "' spawn-clear box#" + spawnBoxIndex
-                    + " world='" + spawn.getWorld().getName() + "'"
-                    + " center=(" + spawn.getBlockX() + "," + spawn.getBlockY() + "," + spawn.getBlockZ() + ")"
-                    + " min=(" + (int) Math.floor(box.getMinX()) + "," + (int) Math.floor(box.getMinY()) + "," + (int) Math.floor(box.getMinZ()) + ")"
-                    + " max=(" + (int) Math.floor(box.getMaxX()) + "," + (int) Math.floor(box.getMaxY()) + "," + (int) Math.floor(box.getMaxZ()) + ")");
-
-            int before = removed;
-
-            for (Entity ent : spawn.getWorld().getNearbyEntities(box)) {
-                if (!(ent instanceof Item)) continue;
-                ent.remove();
-                removed++;
-            }
-
-            plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName()
-                    + "' spawn-clear removed=" + (removed - before)
-                    + " for box#" + spawnBoxIndex);
+                    + "' " + boxes.get(i).label() + " removed=" + removedPerBox[i]);
         }
 
         plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName()
-                + "' cleanup finished. totalRemoved=" + removed);
+                + "' cleanup finished. totalRemoved=" + removed
+                + " chunks=" + loadedChunks + "/" + footprint.getChunkCount() + " loaded");
 
         return removed;
     }
 
     /* ==========================================================
-       -------------  DEBUG: WHAT REMAINS IN BOXES  --------------
+       -------------  CLEANUP FOOTPRINT (CACHED)  ----------------
        ========================================================== */
-    private void logSampleRemainingItemsInsideBoxes(Arena arena, String passName, int maxSamples) {
-        if (arena == null) return;
 
-        // Build the same inferred bounds as cleanup uses
-        Map<World, Bounds> boundsByWorld = new HashMap<>();
+    // Rebuilt when the arena's spawns or reset blocks change
+    private ArenaCleanupFootprint footprintFor(Arena arena) {
+        ArenaCleanupFootprint cached = footprints.get(arena);
+        if (cached != null && cached.getLayoutVersion() == arena.getLayoutVersion()) return cached;
+
+        // Inferred bounds padding
+        int padding = plugin.getConfig().getInt("arena-cleanup.padding", 6);
+        int yDown = plugin.getConfig().getInt("arena-cleanup.yPaddingDown", 6);
+        int yUp = plugin.getConfig().getInt("arena-cleanup.yPaddingUp", 24);
 
+        // Extra: cleanup around spawns by radius
+        int spawnRadius = plugin.getConfig().getInt("arena-cleanup.spawnRadius", 80);
+        int spawnYDown = plugin.getConfig().getInt("arena-cleanup.spawnRadiusYDown", 30);
+        int spawnYUp = plugin.getConfig().getInt("arena-cleanup.spawnRadiusYUp", 60);
+
+        List<ArenaCleanupFootprint.Box> boxes = new ArrayList<>();
+
+        // 1) Inferred bounds per world from resetBlocks + spawn points
+        Map<World, Bounds> boundsByWorld = new LinkedHashMap<>();
         for (List<Location> list : arena.getResetBlocks().values()) {
             for (Location l : list) {
                 if (l == null || l.getWorld() == null) continue;
@@ -474,58 +576,29 @@ public class ArenaManager {
                         .include(l.getBlockX(), l.getBlockY(), l.getBlockZ());
             }
         }
-
         for (Location l : arena.getSpawnPoints()) {
             if (l == null || l.getWorld() == null) continue;
             boundsByWorld.computeIfAbsent(l.getWorld(), w -> new Bounds())
                     .include(l.getBlockX(), l.getBlockY(), l.getBlockZ());
         }
 
-        int padding = plugin.getConfig().getInt("arena-cleanup.padding", 6);
-        int yDown = plugin.getConfig().getInt("arena-cleanup.yPaddingDown", 6);
-        int yUp = plugin.getConfig().getInt("arena-cleanup.yPaddingUp", 24);
-
-        int spawnRadius = plugin.getConfig().getInt("arena-cleanup.spawnRadius", 80);
-        int spawnYDown = plugin.getConfig().getInt("arena-cleanup.spawnRadiusYDown", 30);
-        int spawnYUp = plugin.getConfig().getInt("arena-cleanup.spawnRadiusYUp", 60);
-
-        int samples = 0;
-
-        // Check inferred boxes
         for (Map.Entry<World, Bounds> e : boundsByWorld.entrySet()) {
-            World world = e.getKey();
             Bounds b = e.getValue();
             if (!b.isValid()) continue;
 
-            int minX = b.minX - padding;
-            int maxX = b.maxX + padding;
-            int minY = b.minY - yDown;
-            int maxY = b.maxY + yUp;
-            int minZ = b.minZ - padding;
-            int maxZ = b.maxZ + padding;
-
-            for (Item item : world.getEntitiesByClass(Item.class)) {
-                Location el = item.getLocation();
-                int x = el.getBlockX();
-                int y = el.getBlockY();
-                int z = el.getBlockZ();
-
-                if (x >= minX && x <= maxX
-                        && y >= minY && y <= maxY
-                        && z >= minZ && z <= maxZ) {
-                    plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName() + "' pass='" + passName
-                            + "' STILL-IN-INFERRED item=" + item.getItemStack().getType()
-                            + " at (" + x + "," + y + "," + z + ") world='" + world.getName() + "'");
-                    if (++samples >= maxSamples) return;
-                }
-            }
+            // Whole blocks: [min, max + 1) holds every position whose block coords are in range
+            BoundingBox box = new BoundingBox(
+                    b.minX - padding, b.minY - yDown, b.minZ - padding,
+                    b.maxX + padding + 1, b.maxY + yUp + 1, b.maxZ + padding + 1);
+            boxes.add(new ArenaCleanupFootprint.Box(e.getKey(), box,
+                    "inferred-clear world='" + e.getKey().getName() + "'"));
         }
 
-        // Check spawn boxes
-        int idx = 0;
+        // 2) Boxes around each spawn point (covers large arenas / sparse resetBlocks)
+        int spawnBoxIndex = 0;
         for (Location spawn : arena.getSpawnPoints()) {
             if (spawn == null || spawn.getWorld() == null) continue;
-            idx++;
+            spawnBoxIndex++;
 
             BoundingBox box = BoundingBox.of(
                     spawn,
@@ -534,24 +607,21 @@ public class ArenaManager {
                     Math.max(1, spawnRadius)
             );
 
+            // Expand upward if "up" is larger than "down"
             int extraUp = Math.max(0, spawnYUp - spawnYDown);
-            if (extraUp > 0) box = box.expand(0, extraUp, 0);
-
-            for (Entity ent : spawn.getWorld().getNearbyEntities(box)) {
-                if (!(ent instanceof Item item)) continue;
-                Location el = item.getLocation();
-
-                plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName() + "' pass='" + passName
-                        + "' STILL-IN-SPAWNBOX#" + idx
-                        + " item=" + item.getItemStack().getType()
-                        + " at (" + el.getBlockX() + "," + el.getBlockY() + "," + el.getBlockZ()
-                        + ") world='" + spawn.getWorld().getName() + "'");
-                if (++samples >= maxSamples) return;
+            if (extraUp > 0) {
+                box = box.expand(0, extraUp, 0);
             }
+
+            boxes.add(new ArenaCleanupFootprint.Box(spawn.getWorld(), box, "spawn-clear box#" + spawnBoxIndex));
         }
 
-        plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName() + "' pass='" + passName
-                + "' remaining-item sample: none found inside computed boxes.");
+        ArenaCleanupFootprint footprint = new ArenaCleanupFootprint(arena.getLayoutVersion(), boxes);
+        footprints.put(arena, footprint);
+
+        plugin.getLogger().info("[PortalPlugin] Arena '" + arena.getName()
+                + "' cleanup footprint: boxes=" + boxes.size() + " chunks=" + footprint.getChunkCount());
+        return footprint;
     }
 
     private static final class Bounds {
@@ -586,7 +656,7 @@ public class ArenaManager {
     public Arena getArena(String name) { return arenas.get(name.toLowerCase()); }
 
     public Arena createArena(String name) {
-        Arena a = new Arena(name);
+        Arena a = new Arena(name, this);
         arenas.put(name.toLowerCase(), a);
         return a;
     }
@@ -594,9 +664,26 @@ public class ArenaManager {
     public Collection<Arena> getAllArenas() { return arenas.values(); }
 
     public Arena getArenaPlayerIsIn(org.bukkit.entity.Player player) {
-        UUID uuid = player.getUniqueId();
-        for (Arena a : arenas.values())
-            if (a.getPlayers().contains(uuid)) return a;
-        return null;
+        return arenaByPlayer.get(player.getUniqueId());
+    }
+
+    /* ==========================================================
+       ---------------  PLAYER -> ARENA INDEX  -------------------
+       ========================================================== */
+
+    void indexJoin(UUID uuid, Arena arena) {
+        arenaByPlayer.put(uuid, arena);
+    }
+
+    void indexLeave(UUID uuid, Arena arena) {
+        if (!arenaByPlayer.remove(uuid, arena)) return;
+
+        // Shouldn't happen, but if the player is still listed in another arena keep pointing there
+        for (Arena a : arenas.values()) {
+            if (a != arena && a.getPlayers().contains(uuid)) {
+                arenaByPlayer.put(uuid, a);
+                return;
+            }
+        }
     }
 }
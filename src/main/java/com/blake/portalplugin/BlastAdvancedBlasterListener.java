@@ -25,7 +25,6 @@ import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.RayTraceResult;
 import org.bukkit.util.Vector;
 
@@ -38,6 +37,7 @@ public class BlastAdvancedBlasterListener implements Listener {
     private final PortalPlugin plugin;
     private final GameStateManager gameStateManager;
     private final BlastCooldownTracker cooldownTracker;
+    private final BlastParticleService particles;
 
     // Active strike charges
     private final Map<UUID, StrikeCharge> strikeCharges = new HashMap<>();
@@ -59,7 +59,12 @@ public class BlastAdvancedBlasterListener implements Listener {
         this.plugin = plugin;
         this.gameStateManager = gsm;
         this.cooldownTracker = cooldownTracker;
+        this.particles = plugin.getBlastParticleService();
         this.strikeGuiTeamKey = new NamespacedKey(plugin, "strike_gui_team");
+
+        if (plugin.getMoveDispatcher() != null) {
+            plugin.getMoveDispatcher().on(GameState.BLAST, this::onMove);
+        }
     }
 
     @EventHandler
@@ -80,9 +85,10 @@ public class BlastAdvancedBlasterListener implements Listener {
             return;
         }
 
-        boolean isScatter = BlastItems.isScatterBlaster(plugin, item);
-        boolean isRange = BlastItems.isRangeBlaster(plugin, item);
-        boolean isStrike = BlastItems.isStrikeBlaster(plugin, item);
+        BlastItemClassifier.Kind kind = BlastItemClassifier.classify(plugin, item).kind();
+        boolean isScatter = kind == BlastItemClassifier.Kind.SCATTER_BLASTER;
+        boolean isRange = kind == BlastItemClassifier.Kind.RANGE_BLASTER;
+        boolean isStrike = kind == BlastItemClassifier.Kind.STRIKE_BLASTER;
 
         if (!isScatter && !isRange && !isStrike) return;
 
@@ -195,11 +201,13 @@ public class BlastAdvancedBlasterListener implements Listener {
 
             Vector dir = directionFromYawPitch(eye, baseYaw + yawOff, basePitch + pitchOff).normalize();
 
-            for (double d = 0.7; d <= SCATTER_RANGE; d += 0.85) {
-                Location pt = eye.clone().add(dir.clone().multiply(d));
-                world.spawnParticle(Particle.CRIT, pt, 2, 0.04, 0.04, 0.04, 0.01);
-                world.spawnParticle(Particle.SMOKE, pt, 1, 0.04, 0.04, 0.04, 0.0);
-            }
+            double ox = eye.getX() + dir.getX() * 0.7;
+            double oy = eye.getY() + dir.getY() * 0.7;
+            double oz = eye.getZ() + dir.getZ() * 0.7;
+            particles.beam(world, Particle.CRIT, ox, oy, oz, dir.getX(), dir.getY(), dir.getZ(),
+                    SCATTER_RANGE - 0.7, 0.85, 2, 0.04, 0.01);
+            particles.beam(world, Particle.SMOKE, ox, oy, oz, dir.getX(), dir.getY(), dir.getZ(),
+                    SCATTER_RANGE - 0.7, 0.85, 1, 0.04, 0.0);
 
             if (breaks < maxBreaks) {
                 try {
@@ -293,10 +301,8 @@ public class BlastAdvancedBlasterListener implements Listener {
         else if (blkDist < Double.MAX_VALUE) endDist = Math.min(RANGE_MAX, blkDist);
         else endDist = RANGE_MAX;
 
-        for (double d = 0.0; d <= endDist; d += 0.75) {
-            Location pt = start.clone().add(dir.clone().multiply(d));
-            world.spawnParticle(Particle.END_ROD, pt, 1, 0, 0, 0, 0);
-        }
+        particles.beam(world, Particle.END_ROD, start.getX(), start.getY(), start.getZ(),
+                dir.getX(), dir.getY(), dir.getZ(), endDist, 0.75, 1, 0.0, 0.0);
 
         if (hitPlayer != null && entDist < blkDist) {
             playSoundSafe(world, hitPlayer.getLocation(), Sound.ENTITY_ZOMBIE_ATTACK_IRON_DOOR, 0.7f, 1.25f);
@@ -394,40 +400,56 @@ public class BlastAdvancedBlasterListener implements Listener {
 
         playSoundSafe(caster.getWorld(), caster.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 0.8f, 1.2f);
 
-        BukkitRunnable r = new BukkitRunnable() {
-            int tick = 0;
+        BlastProjectileEngine.Projectile proj = plugin.getBlastProjectileEngine()
+                .spawn(id, STRIKE_CHARGE_TICKS + 2, this::tickStrikeCharge);
+        if (proj == null) {
+            cancelStrikeInternal(id, false);
+            return;
+        }
 
-            @Override
-            public void run() {
-                if (!caster.isOnline()) { cancelStrikeInternal(id, false); return; }
-                if (gameStateManager.getGameState(caster) != GameState.BLAST) { cancelStrikeInternal(id, false); return; }
+        proj.world = lock.getWorld();
+        proj.shooter = caster;
+        proj.targetTeam = target;
+        proj.x = lock.getX();
+        proj.y = lock.getY();
+        proj.z = lock.getZ();
 
-                BlastMinigameManager bmNow = plugin.getBlastMinigameManager();
-                if (bmNow == null || !bmNow.isInProgress()) { cancelStrikeInternal(id, false); return; }
+        charge.projectileId = proj.id();
+    }
 
-                if (BlastStrikeUtil.consumeCancelRequest(plugin, caster)) {
-                    caster.sendMessage("§c[BLAST] Strike charge cancelled (you were hit).");
-                    cancelStrikeInternal(id, true);
-                    return;
-                }
+    private boolean tickStrikeCharge(BlastProjectileEngine.Projectile proj) {
+        Player caster = proj.shooter;
+        UUID id = proj.owner;
+        StrikeCharge charge = strikeCharges.get(id);
+        if (charge == null || charge.projectileId != proj.id()) return false;
 
-                double progress = Math.min(1.0, tick / (double) STRIKE_CHARGE_TICKS);
+        if (!caster.isOnline()) { cancelStrikeInternal(id, false); return false; }
+        if (gameStateManager.getGameState(caster) != GameState.BLAST) { cancelStrikeInternal(id, false); return false; }
 
-                int secsLeft = (int) Math.ceil((STRIKE_CHARGE_TICKS - tick) / 20.0);
-                sendActionBarSafe(caster, "§bStrike Charging: §f" + secsLeft + "s");
+        BlastMinigameManager bmNow = plugin.getBlastMinigameManager();
+        if (bmNow == null || !bmNow.isInProgress()) { cancelStrikeInternal(id, false); return false; }
 
-                spawnChargeSwirl(lock, caster, progress);
+        if (BlastStrikeUtil.consumeCancelRequest(plugin, caster)) {
+            caster.sendMessage("§c[BLAST] Strike charge cancelled (you were hit).");
+            cancelStrikeInternal(id, true);
+            return false;
+        }
 
-                tick++;
-                if (tick > STRIKE_CHARGE_TICKS) {
-                    finishStrikeCharge(caster, target, lock);
-                    cancelStrikeInternal(id, true);
-                }
-            }
-        };
+        // engine age starts at 1 on the first step
+        int tick = proj.age - 1;
+        double progress = Math.min(1.0, tick / (double) STRIKE_CHARGE_TICKS);
 
-        charge.task = r;
-        r.runTaskTimer(plugin, 0L, 1L);
+        int secsLeft = (int) Math.ceil((STRIKE_CHARGE_TICKS - tick) / 20.0);
+        sendActionBarSafe(caster, "§bStrike Charging: §f" + secsLeft + "s");
+
+        spawnChargeSwirl(charge.lock, caster, progress);
+
+        if (tick + 1 > STRIKE_CHARGE_TICKS) {
+            finishStrikeCharge(caster, proj.targetTeam, charge.lock);
+            cancelStrikeInternal(id, true);
+            return false;
+        }
+        return true;
     }
 
     private void finishStrikeCharge(Player caster, BlastTeam target, Location lock) {
@@ -437,10 +459,9 @@ public class BlastAdvancedBlasterListener implements Listener {
 
         World w = caster.getWorld();
 
-        Location base = caster.getLocation().clone().add(0, 1.0, 0);
-        for (double y = 0.0; y <= 26.0; y += 0.7) {
-            w.spawnParticle(Particle.END_ROD, base.clone().add(0, y, 0), 1, 0, 0, 0, 0);
-        }
+        Location base = caster.getLocation();
+        particles.beam(w, Particle.END_ROD, base.getX(), base.getY() + 1.0, base.getZ(),
+                0, 1, 0, 26.0, 0.7, 1, 0.0, 0.0);
         playSoundSafe(w, caster.getLocation(), Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 0.7f, 1.6f);
         playSoundSafe(w, caster.getLocation(), Sound.ENTITY_FIREWORK_ROCKET_LAUNCH, 0.7f, 1.0f);
 
@@ -476,10 +497,8 @@ public class BlastAdvancedBlasterListener implements Listener {
 
             World w = loc.getWorld();
             if (w != null) {
-                Location top = loc.clone().add(0, 24, 0);
-                for (double d = 0; d <= 24; d += 0.8) {
-                    w.spawnParticle(Particle.END_ROD, top.clone().add(0, -d, 0), 2, 0.02, 0.02, 0.02, 0.0);
-                }
+                particles.beam(w, Particle.END_ROD, loc.getX(), loc.getY() + 24, loc.getZ(),
+                        0, -1, 0, 24.0, 0.8, 2, 0.02, 0.0);
                 try {
                     w.strikeLightningEffect(loc);
                 } catch (Throwable ignored) {}
@@ -499,17 +518,13 @@ public class BlastAdvancedBlasterListener implements Listener {
         BlastStrikeUtil.requestCancel(plugin, p);
     }
 
-    @EventHandler
-    public void onMove(PlayerMoveEvent e) {
-        Player p = e.getPlayer();
-        if (p == null) return;
+    // Strike lock, called through PlayerMoveDispatcher for BLAST players
+    private void onMove(PlayerMoveEvent e, Player p, Location to, boolean blockChanged) {
+        if (strikeCharges.isEmpty()) return;
 
         StrikeCharge ch = strikeCharges.get(p.getUniqueId());
         if (ch == null) return;
 
-        Location to = e.getTo();
-        if (to == null) return;
-
         Location lock = ch.lock;
         if (lock == null || lock.getWorld() == null) return;
 
@@ -545,10 +560,10 @@ public class BlastAdvancedBlasterListener implements Listener {
 
     private boolean ensureLimitedUseAvailable(Player shooter, ItemStack item) {
         if (shooter == null || item == null) return false;
-        if (!BlastItems.isRangeBlaster(plugin, item) && !BlastItems.isStrikeBlaster(plugin, item)) return true;
+        BlastItemClassifier.Classification c = BlastItemClassifier.classify(plugin, item);
+        if (!c.is(BlastItemClassifier.Kind.RANGE_BLASTER) && !c.is(BlastItemClassifier.Kind.STRIKE_BLASTER)) return true;
 
-        int usesLeft = BlastItems.getLimitedUsesLeft(plugin, item);
-        if (usesLeft > 0) return true;
+        if (c.usesLeft() > 0) return true;
 
         removeItemFromHand(shooter, item);
         return false;
@@ -557,7 +572,11 @@ public class BlastAdvancedBlasterListener implements Listener {
     private void consumeLimitedUse(Player shooter, ItemStack item) {
         if (shooter == null) return;
 
-        if (item != null && (BlastItems.isRangeBlaster(plugin, item) || BlastItems.isStrikeBlaster(plugin, item))) {
+        // Uses left is part of the cached held classification
+        plugin.getBlastItemClassifier().invalidate(shooter);
+
+        BlastItemClassifier.Kind kind = BlastItemClassifier.classify(plugin, item).kind();
+        if (kind == BlastItemClassifier.Kind.RANGE_BLASTER || kind == BlastItemClassifier.Kind.STRIKE_BLASTER) {
             int left = BlastItems.consumeLimitedUse(plugin, item);
             if (left <= 0) {
                 removeItemFromHand(shooter, item);
@@ -609,8 +628,8 @@ public class BlastAdvancedBlasterListener implements Listener {
         StrikeCharge ch = strikeCharges.remove(casterId);
         Player p = Bukkit.getPlayer(casterId);
 
-        if (ch != null && ch.task != null) {
-            try { ch.task.cancel(); } catch (Throwable ignored) {}
+        if (ch != null && ch.projectileId != 0L) {
+            plugin.getBlastProjectileEngine().cancel(ch.projectileId);
         }
 
         if (p != null) {
@@ -645,11 +664,11 @@ public class BlastAdvancedBlasterListener implements Listener {
         Location p1 = new Location(w, lock.getX() + 0.5 + x1, y, lock.getZ() + 0.5 + z1);
         Location p2 = new Location(w, lock.getX() + 0.5 + x2, y, lock.getZ() + 0.5 + z2);
 
-        w.spawnParticle(Particle.END_ROD, p1, 2, 0.02, 0.02, 0.02, 0.0);
-        w.spawnParticle(Particle.END_ROD, p2, 2, 0.02, 0.02, 0.02, 0.0);
+        particles.burst(p1, Particle.END_ROD, 2, 0.02, 0.02, 0.02, 0.0);
+        particles.burst(p2, Particle.END_ROD, 2, 0.02, 0.02, 0.02, 0.0);
 
         Location center = caster.getLocation().clone().add(0, 1.0, 0);
-        w.spawnParticle(Particle.END_ROD, center, 1, 0.25, 0.25, 0.25, 0.0);
+        particles.burst(center, Particle.END_ROD, 1, 0.25, 0.25, 0.25, 0.0);
     }
 
     private Vector directionFromYawPitch(Location basis, float yaw, float pitch) {
@@ -701,7 +720,7 @@ public class BlastAdvancedBlasterListener implements Listener {
     private static final class StrikeCharge {
         final Location lock;
         final BlastTeam target;
-        BukkitRunnable task;
+        long projectileId;
 
         StrikeCharge(Location lock, BlastTeam target) {
             this.lock = lock;
@@ -8,7 +8,6 @@ import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.World;
 import org.bukkit.block.Block;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.Firework;
 import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
@@ -19,7 +18,6 @@ import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.FireworkMeta;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.RayTraceResult;
 import org.bukkit.util.Vector;
 
@@ -32,12 +30,19 @@ public class BlastBlasterListener implements Listener {
     private final PortalPlugin plugin;
     private final GameStateManager gameStateManager;
     private final BlastCooldownTracker cooldownTracker;
+    private final BlastParticleService particles;
 
     private static final long BASIC_COOLDOWN_MS = 800;
     private static final long BIG_COOLDOWN_MS = 2500;
 
     private static final double MAX_RANGE = 32.0;
 
+    // Big blaster projectile: half-size when testing against players, and flight time to MAX_RANGE
+    private static final double HIT_RADIUS = 0.60;
+    private static final int BIG_SHOT_TICKS_TO_MAX = 12;
+    private static final double BIG_SHOT_STEP = MAX_RANGE / BIG_SHOT_TICKS_TO_MAX;
+    private static final int BIG_SHOT_MAX_TICKS = BIG_SHOT_TICKS_TO_MAX + 1;
+
     // Hotbar index (9th slot) - previously used by diamond HUD logic
     private static final int DIAMOND_SLOT = 8;
 
@@ -45,6 +50,7 @@ public class BlastBlasterListener implements Listener {
         this.plugin = plugin;
         this.gameStateManager = gsm;
         this.cooldownTracker = cooldownTracker;
+        this.particles = plugin.getBlastParticleService();
     }
 
     @EventHandler
@@ -83,8 +89,9 @@ public class BlastBlasterListener implements Listener {
         ItemStack item = e.getItem();
         if (item == null) return;
 
-        boolean isBasic = BlastItems.isBasicBlaster(plugin, item);
-        boolean isBig = BlastItems.isBigBlaster(plugin, item);
+        BlastItemClassifier.Kind kind = BlastItemClassifier.classify(plugin, item).kind();
+        boolean isBasic = kind == BlastItemClassifier.Kind.BASIC_BLASTER;
+        boolean isBig = kind == BlastItemClassifier.Kind.BIG_BLASTER;
 
         if (!isBasic && !isBig) return;
 
@@ -219,10 +226,8 @@ public class BlastBlasterListener implements Listener {
             impactLoc = start.clone().add(dir.clone().multiply(MAX_RANGE));
         }
 
-        for (double d = 0.0; d <= endDist; d += 0.45) {
-            Location point = start.clone().add(dir.clone().multiply(d));
-            world.spawnParticle(Particle.END_ROD, point, 1, 0, 0, 0, 0);
-        }
+        particles.beam(world, Particle.END_ROD, start.getX(), start.getY(), start.getZ(),
+                dir.getX(), dir.getY(), dir.getZ(), endDist, 0.45, 1, 0.0, 0.0);
 
         if (hitPlayer != null && entDist < blkDist) {
             if (bm != null) bm.applyBasicHit(shooter, hitPlayer, impactLoc);
@@ -237,93 +242,91 @@ public class BlastBlasterListener implements Listener {
     }
 
     private void shootBigFast(Player shooter) {
-        Location start = shooter.getEyeLocation().clone();
+        Location start = shooter.getEyeLocation();
         World world = start.getWorld();
         if (world == null) return;
 
         world.playSound(start, Sound.ENTITY_GENERIC_EXPLODE, 0.6f, 0.9f);
 
-        BlastMinigameManager bm = plugin.getBlastMinigameManager();
-
-        final double totalTicksToMax = 12.0;
-        final double step = MAX_RANGE / totalTicksToMax;
+        BlastProjectileEngine.Projectile p = plugin.getBlastProjectileEngine()
+                .spawn(shooter.getUniqueId(), BIG_SHOT_MAX_TICKS, this::tickBigShot);
+        if (p == null) return;
 
-        new BukkitRunnable() {
-            double dist = 0.0;
-
-            @Override
-            public void run() {
-                if (!shooter.isOnline()) { cancel(); return; }
-                if (gameStateManager.getGameState(shooter) != GameState.BLAST) { cancel(); return; }
-                if (dist >= MAX_RANGE) { cancel(); return; }
+        Vector dir = start.getDirection().normalize();
+        p.world = world;
+        p.shooter = shooter;
+        p.x = start.getX();
+        p.y = start.getY();
+        p.z = start.getZ();
+        p.dx = dir.getX();
+        p.dy = dir.getY();
+        p.dz = dir.getZ();
+    }
 
-                double prev = dist;
-                dist = Math.min(MAX_RANGE, dist + step);
+    private boolean tickBigShot(BlastProjectileEngine.Projectile p) {
+        Player shooter = p.shooter;
+        if (!shooter.isOnline()) return false;
+        if (gameStateManager.getGameState(shooter) != GameState.BLAST) return false;
+        if (p.travelled >= MAX_RANGE) return false;
 
-                Vector dir = start.getDirection().normalize();
+        World world = p.world;
+        BlastMinigameManager bm = plugin.getBlastMinigameManager();
 
-                for (double d = prev; d <= dist; d += 0.35) {
-                    Location point = start.clone().add(dir.clone().multiply(d));
+        double prev = p.travelled;
+        double dist = Math.min(MAX_RANGE, prev + BIG_SHOT_STEP);
+        p.travelled = dist;
+
+        // One swept query for this tick's stretch of the shot; blocks still stop it first
+        BlastParticipantIndex.Hit hit = null;
+        if (bm != null) {
+            hit = bm.getParticipantIndex().sweep(world,
+                    p.x + p.dx * prev, p.y + p.dy * prev, p.z + p.dz * prev,
+                    p.x + p.dx * dist, p.y + p.dy * dist, p.z + p.dz * dist,
+                    HIT_RADIUS, shooter.getUniqueId());
+        }
+        double limit = (hit != null) ? prev + hit.distance() : dist;
 
-                    double mod = (d % 4.0);
-                    if (mod < 3.0) {
-                        world.spawnParticle(Particle.FIREWORK, point, 2, 0.02, 0.02, 0.02, 0.01);
-                    }
+        for (double d = prev; d <= limit; d += 0.35) {
+            double px = p.x + p.dx * d;
+            double py = p.y + p.dy * d;
+            double pz = p.z + p.dz * d;
 
-                    Player hitPlayer = findHitPlayer(shooter, point, 0.60);
-                    if (hitPlayer != null) {
-                        if (bm != null) {
-                            bm.applyBigDirectHit(shooter, hitPlayer, point);
+            Block b = world.getBlockAt((int) Math.floor(px), (int) Math.floor(py), (int) Math.floor(pz));
+            if (!b.getType().isAir() && !b.isPassable()) {
+                particles.beamSegment(world, Particle.FIREWORK, p.x, p.y, p.z, p.dx, p.dy, p.dz,
+                        prev, d, 0.35, 4.0, 3.0, 2, 0.02, 0.01);
 
-                            playBigImpactEffect(point);
+                Location point = new Location(world, px, py, pz);
+                playBigImpactEffect(point);
 
-                            Set<UUID> processed = new HashSet<>();
-                            processed.add(hitPlayer.getUniqueId());
-                            bm.applyBigAoE(shooter, point, 5.0, processed);
+                if (bm != null) {
+                    bm.applyBigAoE(shooter, point, 5.0, new HashSet<>());
+                }
 
-                            break3x3Wool(point.getBlock());
-                        }
-                        cancel();
-                        return;
-                    }
+                break3x3Wool(b);
+                return false;
+            }
+        }
 
-                    Block b = point.getBlock();
-                    if (b != null && !b.getType().isAir() && !b.isPassable()) {
-                        playBigImpactEffect(point);
+        // Trail for the part of the path covered this tick (dashed: 3 blocks on, 1 off)
+        particles.beamSegment(world, Particle.FIREWORK, p.x, p.y, p.z, p.dx, p.dy, p.dz,
+                prev, limit, 0.35, 4.0, 3.0, 2, 0.02, 0.01);
 
-                        if (bm != null) {
-                            bm.applyBigAoE(shooter, point, 5.0, new HashSet<>());
-                        }
+        if (hit == null) return true;
 
-                        break3x3Wool(b);
-                        cancel();
-                        return;
-                    }
-                }
-            }
-        }.runTaskTimer(plugin, 0L, 1L);
-    }
+        Player hitPlayer = hit.player();
+        Location point = new Location(world, p.x + p.dx * limit, p.y + p.dy * limit, p.z + p.dz * limit);
 
-    private Player findHitPlayer(Player shooter, Location point, double radius) {
-        if (point == null || point.getWorld() == null) return null;
+        bm.applyBigDirectHit(shooter, hitPlayer, point);
 
-        Collection<Entity> nearby = point.getWorld().getNearbyEntities(point, radius, radius, radius, ent -> ent instanceof Player);
-        Player best = null;
-        double bestDist = Double.MAX_VALUE;
+        playBigImpactEffect(point);
 
-        for (Entity ent : nearby) {
-            if (!(ent instanceof Player p)) continue;
-            if (p.getUniqueId().equals(shooter.getUniqueId())) continue;
-            if (!p.isOnline()) continue;
-            if (gameStateManager.getGameState(p) != GameState.BLAST) continue;
+        Set<UUID> processed = new HashSet<>();
+        processed.add(hitPlayer.getUniqueId());
+        bm.applyBigAoE(shooter, point, 5.0, processed);
 
-            double d = p.getEyeLocation().distanceSquared(point);
-            if (d < bestDist) {
-                bestDist = d;
-                best = p;
-            }
-        }
-        return best;
+        break3x3Wool(point.getBlock());
+        return false;
     }
 
     private void playBigImpactEffect(Location center) {
@@ -345,9 +348,9 @@ public class BlastBlasterListener implements Listener {
             Bukkit.getScheduler().runTask(plugin, fw::detonate);
         } catch (Throwable ignored) {}
 
-        w.spawnParticle(Particle.EXPLOSION, center, 10, 2.5, 2.5, 2.5, 0.02);
-        w.spawnParticle(Particle.FLAME, center, 120, 2.5, 1.5, 2.5, 0.02);
-        w.spawnParticle(Particle.SMOKE, center, 60, 2.5, 1.5, 2.5, 0.02);
+        particles.burst(center, Particle.EXPLOSION, 10, 2.5, 2.5, 2.5, 0.02);
+        particles.burst(center, Particle.FLAME, 120, 2.5, 1.5, 2.5, 0.02);
+        particles.burst(center, Particle.SMOKE, 60, 2.5, 1.5, 2.5, 0.02);
     }
 
     private void break3x3Wool(Block centerBlock) {
@@ -5,28 +5,67 @@ import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
 import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
-public class BlastCooldownHudService {
+/**
+ * Blaster cooldown on the XP bar and the dash cooldown boss bar for Blast players.
+ *
+ * Only "watched" players are refreshed: someone whose cooldown just started, whose held item
+ * may have changed, or who entered/left Blast. A player drops out of the set once nothing they
+ * can see is still counting down. Each player's last sent values are cached, so exp, level and
+ * boss bar updates only go out when what the client shows would actually change.
+ *
+ * A slow resync sweep catches changes no event reports (game state, dash powerups, items
+ * handed out by code).
+ */
+public class BlastCooldownHudService implements Listener {
 
-    private static final long UPDATE_TICKS = 2L;
+    // XP bar and boss bar are both 182px wide; finer progress changes are invisible
+    private static final double BAR_STEPS = 182.0;
 
     private final PortalPlugin plugin;
     private final GameStateManager gameStateManager;
     private final BlastPowerupManager powerupManager;
     private final BlastCooldownTracker cooldownTracker;
 
-    private final Map<UUID, BossBar> dashBars = new HashMap<>();
-    private final Set<UUID> trackedExp = new HashSet<>();
+    private final long updateTicks;
+    private final int resyncTicks;
+
+    private final Map<UUID, View> views = new HashMap<>();
+    private final Set<UUID> watched = new LinkedHashSet<>();
 
     private BukkitRunnable task;
+    private int ticksUntilResync;
+
+    /**
+     * What this player's client was last sent.
+     */
+    private static final class View {
+        BlastCooldownTracker.CooldownType heldType;
+
+        float exp = Float.NaN;
+        int level = -1;
+
+        BossBar dashBar;
+        double barProgress = Double.NaN;
+        String barTitle;
+    }
 
     public BlastCooldownHudService(
             PortalPlugin plugin,
@@ -38,6 +77,11 @@ public class BlastCooldownHudService {
         this.gameStateManager = gameStateManager;
         this.powerupManager = powerupManager;
         this.cooldownTracker = cooldownTracker;
+
+        this.updateTicks = Math.max(1L, plugin.getConfig().getLong("blast.hud.update-ticks", 2L));
+        this.resyncTicks = Math.max(1, plugin.getConfig().getInt("blast.hud.resync-ticks", 20));
+
+        cooldownTracker.setStartListener((id, type) -> watched.add(id));
         start();
     }
 
@@ -46,107 +90,236 @@ public class BlastCooldownHudService {
             try { task.cancel(); } catch (Throwable ignored) {}
             task = null;
         }
-        for (BossBar bar : dashBars.values()) {
-            if (bar != null) {
-                bar.removeAll();
+        cooldownTracker.setStartListener(null);
+        for (View v : views.values()) {
+            if (v.dashBar != null) {
+                v.dashBar.removeAll();
             }
         }
-        dashBars.clear();
-        trackedExp.clear();
+        views.clear();
+        watched.clear();
+    }
+
+    /**
+     * Re-evaluates a player's HUD on the next update (held item, state and dash bar included).
+     */
+    public void refresh(Player p) {
+        if (p == null) return;
+        watched.add(p.getUniqueId());
     }
 
     private void start() {
         task = new BukkitRunnable() {
             @Override
             public void run() {
-                for (Player p : Bukkit.getOnlinePlayers()) {
-                    if (p == null || !p.isOnline()) continue;
-
-                    if (gameStateManager.getGameState(p) != GameState.BLAST) {
-                        resetPlayerHud(p);
-                        continue;
-                    }
-
-                    trackedExp.add(p.getUniqueId());
-                    updateBlasterCooldownBar(p);
-                    updateDashCooldownBar(p);
+                ticksUntilResync -= (int) updateTicks;
+                if (ticksUntilResync <= 0) {
+                    ticksUntilResync = resyncTicks;
+                    resync();
                 }
+                updateWatched();
             }
         };
-        task.runTaskTimer(plugin, UPDATE_TICKS, UPDATE_TICKS);
+        task.runTaskTimer(plugin, updateTicks, updateTicks);
     }
 
-    private void resetPlayerHud(Player p) {
-        UUID id = p.getUniqueId();
-        if (trackedExp.remove(id)) {
-            try {
-                p.setExp(0.0f);
-                p.setLevel(0);
-            } catch (Throwable ignored) {}
+    // ---------------------------------------------------------------------
+    // Events that can change what the HUD shows
+    // ---------------------------------------------------------------------
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemHeld(PlayerItemHeldEvent event) {
+        heldMayHaveChanged(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onSwapHands(PlayerSwapHandItemsEvent event) {
+        heldMayHaveChanged(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDrop(PlayerDropItemEvent event) {
+        heldMayHaveChanged(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent event) {
+        if (event.getEntity() instanceof Player p) {
+            heldMayHaveChanged(p);
         }
+    }
 
-        BossBar bar = dashBars.remove(id);
-        if (bar != null) {
-            bar.removeAll();
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent event) {
+        if (event.getWhoClicked() instanceof Player p) {
+            heldMayHaveChanged(p);
         }
     }
 
-    private void updateBlasterCooldownBar(Player p) {
-        ItemStack held = p.getInventory().getItemInMainHand();
-        BlastCooldownTracker.CooldownType type = getHeldBlasterType(p, held);
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        UUID id = event.getPlayer().getUniqueId();
+        View v = views.remove(id);
+        if (v != null && v.dashBar != null) {
+            v.dashBar.removeAll();
+        }
+        watched.remove(id);
+        cooldownTracker.release(id);
+    }
 
-        if (type == null) {
-            try {
-                p.setExp(0.0f);
-                p.setLevel(0);
-            } catch (Throwable ignored) {}
-            return;
+    private void heldMayHaveChanged(Player p) {
+        UUID id = p.getUniqueId();
+        if (!views.containsKey(id) && gameStateManager.getGameState(p) != GameState.BLAST) return;
+        watched.add(id);
+    }
+
+    // ---------------------------------------------------------------------
+    // Updates
+    // ---------------------------------------------------------------------
+
+    /**
+     * Cheap pass over online players for changes no event reports: entering/leaving Blast,
+     * gaining/losing dash powerups, or a different item type ending up in hand.
+     */
+    private void resync() {
+        for (Player p : Bukkit.getOnlinePlayers()) {
+            UUID id = p.getUniqueId();
+            View v = views.get(id);
+            boolean inBlast = gameStateManager.getGameState(p) == GameState.BLAST;
+
+            if (v == null) {
+                if (inBlast) refresh(p);
+                continue;
+            }
+            if (!inBlast || hasDash(p) != (v.dashBar != null)) {
+                watched.add(id);
+            }
+            if (v.heldType != heldBlasterType(p)) {
+                watched.add(id);
+            }
         }
+    }
+
+    private void updateWatched() {
+        if (watched.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        Iterator<UUID> it = watched.iterator();
+        while (it.hasNext()) {
+            UUID id = it.next();
+            Player p = Bukkit.getPlayer(id);
+            if (p == null || !p.isOnline()) {
+                it.remove();
+                continue;
+            }
+
+            if (gameStateManager.getGameState(p) != GameState.BLAST) {
+                resetPlayerHud(p);
+                it.remove();
+                continue;
+            }
+
+            View v = views.computeIfAbsent(id, k -> new View());
+            v.heldType = heldBlasterType(p);
+
+            boolean counting = updateBlasterCooldownBar(p, v, now);
+            counting |= updateDashCooldownBar(p, v, now);
+            if (!counting) it.remove();
+        }
+    }
+
+    private void resetPlayerHud(Player p) {
+        View v = views.remove(p.getUniqueId());
+        if (v == null) return;
 
-        double progress = cooldownTracker.getProgress(p.getUniqueId(), type);
         try {
-            p.setExp((float) progress);
+            p.setExp(0.0f);
             p.setLevel(0);
         } catch (Throwable ignored) {}
+
+        if (v.dashBar != null) {
+            v.dashBar.removeAll();
+        }
     }
 
-    private void updateDashCooldownBar(Player p) {
-        if (powerupManager == null || powerupManager.getDashDistanceBlocks(p) <= 0) {
-            BossBar existing = dashBars.remove(p.getUniqueId());
-            if (existing != null) existing.removeAll();
-            return;
+    /**
+     * @return whether the held blaster is still cooling down
+     */
+    private boolean updateBlasterCooldownBar(Player p, View v, long now) {
+        BlastCooldownTracker.CooldownType type = v.heldType;
+
+        float exp = 0.0f;
+        boolean counting = false;
+        if (type != null) {
+            double progress = cooldownTracker.getProgress(p.getUniqueId(), type, now);
+            exp = (float) quantize(progress);
+            counting = progress < 1.0;
         }
 
-        BossBar bar = dashBars.computeIfAbsent(
-                p.getUniqueId(),
-                id -> Bukkit.createBossBar("Dash Cooldown", BarColor.BLUE, BarStyle.SOLID)
-        );
+        try {
+            if (exp != v.exp) {
+                p.setExp(exp);
+                v.exp = exp;
+            }
+            if (v.level != 0) {
+                p.setLevel(0);
+                v.level = 0;
+            }
+        } catch (Throwable ignored) {}
+
+        return counting;
+    }
+
+    /**
+     * @return whether the dash cooldown is still running (and shown)
+     */
+    private boolean updateDashCooldownBar(Player p, View v, long now) {
+        if (!hasDash(p)) {
+            if (v.dashBar != null) {
+                v.dashBar.removeAll();
+                v.dashBar = null;
+                v.barProgress = Double.NaN;
+                v.barTitle = null;
+            }
+            return false;
+        }
 
-        if (!bar.getPlayers().contains(p)) {
-            bar.addPlayer(p);
+        if (v.dashBar == null) {
+            v.dashBar = Bukkit.createBossBar("Dash Cooldown", BarColor.BLUE, BarStyle.SOLID);
+            v.dashBar.addPlayer(p);
+            v.dashBar.setVisible(true);
         }
-        bar.setVisible(true);
 
         UUID id = p.getUniqueId();
-        double progress = cooldownTracker.getProgress(id, BlastCooldownTracker.CooldownType.DASH);
-        long remaining = cooldownTracker.getRemainingMs(id, BlastCooldownTracker.CooldownType.DASH);
-
-        bar.setProgress(Math.max(0.0, Math.min(1.0, progress)));
-        if (remaining <= 0) {
-            bar.setTitle("§bDash Ready");
-        } else {
-            double seconds = remaining / 1000.0;
-            bar.setTitle(String.format("§bDash Cooldown: §f%.1fs", seconds));
+        double progress = quantize(cooldownTracker.getProgress(id, BlastCooldownTracker.CooldownType.DASH, now));
+        long remaining = cooldownTracker.getRemainingMs(id, BlastCooldownTracker.CooldownType.DASH, now);
+
+        String title = remaining <= 0
+                ? "§bDash Ready"
+                : String.format("§bDash Cooldown: §f%.1fs", remaining / 1000.0);
+
+        if (progress != v.barProgress) {
+            v.dashBar.setProgress(progress);
+            v.barProgress = progress;
         }
+        if (!title.equals(v.barTitle)) {
+            v.dashBar.setTitle(title);
+            v.barTitle = title;
+        }
+
+        return remaining > 0;
+    }
+
+    private boolean hasDash(Player p) {
+        return powerupManager != null && powerupManager.getDashDistanceBlocks(p) > 0;
+    }
+
+    private static double quantize(double progress) {
+        double clamped = Math.max(0.0, Math.min(1.0, progress));
+        return Math.round(clamped * BAR_STEPS) / BAR_STEPS;
     }
 
-    private BlastCooldownTracker.CooldownType getHeldBlasterType(Player p, ItemStack item) {
-        if (item == null || item.getType().isAir()) return null;
-        if (BlastItems.isBasicBlaster(plugin, item)) return BlastCooldownTracker.CooldownType.BASIC;
-        if (BlastItems.isBigBlaster(plugin, item)) return BlastCooldownTracker.CooldownType.BIG;
-        if (BlastItems.isScatterBlaster(plugin, item)) return BlastCooldownTracker.CooldownType.SCATTER;
-        if (BlastItems.isRangeBlaster(plugin, item)) return BlastCooldownTracker.CooldownType.RANGE;
-        if (BlastItems.isStrikeBlaster(plugin, item)) return BlastCooldownTracker.CooldownType.STRIKE;
-        return null;
+    private BlastCooldownTracker.CooldownType heldBlasterType(Player p) {
+        return plugin.getBlastItemClassifier().held(p).kind().cooldownType();
     }
 }
@@ -1,10 +1,18 @@
 package com.blake.portalplugin;
 
-import java.util.EnumMap;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 
+/**
+ * Weapon/ability cooldowns for every Blast player.
+ *
+ * Each player gets a slot (reused after {@link #release}); deadlines and durations live in
+ * two flat long arrays indexed by slot * types + type, so starting or checking a cooldown
+ * is one map lookup and an array access, with nothing allocated per shot.
+ */
 public class BlastCooldownTracker {
 
     public enum CooldownType {
@@ -16,12 +24,25 @@ public class BlastCooldownTracker {
         DASH
     }
 
-    private static final class CooldownState {
-        private long endsAtMs;
-        private long durationMs;
-    }
+    private static final int TYPES = CooldownType.values().length;
+    private static final int INITIAL_SLOTS = 16;
+
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private int[] freeSlots = new int[INITIAL_SLOTS];
+    private int freeCount;
+    private int nextSlot;
+
+    private long[] endsAtMs = new long[INITIAL_SLOTS * TYPES];
+    private long[] durationMs = new long[INITIAL_SLOTS * TYPES];
 
-    private final Map<UUID, EnumMap<CooldownType, CooldownState>> cooldowns = new HashMap<>();
+    private BiConsumer<UUID, CooldownType> onStart;
+
+    /**
+     * Called after every {@link #startCooldown} (the HUD uses it to start refreshing a player).
+     */
+    public void setStartListener(BiConsumer<UUID, CooldownType> onStart) {
+        this.onStart = onStart;
+    }
 
     public boolean isReady(UUID playerId, CooldownType type) {
         return getRemainingMs(playerId, type) <= 0;
@@ -40,10 +61,12 @@ public class BlastCooldownTracker {
     public void startCooldown(UUID playerId, CooldownType type, long durationMs, long nowMs) {
         if (playerId == null || type == null) return;
         long safeDuration = Math.max(1L, durationMs);
-        CooldownState state = new CooldownState();
-        state.durationMs = safeDuration;
-        state.endsAtMs = nowMs + safeDuration;
-        cooldowns.computeIfAbsent(playerId, k -> new EnumMap<>(CooldownType.class)).put(type, state);
+
+        int i = cell(slotFor(playerId), type);
+        this.durationMs[i] = safeDuration;
+        this.endsAtMs[i] = nowMs + safeDuration;
+
+        if (onStart != null) onStart.accept(playerId, type);
     }
 
     public long getRemainingMs(UUID playerId, CooldownType type) {
@@ -52,31 +75,70 @@ public class BlastCooldownTracker {
 
     public long getRemainingMs(UUID playerId, CooldownType type, long nowMs) {
         if (playerId == null || type == null) return 0L;
-        CooldownState state = getState(playerId, type);
-        if (state == null) return 0L;
-        long remaining = state.endsAtMs - nowMs;
-        return Math.max(0L, remaining);
+        Integer slot = slots.get(playerId);
+        if (slot == null) return 0L;
+        return Math.max(0L, endsAtMs[cell(slot, type)] - nowMs);
     }
 
     public long getDurationMs(UUID playerId, CooldownType type) {
         if (playerId == null || type == null) return 0L;
-        CooldownState state = getState(playerId, type);
-        if (state == null) return 0L;
-        return Math.max(0L, state.durationMs);
+        Integer slot = slots.get(playerId);
+        if (slot == null) return 0L;
+        return Math.max(0L, durationMs[cell(slot, type)]);
     }
 
     public double getProgress(UUID playerId, CooldownType type) {
-        long duration = getDurationMs(playerId, type);
-        if (duration <= 0) return 1.0;
-        long remaining = getRemainingMs(playerId, type);
-        if (remaining <= 0) return 1.0;
+        return getProgress(playerId, type, System.currentTimeMillis());
+    }
+
+    public double getProgress(UUID playerId, CooldownType type, long nowMs) {
+        if (playerId == null || type == null) return 1.0;
+        Integer slot = slots.get(playerId);
+        if (slot == null) return 1.0;
+
+        int i = cell(slot, type);
+        long duration = durationMs[i];
+        long remaining = endsAtMs[i] - nowMs;
+        if (duration <= 0 || remaining <= 0) return 1.0;
+
         double progress = 1.0 - (double) remaining / (double) duration;
         return Math.max(0.0, Math.min(1.0, progress));
     }
 
-    private CooldownState getState(UUID playerId, CooldownType type) {
-        EnumMap<CooldownType, CooldownState> map = cooldowns.get(playerId);
-        if (map == null) return null;
-        return map.get(type);
+    /**
+     * Forgets a player's cooldowns (on quit) and frees their slot.
+     */
+    public void release(UUID playerId) {
+        Integer slot = slots.remove(playerId);
+        if (slot == null) return;
+
+        int base = slot * TYPES;
+        Arrays.fill(endsAtMs, base, base + TYPES, 0L);
+        Arrays.fill(durationMs, base, base + TYPES, 0L);
+
+        if (freeCount == freeSlots.length) freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        freeSlots[freeCount++] = slot;
+    }
+
+    private int slotFor(UUID playerId) {
+        Integer slot = slots.get(playerId);
+        if (slot != null) return slot;
+
+        int s;
+        if (freeCount > 0) {
+            s = freeSlots[--freeCount];
+        } else {
+            s = nextSlot++;
+            if ((s + 1) * TYPES > endsAtMs.length) {
+                endsAtMs = Arrays.copyOf(endsAtMs, endsAtMs.length * 2);
+                durationMs = Arrays.copyOf(durationMs, durationMs.length * 2);
+            }
+        }
+        slots.put(playerId, s);
+        return s;
+    }
+
+    private static int cell(int slot, CooldownType type) {
+        return slot * TYPES + type.ordinal();
     }
 }
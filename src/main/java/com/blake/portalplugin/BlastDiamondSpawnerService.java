@@ -9,13 +9,19 @@ import org.bukkit.WorldBorder;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Item;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
-public class BlastDiamondSpawnerService {
+public class BlastDiamondSpawnerService implements Listener {
 
     private final PortalPlugin plugin;
     private final GameStateManager gameStateManager;
@@ -32,6 +38,9 @@ public class BlastDiamondSpawnerService {
     // Used when region bounds aren't set; derived from spawns with padding.
     private static final int FALLBACK_PADDING_BLOCKS = 20;
 
+    // The surface index loads every chunk in the bounds; bigger areas use the per-attempt scan
+    private static final int MAX_INDEX_CHUNKS = 1024;
+
     // If world border is huge (default), we won't use it as a safe bound.
     private static final double MAX_REASONABLE_BORDER_SIZE = 5000.0;
 
@@ -39,6 +48,18 @@ public class BlastDiamondSpawnerService {
     private boolean warnedNoBounds = false;
     private boolean warnedNoSpawnRange = false;
 
+    // Spawnable columns for the active map; built when the map is activated
+    private BlastMap indexedMap = null;
+    private BlastSurfaceIndex surfaceIndex = null;
+    private BlastMap buildingMap = null;
+    private int indexGeneration = 0;
+
+    // Resolved spawn bounds, for the per-attempt column scan used while the index is building,
+    // or instead of it when the map is too large to index or the build failed
+    private BlastMap scanMap = null;
+    private World scanWorld = null;
+    private Bounds scanBounds = null;
+
     public BlastDiamondSpawnerService(PortalPlugin plugin, GameStateManager gameStateManager) {
         this.plugin = plugin;
         this.gameStateManager = gameStateManager;
@@ -96,6 +117,118 @@ public class BlastDiamondSpawnerService {
         activeDiamondEntities.clear();
     }
 
+    // ---------------------------------------------------------------------
+    // Surface index
+    // ---------------------------------------------------------------------
+
+    /**
+     * Starts building the spawnable-surface index for a map that is becoming active.
+     * Called by BlastMinigameManager at game start; the spawn tick also calls it if the map
+     * changed without that.
+     */
+    public void prepare(BlastMap map) {
+        clearIndex();
+        int generation = indexGeneration;
+        if (map == null) return;
+
+        World world = resolveWorld(map);
+        if (world == null) return;
+
+        Bounds bounds = resolveBounds(map, world);
+        if (bounds == null) {
+            if (!warnedNoBounds) {
+                warnedNoBounds = true;
+                plugin.getLogger().warning("[BLAST] Diamond spawns skipped: could not resolve safe bounds. Set BlastMap region.min/max or ensure team spawns are configured.");
+            }
+            return;
+        }
+        warnedNoBounds = false;
+
+        Bounds spawnBounds = applySpawnRange(bounds, world);
+        if (spawnBounds == null) {
+            if (!warnedNoSpawnRange) {
+                warnedNoSpawnRange = true;
+                plugin.getLogger().warning("[BLAST] Diamond spawns skipped: configured spawn Y range does not overlap map bounds.");
+            }
+            return;
+        }
+        warnedNoSpawnRange = false;
+
+        scanMap = map;
+        scanWorld = world;
+        scanBounds = spawnBounds;
+
+        long chunks = (long) ((spawnBounds.maxX >> 4) - (spawnBounds.minX >> 4) + 1)
+                * ((spawnBounds.maxZ >> 4) - (spawnBounds.minZ >> 4) + 1);
+        if (chunks > MAX_INDEX_CHUNKS) {
+            plugin.getLogger().info("[BLAST] Diamond spawn index skipped for map '" + map.getName() + "': bounds cover "
+                    + chunks + " chunks (limit " + MAX_INDEX_CHUNKS + "); picking spawns by column scan.");
+            return;
+        }
+
+        buildingMap = map;
+        long started = System.nanoTime();
+        BlastSurfaceIndex.build(plugin, world,
+                spawnBounds.minX, spawnBounds.maxX, spawnBounds.minY, spawnBounds.maxY,
+                spawnBounds.minZ, spawnBounds.maxZ
+        ).whenComplete((index, err) -> {
+            if (generation != indexGeneration) return; // superseded
+            buildingMap = null;
+
+            if (err != null) {
+                plugin.getLogger().warning("[BLAST] Diamond spawn index failed for map '" + map.getName() + "': "
+                        + err.getMessage() + "; picking spawns by column scan.");
+                return;
+            }
+
+            indexedMap = map;
+            surfaceIndex = index;
+            plugin.getLogger().info("[BLAST] Diamond spawn index for '" + map.getName() + "': " + index.size()
+                    + " columns in " + ((System.nanoTime() - started) / 1_000_000L) + " ms");
+        });
+    }
+
+    private void clearIndex() {
+        indexGeneration++;
+        indexedMap = null;
+        surfaceIndex = null;
+        buildingMap = null;
+        scanMap = null;
+        scanWorld = null;
+        scanBounds = null;
+    }
+
+    /**
+     * For code that changes blocks without firing place/break events.
+     */
+    public void onBlockChanged(Block block) {
+        BlastSurfaceIndex index = surfaceIndex;
+        if (block == null || index == null || block.getWorld() != index.getWorld()) return;
+        index.update(block.getX(), block.getZ());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent e) {
+        onBlockChanged(e.getBlockPlaced());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent e) {
+        BlastSurfaceIndex index = surfaceIndex;
+        if (index == null) return;
+
+        // Breaks anywhere else on the server don't concern the index
+        Block block = e.getBlock();
+        if (block.getWorld() != index.getWorld() || !index.contains(block.getX(), block.getZ())) return;
+
+        // The block is still there during the event; re-read the column once it's gone
+        Bukkit.getScheduler().runTask(plugin, () -> onBlockChanged(block));
+    }
+
+    // ---------------------------------------------------------------------
+    // Spawning
+    // ---------------------------------------------------------------------
+
     private void tickSpawn() {
         BlastMinigameManager bm = plugin.getBlastMinigameManager();
 
@@ -103,6 +236,7 @@ public class BlastDiamondSpawnerService {
         if (bm == null || !bm.isInProgress()) {
             warnedNoBounds = false;
             warnedNoSpawnRange = false;
+            clearIndex();
             pruneInvalid();
             clearAllActiveDiamonds();
             return;
@@ -119,31 +253,19 @@ public class BlastDiamondSpawnerService {
         BlastMap map = bm.getActiveMap();
         if (map == null) return;
 
-        World world = resolveWorld(map);
-        if (world == null) return;
-
-        Bounds bounds = resolveBounds(map, world);
-        if (bounds == null) {
-            if (!warnedNoBounds) {
-                warnedNoBounds = true;
-                plugin.getLogger().warning("[BLAST] Diamond spawns skipped: could not resolve safe bounds. Set BlastMap region.min/max or ensure team spawns are configured.");
-            }
-            return;
+        // Bounds that failed to resolve leave nothing behind, so they're retried here
+        if (map != indexedMap && map != buildingMap && map != scanMap) {
+            prepare(map);
         }
-        warnedNoBounds = false;
 
-        Bounds spawnBounds = applySpawnRange(bounds, world);
-        if (spawnBounds == null) {
-            if (!warnedNoSpawnRange) {
-                warnedNoSpawnRange = true;
-                plugin.getLogger().warning("[BLAST] Diamond spawns skipped: configured spawn Y range does not overlap map bounds.");
-            }
-            return;
-        }
-        warnedNoSpawnRange = false;
+        BlastSurfaceIndex index = (map == indexedMap) ? surfaceIndex : null;
+        if (index == null && map != scanMap) return; // no usable bounds
+
+        World world = (index != null) ? index.getWorld() : scanWorld;
+        Random rng = ThreadLocalRandom.current();
 
         for (int i = 0; i < toSpawn; i++) {
-            Location loc = findSolidGroundSpawn(world, spawnBounds, 30);
+            Location loc = (index != null) ? index.pick(rng, 30) : findSolidGroundSpawn(world, scanBounds, 30);
             if (loc == null) continue;
 
             Item dropped;
@@ -317,7 +439,7 @@ public class BlastDiamondSpawnerService {
         int minY = Math.min(b.minY, b.maxY);
         int maxY = Math.max(b.minY, b.maxY);
 
-        Random rng = java.util.concurrent.ThreadLocalRandom.current();
+        Random rng = ThreadLocalRandom.current();
 
         for (int attempt = 0; attempt < maxAttempts; attempt++) {
             int x = rng.nextInt(minX, maxX + 1);
@@ -326,12 +448,9 @@ public class BlastDiamondSpawnerService {
             // Scan down within bounds to find "solid ground with air above"
             for (int y = maxY; y >= minY; y--) {
                 Block ground = world.getBlockAt(x, y, z);
-                if (ground == null) continue;
-
                 if (!ground.getType().isSolid()) continue;
 
                 Block above = world.getBlockAt(x, y + 1, z);
-                if (above == null) continue;
                 if (!above.getType().isAir()) continue;
 
                 return new Location(world, x + 0.5, y + 1.15, z + 0.5);
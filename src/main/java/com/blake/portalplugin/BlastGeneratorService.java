@@ -2,28 +2,47 @@ package com.blake.portalplugin;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.Material;
-import org.bukkit.World;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.Item;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.ItemDespawnEvent;
+import org.bukkit.event.entity.ItemMergeEvent;
+import org.bukkit.event.inventory.InventoryPickupItemEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.BlockVector;
 import org.bukkit.util.Vector;
 
 import java.lang.reflect.Method;
 import java.util.*;
 
-public class BlastGeneratorService {
+/**
+ * Drops a big blaster on each of the active map's 4 redstone generators every 40 seconds,
+ * unless the previous one is still sitting there.
+ *
+ * Generator positions come from the map's generator index (recorded when the region was
+ * saved), so nothing is scanned in the world. Whether a generator is occupied is tracked
+ * from the item this service dropped there: pickup, hopper, merge and despawn events free
+ * the slot, and Item#isValid covers everything else (kills, chunk unloads).
+ */
+public class BlastGeneratorService implements Listener {
+
+    private static final int GENERATOR_COUNT = 4;
 
     private final PortalPlugin plugin;
     private final GameStateManager gameStateManager;
 
     private BukkitTask task;
 
-    private String cachedMapKey = null;
+    private BlastMap cachedMap = null;
     private List<Location> cachedGenerators = new ArrayList<>();
 
+    // Item currently on each generator (same index as cachedGenerators); entity id -> slot
+    private Item[] slotItems = new Item[0];
+    private final Map<UUID, Integer> slotByItem = new HashMap<>();
+
     public BlastGeneratorService(PortalPlugin plugin, GameStateManager gameStateManager) {
         this.plugin = plugin;
         this.gameStateManager = gameStateManager;
@@ -46,41 +65,46 @@ public class BlastGeneratorService {
             try { task.cancel(); } catch (Throwable ignored) {}
             task = null;
         }
-        cachedMapKey = null;
+        resetGenerators();
+    }
+
+    private void resetGenerators() {
+        cachedMap = null;
         cachedGenerators = new ArrayList<>();
+        slotItems = new Item[0];
+        slotByItem.clear();
     }
 
     private void tick() {
         BlastMinigameManager bm = plugin.getBlastMinigameManager();
         if (bm == null || !bm.isInProgress()) {
-            cachedMapKey = null;
-            cachedGenerators = new ArrayList<>();
+            resetGenerators();
             return;
         }
 
         BlastMap map = bm.getActiveMap();
         if (map == null) return;
 
-        // Key: map name + world name (based on first spawn world)
-        World w = getMapWorld(map);
-        if (w == null) return;
-
-        String key = safe(map.getName()) + "|" + w.getName();
-        if (!key.equals(cachedMapKey) || cachedGenerators.isEmpty()) {
-            cachedMapKey = key;
-            cachedGenerators = discoverGenerators(map, w);
-
-            if (cachedGenerators.size() != 4) {
+        // Re-resolved while empty: an old map's index is built async after load
+        if (map != cachedMap || cachedGenerators.isEmpty()) {
+            resetGenerators();
+            cachedMap = map;
+            cachedGenerators = selectGenerators(map);
+            slotItems = new Item[cachedGenerators.size()];
+
+            if (!map.isGeneratorsIndexed()) {
+                plugin.getLogger().warning("[PortalPlugin] BLAST map '" + safe(map.getName())
+                        + "' has no generator index yet.");
+            } else if (cachedGenerators.size() != GENERATOR_COUNT) {
                 plugin.getLogger().warning("[PortalPlugin] BLAST generators found: " + cachedGenerators.size()
-                        + " (expected 4). Map=" + safe(map.getName()) + " World=" + w.getName());
+                        + " (expected " + GENERATOR_COUNT + "). Map=" + safe(map.getName()));
             } else {
-                plugin.getLogger().info("[PortalPlugin] BLAST generators ready (4). Map=" + safe(map.getName()));
+                plugin.getLogger().info("[PortalPlugin] BLAST generators ready (" + GENERATOR_COUNT + "). Map=" + safe(map.getName()));
             }
         }
 
-        if (cachedGenerators.isEmpty()) return;
-
-        for (Location genBlockLoc : cachedGenerators) {
+        for (int slot = 0; slot < cachedGenerators.size(); slot++) {
+            Location genBlockLoc = cachedGenerators.get(slot);
             if (genBlockLoc == null || genBlockLoc.getWorld() == null) continue;
 
             // Don’t force-load chunks
@@ -88,139 +112,59 @@ public class BlastGeneratorService {
             int cz = genBlockLoc.getBlockZ() >> 4;
             if (!genBlockLoc.getWorld().isChunkLoaded(cx, cz)) continue;
 
-            Location dropLoc = genBlockLoc.clone().add(0.5, 1.10, 0.5);
-
-            if (hasAnyBlasterItemOnGenerator(dropLoc)) continue;
+            if (isOccupied(slot)) continue;
 
             ItemStack big = BlastItems.createBigBlaster(plugin);
             if (big == null || big.getType().isAir()) continue;
 
+            Location dropLoc = genBlockLoc.clone().add(0.5, 1.10, 0.5);
             Item itemEnt = genBlockLoc.getWorld().dropItem(dropLoc, big);
             if (itemEnt != null) {
                 // Keep it sitting on the generator
                 try { itemEnt.setVelocity(new Vector(0, 0, 0)); } catch (Throwable ignored) {}
                 tryInvokeBoolean(itemEnt, "setGravity", false);
                 tryInvokeBoolean(itemEnt, "setUnlimitedLifetime", true);
+                track(slot, itemEnt);
             }
         }
     }
 
-    private boolean hasAnyBlasterItemOnGenerator(Location center) {
-        World w = center.getWorld();
-        if (w == null) return false;
+    // ---------------------------------------------------------------------
+    // Generator selection (from the map's index, once per map)
+    // ---------------------------------------------------------------------
 
-        Collection<Entity> ents = w.getNearbyEntities(center, 0.65, 0.65, 0.65, e -> e instanceof Item);
-        for (Entity e : ents) {
-            if (!(e instanceof Item it)) continue;
-            ItemStack stack = it.getItemStack();
-            if (BlastItems.isBasicBlaster(plugin, stack) || BlastItems.isBigBlaster(plugin, stack)) {
-                return true;
-            }
+    /**
+     * The indexed redstone blocks closest to the spawn centre, at most 4.
+     */
+    private List<Location> selectGenerators(BlastMap map) {
+        List<Location> found = new ArrayList<>();
+        for (BlockVector offset : map.getBlasterGenerators()) {
+            Location l = map.toWorld(offset);
+            if (l != null) found.add(l);
         }
-        return false;
-    }
+        if (found.isEmpty()) return found;
 
-    private List<Location> discoverGenerators(BlastMap map, World world) {
         List<Location> spawns = collectLikelySpawnLocations(map);
-        if (spawns.isEmpty()) return new ArrayList<>();
-
-        // Use spawn bounds with padding
-        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
-        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
-
-        double sumY = 0;
-        for (Location l : spawns) {
-            minX = Math.min(minX, l.getBlockX());
-            maxX = Math.max(maxX, l.getBlockX());
-            minY = Math.min(minY, l.getBlockY());
-            maxY = Math.max(maxY, l.getBlockY());
-            minZ = Math.min(minZ, l.getBlockZ());
-            maxZ = Math.max(maxZ, l.getBlockZ());
-            sumY += l.getY();
-        }
-
-        int pad = 30;
-        int xMin = minX - pad;
-        int xMax = maxX + pad;
-        int zMin = minZ - pad;
-        int zMax = maxZ + pad;
-
-        int avgY = (int) Math.round(sumY / Math.max(1, spawns.size()));
-        int yMin = avgY - 20;
-        int yMax = avgY + 20;
-
-        // Cap scan size (avoid extreme maps)
-        int xSpan = xMax - xMin + 1;
-        int zSpan = zMax - zMin + 1;
-        int ySpan = yMax - yMin + 1;
-        long volume = (long) xSpan * (long) zSpan * (long) ySpan;
-        if (volume > 2_000_000L) {
-            // tighten if huge
-            pad = 18;
-            xMin = minX - pad;
-            xMax = maxX + pad;
-            zMin = minZ - pad;
-            zMax = maxZ + pad;
-            xSpan = xMax - xMin + 1;
-            zSpan = zMax - zMin + 1;
-            volume = (long) xSpan * (long) zSpan * (long) ySpan;
-            if (volume > 2_000_000L) {
-                // last resort: smaller Y window
-                yMin = avgY - 12;
-                yMax = avgY + 12;
+        if (!spawns.isEmpty()) {
+            int minX = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+            double sumY = 0;
+            for (Location l : spawns) {
+                minX = Math.min(minX, l.getBlockX());
+                maxX = Math.max(maxX, l.getBlockX());
+                minZ = Math.min(minZ, l.getBlockZ());
+                maxZ = Math.max(maxZ, l.getBlockZ());
+                sumY += l.getY();
             }
-        }
 
-        double centerX = (minX + maxX) / 2.0;
-        double centerZ = (minZ + maxZ) / 2.0;
-        double centerY = avgY;
+            double centerX = (minX + maxX) / 2.0;
+            double centerZ = (minZ + maxZ) / 2.0;
+            double centerY = Math.round(sumY / spawns.size());
 
-        List<Location> found = new ArrayList<>();
-
-        int cMinX = xMin >> 4;
-        int cMaxX = xMax >> 4;
-        int cMinZ = zMin >> 4;
-        int cMaxZ = zMax >> 4;
-
-        for (int cx = cMinX; cx <= cMaxX; cx++) {
-            for (int cz = cMinZ; cz <= cMaxZ; cz++) {
-                if (!world.isChunkLoaded(cx, cz)) continue;
-
-                int bxStart = Math.max(xMin, cx << 4);
-                int bxEnd = Math.min(xMax, (cx << 4) + 15);
-                int bzStart = Math.max(zMin, cz << 4);
-                int bzEnd = Math.min(zMax, (cz << 4) + 15);
-
-                for (int x = bxStart; x <= bxEnd; x++) {
-                    for (int z = bzStart; z <= bzEnd; z++) {
-                        for (int y = yMin; y <= yMax; y++) {
-                            if (world.getBlockAt(x, y, z).getType() == Material.REDSTONE_BLOCK) {
-                                found.add(new Location(world, x, y, z));
-                                if (found.size() >= 32) break;
-                            }
-                        }
-                        if (found.size() >= 32) break;
-                    }
-                    if (found.size() >= 32) break;
-                }
-                if (found.size() >= 32) break;
-            }
-            if (found.size() >= 32) break;
+            found.sort(Comparator.comparingDouble(l -> dist2(l, centerX, centerY, centerZ)));
         }
 
-        if (found.isEmpty()) return new ArrayList<>();
-
-        // Sort by closeness to spawn-center and take first 4
-        found.sort(Comparator.comparingDouble(l -> dist2(l, centerX, centerY, centerZ)));
-
-        List<Location> result = new ArrayList<>();
-        Set<String> dedupe = new HashSet<>();
-        for (Location l : found) {
-            String k = l.getBlockX() + "," + l.getBlockY() + "," + l.getBlockZ();
-            if (dedupe.add(k)) result.add(l);
-            if (result.size() >= 4) break;
-        }
-        return result;
+        return new ArrayList<>(found.subList(0, Math.min(GENERATOR_COUNT, found.size())));
     }
 
     private List<Location> collectLikelySpawnLocations(BlastMap map) {
@@ -239,19 +183,57 @@ public class BlastGeneratorService {
         return out;
     }
 
-    private World getMapWorld(BlastMap map) {
-        // Prefer a world from spawns
-        try {
-            for (BlastTeam t : BlastTeam.values()) {
-                for (int i = 0; i < 4; i++) {
-                    Location l = map.getSpawnFor(t, i);
-                    if (l != null && l.getWorld() != null) return l.getWorld();
-                }
-            }
-        } catch (Throwable ignored) {}
-        return null;
+    // ---------------------------------------------------------------------
+    // Item tracking
+    // ---------------------------------------------------------------------
+
+    private boolean isOccupied(int slot) {
+        Item it = slotItems[slot];
+        if (it == null) return false;
+        if (it.isValid()) return true;
+
+        release(it.getUniqueId());
+        return false;
+    }
+
+    private void track(int slot, Item item) {
+        slotItems[slot] = item;
+        slotByItem.put(item.getUniqueId(), slot);
+    }
+
+    private void release(UUID itemId) {
+        Integer slot = slotByItem.remove(itemId);
+        if (slot != null && slot < slotItems.length) slotItems[slot] = null;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent e) {
+        if (!slotByItem.isEmpty()) release(e.getItem().getUniqueId());
     }
 
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHopperPickup(InventoryPickupItemEvent e) {
+        if (!slotByItem.isEmpty()) release(e.getItem().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDespawn(ItemDespawnEvent e) {
+        if (!slotByItem.isEmpty()) release(e.getEntity().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMerge(ItemMergeEvent e) {
+        if (slotByItem.isEmpty()) return;
+
+        // The merged stack lives on as the target entity
+        Integer slot = slotByItem.remove(e.getEntity().getUniqueId());
+        if (slot != null && slot < slotItems.length) track(slot, e.getTarget());
+    }
+
+    // ---------------------------------------------------------------------
+    // Helpers
+    // ---------------------------------------------------------------------
+
     private double dist2(Location l, double cx, double cy, double cz) {
         double dx = l.getX() - cx;
         double dy = l.getY() - cy;
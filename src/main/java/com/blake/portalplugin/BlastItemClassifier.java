@@ -0,0 +1,268 @@
+package com.blake.portalplugin;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.Plugin;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Works out what a Blast item is (which blaster, which shop item, limited uses) from a single
+ * ItemMeta read, using keys created once instead of per call.
+ *
+ * {@link #classify} is the stateless entry point ({@link BlastItems} and {@link BlastShopItems}
+ * delegate to it). {@link #held} additionally caches each player's main-hand classification
+ * until a slot or inventory change event invalidates it.
+ */
+public class BlastItemClassifier implements Listener {
+
+    public enum Kind {
+        NONE(null, null, 0, null),
+        BASIC_BLASTER(BlastItems.TYPE_BASIC, "Basic Blaster", 0,
+                BlastCooldownTracker.CooldownType.BASIC),
+        BIG_BLASTER(BlastItems.TYPE_BIG, "Big Blaster", 0,
+                BlastCooldownTracker.CooldownType.BIG),
+        SCATTER_BLASTER(BlastItems.TYPE_SCATTER, "Scatter Blaster", 0,
+                BlastCooldownTracker.CooldownType.SCATTER),
+        STRIKE_BLASTER(BlastItems.TYPE_STRIKE, "Strike Blaster", BlastItems.STRIKE_MAX_USES,
+                BlastCooldownTracker.CooldownType.STRIKE),
+        RANGE_BLASTER(BlastItems.TYPE_RANGE, "Range Blaster", BlastItems.RANGE_MAX_USES,
+                BlastCooldownTracker.CooldownType.RANGE),
+        SHOP_ITEM(null, null, 0, null);
+
+        private final String tag;
+        private final String displayName;
+        private final int defaultUses;
+        private final BlastCooldownTracker.CooldownType cooldownType;
+
+        Kind(String tag, String displayName, int defaultUses,
+             BlastCooldownTracker.CooldownType cooldownType) {
+            this.tag = tag;
+            this.displayName = displayName;
+            this.defaultUses = defaultUses;
+            this.cooldownType = cooldownType;
+        }
+
+        public boolean isBlaster() {
+            return tag != null;
+        }
+
+        /**
+         * Cooldown shown/checked for this blaster, or null if it isn't one.
+         */
+        public BlastCooldownTracker.CooldownType cooldownType() {
+            return cooldownType;
+        }
+
+        private static Kind blasterFor(Material mat) {
+            return switch (mat) {
+                case STONE_HOE -> BASIC_BLASTER;
+                case GOLDEN_HOE -> BIG_BLASTER;
+                case WOODEN_HOE -> SCATTER_BLASTER;
+                case DIAMOND_HOE -> STRIKE_BLASTER;
+                case IRON_HOE -> RANGE_BLASTER;
+                default -> null;
+            };
+        }
+    }
+
+    /**
+     * What an item is. {@code shopId} is set for anything carrying a shop tag; uses are 0 for
+     * items without limited uses.
+     */
+    public record Classification(Kind kind, String shopId, int usesLeft, int usesMax) {
+
+        public boolean is(Kind k) {
+            return kind == k;
+        }
+    }
+
+    private static final Pattern COLOR_CODE = Pattern.compile("§[0-9A-FK-ORa-fk-or]");
+
+    public static final Classification NONE = new Classification(Kind.NONE, null, 0, 0);
+
+    private record Keys(NamespacedKey blasterType, NamespacedKey usesLeft, NamespacedKey usesMax,
+                        NamespacedKey shopId) {
+    }
+
+    private static volatile Keys keys;
+
+    static NamespacedKey blasterTypeKey(Plugin plugin) {
+        return keys(plugin).blasterType();
+    }
+
+    static NamespacedKey usesLeftKey(Plugin plugin) {
+        return keys(plugin).usesLeft();
+    }
+
+    static NamespacedKey usesMaxKey(Plugin plugin) {
+        return keys(plugin).usesMax();
+    }
+
+    static NamespacedKey shopIdKey(Plugin plugin) {
+        return keys(plugin).shopId();
+    }
+
+    private static Keys keys(Plugin plugin) {
+        Keys k = keys;
+        if (k == null) {
+            k = new Keys(
+                    new NamespacedKey(plugin, BlastItems.PDC_KEY),
+                    new NamespacedKey(plugin, BlastItems.PDC_USES_LEFT),
+                    new NamespacedKey(plugin, BlastItems.PDC_USES_MAX),
+                    new NamespacedKey(plugin, BlastShopItems.PDC_SHOP_ID)
+            );
+            keys = k;
+        }
+        return k;
+    }
+
+    public static Classification classify(Plugin plugin, ItemStack it) {
+        if (plugin == null || it == null || it.getType().isAir() || !it.hasItemMeta()) return NONE;
+        ItemMeta meta = it.getItemMeta();
+        if (meta == null) return NONE;
+
+        Keys k = keys(plugin);
+        PersistentDataContainer pdc = meta.getPersistentDataContainer();
+
+        // Blasters are told apart by material first; the tag (or legacy display name) confirms it
+        Kind kind = Kind.blasterFor(it.getType());
+        if (kind != null && !kind.tag.equalsIgnoreCase(pdc.get(k.blasterType(), PersistentDataType.STRING))) {
+            String name = meta.hasDisplayName() ? stripColor(meta.getDisplayName()) : "";
+            if (!kind.displayName.equalsIgnoreCase(name)) kind = null;
+        }
+
+        String shopId = pdc.get(k.shopId(), PersistentDataType.STRING);
+        if (kind == null) kind = shopId != null ? Kind.SHOP_ITEM : Kind.NONE;
+
+        Integer pdcMax = pdc.get(k.usesMax(), PersistentDataType.INTEGER);
+        int max = pdcMax != null && pdcMax > 0 ? pdcMax : kind.defaultUses;
+        int left = 0;
+        if (max > 0) {
+            Integer pdcLeft = pdc.get(k.usesLeft(), PersistentDataType.INTEGER);
+            left = pdcLeft == null ? max : Math.max(0, Math.min(max, pdcLeft));
+        }
+
+        if (kind == Kind.NONE && max <= 0) return NONE;
+        return new Classification(kind, shopId, left, max);
+    }
+
+    // ---------------------------------------------------------------------
+    // Per-player main-hand cache
+    // ---------------------------------------------------------------------
+
+    private static final class Held {
+        final int slot;
+        final Material material;
+        final Classification classification;
+
+        Held(int slot, Material material, Classification classification) {
+            this.slot = slot;
+            this.material = material;
+            this.classification = classification;
+        }
+    }
+
+    private final Plugin plugin;
+    private final Map<UUID, Held> held = new HashMap<>();
+    private final Map<UUID, Integer> invalidatedAt = new HashMap<>();
+
+    public BlastItemClassifier(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Classification of the player's main-hand item, cached until the held slot or inventory
+     * changes. The cached entry is also dropped if the slot or material in hand no longer
+     * match, which covers most items swapped in by code.
+     */
+    public Classification held(Player p) {
+        if (p == null) return NONE;
+        UUID id = p.getUniqueId();
+        int slot = p.getInventory().getHeldItemSlot();
+        ItemStack item = p.getInventory().getItemInMainHand();
+
+        Held h = held.get(id);
+        if (h != null && h.slot == slot && h.material == item.getType()) {
+            return h.classification;
+        }
+
+        Classification c = classify(plugin, item);
+        // Change events fire before the inventory changes; don't cache what's in hand until
+        // the tick they fired in is over
+        Integer tick = invalidatedAt.get(id);
+        if (tick == null || tick != Bukkit.getCurrentTick()) {
+            held.put(id, new Held(slot, item.getType(), c));
+            invalidatedAt.remove(id);
+        }
+        return c;
+    }
+
+    public void invalidate(Player p) {
+        if (p == null) return;
+        UUID id = p.getUniqueId();
+        held.remove(id);
+        invalidatedAt.put(id, Bukkit.getCurrentTick());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onItemHeld(PlayerItemHeldEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onSwapHands(PlayerSwapHandItemsEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDrop(PlayerDropItemEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPickup(EntityPickupItemEvent event) {
+        if (event.getEntity() instanceof Player p) invalidate(p);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClick(InventoryClickEvent event) {
+        if (event.getWhoClicked() instanceof Player p) invalidate(p);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        if (event.getWhoClicked() instanceof Player p) invalidate(p);
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        UUID id = event.getPlayer().getUniqueId();
+        held.remove(id);
+        invalidatedAt.remove(id);
+    }
+
+    private static String stripColor(String s) {
+        if (s == null) return "";
+        return COLOR_CODE.matcher(s).replaceAll("");
+    }
+}
@@ -2,7 +2,6 @@
 package com.blake.portalplugin;
 
 import org.bukkit.Material;
-import org.bukkit.NamespacedKey;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
@@ -13,21 +12,21 @@ import org.bukkit.plugin.Plugin;
 
 public final class BlastItems {
 
-    private static final String PDC_KEY = "blast_blaster_type";
+    static final String PDC_KEY = "blast_blaster_type";
 
-    private static final String TYPE_BASIC = "basic";
-    private static final String TYPE_BIG = "big";
+    static final String TYPE_BASIC = "basic";
+    static final String TYPE_BIG = "big";
 
     // NEW (middle generator + new blasters)
-    private static final String TYPE_SCATTER = "scatter";
-    private static final String TYPE_STRIKE = "strike";
-    private static final String TYPE_RANGE = "range";
+    static final String TYPE_SCATTER = "scatter";
+    static final String TYPE_STRIKE = "strike";
+    static final String TYPE_RANGE = "range";
 
-    private static final String PDC_USES_LEFT = "blast_blaster_uses_left";
-    private static final String PDC_USES_MAX = "blast_blaster_uses_max";
+    static final String PDC_USES_LEFT = "blast_blaster_uses_left";
+    static final String PDC_USES_MAX = "blast_blaster_uses_max";
 
-    private static final int STRIKE_MAX_USES = 4;
-    private static final int RANGE_MAX_USES = 20;
+    static final int STRIKE_MAX_USES = 4;
+    static final int RANGE_MAX_USES = 20;
 
     private BlastItems() {}
 
@@ -40,7 +39,7 @@ public final class BlastItems {
             meta.addItemFlags(ItemFlag.HIDE_ENCHANTS, ItemFlag.HIDE_ATTRIBUTES);
 
             meta.getPersistentDataContainer().set(
-                    new NamespacedKey(plugin, PDC_KEY),
+                    BlastItemClassifier.blasterTypeKey(plugin),
                     PersistentDataType.STRING,
                     TYPE_BASIC
             );
@@ -58,7 +57,7 @@ public final class BlastItems {
             meta.addItemFlags(ItemFlag.HIDE_ENCHANTS, ItemFlag.HIDE_ATTRIBUTES);
 
             meta.getPersistentDataContainer().set(
-                    new NamespacedKey(plugin, PDC_KEY),
+                    BlastItemClassifier.blasterTypeKey(plugin),
                     PersistentDataType.STRING,
                     TYPE_BIG
             );
@@ -79,7 +78,7 @@ public final class BlastItems {
             meta.addItemFlags(ItemFlag.HIDE_ENCHANTS, ItemFlag.HIDE_ATTRIBUTES);
 
             meta.getPersistentDataContainer().set(
-                    new NamespacedKey(plugin, PDC_KEY),
+                    BlastItemClassifier.blasterTypeKey(plugin),
                     PersistentDataType.STRING,
                     TYPE_SCATTER
             );
@@ -97,7 +96,7 @@ public final class BlastItems {
             meta.addItemFlags(ItemFlag.HIDE_ENCHANTS, ItemFlag.HIDE_ATTRIBUTES);
 
             meta.getPersistentDataContainer().set(
-                    new NamespacedKey(plugin, PDC_KEY),
+                    BlastItemClassifier.blasterTypeKey(plugin),
                     PersistentDataType.STRING,
                     TYPE_STRIKE
             );
@@ -116,7 +115,7 @@ public final class BlastItems {
             meta.addItemFlags(ItemFlag.HIDE_ENCHANTS, ItemFlag.HIDE_ATTRIBUTES);
 
             meta.getPersistentDataContainer().set(
-                    new NamespacedKey(plugin, PDC_KEY),
+                    BlastItemClassifier.blasterTypeKey(plugin),
                     PersistentDataType.STRING,
                     TYPE_RANGE
             );
@@ -128,117 +127,44 @@ public final class BlastItems {
 
     public static boolean isBasicBlaster(Plugin plugin, ItemStack it) {
         if (it == null || it.getType() != Material.STONE_HOE) return false;
-        ItemMeta meta = it.getItemMeta();
-        if (meta == null) return false;
-
-        String tagged = meta.getPersistentDataContainer().get(
-                new NamespacedKey(plugin, PDC_KEY),
-                PersistentDataType.STRING
-        );
-        if (TYPE_BASIC.equalsIgnoreCase(tagged)) return true;
-
-        String name = meta.hasDisplayName() ? meta.getDisplayName() : "";
-        return stripColor(name).equalsIgnoreCase("Basic Blaster");
+        return BlastItemClassifier.classify(plugin, it).is(BlastItemClassifier.Kind.BASIC_BLASTER);
     }
 
     public static boolean isBigBlaster(Plugin plugin, ItemStack it) {
         if (it == null || it.getType() != Material.GOLDEN_HOE) return false;
-        ItemMeta meta = it.getItemMeta();
-        if (meta == null) return false;
-
-        String tagged = meta.getPersistentDataContainer().get(
-                new NamespacedKey(plugin, PDC_KEY),
-                PersistentDataType.STRING
-        );
-        if (TYPE_BIG.equalsIgnoreCase(tagged)) return true;
-
-        String name = meta.hasDisplayName() ? meta.getDisplayName() : "";
-        return stripColor(name).equalsIgnoreCase("Big Blaster");
+        return BlastItemClassifier.classify(plugin, it).is(BlastItemClassifier.Kind.BIG_BLASTER);
     }
 
     public static boolean isScatterBlaster(Plugin plugin, ItemStack it) {
         if (it == null || it.getType() != Material.WOODEN_HOE) return false;
-        ItemMeta meta = it.getItemMeta();
-        if (meta == null) return false;
-
-        String tagged = meta.getPersistentDataContainer().get(
-                new NamespacedKey(plugin, PDC_KEY),
-                PersistentDataType.STRING
-        );
-        if (TYPE_SCATTER.equalsIgnoreCase(tagged)) return true;
-
-        String name = meta.hasDisplayName() ? meta.getDisplayName() : "";
-        return stripColor(name).equalsIgnoreCase("Scatter Blaster");
+        return BlastItemClassifier.classify(plugin, it).is(BlastItemClassifier.Kind.SCATTER_BLASTER);
     }
 
     public static boolean isStrikeBlaster(Plugin plugin, ItemStack it) {
         if (it == null || it.getType() != Material.DIAMOND_HOE) return false;
-        ItemMeta meta = it.getItemMeta();
-        if (meta == null) return false;
-
-        String tagged = meta.getPersistentDataContainer().get(
-                new NamespacedKey(plugin, PDC_KEY),
-                PersistentDataType.STRING
-        );
-        if (TYPE_STRIKE.equalsIgnoreCase(tagged)) return true;
-
-        String name = meta.hasDisplayName() ? meta.getDisplayName() : "";
-        return stripColor(name).equalsIgnoreCase("Strike Blaster");
+        return BlastItemClassifier.classify(plugin, it).is(BlastItemClassifier.Kind.STRIKE_BLASTER);
     }
 
     public static boolean isRangeBlaster(Plugin plugin, ItemStack it) {
         if (it == null || it.getType() != Material.IRON_HOE) return false;
-        ItemMeta meta = it.getItemMeta();
-        if (meta == null) return false;
-
-        String tagged = meta.getPersistentDataContainer().get(
-                new NamespacedKey(plugin, PDC_KEY),
-                PersistentDataType.STRING
-        );
-        if (TYPE_RANGE.equalsIgnoreCase(tagged)) return true;
-
-        String name = meta.hasDisplayName() ? meta.getDisplayName() : "";
-        return stripColor(name).equalsIgnoreCase("Range Blaster");
+        return BlastItemClassifier.classify(plugin, it).is(BlastItemClassifier.Kind.RANGE_BLASTER);
     }
 
     public static int getLimitedUsesMax(Plugin plugin, ItemStack it) {
-        if (it == null || plugin == null) return 0;
-        ItemMeta meta = it.getItemMeta();
-        if (meta == null) return 0;
-
-        Integer pdcMax = meta.getPersistentDataContainer().get(
-                new NamespacedKey(plugin, PDC_USES_MAX),
-                PersistentDataType.INTEGER
-        );
-        if (pdcMax != null && pdcMax > 0) return pdcMax;
-
-        if (isStrikeBlaster(plugin, it)) return STRIKE_MAX_USES;
-        if (isRangeBlaster(plugin, it)) return RANGE_MAX_USES;
-        return 0;
+        return BlastItemClassifier.classify(plugin, it).usesMax();
     }
 
     public static int getLimitedUsesLeft(Plugin plugin, ItemStack it) {
-        if (it == null || plugin == null) return 0;
-        int max = getLimitedUsesMax(plugin, it);
-        if (max <= 0) return 0;
-
-        ItemMeta meta = it.getItemMeta();
-        if (meta == null) return max;
-
-        Integer left = meta.getPersistentDataContainer().get(
-                new NamespacedKey(plugin, PDC_USES_LEFT),
-                PersistentDataType.INTEGER
-        );
-        if (left == null) return max;
-        return Math.max(0, Math.min(max, left));
+        return BlastItemClassifier.classify(plugin, it).usesLeft();
     }
 
     public static int consumeLimitedUse(Plugin plugin, ItemStack it) {
         if (it == null || plugin == null) return -1;
-        int max = getLimitedUsesMax(plugin, it);
+        BlastItemClassifier.Classification c = BlastItemClassifier.classify(plugin, it);
+        int max = c.usesMax();
         if (max <= 0) return -1;
 
-        int left = getLimitedUsesLeft(plugin, it);
+        int left = c.usesLeft();
         if (left <= 0) {
             setLimitedUses(plugin, it, 0, max);
             return 0;
@@ -258,12 +184,12 @@ public final class BlastItems {
 
         int clampedLeft = Math.max(0, Math.min(usesMax, usesLeft));
         meta.getPersistentDataContainer().set(
-                new NamespacedKey(plugin, PDC_USES_LEFT),
+                BlastItemClassifier.usesLeftKey(plugin),
                 PersistentDataType.INTEGER,
                 clampedLeft
         );
         meta.getPersistentDataContainer().set(
-                new NamespacedKey(plugin, PDC_USES_MAX),
+                BlastItemClassifier.usesMaxKey(plugin),
                 PersistentDataType.INTEGER,
                 usesMax
         );
@@ -299,9 +225,4 @@ public final class BlastItems {
     public static Material getTeamWool(BlastTeam team) {
         return getWoolForTeam(team);
     }
-
-    private static String stripColor(String s) {
-        if (s == null) return "";
-        return s.replaceAll("§[0-9A-FK-ORa-fk-or]", "");
-    }
 }
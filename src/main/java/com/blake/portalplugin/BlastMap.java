@@ -5,6 +5,7 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.util.BlockVector;
 
 import java.util.*;
 
@@ -23,12 +24,24 @@ public class BlastMap {
     private Location regionMin;
     private Location regionMax;
 
-    // Saved region blocks relative to regionMin (dx/dy/dz)
-    private List<BlastSavedBlock> savedBlocks = new ArrayList<>();
+    // Saved region snapshot (.brs file in blast-regions/, relative to the store's region folder)
+    private String regionFile;
+    private int regionBlockCount;
+
+    // Pre-snapshot "blocks" list read from old configs; converted to a .brs once, never written back
+    private List<BlastSavedBlock> legacyBlocks = new ArrayList<>();
 
     // Optional ceiling Y cap for this map
     private Integer ceilingY;
 
+    // Generator blocks as offsets from the region origin, found in the snapshot when the region is saved
+    private boolean generatorsIndexed;
+    private List<BlockVector> blasterGenerators = new ArrayList<>();
+    private List<BlockVector> middleGenerators = new ArrayList<>();
+
+    // 2: every matching block is stored (1 kept only the first few in storage order)
+    private static final int GENERATOR_INDEX_VERSION = 2;
+
     // 4 spawn points per team (up to 4 each)
     private final EnumMap<BlastTeam, List<Location>> spawns = new EnumMap<>(BlastTeam.class);
 
@@ -103,12 +116,35 @@ public class BlastMap {
         }
     }
 
-    public List<BlastSavedBlock> getSavedBlocks() {
-        return savedBlocks;
+    public String getRegionFile() {
+        return regionFile;
+    }
+
+    public void setRegionFile(String regionFile) {
+        this.regionFile = (regionFile == null || regionFile.isBlank()) ? null : regionFile.trim();
+    }
+
+    public boolean hasRegion() {
+        return regionFile != null;
+    }
+
+    /**
+     * Non-air blocks in the saved region (informational; the snapshot is the source of truth).
+     */
+    public int getRegionBlockCount() {
+        return regionBlockCount;
+    }
+
+    public void setRegionBlockCount(int regionBlockCount) {
+        this.regionBlockCount = Math.max(0, regionBlockCount);
     }
 
-    public void setSavedBlocks(List<BlastSavedBlock> savedBlocks) {
-        this.savedBlocks = (savedBlocks == null) ? new ArrayList<>() : new ArrayList<>(savedBlocks);
+    public List<BlastSavedBlock> getLegacyBlocks() {
+        return legacyBlocks;
+    }
+
+    public void clearLegacyBlocks() {
+        this.legacyBlocks = new ArrayList<>();
     }
 
     public Integer getCeilingY() {
@@ -119,6 +155,51 @@ public class BlastMap {
         this.ceilingY = ceilingY;
     }
 
+    // -------------------------
+    // Generator index
+    // -------------------------
+
+    /**
+     * False for maps whose region predates the index; BlastMapStore fills it in from the .brs.
+     */
+    public boolean isGeneratorsIndexed() {
+        return generatorsIndexed;
+    }
+
+    public void setGenerators(List<BlockVector> blasters, List<BlockVector> middle) {
+        this.blasterGenerators = new ArrayList<>(blasters == null ? List.of() : blasters);
+        this.middleGenerators = new ArrayList<>(middle == null ? List.of() : middle);
+        this.generatorsIndexed = true;
+    }
+
+    /**
+     * Redstone-block generators (big blaster drops), as region offsets.
+     */
+    public List<BlockVector> getBlasterGenerators() {
+        return blasterGenerators;
+    }
+
+    /**
+     * Diamond-block candidates for the middle generator, as region offsets.
+     */
+    public List<BlockVector> getMiddleGenerators() {
+        return middleGenerators;
+    }
+
+    /**
+     * World position of a region offset: relative to the paste location (where regen puts the
+     * region), or to the saved region's min corner for maps that are never pasted.
+     */
+    public Location toWorld(BlockVector offset) {
+        Location origin = pasteLocation != null ? pasteLocation : regionMin;
+        if (offset == null || origin == null || origin.getWorld() == null) return null;
+
+        return new Location(origin.getWorld(),
+                origin.getBlockX() + offset.getBlockX(),
+                origin.getBlockY() + offset.getBlockY(),
+                origin.getBlockZ() + offset.getBlockZ());
+    }
+
     public Location getStartSpawn() {
         return startSpawn;
     }
@@ -212,14 +293,22 @@ public class BlastMap {
         sec.set("ceiling.y", ceilingY);
         sec.set("start-spawn", startSpawn == null ? null : serializeLocation(startSpawn));
 
-        // blocks list: "dx,dy,dz,MATERIAL"
-        List<String> blocks = new ArrayList<>();
-        if (savedBlocks != null) {
-            for (BlastSavedBlock b : savedBlocks) {
-                if (b != null) blocks.add(b.serialize());
-            }
+        // Block data lives in the .brs snapshot; YAML only keeps metadata
+        sec.set("region.file", regionFile);
+        sec.set("region.blocks", regionFile == null ? null : regionBlockCount);
+
+        if (generatorsIndexed) {
+            sec.set("generators.version", GENERATOR_INDEX_VERSION);
+            sec.set("generators.blasters", serializeOffsets(blasterGenerators));
+            sec.set("generators.middle", serializeOffsets(middleGenerators));
+        }
+
+        // Kept only until the one-time .brs migration has written its file
+        if (!legacyBlocks.isEmpty()) {
+            List<String> blocks = new ArrayList<>();
+            for (BlastSavedBlock b : legacyBlocks) blocks.add(b.serialize());
+            sec.set("blocks", blocks);
         }
-        sec.set("blocks", blocks);
 
         for (BlastTeam t : BlastTeam.values()) {
             List<String> serialized = new ArrayList<>();
@@ -256,14 +345,20 @@ public class BlastMap {
         Location startSpawn = deserializeLocation(sec.getString("start-spawn", null));
         if (startSpawn != null) map.setStartSpawn(startSpawn);
 
-        // blocks
-        List<String> blocks = sec.getStringList("blocks");
-        List<BlastSavedBlock> parsed = new ArrayList<>();
-        for (String s : blocks) {
+        map.setRegionFile(sec.getString("region.file", null));
+        map.setRegionBlockCount(sec.getInt("region.blocks", 0));
+
+        // Older indexes were capped in storage order and could miss the real generators; re-index those
+        if (sec.getInt("generators.version", 1) >= GENERATOR_INDEX_VERSION) {
+            map.setGenerators(deserializeOffsets(sec.getStringList("generators.blasters")),
+                    deserializeOffsets(sec.getStringList("generators.middle")));
+        }
+
+        // legacy: blocks list "dx,dy,dz,MATERIAL" from before region snapshots
+        for (String s : sec.getStringList("blocks")) {
             BlastSavedBlock b = BlastSavedBlock.deserialize(s);
-            if (b != null) parsed.add(b);
+            if (b != null) map.legacyBlocks.add(b);
         }
-        map.setSavedBlocks(parsed);
 
         ConfigurationSection sp = sec.getConfigurationSection("spawns");
         if (sp != null) {
@@ -296,6 +391,26 @@ public class BlastMap {
                 + loc.getPitch();
     }
 
+    private static List<String> serializeOffsets(List<BlockVector> offsets) {
+        List<String> out = new ArrayList<>();
+        for (BlockVector v : offsets) {
+            out.add(v.getBlockX() + "," + v.getBlockY() + "," + v.getBlockZ());
+        }
+        return out;
+    }
+
+    private static List<BlockVector> deserializeOffsets(List<String> list) {
+        List<BlockVector> out = new ArrayList<>();
+        for (String s : list) {
+            String[] p = s.split(",");
+            if (p.length < 3) continue;
+            try {
+                out.add(new BlockVector(Integer.parseInt(p[0].trim()), Integer.parseInt(p[1].trim()), Integer.parseInt(p[2].trim())));
+            } catch (NumberFormatException ignored) {}
+        }
+        return out;
+    }
+
     private static Location deserializeLocation(String s) {
         if (s == null || s.isBlank()) return null;
         String[] p = s.split(",");
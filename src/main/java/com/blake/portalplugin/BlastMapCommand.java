@@ -3,12 +3,8 @@ package com.blake.portalplugin;
 
 import com.blake.portalplugin.worldedit.SelectionManager;
 import org.bukkit.Location;
-import org.bukkit.Material;
-import org.bukkit.World;
-import org.bukkit.block.Block;
 import org.bukkit.command.*;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
 
@@ -87,8 +83,12 @@ public class BlastMapCommand implements CommandExecutor, TabCompleter {
             sender.sendMessage("§eWorld: §f" + (map.getWorldName() == null ? "(none)" : map.getWorldName()));
             sender.sendMessage("§ePaste: §f" + (map.getPasteLocation() == null ? "(none)" : format(map.getPasteLocation())));
             sender.sendMessage("§eRegion: §f" + (map.getRegionMin() == null ? "(none)" : (format(map.getRegionMin()) + " -> " + format(map.getRegionMax()))));
-            sender.sendMessage("§eBlocks: §f" + (map.getSavedBlocks() == null ? 0 : map.getSavedBlocks().size()));
+            sender.sendMessage("§eBlocks: §f" + map.getRegionBlockCount()
+                    + (map.hasRegion() ? " §7(" + map.getRegionFile() + ")" : ""));
             sender.sendMessage("§eCeiling Y: §f" + (map.getCeilingY() == null ? "(none)" : map.getCeilingY()));
+            sender.sendMessage("§eGenerators: §f" + (map.isGeneratorsIndexed()
+                    ? map.getBlasterGenerators().size() + " redstone, " + map.getMiddleGenerators().size() + " diamond"
+                    : "(not indexed)"));
             sender.sendMessage("§eStart Spawn: §f" + (map.getStartSpawn() == null ? "(none)" : format(map.getStartSpawn())));
 
             for (BlastTeam t : BlastTeam.values()) {
@@ -148,6 +148,7 @@ public class BlastMapCommand implements CommandExecutor, TabCompleter {
 
             plugin.getConfig().set("blast.active-map", map.getName());
             plugin.saveConfig();
+            if (plugin.getSettingsManager() != null) plugin.getSettingsManager().reload();
             sender.sendMessage("§a[BLAST] Active map set to '" + map.getName() + "'.");
             return true;
         }
@@ -298,36 +299,8 @@ public class BlastMapCommand implements CommandExecutor, TabCompleter {
                 return true;
             }
 
-            List<BlastSavedBlock> saved = new ArrayList<>();
-            World w = min.getWorld();
-
-            for (int x = min.getBlockX(); x <= max.getBlockX(); x++) {
-                for (int y = min.getBlockY(); y <= max.getBlockY(); y++) {
-                    for (int z = min.getBlockZ(); z <= max.getBlockZ(); z++) {
-                        Block b = w.getBlockAt(x, y, z);
-                        Material type = b.getType();
-                        if (type == Material.AIR) continue;
-                        saved.add(new BlastSavedBlock(
-                                x - min.getBlockX(),
-                                y - min.getBlockY(),
-                                z - min.getBlockZ(),
-                                type.name()
-                        ));
-                    }
-                }
-            }
-
-            map.setWorldName(w.getName());
-            map.setRegionMin(min);
-            map.setRegionMax(max);
-            map.setSavedBlocks(saved);
-
-            mgr.getMapStore().putMap(map);
-
-            // FIX: List has size() method, not size field
-            sender.sendMessage("§a[BLAST] Saved region for '" + name + "'. Stored " + saved.size()
-                    + " non-air blocks.");
-            sender.sendMessage("§e[BLAST] Tip: now stand at the paste origin and run /blastmap setpaste " + name);
+            sender.sendMessage("§e[BLAST] Saving region for '" + name + "' (" + total + " blocks) ...");
+            mgr.getMapStore().saveRegion(map, p, min, max);
             return true;
         }
 
@@ -340,60 +313,7 @@ public class BlastMapCommand implements CommandExecutor, TabCompleter {
             BlastMap map = requireMap(sender, mgr, name);
             if (map == null) return true;
 
-            if (map.getPasteLocation() == null) {
-                sender.sendMessage("§c[BLAST] This map has no paste location. Use /blastmap setpaste <name>.");
-                return true;
-            }
-            if (map.getSavedBlocks() == null || map.getSavedBlocks().isEmpty()) {
-                sender.sendMessage("§c[BLAST] This map has no saved region blocks. Use /blastmap saveregion <name>.");
-                return true;
-            }
-
-            Location paste = map.getPasteLocation();
-            if (paste.getWorld() == null) {
-                sender.sendMessage("§c[BLAST] Paste world is missing.");
-                return true;
-            }
-
-            final int blocksPerTickFinal = plugin.getConfig().getInt("blast.region.blocks-per-tick", 5000);
-
-            List<BlastSavedBlock> list = new ArrayList<>(map.getSavedBlocks());
-            final int totalBlocks = list.size();
-
-            sender.sendMessage("§e[BLAST] Regenerating '" + name + "' (" + totalBlocks + " blocks) ...");
-
-            new BukkitRunnable() {
-                int i = 0;
-
-                @Override
-                public void run() {
-                    if (i >= totalBlocks) {
-                        sender.sendMessage("§a[BLAST] Regeneration complete for '" + name + "'.");
-                        cancel();
-                        return;
-                    }
-
-                    int placed = 0;
-
-                    while (i < totalBlocks && placed < blocksPerTickFinal) {
-                        BlastSavedBlock sb = list.get(i);
-
-                        int bx = paste.getBlockX() + sb.dx;
-                        int by = paste.getBlockY() + sb.dy;
-                        int bz = paste.getBlockZ() + sb.dz;
-
-                        Material mat = Material.matchMaterial(sb.material);
-                        if (mat != null) {
-                            Block block = paste.getWorld().getBlockAt(bx, by, bz);
-                            block.setType(mat, false);
-                        }
-
-                        i++;
-                        placed++;
-                    }
-                }
-            }.runTaskTimer(plugin, 1L, 1L);
-
+            mgr.getMapStore().regenerateMap(map.getName(), sender);
             return true;
         }
 
@@ -1,12 +1,25 @@
 package com.blake.portalplugin;
 
+import com.blake.portalplugin.worldedit.EditScheduler;
+import com.blake.portalplugin.worldedit.RegionCapture;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.command.CommandSender;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.util.BlockVector;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
 
 public class BlastMapStore {
 
@@ -17,8 +30,19 @@ public class BlastMapStore {
 
     private final Map<String, BlastMap> maps = new LinkedHashMap<>();
 
-    public BlastMapStore(Plugin plugin) {
+    // Generator blocks recorded from a saved region (see BlastGeneratorService / BlastMiddleGeneratorService).
+    // Every match is kept: the services pick the ones nearest the spawns, which can change after indexing.
+    private static final String BLASTER_GENERATOR_BLOCK = "minecraft:redstone_block";
+    private static final String MIDDLE_GENERATOR_BLOCK = "minecraft:diamond_block";
+
+    // Owner id for region jobs started from the console
+    private static final UUID CONSOLE_ID = new UUID(0L, 0L);
+
+    private final EditScheduler editScheduler;
+
+    public BlastMapStore(Plugin plugin, EditScheduler editScheduler) {
         this.plugin = plugin;
+        this.editScheduler = editScheduler;
         this.file = new File(plugin.getDataFolder(), "blast-maps.yml");
         ensureFile();
         reload();
@@ -67,6 +91,12 @@ public class BlastMapStore {
             var mapSec = sec.getConfigurationSection(mapName);
             BlastMap map = BlastMap.loadFromConfig(mapName, mapSec);
             maps.put(map.getName(), map);
+
+            if (!map.getLegacyBlocks().isEmpty()) {
+                migrateLegacyBlocks(map);
+            } else if (map.hasRegion() && !map.isGeneratorsIndexed()) {
+                indexGeneratorsFromFile(map);
+            }
         }
     }
 
@@ -112,4 +142,301 @@ public class BlastMapStore {
         for (BlastMap m : maps.values()) return m;
         return null;
     }
+
+    // -------------------------------------------------------------------------
+    // Region snapshots (.brs)
+    // -------------------------------------------------------------------------
+
+    /**
+     * Captures min..max from chunk snapshots (decoded off the main thread), writes it to
+     * blast-regions/ off the main thread, then records it on the map. Replaces any previous region.
+     */
+    public void saveRegion(BlastMap map, Player player, Location min, Location max) {
+        File target = getRegionFileForMapName(map.getName());
+
+        RegionCapture.start(plugin, editScheduler, player.getUniqueId(), "Saving region", min.getWorld(),
+                min.getBlockX(), min.getBlockY(), min.getBlockZ(),
+                max.getBlockX(), max.getBlockY(), max.getBlockZ()
+        ).whenComplete((capture, captureErr) -> {
+            if (captureErr != null) {
+                plugin.getLogger().log(Level.WARNING, "[PortalPlugin] Failed to capture Blast region for " + map.getName(), captureErr);
+                if (player.isOnline()) {
+                    player.sendMessage("§c[BLAST] Failed to read the region for '" + map.getName() + "'.");
+                }
+                return;
+            }
+
+            BlastRegionSnapshot snap = new BlastRegionSnapshot(
+                    capture.sizeX(), capture.sizeY(), capture.sizeZ(), capture.indices());
+            for (BlockData bd : capture.palette()) snap.getPalette().add(bd.getAsString());
+
+            int solid = snap.countSolid();
+            writeSnapshot(target, snap).whenComplete((ok, err) -> Bukkit.getScheduler().runTask(plugin, () -> {
+                if (err != null) {
+                    plugin.getLogger().log(Level.WARNING, "[PortalPlugin] Failed to write Blast region " + target.getName(), err);
+                    if (player.isOnline()) {
+                        player.sendMessage("§c[BLAST] Failed to write region file for '" + map.getName() + "'.");
+                    }
+                    return;
+                }
+
+                map.setWorldName(min.getWorld().getName());
+                map.setRegionMin(min);
+                map.setRegionMax(max);
+                map.setRegionFile(target.getName());
+                map.setRegionBlockCount(solid);
+                map.clearLegacyBlocks();
+                indexGenerators(map, snap);
+                putMap(map);
+
+                if (player.isOnline()) {
+                    player.sendMessage("§a[BLAST] Saved region for '" + map.getName() + "'. Stored " + solid
+                            + " non-air blocks.");
+                    player.sendMessage("§e[BLAST] Generators: " + map.getBlasterGenerators().size()
+                            + " redstone, " + map.getMiddleGenerators().size() + " diamond.");
+                    player.sendMessage("§e[BLAST] Tip: now stand at the paste origin and run /blastmap setpaste " + map.getName());
+                }
+            }));
+        });
+    }
+
+    /**
+     * Opens a map's saved region for reading section by section, rewriting version 1 files
+     * as version 2 first. Completes on the main thread; the caller owns (and closes) the reader.
+     */
+    public CompletableFuture<BlastRegionIO.Reader> openRegion(BlastMap map) {
+        if (map == null || !map.hasRegion()) {
+            return CompletableFuture.failedFuture(new IOException("No saved region"));
+        }
+
+        File f = new File(getRegionFolder(), map.getRegionFile());
+        BlastRegionIO.Compression compression = regionCompression();
+        CompletableFuture<BlastRegionIO.Reader> future = new CompletableFuture<>();
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                if (BlastRegionIO.version(f) == BlastRegionIO.VERSION_1) {
+                    replaceSnapshotFile(f, BlastRegionIO.load(f), compression);
+                }
+                BlastRegionIO.Reader reader = BlastRegionIO.open(f);
+                Bukkit.getScheduler().runTask(plugin, () -> future.complete(reader));
+            } catch (IOException e) {
+                Bukkit.getScheduler().runTask(plugin, () -> future.completeExceptionally(e));
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Pastes the map's saved region at its paste location. Called by /blastmap regen and
+     * by BlastMinigameManager.regenerateMap.
+     */
+    public void regenerateMap(String mapName, CommandSender sender) {
+        BlastMap map = getMap(mapName);
+        if (map == null) {
+            sender.sendMessage("§c[BLAST] Unknown map '" + mapName + "'. Use /blastregen list");
+            return;
+        }
+        if (map.getPasteLocation() == null) {
+            sender.sendMessage("§c[BLAST] This map has no paste location. Use /blastmap setpaste <name>.");
+            return;
+        }
+        if (!map.hasRegion()) {
+            sender.sendMessage("§c[BLAST] This map has no saved region blocks. Use /blastmap saveregion <name>.");
+            return;
+        }
+
+        Location paste = map.getPasteLocation();
+        if (paste.getWorld() == null) {
+            sender.sendMessage("§c[BLAST] Paste world is missing.");
+            return;
+        }
+
+        boolean ignoreAir = plugin.getConfig().getBoolean("blast.ignore-air", true);
+        UUID owner = (sender instanceof Player p) ? p.getUniqueId() : CONSOLE_ID;
+
+        openRegion(map).whenComplete((reader, err) -> {
+            if (err != null) {
+                plugin.getLogger().log(Level.WARNING, "[PortalPlugin] Failed to load Blast region " + map.getRegionFile(), err);
+                sender.sendMessage("§c[BLAST] Could not load region file for '" + map.getName() + "'.");
+                return;
+            }
+
+            sender.sendMessage("§e[BLAST] Regenerating '" + map.getName() + "' (" + map.getRegionBlockCount() + " blocks) ...");
+            editScheduler.submit(new BlastRegionPasteJob(plugin, owner, paste, reader, ignoreAir, sender, map.getName()));
+        });
+    }
+
+    private BlastRegionIO.Compression regionCompression() {
+        return BlastRegionIO.Compression.fromString(
+                plugin.getConfig().getString("blast.region.compression"), BlastRegionIO.Compression.DEFLATE);
+    }
+
+    private CompletableFuture<Void> writeSnapshot(File target, BlastRegionSnapshot snap) {
+        BlastRegionIO.Compression compression = regionCompression();
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                replaceSnapshotFile(target, snap, compression);
+                future.complete(null);
+            } catch (IOException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    // Written to a temp file first so readers never see a half-written snapshot
+    private static void replaceSnapshotFile(File target, BlastRegionSnapshot snap,
+                                            BlastRegionIO.Compression compression) throws IOException {
+        File tmp = File.createTempFile(target.getName(), ".tmp", target.getParentFile());
+        try {
+            BlastRegionIO.save(tmp, snap, compression);
+            Files.move(tmp.toPath(), target.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp.toPath());
+        }
+    }
+
+    /**
+     * One-time conversion of an old YAML "blocks" list into a .brs snapshot. The YAML list is
+     * dropped on the next save once the file is written.
+     */
+    private void migrateLegacyBlocks(BlastMap map) {
+        List<BlastSavedBlock> blocks = new ArrayList<>(map.getLegacyBlocks());
+
+        int sx = 1, sy = 1, sz = 1;
+        for (BlastSavedBlock b : blocks) {
+            sx = Math.max(sx, b.dx + 1);
+            sy = Math.max(sy, b.dy + 1);
+            sz = Math.max(sz, b.dz + 1);
+        }
+
+        BlastRegionSnapshot snap = new BlastRegionSnapshot(sx, sy, sz, new int[sx * sy * sz]);
+        Map<String, Integer> ids = new HashMap<>();
+        snap.getPalette().add(Material.AIR.getKey().toString()); // 0 = untouched cells
+
+        int solid = 0;
+        for (BlastSavedBlock b : blocks) {
+            if (b.dx < 0 || b.dy < 0 || b.dz < 0) continue;
+            Material m = Material.matchMaterial(b.material);
+            if (m == null || !m.isBlock()) continue;
+
+            String key = m.getKey().toString();
+            Integer id = ids.get(key);
+            if (id == null) {
+                id = snap.getPalette().size();
+                snap.getPalette().add(key);
+                ids.put(key, id);
+            }
+            snap.getData()[snap.index(b.dx, b.dy, b.dz)] = id;
+            if (!m.isAir()) solid++;
+        }
+
+        File target = getRegionFileForMapName(map.getName());
+        int solidFinal = solid;
+
+        writeSnapshot(target, snap).whenComplete((ok, err) -> Bukkit.getScheduler().runTask(plugin, () -> {
+            if (err != null) {
+                plugin.getLogger().log(Level.WARNING, "[PortalPlugin] Failed to migrate Blast map '" + map.getName() + "' blocks", err);
+                return;
+            }
+            map.setRegionFile(target.getName());
+            map.setRegionBlockCount(solidFinal);
+            map.clearLegacyBlocks();
+            indexGenerators(map, snap);
+            save();
+            plugin.getLogger().info("[PortalPlugin] Migrated Blast map '" + map.getName() + "' to " + target.getName());
+        }));
+    }
+
+    // -------------------------------------------------------------------------
+    // Generator index
+    // -------------------------------------------------------------------------
+
+    private void indexGenerators(BlastMap map, BlastRegionSnapshot snap) {
+        map.setGenerators(
+                snap.positionsOf(BLASTER_GENERATOR_BLOCK),
+                snap.positionsOf(MIDDLE_GENERATOR_BLOCK));
+    }
+
+    /**
+     * Maps saved before the generator index: scan the .brs once, off the main thread, and
+     * record the positions. Version 2 files are read a section at a time, so the region is
+     * never held in memory as a whole.
+     */
+    private void indexGeneratorsFromFile(BlastMap map) {
+        File f = new File(getRegionFolder(), map.getRegionFile());
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            List<BlockVector> blasters = new ArrayList<>();
+            List<BlockVector> middle = new ArrayList<>();
+            IOException error = null;
+            try {
+                scanGenerators(f, blasters, middle);
+            } catch (IOException e) {
+                error = e;
+            }
+
+            IOException err = error;
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (err != null) {
+                    plugin.getLogger().warning("[PortalPlugin] Could not index generators for Blast map '"
+                            + map.getName() + "': " + err.getMessage());
+                    return;
+                }
+                if (maps.get(map.getName()) != map) return; // reloaded meanwhile
+
+                map.setGenerators(blasters, middle);
+                save();
+                plugin.getLogger().info("[PortalPlugin] Indexed generators for Blast map '" + map.getName() + "' ("
+                        + blasters.size() + " redstone, " + middle.size() + " diamond)");
+            });
+        });
+    }
+
+    private static void scanGenerators(File f, List<BlockVector> blasters, List<BlockVector> middle) throws IOException {
+        if (BlastRegionIO.version(f) == BlastRegionIO.VERSION_1) {
+            BlastRegionSnapshot snap = BlastRegionIO.load(f);
+            blasters.addAll(snap.positionsOf(BLASTER_GENERATOR_BLOCK));
+            middle.addAll(snap.positionsOf(MIDDLE_GENERATOR_BLOCK));
+            return;
+        }
+
+        try (BlastRegionIO.Reader reader = BlastRegionIO.open(f)) {
+            List<String> palette = reader.getPalette();
+            // 1 = blaster generator, 2 = middle generator
+            byte[] kind = new byte[palette.size()];
+            boolean any = false;
+            for (int i = 0; i < kind.length; i++) {
+                if (BlastRegionSnapshot.isBlock(palette.get(i), BLASTER_GENERATOR_BLOCK)) kind[i] = 1;
+                else if (BlastRegionSnapshot.isBlock(palette.get(i), MIDDLE_GENERATOR_BLOCK)) kind[i] = 2;
+                any |= kind[i] != 0;
+            }
+            if (!any) return;
+
+            int[] cells = new int[BlastRegionIO.SECTION_CELLS];
+            for (int s = 0; s < reader.getSectionCount(); s++) {
+                reader.decodeSection(s, cells);
+
+                int x0 = reader.sectionMinX(s), y0 = reader.sectionMinY(s), z0 = reader.sectionMinZ(s);
+                int w = Math.min(BlastRegionIO.SECTION, reader.getSizeX() - x0);
+                int h = Math.min(BlastRegionIO.SECTION, reader.getSizeY() - y0);
+                int d = Math.min(BlastRegionIO.SECTION, reader.getSizeZ() - z0);
+                for (int z = 0; z < d; z++) {
+                    for (int y = 0; y < h; y++) {
+                        for (int x = 0; x < w; x++) {
+                            int v = cells[BlastRegionIO.Reader.cellIndex(x, y, z)];
+                            if (v < 0 || v >= kind.length || kind[v] == 0) continue;
+
+                            BlockVector pos = new BlockVector(x0 + x, y0 + y, z0 + z);
+                            (kind[v] == 1 ? blasters : middle).add(pos);
+                        }
+                    }
+                }
+            }
+        }
+    }
 }
@@ -3,30 +3,44 @@ package com.blake.portalplugin;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.Material;
 import org.bukkit.World;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.ItemDespawnEvent;
+import org.bukkit.event.entity.ItemMergeEvent;
+import org.bukkit.event.inventory.InventoryPickupItemEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.BlockVector;
 import org.bukkit.util.Vector;
 
 import java.lang.reflect.Method;
 import java.util.*;
 
-public class BlastMiddleGeneratorService {
+/**
+ * Once a minute, replaces the item on the middle (diamond block) generator with a random
+ * special blaster. The generator comes from the map's generator index, resolved once per
+ * map; the item on it is tracked through pickup/merge/despawn events rather than entity
+ * queries around the block.
+ */
+public class BlastMiddleGeneratorService implements Listener {
 
     private final PortalPlugin plugin;
     private final GameStateManager gameStateManager;
 
     private BukkitTask task;
 
-    private String cachedMapKey = null;
+    private BlastMap cachedMap = null;
     private Location cachedDiamond = null;
 
-    private long lastDiamondScanAttemptMs = 0L;
+    private boolean warnedMissing = false;
+
+    // Item this service last put on the generator
+    private Item currentItem = null;
 
     // Spawn once per minute boundary: 1,2,3... (minuteIndex = elapsedSeconds/60)
     private int lastSpawnMinuteIndex = 0;
@@ -55,35 +69,52 @@ public class BlastMiddleGeneratorService {
             try { task.cancel(); } catch (Throwable ignored) {}
             task = null;
         }
-        cachedMapKey = null;
+        resetGenerator();
+    }
+
+    private void resetGenerator() {
+        cachedMap = null;
         cachedDiamond = null;
-        lastDiamondScanAttemptMs = 0L;
+        currentItem = null;
         lastSpawnMinuteIndex = 0;
     }
 
     private void tick() {
         BlastMinigameManager bm = plugin.getBlastMinigameManager();
         if (bm == null || !bm.isInProgress()) {
-            cachedMapKey = null;
-            cachedDiamond = null;
-            lastDiamondScanAttemptMs = 0L;
-            lastSpawnMinuteIndex = 0;
+            resetGenerator();
             return;
         }
 
         BlastMap map = bm.getActiveMap();
         if (map == null) return;
 
-        World w = getMapWorld(map);
-        if (w == null) return;
+        if (map != cachedMap) {
+            resetGenerator();
+            cachedMap = map;
+            warnedMissing = false;
+        }
+
+        // Resolved from the map's index; retried while missing since an old map's index is built async on load
+        if (cachedDiamond == null) {
+            cachedDiamond = selectDiamondGenerator(map);
 
-        String key = safe(map.getName()) + "|" + w.getName();
-        if (!key.equals(cachedMapKey)) {
-            cachedMapKey = key;
-            cachedDiamond = null;
-            lastDiamondScanAttemptMs = 0L;
-            lastSpawnMinuteIndex = 0;
+            if (cachedDiamond == null) {
+                if (!warnedMissing) {
+                    warnedMissing = true;
+                    plugin.getLogger().warning("[PortalPlugin] BLAST middle generator diamond block not "
+                            + (map.isGeneratorsIndexed() ? "in the map's generator index" : "indexed yet")
+                            + ". Map=" + safe(map.getName()));
+                }
+                return;
+            } else {
+                plugin.getLogger().info("[PortalPlugin] BLAST middle generator at "
+                        + cachedDiamond.getWorld().getName() + " "
+                        + cachedDiamond.getBlockX() + " " + cachedDiamond.getBlockY() + " " + cachedDiamond.getBlockZ()
+                        + " (Map=" + safe(map.getName()) + ")");
+            }
         }
+        World w = cachedDiamond.getWorld();
 
         // Determine elapsed seconds since game start using the authoritative BLAST timer
         int remaining = bm.getSecondsRemaining();
@@ -96,24 +127,6 @@ public class BlastMiddleGeneratorService {
         // Only act once per minute boundary
         if (minuteIndex == lastSpawnMinuteIndex) return;
 
-        // Discover the diamond block (throttle scanning to avoid heavy work if chunks aren't loaded yet)
-        if (cachedDiamond == null) {
-            long now = System.currentTimeMillis();
-            if (now - lastDiamondScanAttemptMs < 10_000L) return;
-            lastDiamondScanAttemptMs = now;
-
-            cachedDiamond = discoverDiamondGenerator(map, w);
-            if (cachedDiamond == null) {
-                plugin.getLogger().warning("[PortalPlugin] BLAST middle generator diamond block not found (scan limited to loaded chunks). Map=" + safe(map.getName()));
-                return;
-            } else {
-                plugin.getLogger().info("[PortalPlugin] BLAST middle generator found at "
-                        + cachedDiamond.getWorld().getName() + " "
-                        + cachedDiamond.getBlockX() + " " + cachedDiamond.getBlockY() + " " + cachedDiamond.getBlockZ()
-                        + " (Map=" + safe(map.getName()) + ")");
-            }
-        }
-
         // Don’t force-load chunks
         int cx = cachedDiamond.getBlockX() >> 4;
         int cz = cachedDiamond.getBlockZ() >> 4;
@@ -122,7 +135,7 @@ public class BlastMiddleGeneratorService {
         // Replace item on the generator with a new random special blaster
         Location dropLoc = cachedDiamond.clone().add(0.5, 1.10, 0.5);
 
-        removeItemsOnGenerator(dropLoc);
+        removeCurrentItem();
 
         ItemStack toSpawn = createRandomSpecialBlaster();
         if (toSpawn == null || toSpawn.getType().isAir()) return;
@@ -132,6 +145,7 @@ public class BlastMiddleGeneratorService {
             try { it.setVelocity(new Vector(0, 0, 0)); } catch (Throwable ignored) {}
             tryInvokeBoolean(it, "setGravity", false);
             tryInvokeBoolean(it, "setUnlimitedLifetime", true);
+            currentItem = it;
         }
 
         announceSpawn(toSpawn);
@@ -152,14 +166,10 @@ public class BlastMiddleGeneratorService {
         }
     }
 
-    private void removeItemsOnGenerator(Location center) {
-        World w = center.getWorld();
-        if (w == null) return;
-
-        Collection<Entity> ents = w.getNearbyEntities(center, 0.80, 0.80, 0.80, e -> e instanceof Item);
-        for (Entity e : ents) {
-            try { e.remove(); } catch (Throwable ignored) {}
-        }
+    private void removeCurrentItem() {
+        if (currentItem == null) return;
+        try { if (currentItem.isValid()) currentItem.remove(); } catch (Throwable ignored) {}
+        currentItem = null;
     }
 
     private ItemStack createRandomSpecialBlaster() {
@@ -179,72 +189,34 @@ public class BlastMiddleGeneratorService {
         }
     }
 
-    private Location discoverDiamondGenerator(BlastMap map, World world) {
-        List<Location> spawns = collectLikelySpawnLocations(map);
-        if (spawns.isEmpty()) return null;
+    /**
+     * The indexed diamond block closest to the spawn centre.
+     */
+    private Location selectDiamondGenerator(BlastMap map) {
+        List<Location> found = new ArrayList<>();
+        for (BlockVector offset : map.getMiddleGenerators()) {
+            Location l = map.toWorld(offset);
+            if (l != null) found.add(l);
+        }
+        if (found.isEmpty()) return null;
 
-        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
-        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        List<Location> spawns = collectLikelySpawnLocations(map);
+        if (spawns.isEmpty()) return found.get(0);
 
+        int minX = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
         double sumY = 0;
         for (Location l : spawns) {
             minX = Math.min(minX, l.getBlockX());
             maxX = Math.max(maxX, l.getBlockX());
-            minY = Math.min(minY, l.getBlockY());
-            maxY = Math.max(maxY, l.getBlockY());
             minZ = Math.min(minZ, l.getBlockZ());
             maxZ = Math.max(maxZ, l.getBlockZ());
             sumY += l.getY();
         }
 
-        int pad = 40;
-        int xMin = minX - pad;
-        int xMax = maxX + pad;
-        int zMin = minZ - pad;
-        int zMax = maxZ + pad;
-
-        int avgY = (int) Math.round(sumY / Math.max(1, spawns.size()));
-        int yMin = avgY - 14;
-        int yMax = avgY + 14;
-
         double centerX = (minX + maxX) / 2.0;
         double centerZ = (minZ + maxZ) / 2.0;
-        double centerY = avgY;
-
-        List<Location> found = new ArrayList<>();
-
-        int cMinX = xMin >> 4;
-        int cMaxX = xMax >> 4;
-        int cMinZ = zMin >> 4;
-        int cMaxZ = zMax >> 4;
-
-        for (int cx = cMinX; cx <= cMaxX; cx++) {
-            for (int cz = cMinZ; cz <= cMaxZ; cz++) {
-                if (!world.isChunkLoaded(cx, cz)) continue;
-
-                int bxStart = Math.max(xMin, cx << 4);
-                int bxEnd = Math.min(xMax, (cx << 4) + 15);
-                int bzStart = Math.max(zMin, cz << 4);
-                int bzEnd = Math.min(zMax, (cz << 4) + 15);
-
-                for (int x = bxStart; x <= bxEnd; x++) {
-                    for (int z = bzStart; z <= bzEnd; z++) {
-                        for (int y = yMin; y <= yMax; y++) {
-                            if (world.getBlockAt(x, y, z).getType() == Material.DIAMOND_BLOCK) {
-                                found.add(new Location(world, x, y, z));
-                                if (found.size() >= 8) break;
-                            }
-                        }
-                        if (found.size() >= 8) break;
-                    }
-                    if (found.size() >= 8) break;
-                }
-                if (found.size() >= 8) break;
-            }
-            if (found.size() >= 8) break;
-        }
-
-        if (found.isEmpty()) return null;
+        double centerY = Math.round(sumY / spawns.size());
 
         found.sort(Comparator.comparingDouble(l -> dist2(l, centerX, centerY, centerZ)));
         return found.get(0);
@@ -263,16 +235,34 @@ public class BlastMiddleGeneratorService {
         return out;
     }
 
-    private World getMapWorld(BlastMap map) {
-        try {
-            for (BlastTeam t : BlastTeam.values()) {
-                for (int i = 0; i < 4; i++) {
-                    Location l = map.getSpawnFor(t, i);
-                    if (l != null && l.getWorld() != null) return l.getWorld();
-                }
-            }
-        } catch (Throwable ignored) {}
-        return null;
+    // ---------------------------------------------------------------------
+    // Item tracking
+    // ---------------------------------------------------------------------
+
+    private void forget(UUID itemId) {
+        if (currentItem != null && currentItem.getUniqueId().equals(itemId)) currentItem = null;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent e) {
+        if (currentItem != null) forget(e.getItem().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHopperPickup(InventoryPickupItemEvent e) {
+        if (currentItem != null) forget(e.getItem().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDespawn(ItemDespawnEvent e) {
+        if (currentItem != null) forget(e.getEntity().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMerge(ItemMergeEvent e) {
+        if (currentItem != null && currentItem.getUniqueId().equals(e.getEntity().getUniqueId())) {
+            currentItem = e.getTarget();
+        }
     }
 
     private double dist2(Location l, double cx, double cy, double cz) {
@@ -36,6 +36,7 @@ public class BlastMinigameManager {
     private BlastMap activeMap = null;
 
     private final List<UUID> participants = new ArrayList<>();
+    private final BlastParticipantIndex participantIndex;
     private final Map<UUID, BlastTeam> teamByPlayer = new HashMap<>();
     private final Map<UUID, Integer> spawnIndexByPlayer = new HashMap<>();
 
@@ -56,7 +57,8 @@ public class BlastMinigameManager {
     public BlastMinigameManager(PortalPlugin plugin, GameStateManager gameStateManager) {
         this.plugin = plugin;
         this.gameStateManager = gameStateManager;
-        this.mapStore = new BlastMapStore(plugin);
+        this.mapStore = new BlastMapStore(plugin, plugin.getEditScheduler());
+        this.participantIndex = new BlastParticipantIndex(gameStateManager, () -> participants);
         resetLives();
         loadSpawnProtectionFromConfig();
     }
@@ -74,6 +76,10 @@ public class BlastMinigameManager {
         return mapStore;
     }
 
+    public BlastParticipantIndex getParticipantIndex() {
+        return participantIndex;
+    }
+
     public boolean isInProgress() {
         return inProgress;
     }
@@ -289,18 +295,7 @@ public class BlastMinigameManager {
             return;
         }
 
-        if (tryInvokeTwoArgs(mapStore, "regenerateMap", String.class, CommandSender.class, chosen, sender)) return;
-        if (tryInvokeTwoArgs(mapStore, "regenerate", String.class, CommandSender.class, chosen, sender)) return;
-        if (tryInvokeTwoArgs(mapStore, "pasteMap", String.class, CommandSender.class, chosen, sender)) return;
-
-        BlastMap map = mapStore.getMap(chosen);
-        if (map == null) {
-            sender.sendMessage("§c[BLAST] Unknown map '" + chosen + "'. Use /blastregen list");
-            return;
-        }
-
-        sender.sendMessage("§e[BLAST] Map '" + map.getName() + "' is loaded, but regeneration is not implemented in BlastMapStore.");
-        sender.sendMessage("§e[BLAST] Implement a store method like regenerateMap(String, CommandSender) to paste your schematic.");
+        mapStore.regenerateMap(chosen, sender);
     }
 
     public List<UUID> startFromQueue(List<Player> queuedPlayers) {
@@ -335,7 +330,11 @@ public class BlastMinigameManager {
         this.activeMap = map;
         this.secondsRemaining = MAX_SECONDS;
 
+        BlastDiamondSpawnerService diamondSpawner = plugin.getBlastDiamondSpawnerService();
+        if (diamondSpawner != null) diamondSpawner.prepare(map);
+
         participants.clear();
+        participantIndex.invalidate();
         teamByPlayer.clear();
         spawnIndexByPlayer.clear();
         resetLives();
@@ -484,17 +483,12 @@ public class BlastMinigameManager {
         if (center == null || center.getWorld() == null) return;
 
         BlastTeam shooterTeam = (shooter != null) ? teamByPlayer.get(shooter.getUniqueId()) : null;
-        double r2 = radius * radius;
 
-        for (UUID id : new ArrayList<>(participants)) {
+        // Index already filters to online BLAST participants in this world within the radius
+        for (Player victim : participantIndex.within(center, radius)) {
+            UUID id = victim.getUniqueId();
             if (processed != null && processed.contains(id)) continue;
 
-            Player victim = Bukkit.getPlayer(id);
-            if (victim == null || !victim.isOnline()) continue;
-            if (gameStateManager.getGameState(victim) != GameState.BLAST) continue;
-
-            if (victim.getWorld() != center.getWorld()) continue;
-            if (victim.getLocation().distanceSquared(center) > r2) continue;
             if (!canDamage(victim, BlastDamageSource.DEFAULT)) continue;
 
             BlastTeam victimTeam = teamByPlayer.get(victim.getUniqueId());
@@ -656,9 +650,14 @@ public class BlastMinigameManager {
     }
 
     public void applyBlastTeamsToScoreboard(Player viewer) {
-        if (!inProgress) return;
         if (viewer == null || !viewer.isOnline()) return;
 
+        // Boards are kept across refreshes now, so once the game is over the team entries have to be taken off again
+        if (!inProgress) {
+            clearBlastTeams(viewer.getScoreboard());
+            return;
+        }
+
         List<Player> online = new ArrayList<>();
         for (UUID id : new ArrayList<>(participants)) {
             Player p = Bukkit.getPlayer(id);
@@ -690,30 +689,50 @@ public class BlastMinigameManager {
         }
     }
 
+    /**
+     * Brings the viewer's team entries in line with teamByPlayer. Only entries that are
+     * missing or stale are touched, so re-applying to an unchanged board sends nothing.
+     */
     private void applyBlastTeamsToScoreboard(Player viewer, List<Player> online) {
         org.bukkit.scoreboard.Scoreboard sb = viewer.getScoreboard();
         if (sb == null) return;
 
-        ensureTeamsExist(sb);
+        Map<String, BlastTeam> wanted = new HashMap<>();
+        for (Player p : online) {
+            BlastTeam t = teamByPlayer.get(p.getUniqueId());
+            if (t != null) wanted.put(p.getName(), t);
+        }
 
         for (BlastTeam t : BlastTeam.values()) {
             Team team = sb.getTeam(t.getScoreboardTeamName());
-            if (team == null) continue;
-            for (Player p : online) {
-                try { team.removeEntry(p.getName()); } catch (Throwable ignored) {}
+            if (team == null) {
+                team = sb.registerNewTeam(t.getScoreboardTeamName());
+                configureTeam(team, t);
+            }
+
+            for (String entry : new ArrayList<>(team.getEntries())) {
+                if (wanted.get(entry) != t) {
+                    try { team.removeEntry(entry); } catch (Throwable ignored) {}
+                }
             }
         }
 
-        for (Player p : online) {
-            BlastTeam t = teamByPlayer.get(p.getUniqueId());
-            if (t == null) continue;
+        for (Map.Entry<String, BlastTeam> e : wanted.entrySet()) {
+            Team team = sb.getTeam(e.getValue().getScoreboardTeamName());
+            if (team == null || team.hasEntry(e.getKey())) continue;
+            try { team.addEntry(e.getKey()); } catch (Throwable ignored) {}
+        }
+    }
 
+    private void clearBlastTeams(org.bukkit.scoreboard.Scoreboard sb) {
+        if (sb == null) return;
+
+        for (BlastTeam t : BlastTeam.values()) {
             Team team = sb.getTeam(t.getScoreboardTeamName());
-            if (team == null) {
-                team = sb.registerNewTeam(t.getScoreboardTeamName());
-                configureTeam(team, t);
+            if (team == null || team.getEntries().isEmpty()) continue;
+            for (String entry : new ArrayList<>(team.getEntries())) {
+                try { team.removeEntry(entry); } catch (Throwable ignored) {}
             }
-            try { team.addEntry(p.getName()); } catch (Throwable ignored) {}
         }
     }
 
@@ -1001,6 +1020,7 @@ public class BlastMinigameManager {
         BlastTeam team = teamByPlayer.get(id);
 
         participants.remove(id);
+        participantIndex.invalidate();
         elimTokensByPlayer.remove(id);
         blastStreakByPlayer.remove(id);
 
@@ -1074,6 +1094,7 @@ public class BlastMinigameManager {
         }
 
         participants.clear();
+        participantIndex.invalidate();
         teamByPlayer.clear();
         spawnIndexByPlayer.clear();
         resetElimTokens();
@@ -1227,27 +1248,6 @@ public class BlastMinigameManager {
         }
     }
 
-    private boolean tryInvokeTwoArgs(
-            Object target,
-            String methodName,
-            Class<?> a1,
-            Class<?> a2,
-            Object v1,
-            Object v2
-    ) {
-        if (target == null || methodName == null) return false;
-        try {
-            Method m = target.getClass().getMethod(methodName, a1, a2);
-            m.invoke(target, v1, v2);
-            return true;
-        } catch (Throwable t) {
-            if (t instanceof java.lang.reflect.InvocationTargetException) {
-                plugin.getLogger().log(Level.WARNING, "[PortalPlugin] BlastMapStore." + methodName + "(..,..) failed", t);
-            }
-            return false;
-        }
-    }
-
     private void tryInvokeBoolean(Object target, String methodName, boolean arg) {
         if (target == null || methodName == null) return;
         try {
@@ -0,0 +1,225 @@
+package com.blake.portalplugin;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.util.BoundingBox;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Uniform grid over the live BLAST participants, rebuilt at most once per server tick
+ * (lazily, on the first query of a tick) so projectiles and AoE don't have to scan
+ * world entities.
+ *
+ * Each participant's bounding box is registered in every cell it overlaps. Queries only
+ * touch the cells covering their own bounds, then test the candidates exactly.
+ */
+public class BlastParticipantIndex {
+
+    private static final int CELL_SHIFT = 3; // 8-block cells
+
+    public record Hit(Player player, double distance) {
+    }
+
+    private static final class Entry {
+        final Player player;
+        final UUID id;
+        final World world;
+        final BoundingBox box;
+        final double feetX, feetY, feetZ;
+
+        Entry(Player player) {
+            this.player = player;
+            this.id = player.getUniqueId();
+            this.world = player.getWorld();
+            this.box = player.getBoundingBox();
+
+            Location l = player.getLocation();
+            this.feetX = l.getX();
+            this.feetY = l.getY();
+            this.feetZ = l.getZ();
+        }
+    }
+
+    private final GameStateManager gameStateManager;
+    private final Supplier<? extends Collection<UUID>> participants;
+
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    private int builtTick = Integer.MIN_VALUE;
+
+    public BlastParticipantIndex(GameStateManager gameStateManager, Supplier<? extends Collection<UUID>> participants) {
+        this.gameStateManager = gameStateManager;
+        this.participants = participants;
+    }
+
+    /**
+     * Forces the next query to rebuild (participants joined/left mid-tick).
+     */
+    public void invalidate() {
+        builtTick = Integer.MIN_VALUE;
+    }
+
+    // ---------------------------------------------------------------------
+    // Queries
+    // ---------------------------------------------------------------------
+
+    /**
+     * First participant touched by a cube of half-size {@code radius} swept from {@code from}
+     * to {@code to}. Same hit volume as a getNearbyEntities(point, r, r, r) check at every
+     * point of the segment, without the gaps between steps.
+     */
+    public Hit sweep(World world, Vector from, Vector to, double radius, UUID exclude) {
+        return sweep(world, from.getX(), from.getY(), from.getZ(), to.getX(), to.getY(), to.getZ(), radius, exclude);
+    }
+
+    public Hit sweep(World world,
+                     double fromX, double fromY, double fromZ,
+                     double toX, double toY, double toZ,
+                     double radius, UUID exclude) {
+        ensureBuilt();
+        if (world == null || cells.isEmpty()) return null;
+
+        double dx = toX - fromX, dy = toY - fromY, dz = toZ - fromZ;
+        double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+
+        int minCx = cell(Math.min(fromX, toX) - radius), maxCx = cell(Math.max(fromX, toX) + radius);
+        int minCy = cell(Math.min(fromY, toY) - radius), maxCy = cell(Math.max(fromY, toY) + radius);
+        int minCz = cell(Math.min(fromZ, toZ) - radius), maxCz = cell(Math.max(fromZ, toZ) + radius);
+
+        Entry best = null;
+        double bestT = Double.MAX_VALUE;
+
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cy = minCy; cy <= maxCy; cy++) {
+                for (int cz = minCz; cz <= maxCz; cz++) {
+                    List<Entry> list = cells.get(key(cx, cy, cz));
+                    if (list == null) continue;
+
+                    for (Entry e : list) {
+                        if (e.world != world || e.id.equals(exclude)) continue;
+
+                        double t = segmentEntry(fromX, fromY, fromZ, dx, dy, dz, e.box, radius);
+                        if (t < bestT && isLive(e)) {
+                            bestT = t;
+                            best = e;
+                        }
+                    }
+                }
+            }
+        }
+
+        return best == null ? null : new Hit(best.player, bestT * length);
+    }
+
+    /**
+     * Participants whose feet are within {@code radius} of {@code center}.
+     */
+    public List<Player> within(Location center, double radius) {
+        ensureBuilt();
+        List<Player> out = new ArrayList<>();
+        if (center == null || center.getWorld() == null || cells.isEmpty()) return out;
+
+        World world = center.getWorld();
+        double x = center.getX(), y = center.getY(), z = center.getZ();
+        double r2 = radius * radius;
+
+        // An entry can sit in several cells; only report it once
+        Set<Entry> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (int cx = cell(x - radius); cx <= cell(x + radius); cx++) {
+            for (int cy = cell(y - radius); cy <= cell(y + radius); cy++) {
+                for (int cz = cell(z - radius); cz <= cell(z + radius); cz++) {
+                    List<Entry> list = cells.get(key(cx, cy, cz));
+                    if (list == null) continue;
+
+                    for (Entry e : list) {
+                        if (e.world != world || !seen.add(e)) continue;
+
+                        double dx = e.feetX - x, dy = e.feetY - y, dz = e.feetZ - z;
+                        if (dx * dx + dy * dy + dz * dz > r2) continue;
+                        if (isLive(e)) out.add(e.player);
+                    }
+                }
+            }
+        }
+        return out;
+    }
+
+    // ---------------------------------------------------------------------
+    // Build
+    // ---------------------------------------------------------------------
+
+    private void ensureBuilt() {
+        int tick = Bukkit.getCurrentTick();
+        if (tick == builtTick) return;
+        builtTick = tick;
+
+        cells.clear();
+        for (UUID id : participants.get()) {
+            Player p = Bukkit.getPlayer(id);
+            if (p == null || !p.isOnline()) continue;
+            if (gameStateManager.getGameState(p) != GameState.BLAST) continue;
+
+            Entry e = new Entry(p);
+            BoundingBox b = e.box;
+            for (int cx = cell(b.getMinX()); cx <= cell(b.getMaxX()); cx++) {
+                for (int cy = cell(b.getMinY()); cy <= cell(b.getMaxY()); cy++) {
+                    for (int cz = cell(b.getMinZ()); cz <= cell(b.getMaxZ()); cz++) {
+                        cells.computeIfAbsent(key(cx, cy, cz), k -> new ArrayList<>(4)).add(e);
+                    }
+                }
+            }
+        }
+    }
+
+    // A quit or state change between the build and the query
+    private boolean isLive(Entry e) {
+        return e.player.isOnline() && gameStateManager.getGameState(e.player) == GameState.BLAST;
+    }
+
+    /**
+     * Slab test of the segment o + t*d (t in [0,1]) against the box grown by {@code pad}.
+     * Returns the entry t, or MAX_VALUE on a miss.
+     */
+    private static double segmentEntry(double ox, double oy, double oz,
+                                       double dx, double dy, double dz,
+                                       BoundingBox box, double pad) {
+        double[] range = {0.0, 1.0};
+        if (!clip(ox, dx, box.getMinX() - pad, box.getMaxX() + pad, range)) return Double.MAX_VALUE;
+        if (!clip(oy, dy, box.getMinY() - pad, box.getMaxY() + pad, range)) return Double.MAX_VALUE;
+        if (!clip(oz, dz, box.getMinZ() - pad, box.getMaxZ() + pad, range)) return Double.MAX_VALUE;
+        return range[0];
+    }
+
+    private static boolean clip(double o, double d, double lo, double hi, double[] range) {
+        if (Math.abs(d) < 1.0e-9) return o >= lo && o <= hi;
+
+        double t1 = (lo - o) / d;
+        double t2 = (hi - o) / d;
+        if (t1 > t2) { double s = t1; t1 = t2; t2 = s; }
+
+        range[0] = Math.max(range[0], t1);
+        range[1] = Math.min(range[1], t2);
+        return range[0] <= range[1];
+    }
+
+    private static int cell(double v) {
+        return ((int) Math.floor(v)) >> CELL_SHIFT;
+    }
+
+    private static long key(int cx, int cy, int cz) {
+        return ((long) (cx & 0x3FFFFF) << 42) | ((long) (cy & 0xFFFFF) << 22) | (cz & 0x3FFFFF);
+    }
+}
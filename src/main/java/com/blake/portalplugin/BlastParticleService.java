@@ -0,0 +1,256 @@
+package com.blake.portalplugin;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collects BLAST particle effects during a tick and sends them per viewer at tick end.
+ *
+ * Instead of World#spawnParticle (every point broadcast to everyone nearby), each viewer
+ * gets only the effects that are within range and roughly in front of them, with beams
+ * thinned and bursts shrunk by distance. A per-viewer and a global particle budget cap how
+ * much a single tick can send; effects past the budget are dropped for that viewer.
+ */
+public class BlastParticleService implements Listener {
+
+    private record Effect(World world, Particle particle, Object data,
+                          double x, double y, double z,
+                          double dx, double dy, double dz,
+                          double length, double spacing,
+                          double dashPeriod, double dashOn, double dashPhase,
+                          int count, double ox, double oy, double oz, double extra,
+                          double cx, double cy, double cz, double radius) {
+
+        boolean isBeam() {
+            return spacing > 0.0;
+        }
+    }
+
+    public record Metrics(long effects, long sent, long culled, long overBudget) {
+    }
+
+    private final int maxPerTick;
+    private final int maxPerViewer;
+    private final double viewDistance;
+    private final double nearRadius;
+    private final double lodDistance;
+    private final double maxThinning;
+    private final double coneHalfAngle;
+
+    private final List<Effect> pending = new ArrayList<>();
+
+    private long effects;
+    private long sent;
+    private long culled;
+    private long overBudget;
+
+    public BlastParticleService(Plugin plugin) {
+        this.maxPerTick = Math.max(1, plugin.getConfig().getInt("blast.particles.max-per-tick", 20000));
+        this.maxPerViewer = Math.max(1, plugin.getConfig().getInt("blast.particles.max-per-viewer", 600));
+        this.viewDistance = plugin.getConfig().getDouble("blast.particles.view-distance", 32.0);
+        this.nearRadius = plugin.getConfig().getDouble("blast.particles.near-radius", 6.0);
+        this.lodDistance = Math.max(1.0, plugin.getConfig().getDouble("blast.particles.lod-distance", 12.0));
+        this.maxThinning = Math.max(1.0, plugin.getConfig().getDouble("blast.particles.max-thinning", 4.0));
+        this.coneHalfAngle = Math.toRadians(plugin.getConfig().getDouble("blast.particles.view-cone-degrees", 75.0));
+    }
+
+    // ---------------------------------------------------------------------
+    // Submission
+    // ---------------------------------------------------------------------
+
+    /**
+     * Same as World#spawnParticle(particle, x, y, z, count, ox, oy, oz, extra), sent at tick end.
+     */
+    public void burst(World world, Particle particle, double x, double y, double z,
+                      int count, double ox, double oy, double oz, double extra) {
+        burst(world, particle, x, y, z, count, ox, oy, oz, extra, null);
+    }
+
+    public void burst(World world, Particle particle, double x, double y, double z,
+                      int count, double ox, double oy, double oz, double extra, Object data) {
+        if (world == null || count <= 0) return;
+        double radius = Math.max(ox, Math.max(oy, oz)) * 2.0;
+        submit(new Effect(world, particle, data, x, y, z, 0, 0, 0, 0, 0, 0, 0, 0,
+                count, ox, oy, oz, extra, x, y, z, radius));
+    }
+
+    public void burst(Location at, Particle particle, int count, double ox, double oy, double oz, double extra) {
+        if (at == null) return;
+        burst(at.getWorld(), particle, at.getX(), at.getY(), at.getZ(), count, ox, oy, oz, extra, null);
+    }
+
+    /**
+     * A line of particles from (x, y, z) along the unit direction (dx, dy, dz), one point every
+     * {@code spacing} blocks up to {@code length}. Each point is a burst of {@code count} with
+     * the same offset on every axis.
+     */
+    public void beam(World world, Particle particle,
+                     double x, double y, double z, double dx, double dy, double dz,
+                     double length, double spacing, int count, double offset, double extra) {
+        beam(world, particle, x, y, z, dx, dy, dz, length, spacing, count, offset, extra, null);
+    }
+
+    public void beam(World world, Particle particle,
+                     double x, double y, double z, double dx, double dy, double dz,
+                     double length, double spacing, int count, double offset, double extra, Object data) {
+        submitBeam(world, particle, data, x, y, z, dx, dy, dz, length, spacing, 0.0, 0.0, 0.0, count, offset, extra);
+    }
+
+    /**
+     * The [from, to] stretch of a dashed line starting at (x, y, z): a point is drawn where
+     * (distance from the line origin % dashPeriod) < dashOn. Used by projectiles that draw
+     * their path one tick at a time.
+     */
+    public void beamSegment(World world, Particle particle,
+                            double x, double y, double z, double dx, double dy, double dz,
+                            double from, double to, double spacing, double dashPeriod, double dashOn,
+                            int count, double offset, double extra) {
+        if (to < from) return;
+        submitBeam(world, particle, null,
+                x + dx * from, y + dy * from, z + dz * from, dx, dy, dz,
+                to - from, spacing, dashPeriod, dashOn, from, count, offset, extra);
+    }
+
+    private void submitBeam(World world, Particle particle, Object data,
+                            double x, double y, double z, double dx, double dy, double dz,
+                            double length, double spacing, double dashPeriod, double dashOn, double dashPhase,
+                            int count, double offset, double extra) {
+        if (world == null || count <= 0 || length < 0.0 || spacing <= 0.0) return;
+
+        double half = length * 0.5;
+        submit(new Effect(world, particle, data, x, y, z, dx, dy, dz, length, spacing, dashPeriod, dashOn, dashPhase,
+                count, offset, offset, offset, extra,
+                x + dx * half, y + dy * half, z + dz * half, half + offset * 2.0));
+    }
+
+    public Metrics getMetrics() {
+        return new Metrics(effects, sent, culled, overBudget);
+    }
+
+    private void submit(Effect e) {
+        pending.add(e);
+        effects++;
+    }
+
+    // ---------------------------------------------------------------------
+    // Flush
+    // ---------------------------------------------------------------------
+
+    @EventHandler
+    public void onTickEnd(ServerTickEndEvent event) {
+        if (pending.isEmpty()) return;
+
+        Set<World> worlds = new LinkedHashSet<>();
+        for (Effect e : pending) worlds.add(e.world());
+
+        int globalLeft = maxPerTick;
+
+        for (World world : worlds) {
+            for (Player viewer : world.getPlayers()) {
+                if (globalLeft <= 0) break;
+
+                Location eye = viewer.getEyeLocation();
+                Vector look = eye.getDirection();
+
+                int budget = Math.min(maxPerViewer, globalLeft);
+                int used = sendTo(viewer, world, eye.getX(), eye.getY(), eye.getZ(),
+                        look.getX(), look.getY(), look.getZ(), budget);
+                globalLeft -= used;
+                sent += used;
+            }
+        }
+
+        pending.clear();
+    }
+
+    private int sendTo(Player viewer, World world,
+                       double ex, double ey, double ez,
+                       double lx, double ly, double lz, int budget) {
+        int used = 0;
+
+        for (Effect e : pending) {
+            if (e.world() != world) continue;
+
+            double cx = e.cx() - ex, cy = e.cy() - ey, cz = e.cz() - ez;
+            double dist = Math.sqrt(cx * cx + cy * cy + cz * cz);
+
+            if (dist - e.radius() > viewDistance || !inView(dist, e.radius(), cx, cy, cz, lx, ly, lz)) {
+                culled++;
+                continue;
+            }
+
+            if (used >= budget) {
+                overBudget++;
+                continue;
+            }
+
+            used += e.isBeam()
+                    ? sendBeam(viewer, e, ex, ey, ez, budget - used)
+                    : sendBurst(viewer, e, dist, budget - used);
+        }
+        return used;
+    }
+
+    private boolean inView(double dist, double radius,
+                           double cx, double cy, double cz,
+                           double lx, double ly, double lz) {
+        if (dist - radius <= nearRadius) return true;
+
+        double cos = (cx * lx + cy * ly + cz * lz) / dist;
+        double angle = Math.acos(Math.max(-1.0, Math.min(1.0, cos)));
+        double angularRadius = Math.asin(Math.min(1.0, radius / dist));
+        return angle <= coneHalfAngle + angularRadius;
+    }
+
+    private int sendBurst(Player viewer, Effect e, double dist, int left) {
+        int n = Math.min(left, (int) Math.ceil(e.count() / thinning(dist)));
+        if (n <= 0) return 0;
+
+        viewer.spawnParticle(e.particle(), e.x(), e.y(), e.z(), n, e.ox(), e.oy(), e.oz(), e.extra(), e.data());
+        return n;
+    }
+
+    private int sendBeam(Player viewer, Effect e, double ex, double ey, double ez, int left) {
+        int used = 0;
+        double d = 0.0;
+        double maxSq = viewDistance * viewDistance;
+
+        while (d <= e.length()) {
+            double px = e.x() + e.dx() * d;
+            double py = e.y() + e.dy() * d;
+            double pz = e.z() + e.dz() * d;
+
+            double vx = px - ex, vy = py - ey, vz = pz - ez;
+            double distSq = vx * vx + vy * vy + vz * vz;
+            double dist = Math.sqrt(distSq);
+
+            boolean dashVisible = e.dashPeriod() <= 0.0 || ((d + e.dashPhase()) % e.dashPeriod()) < e.dashOn();
+            if (dashVisible && distSq <= maxSq) {
+                if (used + e.count() > left) break;
+                viewer.spawnParticle(e.particle(), px, py, pz, e.count(), e.ox(), e.oy(), e.oz(), e.extra(), e.data());
+                used += e.count();
+            }
+
+            // Level of detail: far stretches of the beam get sparser
+            d += e.spacing() * thinning(dist);
+        }
+        return used;
+    }
+
+    private double thinning(double dist) {
+        if (dist <= lodDistance) return 1.0;
+        return Math.min(maxThinning, dist / lodDistance);
+    }
+}
@@ -0,0 +1,226 @@
+package com.blake.portalplugin;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Advances every scripted BLAST projectile (big blaster shots, homing missiles, strike
+ * charges) from one timer instead of one BukkitRunnable per shot.
+ *
+ * Projectile state lives in pooled {@link Projectile} objects with primitive position and
+ * direction fields, so a step doesn't clone Locations/Vectors. All projectiles in a tick
+ * share the same {@link BlastParticipantIndex} build. The timer only runs while something
+ * is in flight.
+ */
+public class BlastProjectileEngine {
+
+    private static final double EWMA_ALPHA = 0.05;
+
+    /**
+     * Per-kind step logic. Return false to remove the projectile.
+     */
+    @FunctionalInterface
+    public interface Behavior {
+        boolean tick(Projectile p);
+    }
+
+    /**
+     * Mutable, pooled state. Callers fill the public fields right after {@link #spawn}; a
+     * projectile must not be referenced after it is removed (keep {@link #id()} instead).
+     */
+    public static final class Projectile {
+        private long id;
+        private Behavior behavior;
+        private boolean dead;
+
+        public World world;
+        public UUID owner;
+        public Player shooter;
+        public Player target;
+        public BlastTeam targetTeam;
+
+        public double x, y, z;
+        public double dx, dy, dz;
+        public double travelled;
+
+        public int age;
+        public int maxAge;
+
+        public long id() {
+            return id;
+        }
+
+        void reset() {
+            behavior = null;
+            dead = false;
+            world = null;
+            owner = null;
+            shooter = null;
+            target = null;
+            targetTeam = null;
+            x = y = z = 0.0;
+            dx = dy = dz = 0.0;
+            travelled = 0.0;
+            age = 0;
+            maxAge = 0;
+        }
+    }
+
+    public record Metrics(int live, int peakLive, long spawned, long rejected,
+                          double avgTickMs, double maxTickMs) {
+    }
+
+    private final Plugin plugin;
+    private final int maxLive;
+    private final int maxPerOwner;
+
+    private final ArrayList<Projectile> live = new ArrayList<>();
+    private final ArrayDeque<Projectile> pool = new ArrayDeque<>();
+    private final Map<UUID, Integer> liveByOwner = new HashMap<>();
+
+    private long nextId = 1;
+    private BukkitTask task;
+
+    private int peakLive;
+    private long spawned;
+    private long rejected;
+    private double avgTickNanos;
+    private long maxTickNanos;
+
+    public BlastProjectileEngine(Plugin plugin) {
+        this.plugin = plugin;
+        this.maxLive = Math.max(1, plugin.getConfig().getInt("blast.projectiles.max-live", 256));
+        this.maxPerOwner = Math.max(1, plugin.getConfig().getInt("blast.projectiles.max-per-player", 8));
+    }
+
+    // ---------------------------------------------------------------------
+    // Spawning
+    // ---------------------------------------------------------------------
+
+    /**
+     * Takes a projectile from the pool. Returns null when the global or per-player cap is hit;
+     * the caller should treat that as the shot fizzling.
+     */
+    public Projectile spawn(UUID owner, int maxAge, Behavior behavior) {
+        int owned = owner == null ? 0 : liveByOwner.getOrDefault(owner, 0);
+        if (live.size() >= maxLive || owned >= maxPerOwner) {
+            rejected++;
+            return null;
+        }
+
+        Projectile p = pool.pollFirst();
+        if (p == null) p = new Projectile();
+
+        p.id = nextId++;
+        p.behavior = behavior;
+        p.owner = owner;
+        p.maxAge = maxAge;
+
+        live.add(p);
+        if (owner != null) liveByOwner.put(owner, owned + 1);
+
+        spawned++;
+        peakLive = Math.max(peakLive, live.size());
+
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+        return p;
+    }
+
+    /**
+     * Removes a projectile before its next step. Safe to call with a stale id.
+     */
+    public void cancel(long id) {
+        for (Projectile p : live) {
+            if (p.id == id) {
+                p.dead = true;
+                return;
+            }
+        }
+    }
+
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        for (Projectile p : live) {
+            p.reset();
+        }
+        live.clear();
+        liveByOwner.clear();
+        pool.clear();
+    }
+
+    public Metrics getMetrics() {
+        return new Metrics(live.size(), peakLive, spawned, rejected,
+                avgTickNanos / 1_000_000.0, maxTickNanos / 1_000_000.0);
+    }
+
+    // ---------------------------------------------------------------------
+    // Tick
+    // ---------------------------------------------------------------------
+
+    private void tick() {
+        long start = System.nanoTime();
+
+        // Projectiles spawned by a behaviour this tick wait for the next one
+        int n = live.size();
+        for (int i = 0; i < n; i++) {
+            Projectile p = live.get(i);
+            if (p.dead) continue;
+
+            p.age++;
+            boolean keep;
+            try {
+                keep = p.behavior.tick(p);
+            } catch (Throwable t) {
+                plugin.getLogger().log(Level.WARNING, "[PortalPlugin] Projectile step failed", t);
+                keep = false;
+            }
+            if (!keep || p.age >= p.maxAge) p.dead = true;
+        }
+
+        // Compact in place, keeping spawn order
+        int w = 0;
+        for (int i = 0; i < live.size(); i++) {
+            Projectile p = live.get(i);
+            if (p.dead) {
+                release(p);
+            } else {
+                live.set(w++, p);
+            }
+        }
+        for (int i = live.size() - 1; i >= w; i--) {
+            live.remove(i);
+        }
+
+        long took = System.nanoTime() - start;
+        avgTickNanos = avgTickNanos == 0.0 ? took : avgTickNanos + EWMA_ALPHA * (took - avgTickNanos);
+        maxTickNanos = Math.max(maxTickNanos, took);
+
+        if (live.isEmpty() && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private void release(Projectile p) {
+        if (p.owner != null) {
+            liveByOwner.computeIfPresent(p.owner, (k, v) -> v <= 1 ? null : v - 1);
+        }
+        p.reset();
+        if (pool.size() < maxLive) pool.addLast(p);
+    }
+}
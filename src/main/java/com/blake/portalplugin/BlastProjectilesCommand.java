@@ -0,0 +1,52 @@
+package com.blake.portalplugin;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+
+import java.util.Locale;
+
+public class BlastProjectilesCommand implements CommandExecutor {
+
+    private final PortalPlugin plugin;
+
+    public BlastProjectilesCommand(PortalPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command cmd, String label, String[] args) {
+
+        if (!sender.isOp() && !sender.hasPermission("portalplugin.blast.projectiles")) {
+            sender.sendMessage("§cNo permission.");
+            return true;
+        }
+
+        BlastProjectileEngine engine = plugin.getBlastProjectileEngine();
+        if (engine == null) {
+            sender.sendMessage("§c[BLAST] Projectile engine not available.");
+            return true;
+        }
+
+        BlastProjectileEngine.Metrics m = engine.getMetrics();
+
+        sender.sendMessage("§e------ BLAST Projectiles ------");
+        sender.sendMessage("§7Live: §a" + m.live() + " §7Peak: §f" + m.peakLive());
+        sender.sendMessage("§7Spawned: §f" + m.spawned() + " §7Rejected (cap): §c" + m.rejected());
+        sender.sendMessage("§7Tick cost: §favg " + fmt(m.avgTickMs()) + "ms §7/ §fmax " + fmt(m.maxTickMs()) + "ms");
+
+        BlastParticleService particles = plugin.getBlastParticleService();
+        if (particles != null) {
+            BlastParticleService.Metrics pm = particles.getMetrics();
+
+            sender.sendMessage("§e------ BLAST Particles ------");
+            sender.sendMessage("§7Effects: §f" + pm.effects() + " §7Particles sent: §a" + pm.sent());
+            sender.sendMessage("§7Culled (range/view): §f" + pm.culled() + " §7Over budget: §c" + pm.overBudget());
+        }
+        return true;
+    }
+
+    private static String fmt(double ms) {
+        return String.format(Locale.ROOT, "%.3f", ms);
+    }
+}
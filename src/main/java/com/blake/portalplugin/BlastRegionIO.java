@@ -1,17 +1,80 @@
 package com.blake.portalplugin;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
 
+/**
+ * Reads and writes .brs region snapshots.
+ *
+ * Version 2 (what {@link #save} writes) cuts the region into 16x16x16 sections. A section is
+ * either uniform (a single palette index, no payload) or its own small palette plus indices
+ * bit-packed into longs at the width that palette needs. Every payload is compressed on its
+ * own and carries a CRC32, and a section index at the end of the file lets {@link Reader}
+ * decode any section without touching the others.
+ *
+ * Version 1 files (gzip, one int per block) still load.
+ */
 public final class BlastRegionIO {
 
     private BlastRegionIO() {}
 
-    private static final int VERSION = 1;
+    private static final int MAGIC_V1 = 0x42525331; // "BRS1"
+    private static final int MAGIC_V2 = 0x42525332; // "BRS2"
+    public static final int VERSION_1 = 1;
+    public static final int VERSION_2 = 2;
+
+    private static final int SECTION_SHIFT = 4;
+    public static final int SECTION = 1 << SECTION_SHIFT;
+    public static final int SECTION_CELLS = SECTION * SECTION * SECTION;
+
+    private static final byte KIND_UNIFORM = 0;
+    private static final byte KIND_PACKED = 1;
+
+    // magic, version, sizeX/Y/Z, compression, palette size
+    private static final int HEADER_BYTES = 4 + 4 + 12 + 1 + 4;
+    // raw length, stored length, crc
+    private static final int RECORD_BYTES = 12;
+    // index offset, magic
+    private static final int FOOTER_BYTES = 12;
+
+    public enum Compression {
+        NONE,
+        DEFLATE;
+
+        public static Compression fromString(String s, Compression def) {
+            if (s == null || s.isBlank()) return def;
+            try {
+                return valueOf(s.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ignored) {
+                return def;
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Save
+    // ---------------------------------------------------------------------
 
     public static void save(File file, BlastRegionSnapshot snap) throws IOException {
+        save(file, snap, Compression.DEFLATE);
+    }
+
+    public static void save(File file, BlastRegionSnapshot snap, Compression compression) throws IOException {
         if (file == null || snap == null) throw new IOException("Missing file or snapshot");
+        if (compression == null) compression = Compression.DEFLATE;
 
         File parent = file.getParentFile();
         if (parent != null && !parent.exists()) {
@@ -19,44 +82,254 @@ public final class BlastRegionIO {
             parent.mkdirs();
         }
 
+        int sizeX = snap.getSizeX(), sizeY = snap.getSizeY(), sizeZ = snap.getSizeZ();
+        int[] data = snap.getData();
+        if ((long) sizeX * sizeY * sizeZ != data.length) {
+            throw new IOException("Snapshot data length " + data.length + " does not match its size");
+        }
+
+        List<String> palette = snap.getPalette();
+        SectionEncoder enc = new SectionEncoder(compression, palette.size());
+
         try (FileOutputStream fos = new FileOutputStream(file);
-             GZIPOutputStream gz = new GZIPOutputStream(fos);
-             DataOutputStream out = new DataOutputStream(gz)) {
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos, 1 << 16))) {
+
+            out.writeInt(MAGIC_V2);
+            out.writeInt(VERSION_2);
+            out.writeInt(sizeX);
+            out.writeInt(sizeY);
+            out.writeInt(sizeZ);
+            out.writeByte(compression.ordinal());
+            out.writeInt(palette.size());
 
-            out.writeInt(0x42525331); // "BRS1"
-            out.writeInt(VERSION);
+            enc.encodePalette(palette);
+            enc.writeRecord(out);
 
-            out.writeInt(snap.getSizeX());
-            out.writeInt(snap.getSizeY());
-            out.writeInt(snap.getSizeZ());
+            int nsx = sections(sizeX), nsy = sections(sizeY), nsz = sections(sizeZ);
+            long[] offsets = new long[nsx * nsy * nsz];
 
-            out.writeInt(snap.getPalette().size());
-            for (String s : snap.getPalette()) {
-                out.writeUTF(s == null ? "" : s);
+            for (int sz = 0; sz < nsz; sz++) {
+                for (int sy = 0; sy < nsy; sy++) {
+                    for (int sx = 0; sx < nsx; sx++) {
+                        offsets[sectionIndex(sx, sy, sz, nsx, nsy)] = out.size();
+                        byte kind = enc.encodeSection(snap, sx << SECTION_SHIFT, sy << SECTION_SHIFT, sz << SECTION_SHIFT);
+                        out.writeByte(kind);
+                        enc.writeRecord(out);
+                    }
+                }
             }
 
+            long indexOffset = out.size();
+            out.writeInt(offsets.length);
+            for (long o : offsets) out.writeLong(o);
+
+            out.writeLong(indexOffset);
+            out.writeInt(MAGIC_V2);
+        } finally {
+            enc.close();
+        }
+    }
+
+    /**
+     * Reusable buffers for writing one file: section payloads are built in {@code raw}, then
+     * compressed into {@code stored} if that makes them smaller.
+     */
+    private static final class SectionEncoder {
+
+        private final Deflater deflater;
+        private final CRC32 crc = new CRC32();
+
+        private final int[] globalToLocal;
+        private final int[] local = new int[SECTION_CELLS];
+        private final int[] cells = new int[SECTION_CELLS];
+
+        private ByteBuffer raw = ByteBuffer.allocate(4 + 4 * SECTION_CELLS + 1 + 8 * SECTION_CELLS);
+        private byte[] stored = new byte[raw.capacity()];
+        private int storedLen;
+        private boolean compressed;
+
+        SectionEncoder(Compression compression, int paletteSize) {
+            this.deflater = compression == Compression.DEFLATE ? new Deflater(Deflater.DEFAULT_COMPRESSION) : null;
+            this.globalToLocal = new int[paletteSize];
+            Arrays.fill(globalToLocal, -1);
+        }
+
+        void encodePalette(List<String> palette) {
+            int bytes = 0;
+            byte[][] encoded = new byte[palette.size()][];
+            for (int i = 0; i < encoded.length; i++) {
+                String s = palette.get(i);
+                encoded[i] = (s == null ? "" : s).getBytes(StandardCharsets.UTF_8);
+                bytes += 4 + encoded[i].length;
+            }
+
+            ensureRaw(bytes);
+            raw.clear();
+            for (byte[] e : encoded) {
+                raw.putInt(e.length);
+                raw.put(e);
+            }
+            raw.flip();
+        }
+
+        /**
+         * Encodes the section whose minimum corner is (x0, y0, z0) into {@code raw}.
+         */
+        byte encodeSection(BlastRegionSnapshot snap, int x0, int y0, int z0) {
             int[] data = snap.getData();
-            out.writeInt(data.length);
-            for (int v : data) {
-                out.writeInt(v);
+            int w = Math.min(SECTION, snap.getSizeX() - x0);
+            int h = Math.min(SECTION, snap.getSizeY() - y0);
+            int d = Math.min(SECTION, snap.getSizeZ() - z0);
+
+            int localCount = 0;
+            int n = 0;
+            for (int z = z0; z < z0 + d; z++) {
+                for (int y = y0; y < y0 + h; y++) {
+                    int row = snap.index(x0, y, z);
+                    for (int x = 0; x < w; x++) {
+                        int v = data[row + x];
+                        int id = localId(v, localCount);
+                        if (id == localCount) local[localCount++] = v;
+                        cells[n++] = id;
+                    }
+                }
+            }
+            for (int i = 0; i < localCount; i++) {
+                int v = local[i];
+                if (v >= 0 && v < globalToLocal.length) globalToLocal[v] = -1;
+            }
+
+            raw.clear();
+            if (localCount == 1) {
+                raw.putInt(local[0]);
+                raw.flip();
+                return KIND_UNIFORM;
+            }
+
+            int bits = 32 - Integer.numberOfLeadingZeros(localCount - 1);
+            int perLong = 64 / bits;
+
+            raw.putInt(localCount);
+            for (int i = 0; i < localCount; i++) raw.putInt(local[i]);
+            raw.put((byte) bits);
+
+            for (int start = 0; start < n; start += perLong) {
+                long word = 0L;
+                int end = Math.min(n, start + perLong);
+                for (int c = start; c < end; c++) {
+                    word |= (long) cells[c] << ((c - start) * bits);
+                }
+                raw.putLong(word);
+            }
+            raw.flip();
+            return KIND_PACKED;
+        }
+
+        // Palette values outside the global palette are kept as-is; they only need a linear probe
+        private int localId(int v, int localCount) {
+            if (v >= 0 && v < globalToLocal.length) {
+                int id = globalToLocal[v];
+                if (id < 0) {
+                    id = localCount;
+                    globalToLocal[v] = id;
+                }
+                return id;
+            }
+            for (int i = 0; i < localCount; i++) {
+                if (local[i] == v) return i;
             }
+            return localCount;
+        }
+
+        void writeRecord(DataOutputStream out) throws IOException {
+            int rawLen = raw.limit();
+            crc.reset();
+            crc.update(raw.array(), 0, rawLen);
+            compress(rawLen);
+
+            out.writeInt(rawLen);
+            out.writeInt(compressed ? storedLen : rawLen);
+            out.writeInt((int) crc.getValue());
+            if (compressed) {
+                out.write(stored, 0, storedLen);
+            } else {
+                out.write(raw.array(), 0, rawLen);
+            }
+        }
+
+        // Uniform sections and anything that doesn't shrink are stored raw
+        private void compress(int rawLen) {
+            compressed = false;
+            if (deflater == null || rawLen <= 4) return;
+
+            deflater.reset();
+            deflater.setInput(raw.array(), 0, rawLen);
+            deflater.finish();
+
+            storedLen = 0;
+            while (!deflater.finished()) {
+                if (storedLen >= rawLen - 1) return; // not worth it
+                storedLen += deflater.deflate(stored, storedLen, stored.length - storedLen);
+            }
+            compressed = storedLen < rawLen;
+        }
+
+        private void ensureRaw(int bytes) {
+            if (raw.capacity() >= bytes) return;
+            raw = ByteBuffer.allocate(bytes);
+            stored = new byte[bytes];
+        }
+
+        void close() {
+            if (deflater != null) deflater.end();
         }
     }
 
+    // ---------------------------------------------------------------------
+    // Load
+    // ---------------------------------------------------------------------
+
+    /**
+     * Loads a whole snapshot, either version. Version 2 sections are decoded straight into
+     * the final index array.
+     */
     public static BlastRegionSnapshot load(File file) throws IOException {
+        if (version(file) == VERSION_1) return loadV1(file);
+
+        try (Reader reader = open(file)) {
+            return reader.readAll();
+        }
+    }
+
+    /**
+     * Format version of a snapshot file, from its first bytes. Only version 2 files can be
+     * {@link #open opened} section by section.
+     */
+    public static int version(File file) throws IOException {
         if (file == null || !file.exists()) throw new FileNotFoundException("Snapshot not found: " + file);
 
+        int head;
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            head = in.readInt();
+        }
+
+        // Version 1 files are a gzip stream end to end
+        if ((head >>> 16) == 0x1F8B) return VERSION_1;
+        if (head != MAGIC_V2) throw new IOException("Invalid snapshot magic");
+        return VERSION_2;
+    }
+
+    private static BlastRegionSnapshot loadV1(File file) throws IOException {
         try (FileInputStream fis = new FileInputStream(file);
-             GZIPInputStream gz = new GZIPInputStream(fis);
-             DataInputStream in = new DataInputStream(gz)) {
+             GZIPInputStream gz = new GZIPInputStream(fis, 1 << 16);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(gz, 1 << 16))) {
 
-            int magic = in.readInt();
-            if (magic != 0x42525331) { // "BRS1"
+            if (in.readInt() != MAGIC_V1) {
                 throw new IOException("Invalid snapshot magic");
             }
 
             int ver = in.readInt();
-            if (ver != VERSION) {
+            if (ver != VERSION_1) {
                 throw new IOException("Unsupported snapshot version: " + ver);
             }
 
@@ -65,11 +338,9 @@ public final class BlastRegionIO {
             int sizeZ = in.readInt();
 
             int paletteSize = in.readInt();
-            BlastRegionSnapshot snap = new BlastRegionSnapshot(sizeX, sizeY, sizeZ, new int[Math.max(0, sizeX * sizeY * sizeZ)]);
-            snap.getPalette().clear();
-
+            List<String> palette = new ArrayList<>(Math.max(0, paletteSize));
             for (int i = 0; i < paletteSize; i++) {
-                snap.getPalette().add(in.readUTF());
+                palette.add(in.readUTF());
             }
 
             int dataLen = in.readInt();
@@ -78,10 +349,283 @@ public final class BlastRegionIO {
                 data[i] = in.readInt();
             }
 
-            return new BlastRegionSnapshot(sizeX, sizeY, sizeZ, data) {{
-                getPalette().clear();
-                getPalette().addAll(snap.getPalette());
-            }};
+            BlastRegionSnapshot snap = new BlastRegionSnapshot(sizeX, sizeY, sizeZ, data);
+            snap.getPalette().addAll(palette);
+            return snap;
         }
     }
+
+    /**
+     * Opens a version 2 file for reading sections on demand.
+     */
+    public static Reader open(File file) throws IOException {
+        if (file == null || !file.exists()) throw new FileNotFoundException("Snapshot not found: " + file);
+        return new Reader(FileChannel.open(file.toPath(), StandardOpenOption.READ));
+    }
+
+    /**
+     * Random-access reader over a version 2 file. Reads the header, palette and section index
+     * up front; section payloads are read, checked and decoded only when asked for. Not
+     * thread-safe.
+     */
+    public static final class Reader implements Closeable {
+
+        private final FileChannel channel;
+        private final int sizeX, sizeY, sizeZ;
+        private final int nsx, nsy, nsz;
+        private final Compression compression;
+        private final List<String> palette;
+        private final long[] offsets;
+
+        private final Inflater inflater = new Inflater();
+        private final CRC32 crc = new CRC32();
+        private final ByteBuffer recordHeader = ByteBuffer.allocate(1 + RECORD_BYTES);
+        private byte[] stored = new byte[0];
+        private byte[] raw = new byte[0];
+        private byte lastKind;
+
+        private Reader(FileChannel channel) throws IOException {
+            this.channel = channel;
+            try {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+                readFully(header, 0L);
+
+                if (header.getInt() != MAGIC_V2) throw new IOException("Invalid snapshot magic");
+                int ver = header.getInt();
+                if (ver != VERSION_2) throw new IOException("Unsupported snapshot version: " + ver);
+
+                sizeX = header.getInt();
+                sizeY = header.getInt();
+                sizeZ = header.getInt();
+                if (sizeX <= 0 || sizeY <= 0 || sizeZ <= 0) throw new IOException("Invalid snapshot size");
+
+                int c = header.get();
+                if (c < 0 || c >= Compression.values().length) throw new IOException("Unknown compression: " + c);
+                compression = Compression.values()[c];
+
+                int paletteSize = header.getInt();
+                int paletteLen = readRecord(HEADER_BYTES, false);
+                palette = decodePalette(paletteSize, paletteLen);
+
+                nsx = sections(sizeX);
+                nsy = sections(sizeY);
+                nsz = sections(sizeZ);
+                offsets = readIndex(nsx * nsy * nsz);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        public int getSizeX() { return sizeX; }
+        public int getSizeY() { return sizeY; }
+        public int getSizeZ() { return sizeZ; }
+
+        public Compression getCompression() { return compression; }
+
+        public List<String> getPalette() { return palette; }
+
+        public int getSectionCount() { return offsets.length; }
+
+        /**
+         * Index of the section holding cell (x, y, z), snapshot-relative.
+         */
+        public int sectionAt(int x, int y, int z) {
+            return sectionIndex(x >> SECTION_SHIFT, y >> SECTION_SHIFT, z >> SECTION_SHIFT, nsx, nsy);
+        }
+
+        /**
+         * Snapshot-relative minimum corner of a section.
+         */
+        public int sectionMinX(int section) { return (section % nsx) << SECTION_SHIFT; }
+        public int sectionMinY(int section) { return ((section / nsx) % nsy) << SECTION_SHIFT; }
+        public int sectionMinZ(int section) { return (section / (nsx * nsy)) << SECTION_SHIFT; }
+
+        /**
+         * Index of a cell inside a decoded section; x, y and z are snapshot-relative.
+         */
+        public static int cellIndex(int x, int y, int z) {
+            int m = SECTION - 1;
+            return (x & m) + SECTION * ((y & m) + SECTION * (z & m));
+        }
+
+        /**
+         * Decodes one section into {@code into} ({@link #SECTION_CELLS} long, see
+         * {@link #cellIndex}). Sections on the far edges of the region are smaller than 16
+         * blocks; cells past the edge are left alone.
+         */
+        public void decodeSection(int section, int[] into) throws IOException {
+            if (section < 0 || section >= offsets.length) throw new IndexOutOfBoundsException("section " + section);
+            if (into.length < SECTION_CELLS) throw new IllegalArgumentException("Target array is smaller than a section");
+
+            int w = Math.min(SECTION, sizeX - sectionMinX(section));
+            int h = Math.min(SECTION, sizeY - sectionMinY(section));
+            int d = Math.min(SECTION, sizeZ - sectionMinZ(section));
+
+            int len = readRecord(offsets[section], true);
+            ByteBuffer buf = ByteBuffer.wrap(raw, 0, len);
+
+            if (lastKind == KIND_UNIFORM) {
+                Arrays.fill(into, 0, SECTION_CELLS, buf.getInt());
+                return;
+            }
+
+            int localCount = buf.getInt();
+            if (localCount < 2 || localCount > SECTION_CELLS) throw new IOException("Corrupt section " + section);
+            int[] local = new int[localCount];
+            for (int i = 0; i < localCount; i++) local[i] = buf.getInt();
+
+            int bits = buf.get();
+            if (bits < 1 || bits > 12) throw new IOException("Corrupt section " + section);
+            int perLong = 64 / bits;
+            long mask = (1L << bits) - 1L;
+
+            int c = 0;
+            int slot = perLong;
+            long word = 0L;
+            for (int z = 0; z < d; z++) {
+                for (int y = 0; y < h; y++) {
+                    int row = SECTION * (y + SECTION * z);
+                    for (int x = 0; x < w; x++, c++) {
+                        if (slot == perLong) {
+                            word = buf.getLong();
+                            slot = 0;
+                        }
+                        int id = (int) ((word >>> (slot++ * bits)) & mask);
+                        if (id >= localCount) throw new IOException("Corrupt section " + section);
+                        into[row + x] = local[id];
+                    }
+                }
+            }
+        }
+
+        /**
+         * Decodes every section into one snapshot.
+         */
+        public BlastRegionSnapshot readAll() throws IOException {
+            int[] data = new int[sizeX * sizeY * sizeZ];
+            int[] cells = new int[SECTION_CELLS];
+            for (int i = 0; i < offsets.length; i++) {
+                decodeSection(i, cells);
+
+                int x0 = sectionMinX(i), y0 = sectionMinY(i), z0 = sectionMinZ(i);
+                int w = Math.min(SECTION, sizeX - x0);
+                int h = Math.min(SECTION, sizeY - y0);
+                int d = Math.min(SECTION, sizeZ - z0);
+                for (int z = 0; z < d; z++) {
+                    for (int y = 0; y < h; y++) {
+                        System.arraycopy(cells, SECTION * (y + SECTION * z),
+                                data, x0 + sizeX * (y0 + y + sizeY * (z0 + z)), w);
+                    }
+                }
+            }
+
+            BlastRegionSnapshot snap = new BlastRegionSnapshot(sizeX, sizeY, sizeZ, data);
+            snap.getPalette().addAll(palette);
+            return snap;
+        }
+
+        @Override
+        public void close() throws IOException {
+            inflater.end();
+            channel.close();
+        }
+
+        /**
+         * Reads the record at {@code pos} into {@code raw}, inflating and checking it. Section
+         * records start with a kind byte (kept in {@code lastKind}). Returns the raw length.
+         */
+        private int readRecord(long pos, boolean hasKind) throws IOException {
+            int headerLen = (hasKind ? 1 : 0) + RECORD_BYTES;
+            recordHeader.clear().limit(headerLen);
+            readFully(recordHeader, pos);
+
+            lastKind = hasKind ? recordHeader.get() : KIND_PACKED;
+            int rawLen = recordHeader.getInt();
+            int storedLen = recordHeader.getInt();
+            int expectedCrc = recordHeader.getInt();
+            if (rawLen < 0 || storedLen < 0 || storedLen > rawLen) throw new IOException("Corrupt record at " + pos);
+
+            if (raw.length < rawLen) raw = new byte[rawLen];
+            long payload = pos + headerLen;
+
+            if (storedLen == rawLen) {
+                readFully(ByteBuffer.wrap(raw, 0, rawLen), payload);
+            } else {
+                if (stored.length < storedLen) stored = new byte[storedLen];
+                readFully(ByteBuffer.wrap(stored, 0, storedLen), payload);
+                inflate(storedLen, rawLen, pos);
+            }
+
+            crc.reset();
+            crc.update(raw, 0, rawLen);
+            if ((int) crc.getValue() != expectedCrc) throw new IOException("Checksum mismatch in record at " + pos);
+            return rawLen;
+        }
+
+        private void inflate(int storedLen, int rawLen, long pos) throws IOException {
+            inflater.reset();
+            inflater.setInput(stored, 0, storedLen);
+            try {
+                int n = 0;
+                while (n < rawLen) {
+                    int r = inflater.inflate(raw, n, rawLen - n);
+                    if (r == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) break;
+                    n += r;
+                }
+                if (n != rawLen) throw new IOException("Truncated record at " + pos);
+            } catch (DataFormatException e) {
+                throw new IOException("Corrupt record at " + pos, e);
+            }
+        }
+
+        private List<String> decodePalette(int size, int len) throws IOException {
+            if (size < 0) throw new IOException("Invalid palette size");
+            ByteBuffer buf = ByteBuffer.wrap(raw, 0, len);
+            List<String> out = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int n = buf.getInt();
+                out.add(new String(raw, buf.position(), n, StandardCharsets.UTF_8));
+                buf.position(buf.position() + n);
+            }
+            return Collections.unmodifiableList(out);
+        }
+
+        private long[] readIndex(int expected) throws IOException {
+            long fileSize = channel.size();
+            ByteBuffer footer = ByteBuffer.allocate(FOOTER_BYTES);
+            readFully(footer, fileSize - FOOTER_BYTES);
+            long indexOffset = footer.getLong();
+            if (footer.getInt() != MAGIC_V2) throw new IOException("Snapshot is truncated (no footer)");
+
+            ByteBuffer index = ByteBuffer.allocate(4 + 8 * expected);
+            readFully(index, indexOffset);
+            if (index.getInt() != expected) throw new IOException("Section index does not match the snapshot size");
+
+            long[] out = new long[expected];
+            for (int i = 0; i < expected; i++) out[i] = index.getLong();
+            return out;
+        }
+
+        private void readFully(ByteBuffer buf, long pos) throws IOException {
+            while (buf.hasRemaining()) {
+                int n = channel.read(buf, pos);
+                if (n < 0) throw new EOFException("Unexpected end of snapshot at " + pos);
+                pos += n;
+            }
+            buf.flip();
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Layout
+    // ---------------------------------------------------------------------
+
+    private static int sections(int size) {
+        return (size + SECTION - 1) >> SECTION_SHIFT;
+    }
+
+    private static int sectionIndex(int sx, int sy, int sz, int nsx, int nsy) {
+        return sx + nsx * (sy + nsy * sz);
+    }
 }
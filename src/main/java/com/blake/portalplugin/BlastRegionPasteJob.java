@@ -0,0 +1,142 @@
+package com.blake.portalplugin;
+
+import com.blake.portalplugin.worldedit.EditJob;
+import org.bukkit.Location;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Pastes a saved .brs region at a map's paste location (for /blastmap regen and /blastregen).
+ *
+ * Sections are decoded from the open {@link BlastRegionIO.Reader} as the cursor reaches them,
+ * and only the last few are kept, so a paste never holds the whole region in memory. The
+ * palette is resolved once up front; each block is then an array lookup plus setBlockData.
+ * Blocks already in the saved state are left alone, so a reset only writes what the game changed.
+ */
+public class BlastRegionPasteJob extends EditJob {
+
+    // Chunk columns cut through at most 2x2 sections per layer; keep a few more for the next layer
+    private static final int CACHED_SECTIONS = 8;
+
+    private final BlastRegionIO.Reader reader;
+    private final BlockData[] palette;
+    private final boolean[] airEntries;
+    private final boolean ignoreAir;
+
+    private final int[][] sectionCells = new int[CACHED_SECTIONS][BlastRegionIO.SECTION_CELLS];
+    private final int[] sectionIds = new int[CACHED_SECTIONS];
+    private int lastSlot;
+    private int nextSlot;
+
+    private final CommandSender sender;
+    private final String mapName;
+
+    private long placed = 0;
+
+    /**
+     * Takes ownership of {@code reader}; it is closed when the job ends.
+     */
+    public BlastRegionPasteJob(Plugin plugin, UUID ownerId, Location paste,
+                               BlastRegionIO.Reader reader, boolean ignoreAir,
+                               CommandSender sender, String mapName) {
+        super(plugin, ownerId, paste.getWorld(),
+                paste.getBlockX(), paste.getBlockY(), paste.getBlockZ(),
+                paste.getBlockX() + reader.getSizeX() - 1,
+                paste.getBlockY() + reader.getSizeY() - 1,
+                paste.getBlockZ() + reader.getSizeZ() - 1);
+
+        this.reader = reader;
+        this.palette = BlastRegionSnapshot.resolvePalette(reader.getPalette());
+        this.airEntries = new boolean[palette.length];
+        for (int i = 0; i < palette.length; i++) {
+            airEntries[i] = palette[i] == null || palette[i].getMaterial().isAir();
+        }
+        Arrays.fill(sectionIds, -1);
+        this.ignoreAir = ignoreAir;
+        this.sender = sender;
+        this.mapName = mapName;
+    }
+
+    @Override
+    protected void visit(int x, int y, int z) {
+        int rx = x - minX, ry = y - minY, rz = z - minZ;
+        int[] cells = section(reader.sectionAt(rx, ry, rz));
+        if (cells == null) return;
+
+        int id = cells[BlastRegionIO.Reader.cellIndex(rx, ry, rz)];
+        if (id < 0 || id >= palette.length) return;
+
+        if (ignoreAir && airEntries[id]) return;
+
+        BlockData bd = palette[id];
+        if (bd == null) return;
+
+        Block b = world.getBlockAt(x, y, z);
+        if (b.getBlockData().equals(bd)) return;
+
+        b.setBlockData(bd, false);
+        placed++;
+    }
+
+    /**
+     * Decoded cells of a section, from the cache or the file. Null (and the job stopped) if
+     * the file can't be read.
+     */
+    private int[] section(int id) {
+        if (sectionIds[lastSlot] == id) return sectionCells[lastSlot];
+        for (int i = 0; i < CACHED_SECTIONS; i++) {
+            if (sectionIds[i] == id) {
+                lastSlot = i;
+                return sectionCells[i];
+            }
+        }
+
+        int slot = nextSlot;
+        nextSlot = (nextSlot + 1) % CACHED_SECTIONS;
+        sectionIds[slot] = -1;
+        try {
+            reader.decodeSection(id, sectionCells[slot]);
+        } catch (IOException | RuntimeException e) {
+            plugin.getLogger().log(Level.WARNING, "[PortalPlugin] Failed to read region for Blast map '" + mapName + "'", e);
+            if (!(sender instanceof Player sp) || sp.isOnline()) {
+                sender.sendMessage("§c[BLAST] Regeneration of '" + mapName + "' stopped: the region file could not be read.");
+            }
+            stop();
+            return null;
+        }
+        sectionIds[slot] = id;
+        lastSlot = slot;
+        return sectionCells[slot];
+    }
+
+    @Override
+    protected String label() {
+        return "Regenerating " + mapName;
+    }
+
+    @Override
+    protected boolean requiresOnlinePlayer() {
+        return false; // map resets finish even if whoever started them logs off
+    }
+
+    @Override
+    protected void close() {
+        try {
+            reader.close();
+        } catch (IOException ignored) {}
+    }
+
+    @Override
+    protected void complete(Player p) {
+        if (sender instanceof Player sp && !sp.isOnline()) return;
+        sender.sendMessage("§a[BLAST] Regeneration complete for '" + mapName + "'. Placed " + placed + " blocks.");
+    }
+}
@@ -1,5 +1,10 @@
 package com.blake.portalplugin;
 
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.util.BlockVector;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -12,9 +17,13 @@ public class BlastRegionSnapshot {
     // palette of BlockData strings
     private final List<String> palette = new ArrayList<>();
 
-    // indices into palette (length = sizeX*sizeY*sizeZ)
+    // indices into palette (length = sizeX*sizeY*sizeZ), index = x + sizeX*(y + sizeY*z)
     private final int[] data;
 
+    // Parsed palette, built once on first paste (BlockData parsing needs the server)
+    private BlockData[] resolved;
+    private boolean[] airEntries;
+
     public BlastRegionSnapshot(int sizeX, int sizeY, int sizeZ, int[] data) {
         this.sizeX = Math.max(1, sizeX);
         this.sizeY = Math.max(1, sizeY);
@@ -34,4 +43,105 @@ public class BlastRegionSnapshot {
         long total = (long) sizeX * (long) sizeY * (long) sizeZ;
         return (total > Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int) total;
     }
-}
\ No newline at end of file
+
+    public int index(int x, int y, int z) {
+        return x + sizeX * (y + sizeY * z);
+    }
+
+    /**
+     * Parses every palette entry once. Entries that no longer parse (renamed blocks) resolve
+     * to their material's default state, or null if the material is gone entirely.
+     */
+    public synchronized BlockData[] resolvePalette() {
+        if (resolved != null) return resolved;
+
+        BlockData[] out = resolvePalette(palette);
+        boolean[] air = new boolean[out.length];
+        for (int i = 0; i < out.length; i++) {
+            air[i] = out[i] == null || out[i].getMaterial().isAir();
+        }
+
+        this.airEntries = air;
+        this.resolved = out;
+        return out;
+    }
+
+    /**
+     * {@link #resolvePalette()} for a palette read without a snapshot (see {@link BlastRegionIO.Reader}).
+     */
+    public static BlockData[] resolvePalette(List<String> palette) {
+        BlockData[] out = new BlockData[palette.size()];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = parse(palette.get(i));
+        }
+        return out;
+    }
+
+    public boolean isAirEntry(int paletteIndex) {
+        resolvePalette();
+        return airEntries[paletteIndex];
+    }
+
+    /**
+     * Number of non-air blocks (what the old YAML block list used to hold).
+     */
+    public int countSolid() {
+        resolvePalette();
+        int n = 0;
+        for (int v : data) {
+            if (v >= 0 && v < airEntries.length && !airEntries[v]) n++;
+        }
+        return n;
+    }
+
+    /**
+     * Offsets of every cell holding {@code blockKey} (e.g. "minecraft:diamond_block", any
+     * state), in storage order. Reads only the palette strings and the index array, so it
+     * works off the main thread and without the blocks being loaded.
+     */
+    public List<BlockVector> positionsOf(String blockKey) {
+        List<BlockVector> out = new ArrayList<>();
+        if (blockKey == null) return out;
+
+        boolean[] match = new boolean[palette.size()];
+        boolean any = false;
+        for (int i = 0; i < match.length; i++) {
+            match[i] = isBlock(palette.get(i), blockKey);
+            any |= match[i];
+        }
+        if (!any) return out;
+
+        int layer = sizeX * sizeY;
+        for (int i = 0; i < data.length; i++) {
+            int v = data[i];
+            if (v < 0 || v >= match.length || !match[v]) continue;
+
+            out.add(new BlockVector(i % sizeX, (i / sizeX) % sizeY, i / layer));
+        }
+        return out;
+    }
+
+    /**
+     * Whether a palette entry is {@code blockKey} in any state.
+     */
+    static boolean isBlock(String entry, String blockKey) {
+        return entry != null && (entry.equals(blockKey) || entry.startsWith(blockKey + "["));
+    }
+
+    private static BlockData parse(String s) {
+        if (s == null || s.isBlank()) return null;
+        try {
+            return Bukkit.createBlockData(s);
+        } catch (IllegalArgumentException ignored) {
+            // fall through to material-only
+        }
+
+        String base = s;
+        int br = base.indexOf('[');
+        if (br >= 0) base = base.substring(0, br);
+
+        Material m = Material.matchMaterial(base);
+        if (m == null || !m.isBlock()) return null;
+        return m.createBlockData();
+    }
+}
@@ -12,6 +12,8 @@ import java.util.List;
 
 public final class BlastShopItems {
 
+    static final String PDC_SHOP_ID = "blast_shop_id";
+
     private BlastShopItems() {}
 
     public static NamespacedKey npcKey(PortalPlugin plugin) {
@@ -19,7 +21,7 @@ public final class BlastShopItems {
     }
 
     public static NamespacedKey shopIdKey(PortalPlugin plugin) {
-        return new NamespacedKey(plugin, "blast_shop_id");
+        return BlastItemClassifier.shopIdKey(plugin);
     }
 
     public static NamespacedKey shopCostKey(PortalPlugin plugin) {
@@ -58,6 +60,7 @@ public final class BlastShopItems {
         return it;
     }
 
+    // One PDC read; this runs for every slot in inventory scans, so it skips the full classify()
     public static String getShopId(PortalPlugin plugin, ItemStack it) {
         if (plugin == null || it == null) return null;
         if (!it.hasItemMeta()) return null;
@@ -0,0 +1,225 @@
+package com.blake.portalplugin;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.HeightMap;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Every column inside a Blast map's bounds that has "solid ground with air above" within
+ * [minY, maxY], with the topmost such Y per column. Built once per map activation from
+ * chunk snapshots scanned off the main thread; a spawn is then a random pick from a dense
+ * array.
+ *
+ * The index is kept current two ways: block place/break events {@link #update(int, int)}
+ * their column eagerly, and {@link #pick} re-checks the picked column starting at the
+ * world heightmap (a handful of block reads) before using it, which catches wool removed
+ * by blasters without an event.
+ */
+public class BlastSurfaceIndex {
+
+    private static final int NONE = Integer.MIN_VALUE;
+
+    private final World world;
+    private final int minX, maxX, minY, maxY, minZ, maxZ;
+
+    // Build height; nothing can be read outside it, and above the top counts as air
+    private final int worldMinY, worldTopY;
+
+    // Dense, unordered: slot -> column; swap-remove keeps picks O(1)
+    private long[] columns = new long[256];
+    private int[] tops = new int[256];
+    private int size;
+    private final Map<Long, Integer> slotByColumn = new HashMap<>();
+
+    private BlastSurfaceIndex(World world, int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+        this.world = world;
+        this.minX = minX;
+        this.maxX = maxX;
+        this.minY = minY;
+        this.maxY = maxY;
+        this.minZ = minZ;
+        this.maxZ = maxZ;
+        this.worldMinY = world.getMinHeight();
+        this.worldTopY = world.getMaxHeight() - 1;
+    }
+
+    // ---------------------------------------------------------------------
+    // Build
+    // ---------------------------------------------------------------------
+
+    /**
+     * Loads the covered chunks asynchronously, snapshots them on the main thread, scans the
+     * snapshots on an async task and completes on the main thread.
+     */
+    public static CompletableFuture<BlastSurfaceIndex> build(Plugin plugin, World world,
+                                                             int minX, int maxX, int minY, int maxY,
+                                                             int minZ, int maxZ) {
+        BlastSurfaceIndex index = new BlastSurfaceIndex(world, minX, maxX, minY, maxY, minZ, maxZ);
+
+        List<CompletableFuture<ChunkSnapshot>> loads = new ArrayList<>();
+        for (int cx = minX >> 4; cx <= maxX >> 4; cx++) {
+            for (int cz = minZ >> 4; cz <= maxZ >> 4; cz++) {
+                loads.add(world.getChunkAtAsync(cx, cz)
+                        .thenApply(chunk -> chunk.getChunkSnapshot(true, false, false)));
+            }
+        }
+
+        CompletableFuture<BlastSurfaceIndex> result = new CompletableFuture<>();
+
+        CompletableFuture.allOf(loads.toArray(new CompletableFuture[0])).whenComplete((ok, err) -> {
+            if (err != null) {
+                result.completeExceptionally(err);
+                return;
+            }
+
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                try {
+                    for (CompletableFuture<ChunkSnapshot> f : loads) {
+                        index.scan(f.join());
+                    }
+                    Bukkit.getScheduler().runTask(plugin, () -> result.complete(index));
+                } catch (Throwable t) {
+                    Bukkit.getScheduler().runTask(plugin, () -> result.completeExceptionally(t));
+                }
+            });
+        });
+
+        return result;
+    }
+
+    private void scan(ChunkSnapshot snap) {
+        int baseX = snap.getX() << 4;
+        int baseZ = snap.getZ() << 4;
+
+        for (int lx = 0; lx < 16; lx++) {
+            int x = baseX + lx;
+            if (x < minX || x > maxX) continue;
+
+            for (int lz = 0; lz < 16; lz++) {
+                int z = baseZ + lz;
+                if (z < minZ || z > maxZ) continue;
+
+                // Nothing solid above the heightmap, so start there instead of at maxY
+                int top = NONE;
+                int start = Math.min(Math.min(maxY, worldTopY), snap.getHighestBlockYAt(lx, lz) + 1);
+                int end = Math.max(minY, worldMinY);
+                for (int y = start; y >= end; y--) {
+                    if (!snap.getBlockType(lx, y, lz).isSolid()) continue;
+                    if (y < worldTopY && !snap.getBlockType(lx, y + 1, lz).isAir()) continue;
+                    top = y;
+                    break;
+                }
+
+                if (top != NONE) put(x, z, top);
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Queries / updates (main thread)
+    // ---------------------------------------------------------------------
+
+    public World getWorld() {
+        return world;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int x, int z) {
+        return x >= minX && x <= maxX && z >= minZ && z <= maxZ;
+    }
+
+    /**
+     * A random valid spawn point (centre of the column, just above the ground), or null if
+     * none is found in {@code maxAttempts} picks.
+     */
+    public Location pick(Random rng, int maxAttempts) {
+        for (int attempt = 0; attempt < maxAttempts && size > 0; attempt++) {
+            int slot = rng.nextInt(size);
+            long column = columns[slot];
+            int x = (int) (column >> 32);
+            int z = (int) column;
+
+            // Unloaded chunk: trust the index rather than force a load
+            int top = world.isChunkLoaded(x >> 4, z >> 4) ? update(x, z) : tops[slot];
+            if (top == NONE) continue;
+
+            return new Location(world, x + 0.5, top + 1.15, z + 0.5);
+        }
+        return null;
+    }
+
+    /**
+     * Re-reads one column from the live world and updates its entry. Returns the new top Y,
+     * or NONE if the column no longer has a valid spawn.
+     */
+    public int update(int x, int z) {
+        if (!contains(x, z)) return NONE;
+
+        int top = NONE;
+        int start = Math.min(Math.min(maxY, worldTopY), world.getHighestBlockYAt(x, z, HeightMap.WORLD_SURFACE) + 1);
+        int end = Math.max(minY, worldMinY);
+        for (int y = start; y >= end; y--) {
+            Material ground = world.getBlockAt(x, y, z).getType();
+            if (!ground.isSolid()) continue;
+            if (y < worldTopY && !world.getBlockAt(x, y + 1, z).getType().isAir()) continue;
+            top = y;
+            break;
+        }
+
+        if (top == NONE) {
+            remove(x, z);
+        } else {
+            put(x, z, top);
+        }
+        return top;
+    }
+
+    private void put(int x, int z, int top) {
+        long key = key(x, z);
+        Integer slot = slotByColumn.get(key);
+        if (slot != null) {
+            tops[slot] = top;
+            return;
+        }
+
+        if (size == columns.length) {
+            columns = Arrays.copyOf(columns, size * 2);
+            tops = Arrays.copyOf(tops, size * 2);
+        }
+        columns[size] = key;
+        tops[size] = top;
+        slotByColumn.put(key, size);
+        size++;
+    }
+
+    private void remove(int x, int z) {
+        Integer slot = slotByColumn.remove(key(x, z));
+        if (slot == null) return;
+
+        int last = --size;
+        if (slot != last) {
+            columns[slot] = columns[last];
+            tops[slot] = tops[last];
+            slotByColumn.put(columns[slot], slot);
+        }
+    }
+
+    private static long key(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+}
@@ -29,7 +29,6 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.SkullMeta;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
@@ -43,14 +42,20 @@ public class BlastUtilityItemsListener implements Listener {
 
     private static final String HOMING_TITLE = "§c§lHoming Missile";
 
+    private static final int HOMING_MAX_TICKS = 120;
+    private static final double HOMING_SPEED = 1.1;
+    private static final Particle.DustOptions HOMING_DUST = new Particle.DustOptions(Color.RED, 1.4f);
+
     private final PortalPlugin plugin;
     private final GameStateManager gsm;
+    private final BlastParticleService particles;
     private final Map<UUID, Long> enderSoarActive = new HashMap<>();
     private final Map<UUID, TargetMode> targetModeByPlayer = new HashMap<>();
 
     public BlastUtilityItemsListener(PortalPlugin plugin, GameStateManager gsm) {
         this.plugin = plugin;
         this.gsm = gsm;
+        this.particles = plugin.getBlastParticleService();
     }
 
     @EventHandler
@@ -154,6 +159,7 @@ public class BlastUtilityItemsListener implements Listener {
         int length = 10; // 10 long
 
         int placed = 0;
+        BlastDiamondSpawnerService diamondSpawner = plugin.getBlastDiamondSpawnerService();
 
         for (int l = 1; l <= length; l++) {
             Location along = front.clone().add(dir.clone().multiply(l - 1));
@@ -164,6 +170,7 @@ public class BlastUtilityItemsListener implements Listener {
 
                     if (block.getType().isAir()) {
                         block.setType(wool, false);
+                        if (diamondSpawner != null) diamondSpawner.onBlockChanged(block);
                         placed++;
                     }
                 }
@@ -318,53 +325,56 @@ public class BlastUtilityItemsListener implements Listener {
     }
 
     private void launchHomingParticle(Player shooter, Player target, BlastMinigameManager bm) {
-        Location start = shooter.getEyeLocation().clone();
-        Particle.DustOptions dust = new Particle.DustOptions(Color.RED, 1.4f);
+        Location start = shooter.getEyeLocation();
 
         shooter.playSound(shooter.getLocation(), Sound.ENTITY_FIREWORK_ROCKET_LAUNCH, 0.8f, 1.1f);
 
-        new BukkitRunnable() {
-            int ticks = 0;
-            Location pos = start.clone();
-
-            @Override
-            public void run() {
-                ticks++;
-                if (ticks > 120) {
-                    cancel();
-                    return;
-                }
+        BlastProjectileEngine.Projectile p = plugin.getBlastProjectileEngine()
+                .spawn(shooter.getUniqueId(), HOMING_MAX_TICKS, this::tickHoming);
+        if (p == null) return;
 
-                if (!shooter.isOnline() || !target.isOnline()) {
-                    cancel();
-                    return;
-                }
+        p.world = start.getWorld();
+        p.shooter = shooter;
+        p.target = target;
+        p.x = start.getX();
+        p.y = start.getY();
+        p.z = start.getZ();
+    }
 
-                if (gsm.getGameState(shooter) != GameState.BLAST || gsm.getGameState(target) != GameState.BLAST) {
-                    cancel();
-                    return;
-                }
+    private boolean tickHoming(BlastProjectileEngine.Projectile p) {
+        Player shooter = p.shooter;
+        Player target = p.target;
 
-                if (shooter.getWorld() != target.getWorld()) {
-                    cancel();
-                    return;
-                }
+        if (!shooter.isOnline() || !target.isOnline()) return false;
+        if (gsm.getGameState(shooter) != GameState.BLAST || gsm.getGameState(target) != GameState.BLAST) return false;
+        if (shooter.getWorld() != target.getWorld()) return false;
 
-                Vector to = target.getEyeLocation().toVector().subtract(pos.toVector());
-                double dist = Math.max(0.2, to.length());
-                Vector step = to.normalize().multiply(1.1);
-                pos.add(step);
+        BlastMinigameManager bm = plugin.getBlastMinigameManager();
+        if (bm == null) return false;
+
+        Location eye = target.getEyeLocation();
+        double tx = eye.getX() - p.x;
+        double ty = eye.getY() - p.y;
+        double tz = eye.getZ() - p.z;
+        double len = Math.sqrt(tx * tx + ty * ty + tz * tz);
+        double dist = Math.max(0.2, len);
+
+        if (len > 1.0e-9) {
+            double k = HOMING_SPEED / len;
+            p.x += tx * k;
+            p.y += ty * k;
+            p.z += tz * k;
+        }
 
-                pos.getWorld().spawnParticle(Particle.DUST, pos, 6, 0.05, 0.05, 0.05, 0, dust);
+        particles.burst(p.world, Particle.DUST, p.x, p.y, p.z, 6, 0.05, 0.05, 0.05, 0, HOMING_DUST);
 
-                if (dist < 1.3) {
-                    bm.applyInstantElim(shooter, target, BlastDamageSource.HOMING_MISSILE, "Homing Missile");
-                    target.getWorld().spawnParticle(Particle.EXPLOSION, target.getLocation(), 2, 0.2, 0.2, 0.2, 0);
-                    target.getWorld().playSound(target.getLocation(), Sound.ENTITY_GENERIC_EXPLODE, 0.8f, 1.2f);
-                    cancel();
-                }
-            }
-        }.runTaskTimer(plugin, 1L, 1L);
+        if (dist < 1.3) {
+            bm.applyInstantElim(shooter, target, BlastDamageSource.HOMING_MISSILE, "Homing Missile");
+            particles.burst(target.getLocation(), Particle.EXPLOSION, 2, 0.2, 0.2, 0.2, 0);
+            target.getWorld().playSound(target.getLocation(), Sound.ENTITY_GENERIC_EXPLODE, 0.8f, 1.2f);
+            return false;
+        }
+        return true;
     }
 
     private void launchEnderSoar(Player p) {
@@ -456,8 +466,8 @@ public class BlastUtilityItemsListener implements Listener {
             Player shooter = (fb.getShooter() instanceof Player) ? (Player) fb.getShooter() : null;
 
             Location impact = fb.getLocation();
-            impact.getWorld().spawnParticle(Particle.EXPLOSION, impact, 2, 0.2, 0.2, 0.2, 0);
-            impact.getWorld().spawnParticle(Particle.FLAME, impact, 40, 0.8, 0.4, 0.8, 0.02);
+            particles.burst(impact, Particle.EXPLOSION, 2, 0.2, 0.2, 0.2, 0);
+            particles.burst(impact, Particle.FLAME, 40, 0.8, 0.4, 0.8, 0.02);
             impact.getWorld().playSound(impact, Sound.ENTITY_GENERIC_EXPLODE, 0.9f, 1.1f);
 
             // Small AoE elim
@@ -477,9 +487,9 @@ public class BlastUtilityItemsListener implements Listener {
             Player shooter = (arrow.getShooter() instanceof Player) ? (Player) arrow.getShooter() : null;
             Location impact = arrow.getLocation();
 
-            impact.getWorld().spawnParticle(Particle.EXPLOSION, impact, 10, 2.5, 2.5, 2.5, 0.02);
-            impact.getWorld().spawnParticle(Particle.FLAME, impact, 120, 2.5, 1.5, 2.5, 0.02);
-            impact.getWorld().spawnParticle(Particle.SMOKE, impact, 60, 2.5, 1.5, 2.5, 0.02);
+            particles.burst(impact, Particle.EXPLOSION, 10, 2.5, 2.5, 2.5, 0.02);
+            particles.burst(impact, Particle.FLAME, 120, 2.5, 1.5, 2.5, 0.02);
+            particles.burst(impact, Particle.SMOKE, 60, 2.5, 1.5, 2.5, 0.02);
             impact.getWorld().playSound(impact, Sound.ENTITY_GENERIC_EXPLODE, 0.9f, 0.9f);
 
             if (bm != null) {
@@ -579,9 +589,9 @@ public class BlastUtilityItemsListener implements Listener {
             shooter.teleport(safe);
         }
 
-        impact.getWorld().spawnParticle(Particle.DUST, impact, 80, 2.0, 1.0, 2.0, 0,
-                new Particle.DustOptions(Color.AQUA, 1.6f));
-        impact.getWorld().spawnParticle(Particle.EXPLOSION, impact, 6, 0.8, 0.4, 0.8, 0);
+        particles.burst(impact.getWorld(), Particle.DUST, impact.getX(), impact.getY(), impact.getZ(),
+                80, 2.0, 1.0, 2.0, 0, new Particle.DustOptions(Color.AQUA, 1.6f));
+        particles.burst(impact, Particle.EXPLOSION, 6, 0.8, 0.4, 0.8, 0);
         impact.getWorld().playSound(impact, Sound.ENTITY_GENERIC_EXPLODE, 0.9f, 1.1f);
 
         if (bm != null && shooter != null) {
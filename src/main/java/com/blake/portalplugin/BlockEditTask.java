@@ -1,33 +1,20 @@
 package com.blake.portalplugin.worldedit;
 
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.UUID;
 
-public class BlockEditTask extends BukkitRunnable {
-
-    private final Plugin plugin;
-    private final UUID playerId;
-
-    private final World world;
-    private final int minX, minY, minZ;
-    private final int dx, dy, dz;
-    private final long total;
-
-    private final int blocksPerTick;
+public class BlockEditTask extends EditJob {
 
     private final BlockEditOperation operation;
     private final Material setTo;              // for FILL
     private final Material replaceOnly;        // optional filter; if non-null, only replace this
 
-    private long index = 0;
     private long changed = 0;
 
     public BlockEditTask(
@@ -36,26 +23,11 @@ public class BlockEditTask extends BukkitRunnable {
             World world,
             int minX, int minY, int minZ,
             int maxX, int maxY, int maxZ,
-            int blocksPerTick,
             BlockEditOperation operation,
             Material setTo,
             Material replaceOnly
     ) {
-        this.plugin = plugin;
-        this.playerId = playerId;
-        this.world = world;
-
-        this.minX = minX;
-        this.minY = minY;
-        this.minZ = minZ;
-
-        this.dx = (maxX - minX + 1);
-        this.dy = (maxY - minY + 1);
-        this.dz = (maxZ - minZ + 1);
-
-        this.total = (long) dx * (long) dy * (long) dz;
-
-        this.blocksPerTick = Math.max(1, blocksPerTick);
+        super(plugin, playerId, world, minX, minY, minZ, maxX, maxY, maxZ);
 
         this.operation = operation;
         this.setTo = setTo;
@@ -63,52 +35,33 @@ public class BlockEditTask extends BukkitRunnable {
     }
 
     @Override
-    public void run() {
-        Player p = Bukkit.getPlayer(playerId);
-        if (p == null || !p.isOnline()) {
-            cancel();
-            return;
-        }
-
-        int processedThisTick = 0;
-
-        while (processedThisTick < blocksPerTick && index < total) {
-            int x = minX + (int) (index % dx);
-            int y = minY + (int) ((index / dx) % dy);
-            int z = minZ + (int) (index / ((long) dx * (long) dy));
+    protected void visit(int x, int y, int z) {
+        Block b = world.getBlockAt(x, y, z);
+        Material type = b.getType();
 
-            Block b = world.getBlockAt(x, y, z);
+        if (replaceOnly != null && type != replaceOnly) return;
 
-            if (replaceOnly == null || b.getType() == replaceOnly) {
-                if (operation == BlockEditOperation.CLEAR) {
-                    if (b.getType() != Material.AIR) {
-                        b.setType(Material.AIR, false);
-                        changed++;
-                    }
-                } else if (operation == BlockEditOperation.FILL) {
-                    if (setTo != null && b.getType() != setTo) {
-                        b.setType(setTo, false);
-                        changed++;
-                    }
-                }
+        if (operation == BlockEditOperation.CLEAR) {
+            if (type != Material.AIR) {
+                b.setType(Material.AIR, false);
+                changed++;
             }
-
-            index++;
-            processedThisTick++;
-        }
-
-        // progress every ~5%
-        if (total > 0) {
-            long pct = (index * 100L) / total;
-            if (pct % 5 == 0 && processedThisTick > 0) {
-                p.sendActionBar("Editing: " + pct + "% (" + index + "/" + total + ")");
+        } else if (operation == BlockEditOperation.FILL) {
+            if (setTo != null && type != setTo) {
+                b.setType(setTo, false);
+                changed++;
             }
         }
+    }
 
-        if (index >= total) {
-            p.sendMessage("Done. Changed " + changed + " blocks.");
-            cancel();
-        }
+    @Override
+    protected String label() {
+        return "Editing";
+    }
+
+    @Override
+    protected void complete(Player p) {
+        p.sendMessage("Done. Changed " + changed + " blocks.");
     }
 
     public static Bounds fromTwoLocations(Location a, Location b) {
@@ -122,4 +75,4 @@ public class BlockEditTask extends BukkitRunnable {
     }
 
     public record Bounds(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {}
-}
\ No newline at end of file
+}
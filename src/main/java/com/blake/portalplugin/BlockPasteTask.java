@@ -1,31 +1,19 @@
 package com.blake.portalplugin.worldedit;
 
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.UUID;
 
-public class BlockPasteTask extends BukkitRunnable {
-
-    private final Plugin plugin;
-    private final UUID playerId;
-
-    private final World world;
-    private final int originX, originY, originZ;
+public class BlockPasteTask extends EditJob {
 
     private final Clipboard clipboard;
     private final boolean pasteAir;
 
-    private final int blocksPerTick;
-    private final long total;
-
-    private long index = 0;
     private long placed = 0;
 
     public BlockPasteTask(
@@ -34,110 +22,47 @@ public class BlockPasteTask extends BukkitRunnable {
             World world,
             int originX, int originY, int originZ,
             Clipboard clipboard,
-            int blocksPerTick,
             boolean pasteAir
     ) {
-        this.plugin = plugin;
-        this.playerId = playerId;
-        this.world = world;
-        this.originX = originX;
-        this.originY = originY;
-        this.originZ = originZ;
+        super(plugin, playerId, world,
+                originX, originY, originZ,
+                originX + clipboard.getWidth() - 1,
+                originY + clipboard.getHeight() - 1,
+                originZ + clipboard.getLength() - 1);
+
         this.clipboard = clipboard;
-        this.blocksPerTick = Math.max(1, blocksPerTick);
         this.pasteAir = pasteAir;
-
-        this.total = clipboard != null ? clipboard.getVolume() : 0;
     }
 
     @Override
-    public void run() {
-        Player p = Bukkit.getPlayer(playerId);
-        if (p == null || !p.isOnline()) {
-            cancel();
-            return;
-        }
-        if (clipboard == null || total <= 0) {
-            p.sendMessage("Clipboard is empty.");
-            cancel();
-            return;
+    protected void visit(int x, int y, int z) {
+        int paletteIndex = clipboard.paletteIndexAt(clipboard.index(x - minX, y - minY, z - minZ));
+
+        // skip air if requested
+        if (!pasteAir && clipboard.isAirEntry(paletteIndex)) return;
+
+        Block b = world.getBlockAt(x, y, z);
+
+        // Palette entries are parsed once at copy time; setBlockData copies the state
+        BlockData bd = clipboard.getPaletteEntry(paletteIndex);
+        try {
+            b.setBlockData(bd, false);
+        } catch (Throwable ignored) {
+            // fallback: try just set type
+            Material m = bd != null ? bd.getMaterial() : Material.AIR;
+            b.setType(m.isBlock() ? m : Material.AIR, false);
         }
 
-        int w = clipboard.getWidth();
-        int h = clipboard.getHeight();
-        int l = clipboard.getLength();
-
-        int processedThisTick = 0;
-
-        while (processedThisTick < blocksPerTick && index < total) {
-            int x = (int) (index % w);
-            int y = (int) ((index / w) % h);
-            int z = (int) (index / ((long) w * (long) h));
-
-            String dataString = clipboard.getRawData()[(int) index];
-
-            // skip air if requested
-            if (!pasteAir && isAirDataString(dataString)) {
-                index++;
-                processedThisTick++;
-                continue;
-            }
-
-            int wx = originX + x;
-            int wy = originY + y;
-            int wz = originZ + z;
-
-            Block b = world.getBlockAt(wx, wy, wz);
-
-            try {
-                BlockData bd = Bukkit.createBlockData(dataString);
-                b.setBlockData(bd, false);
-            } catch (Throwable ignored) {
-                // fallback: try just set type
-                Material m = materialFromDataString(dataString);
-                if (m == null) m = Material.AIR;
-                b.setType(m, false);
-            }
-
-            placed++;
-            index++;
-            processedThisTick++;
-        }
-
-        // progress every ~5%
-        if (total > 0) {
-            long pct = (index * 100L) / total;
-            if (pct % 5 == 0 && processedThisTick > 0) {
-                p.sendActionBar("Pasting: " + pct + "% (" + index + "/" + total + ")");
-            }
-        }
-
-        if (index >= total) {
-            p.sendMessage("Paste complete. Placed " + placed + " blocks.");
-            cancel();
-        }
+        placed++;
     }
 
-    private boolean isAirDataString(String s) {
-        if (s == null) return true;
-        // getAsString() usually returns "minecraft:air"
-        String lower = s.toLowerCase();
-        return lower.equals("minecraft:air") || lower.equals("air") || lower.startsWith("minecraft:air[");
+    @Override
+    protected String label() {
+        return "Pasting";
     }
 
-    private Material materialFromDataString(String s) {
-        if (s == null || s.isBlank()) return null;
-
-        String base = s;
-        int br = base.indexOf('[');
-        if (br >= 0) base = base.substring(0, br);
-
-        if (base.contains(":")) {
-            base = base.substring(base.indexOf(':') + 1);
-        }
-
-        Material m = Material.matchMaterial(base);
-        if (m == null || !m.isBlock()) return null;
-        return m;
+    @Override
+    protected void complete(Player p) {
+        p.sendMessage("Paste complete. Placed " + placed + " blocks.");
     }
 }
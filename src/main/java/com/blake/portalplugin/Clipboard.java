@@ -1,17 +1,47 @@
 package com.blake.portalplugin.worldedit;
 
+import org.bukkit.Material;
+import org.bukkit.block.data.BlockData;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Palette-encoded clipboard.
+ *
+ * Each distinct block state is stored once in the palette (as a ready-to-use BlockData);
+ * the volume itself is a char[] of palette indices, index = x + width*(y + height*z).
+ * There are fewer than 65536 block states in the game, so a 16-bit index always fits.
+ *
+ * Palette BlockData objects are shared: callers may pass them to Block#setBlockData
+ * (which copies) but must not mutate them.
+ */
 public class Clipboard {
 
+    private static final int MAX_PALETTE = 1 << 16;
+
     private final int width;
     private final int height;
     private final int length;
-    private final String[] blockDataStrings; // index = x + width*(y + height*z)
 
-    public Clipboard(int width, int height, int length, String[] blockDataStrings) {
+    private final BlockData[] palette;
+    private final boolean[] airEntries;
+    private final char[] indices; // index = x + width*(y + height*z)
+
+    Clipboard(int width, int height, int length, BlockData[] palette, char[] indices) {
         this.width = Math.max(1, width);
         this.height = Math.max(1, height);
         this.length = Math.max(1, length);
-        this.blockDataStrings = blockDataStrings;
+        this.palette = palette;
+        this.indices = indices;
+
+        this.airEntries = new boolean[palette.length];
+        for (int i = 0; i < palette.length; i++) {
+            airEntries[i] = palette[i] == null || palette[i].getMaterial() == Material.AIR;
+        }
     }
 
     public int getWidth() { return width; }
@@ -22,17 +52,100 @@ public class Clipboard {
         return (long) width * (long) height * (long) length;
     }
 
-    public String[] getRawData() { return blockDataStrings; }
-
     public int index(int x, int y, int z) {
         return x + width * (y + height * z);
     }
 
-    public String get(int x, int y, int z) {
-        return blockDataStrings[index(x, y, z)];
+    // ---------------------------------------------------------------------
+    // Palette access
+    // ---------------------------------------------------------------------
+
+    public int getPaletteSize() {
+        return palette.length;
+    }
+
+    public BlockData getPaletteEntry(int paletteIndex) {
+        return palette[paletteIndex];
+    }
+
+    public boolean isAirEntry(int paletteIndex) {
+        return airEntries[paletteIndex];
     }
 
-    public void set(int x, int y, int z, String dataString) {
-        blockDataStrings[index(x, y, z)] = dataString;
+    /**
+     * Palette index of the block at a flat volume index.
+     */
+    public int paletteIndexAt(int index) {
+        return indices[index];
+    }
+
+    public BlockData get(int x, int y, int z) {
+        return palette[indices[index(x, y, z)]];
+    }
+
+    // ---------------------------------------------------------------------
+    // Transform support (used by ClipboardTransforms)
+    // ---------------------------------------------------------------------
+
+    /**
+     * Palette with every entry passed through {@code op} once.
+     */
+    BlockData[] mapPalette(UnaryOperator<BlockData> op) {
+        BlockData[] out = new BlockData[palette.length];
+        for (int i = 0; i < palette.length; i++) {
+            out[i] = op.apply(palette[i]);
+        }
+        return out;
+    }
+
+    char[] rawIndices() {
+        return indices;
+    }
+
+    // ---------------------------------------------------------------------
+    // Builder
+    // ---------------------------------------------------------------------
+
+    /**
+     * Collects blocks into a palette one at a time (copies go through RegionCapture instead).
+     */
+    public static final class Builder {
+
+        private final int width;
+        private final int height;
+        private final int length;
+
+        private final char[] indices;
+        private final List<BlockData> palette = new ArrayList<>();
+        private final Map<BlockData, Integer> lookup = new HashMap<>();
+
+        public Builder(int width, int height, int length) {
+            this.width = Math.max(1, width);
+            this.height = Math.max(1, height);
+            this.length = Math.max(1, length);
+
+            long volume = (long) this.width * this.height * this.length;
+            if (volume > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Clipboard too large: " + volume + " blocks");
+            }
+            this.indices = new char[(int) volume];
+        }
+
+        public void set(int index, BlockData data) {
+            Integer id = lookup.get(data);
+            if (id == null) {
+                if (palette.size() >= MAX_PALETTE) {
+                    throw new IllegalStateException("Clipboard palette exceeded " + MAX_PALETTE + " entries");
+                }
+                id = palette.size();
+                palette.add(data);
+                lookup.put(data, id);
+            }
+            indices[index] = (char) id.intValue();
+        }
+
+        public Clipboard build() {
+            return new Clipboard(width, height, length, palette.toArray(new BlockData[0]), indices);
+        }
     }
 }
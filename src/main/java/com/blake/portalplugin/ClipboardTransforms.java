@@ -3,7 +3,6 @@ package com.blake.portalplugin.worldedit;
 
 import com.blake.portalplugin.worldedit.ClipboardManager.FlipAxis;
 import org.bukkit.Axis;
-import org.bukkit.Bukkit;
 import org.bukkit.block.BlockFace;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.block.data.Directional;
@@ -25,20 +24,21 @@ public final class ClipboardTransforms {
 
         int deg = ((degClockwise % 360) + 360) % 360;
         if (deg != 90 && deg != 180 && deg != 270) deg = 90;
+        final int rot = deg;
 
         int outW = (deg == 180) ? w : l;
         int outL = (deg == 180) ? l : w;
 
-        String[] outData = new String[outW * h * outL];
-        Clipboard out = new Clipboard(outW, h, outL, outData);
+        // Block states are rotated once per palette entry; the volume is just an index shuffle
+        BlockData[] palette = in.mapPalette(bd -> transformRotate(bd, rot));
+
+        char[] src = in.rawIndices();
+        char[] dst = new char[outW * h * outL];
 
         for (int z = 0; z < l; z++) {
             for (int y = 0; y < h; y++) {
                 for (int x = 0; x < w; x++) {
 
-                    String s = in.get(x, y, z);
-                    String transformed = transformBlockDataStringRotate(s, deg);
-
                     int nx, nz;
                     if (deg == 90) {
                         nx = z;
@@ -51,12 +51,12 @@ public final class ClipboardTransforms {
                         nz = x;
                     }
 
-                    out.set(nx, y, nz, transformed);
+                    dst[nx + outW * (y + h * nz)] = src[x + w * (y + h * z)];
                 }
             }
         }
 
-        return out;
+        return new Clipboard(outW, h, outL, palette, dst);
     }
 
     public static Clipboard flip(Clipboard in, FlipAxis axis) {
@@ -64,16 +64,15 @@ public final class ClipboardTransforms {
         int h = in.getHeight();
         int l = in.getLength();
 
-        String[] outData = new String[w * h * l];
-        Clipboard out = new Clipboard(w, h, l, outData);
+        BlockData[] palette = in.mapPalette(bd -> transformFlip(bd, axis));
+
+        char[] src = in.rawIndices();
+        char[] dst = new char[w * h * l];
 
         for (int z = 0; z < l; z++) {
             for (int y = 0; y < h; y++) {
                 for (int x = 0; x < w; x++) {
 
-                    String s = in.get(x, y, z);
-                    String transformed = transformBlockDataStringFlip(s, axis);
-
                     int nx = x;
                     int nz = z;
 
@@ -83,33 +82,33 @@ public final class ClipboardTransforms {
                         nz = (l - 1 - z);
                     }
 
-                    out.set(nx, y, nz, transformed);
+                    dst[nx + w * (y + h * nz)] = src[x + w * (y + h * z)];
                 }
             }
         }
 
-        return out;
+        return new Clipboard(w, h, l, palette, dst);
     }
 
-    private static String transformBlockDataStringRotate(String dataString, int deg) {
-        if (dataString == null || dataString.isBlank()) return dataString;
+    private static BlockData transformRotate(BlockData data, int deg) {
+        if (data == null) return null;
         try {
-            BlockData bd = Bukkit.createBlockData(dataString);
+            BlockData bd = data.clone();
             rotateBlockDataInPlace(bd, deg);
-            return bd.getAsString();
+            return bd;
         } catch (Throwable ignored) {
-            return dataString;
+            return data;
         }
     }
 
-    private static String transformBlockDataStringFlip(String dataString, FlipAxis axis) {
-        if (dataString == null || dataString.isBlank()) return dataString;
+    private static BlockData transformFlip(BlockData data, FlipAxis axis) {
+        if (data == null) return null;
         try {
-            BlockData bd = Bukkit.createBlockData(dataString);
+            BlockData bd = data.clone();
             flipBlockDataInPlace(bd, axis);
-            return bd.getAsString();
+            return bd;
         } catch (Throwable ignored) {
-            return dataString;
+            return data;
         }
     }
 
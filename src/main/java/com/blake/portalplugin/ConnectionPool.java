@@ -0,0 +1,389 @@
+package com.blake.portalplugin.stats;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Small bounded JDBC connection pool owned by {@link DatabaseManager}.
+ *
+ * Borrowed connections are proxies: calling close() hands the physical
+ * connection back to the pool instead of tearing down the socket, so the
+ * existing try-with-resources call sites keep working unchanged.
+ *
+ *  - max-size bounds concurrent sessions (borrowers wait up to borrow-timeout)
+ *  - min-idle connections are opened up front and topped up by housekeeping
+ *  - connections idle longer than validation-interval are checked with isValid()
+ *  - connections older than max-lifetime are retired on return / housekeeping
+ *  - leases held longer than leak-detection-threshold are logged once with the borrow site
+ */
+public class ConnectionPool {
+
+    public record Settings(int maxSize,
+                           int minIdle,
+                           long borrowTimeoutMs,
+                           long validationIntervalMs,
+                           long maxLifetimeMs,
+                           long leakDetectionMs) {
+    }
+
+    public record Metrics(int active,
+                          int idle,
+                          int maxSize,
+                          int waiting,
+                          long borrows,
+                          long timeouts,
+                          long created,
+                          long retired,
+                          long leaks,
+                          double avgWaitMs,
+                          double maxWaitMs) {
+    }
+
+    private static final class PooledConnection {
+        final Connection physical;
+        final long createdAt;
+        volatile long lastUsedAt;
+
+        PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.createdAt = System.currentTimeMillis();
+            this.lastUsedAt = createdAt;
+        }
+    }
+
+    private static final class Lease {
+        final PooledConnection pooled;
+        final long borrowedAt = System.currentTimeMillis();
+        final Throwable borrowSite;
+        volatile boolean closed;
+        volatile boolean leakReported;
+
+        Lease(PooledConnection pooled, boolean captureSite) {
+            this.pooled = pooled;
+            this.borrowSite = captureSite ? new Throwable("Connection borrowed here") : null;
+        }
+    }
+
+    private final Logger logger;
+    private final String jdbcUrl;
+    private final Properties connectionProperties;
+    private final Settings settings;
+
+    private final Semaphore permits;
+    private final Deque<PooledConnection> idle = new ArrayDeque<>();
+    private final Map<Lease, Boolean> leases = new ConcurrentHashMap<>();
+
+    private volatile boolean shutdown;
+
+    private final AtomicLong borrows = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong retired = new AtomicLong();
+    private final AtomicLong leaks = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public ConnectionPool(Logger logger, String jdbcUrl, Properties connectionProperties, Settings settings) {
+        this.logger = logger;
+        this.jdbcUrl = jdbcUrl;
+        this.connectionProperties = connectionProperties;
+        this.settings = settings;
+        this.permits = new Semaphore(Math.max(1, settings.maxSize()), true);
+    }
+
+    // -------------------------------------------------------------------------
+    // Borrow / return
+    // -------------------------------------------------------------------------
+
+    public Connection borrow() throws SQLException {
+        if (shutdown) throw new SQLException("Connection pool is shut down");
+
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(settings.borrowTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a pooled connection", e);
+        }
+
+        long waited = System.nanoTime() - start;
+        if (!acquired) {
+            timeouts.incrementAndGet();
+            throw new SQLTimeoutException("Timed out after " + settings.borrowTimeoutMs()
+                    + "ms waiting for a pooled connection (active=" + leases.size()
+                    + ", max=" + settings.maxSize() + ")");
+        }
+
+        borrows.incrementAndGet();
+        totalWaitNanos.addAndGet(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+
+        try {
+            PooledConnection pooled = takeUsable();
+            Lease lease = new Lease(pooled, settings.leakDetectionMs() > 0);
+            leases.put(lease, Boolean.TRUE);
+            return (Connection) Proxy.newProxyInstance(
+                    ConnectionPool.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new LeaseHandler(lease)
+            );
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private PooledConnection takeUsable() throws SQLException {
+        while (true) {
+            PooledConnection candidate;
+            synchronized (idle) {
+                candidate = idle.pollFirst();
+            }
+            if (candidate == null) return open();
+
+            long now = System.currentTimeMillis();
+            if (isExpired(candidate, now)) {
+                retire(candidate);
+                continue;
+            }
+
+            if (now - candidate.lastUsedAt >= settings.validationIntervalMs() && !isAlive(candidate)) {
+                retire(candidate);
+                continue;
+            }
+
+            return candidate;
+        }
+    }
+
+    private void giveBack(Lease lease) {
+        if (lease.closed) return;
+        lease.closed = true;
+        leases.remove(lease);
+
+        PooledConnection pooled = lease.pooled;
+        try {
+            if (shutdown || pooled.physical.isClosed() || isExpired(pooled, System.currentTimeMillis())) {
+                retire(pooled);
+                return;
+            }
+
+            // Leave the session the way the next borrower expects it.
+            if (!pooled.physical.getAutoCommit()) {
+                pooled.physical.rollback();
+                pooled.physical.setAutoCommit(true);
+            }
+            pooled.physical.clearWarnings();
+
+            pooled.lastUsedAt = System.currentTimeMillis();
+            synchronized (idle) {
+                idle.offerFirst(pooled);
+            }
+        } catch (SQLException e) {
+            retire(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Lifecycle
+    // -------------------------------------------------------------------------
+
+    /**
+     * Opens min-idle connections so the first burst of queries doesn't pay for handshakes.
+     */
+    public void prewarm() {
+        fillToMinIdle();
+        logger.info("[PortalPlugin] DB pool ready: idle=" + idleCount() + " max=" + settings.maxSize());
+    }
+
+    /**
+     * Periodic maintenance: retire expired/dead idle connections, report leaks, top up min-idle.
+     */
+    public void housekeep() {
+        if (shutdown) return;
+
+        long now = System.currentTimeMillis();
+
+        List<PooledConnection> stale = new ArrayList<>();
+        synchronized (idle) {
+            idle.removeIf(pc -> {
+                if (isExpired(pc, now)) {
+                    stale.add(pc);
+                    return true;
+                }
+                return false;
+            });
+        }
+        stale.forEach(this::retire);
+
+        if (settings.leakDetectionMs() > 0) {
+            for (Lease lease : leases.keySet()) {
+                if (lease.leakReported || lease.closed) continue;
+                long held = now - lease.borrowedAt;
+                if (held < settings.leakDetectionMs()) continue;
+
+                lease.leakReported = true;
+                leaks.incrementAndGet();
+                logger.log(Level.WARNING, "[PortalPlugin] Possible DB connection leak: held for " + held
+                        + "ms without close()", lease.borrowSite);
+            }
+        }
+
+        fillToMinIdle();
+    }
+
+    public void shutdown() {
+        shutdown = true;
+
+        List<PooledConnection> drained;
+        synchronized (idle) {
+            drained = new ArrayList<>(idle);
+            idle.clear();
+        }
+        drained.forEach(this::retire);
+
+        if (!leases.isEmpty()) {
+            logger.warning("[PortalPlugin] DB pool shut down with " + leases.size() + " connection(s) still borrowed.");
+        }
+    }
+
+    private void fillToMinIdle() {
+        while (!shutdown && idleCount() < settings.minIdle()
+                && idleCount() + leases.size() < settings.maxSize()) {
+            try {
+                PooledConnection pc = open();
+                synchronized (idle) {
+                    idle.offerLast(pc);
+                }
+            } catch (SQLException e) {
+                logger.warning("[PortalPlugin] DB pool could not open idle connection: " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Metrics
+    // -------------------------------------------------------------------------
+
+    public Metrics getMetrics() {
+        long count = borrows.get();
+        double avgWaitMs = count == 0 ? 0.0 : (totalWaitNanos.get() / (double) count) / 1_000_000.0;
+
+        return new Metrics(
+                leases.size(),
+                idleCount(),
+                settings.maxSize(),
+                permits.getQueueLength(),
+                count,
+                timeouts.get(),
+                created.get(),
+                retired.get(),
+                leaks.get(),
+                avgWaitMs,
+                maxWaitNanos.get() / 1_000_000.0
+        );
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    private int idleCount() {
+        synchronized (idle) {
+            return idle.size();
+        }
+    }
+
+    private PooledConnection open() throws SQLException {
+        Connection c = DriverManager.getConnection(jdbcUrl, connectionProperties);
+        created.incrementAndGet();
+        return new PooledConnection(c);
+    }
+
+    private boolean isExpired(PooledConnection pc, long now) {
+        return settings.maxLifetimeMs() > 0 && now - pc.createdAt >= settings.maxLifetimeMs();
+    }
+
+    private boolean isAlive(PooledConnection pc) {
+        try {
+            return pc.physical.isValid(2);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void retire(PooledConnection pc) {
+        retired.incrementAndGet();
+        try {
+            pc.physical.close();
+        } catch (SQLException ignored) {
+            // already dead
+        }
+    }
+
+    private final class LeaseHandler implements InvocationHandler {
+
+        private final Lease lease;
+
+        LeaseHandler(Lease lease) {
+            this.lease = lease;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    giveBack(lease);
+                    return null;
+                }
+                case "isClosed" -> {
+                    return lease.closed || lease.pooled.physical.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "PooledConnection[" + lease.pooled.physical + "]";
+                }
+                default -> {
+                    if (lease.closed) throw new SQLException("Connection has already been returned to the pool");
+                }
+            }
+
+            try {
+                return method.invoke(lease.pooled.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
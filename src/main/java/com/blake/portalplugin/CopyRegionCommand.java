@@ -1,15 +1,20 @@
 package com.blake.portalplugin.commands;
 
 import com.blake.portalplugin.PortalPlugin;
-import com.blake.portalplugin.worldedit.BlockCopyTask;
+import com.blake.portalplugin.worldedit.BlockEditTask;
 import com.blake.portalplugin.worldedit.ClipboardManager;
+import com.blake.portalplugin.worldedit.RegionCapture;
 import com.blake.portalplugin.worldedit.SelectionManager;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.util.UUID;
+import java.util.logging.Level;
+
 public class CopyRegionCommand implements CommandExecutor {
 
     private final PortalPlugin plugin;
@@ -48,7 +53,6 @@ public class CopyRegionCommand implements CommandExecutor {
         long volume = selections.getVolume(p.getUniqueId());
 
         long maxBlocks = plugin.getConfig().getLong("worldedit.max-blocks", 2_000_000L);
-        int blocksPerTick = plugin.getConfig().getInt("worldedit.blocks-per-tick", 8000);
 
         if (volume <= 0) {
             p.sendMessage("Invalid selection.");
@@ -64,19 +68,33 @@ public class CopyRegionCommand implements CommandExecutor {
         Location a = selections.getPos1(p.getUniqueId());
         Location b = selections.getPos2(p.getUniqueId());
 
-        BlockCopyTask.Bounds bounds = BlockCopyTask.fromTwoLocations(a, b);
+        BlockEditTask.Bounds bounds = BlockEditTask.fromTwoLocations(a, b);
 
         p.sendMessage("Copying " + volume + " blocks to clipboard...");
 
-        new BlockCopyTask(
-                plugin,
-                p.getUniqueId(),
-                a.getWorld(),
+        int ahead = plugin.getEditScheduler().pending(p.getUniqueId());
+        if (ahead > 0) {
+            p.sendMessage("Waiting for " + ahead + " of your other edit(s) to finish first.");
+        }
+
+        UUID id = p.getUniqueId();
+        RegionCapture.start(plugin, plugin.getEditScheduler(), id, "Copying", a.getWorld(),
                 bounds.minX(), bounds.minY(), bounds.minZ(),
-                bounds.maxX(), bounds.maxY(), bounds.maxZ(),
-                blocksPerTick,
-                clipboardManager
-        ).runTaskTimer(plugin, 1L, 1L);
+                bounds.maxX(), bounds.maxY(), bounds.maxZ()
+        ).whenComplete((capture, err) -> {
+            Player online = Bukkit.getPlayer(id);
+            if (err != null) {
+                plugin.getLogger().log(Level.WARNING, "[PortalPlugin] Copy failed", err);
+                if (online != null) online.sendMessage("Copy failed: " + err.getMessage());
+                return;
+            }
+
+            clipboardManager.setClipboard(id, capture.toClipboard());
+            if (online != null) {
+                online.sendMessage("Copied " + volume + " blocks to clipboard. Size: "
+                        + capture.sizeX() + "x" + capture.sizeY() + "x" + capture.sizeZ() + ".");
+            }
+        });
 
         return true;
     }
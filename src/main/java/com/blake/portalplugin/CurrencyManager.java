@@ -1,24 +1,47 @@
 package com.blake.portalplugin.currency;
 
+import com.blake.portalplugin.stats.DatabaseExecutor;
+import com.blake.portalplugin.stats.DatabaseExecutor.Lane;
 import com.blake.portalplugin.stats.DatabaseManager;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 public class CurrencyManager {
 
     private final Plugin plugin;
-    private final DatabaseManager database;
+    private final DatabaseManager databaseManager;
+    private final DatabaseExecutor db;
 
     // Cache so scoreboards never block server thread
     private final ConcurrentMap<UUID, CurrencyData> cache = new ConcurrentHashMap<>();
     private final ConcurrentMap<UUID, Boolean> loading = new ConcurrentHashMap<>();
 
+    // Write-behind journal: pending changes merged per player, flushed in batches
+    private final ConcurrentMap<UUID, PendingChange> journal = new ConcurrentHashMap<>();
+    private final long flushIntervalTicks;
+    private final int flushThreshold;
+    private BukkitTask flushTask;
+    private boolean flushQueued;
+    // Set by shutdown(); after writeRemaining() nothing will flush the journal again
+    private volatile boolean stopping;
+    private volatile boolean closed;
+
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
     private static final class CurrencyData {
         volatile int coins;
         volatile int gems;
@@ -29,31 +52,112 @@ public class CurrencyManager {
         }
     }
 
+    /**
+     * Net effect of all unflushed mutations for one player.
+     * Per column: either an absolute value (a set happened) or a relative change. Every add/remove
+     * clamps at zero on its own, like the cache does; a run of those collapses to
+     * {@code max(floor, balance + delta)}, so the floor is tracked alongside the delta.
+     */
+    private static final class PendingChange {
+        boolean coinsAbsolute;
+        int coins;
+        int coinsFloor;
+        boolean gemsAbsolute;
+        int gems;
+        int gemsFloor;
+
+        void setCoins(int value) {
+            coinsAbsolute = true;
+            coins = value;
+            coinsFloor = 0;
+        }
+
+        void addCoins(int delta) {
+            if (coinsAbsolute) {
+                coins = Math.max(0, coins + delta);
+            } else {
+                coins += delta;
+                coinsFloor = Math.max(0, coinsFloor + delta);
+            }
+        }
+
+        void setGems(int value) {
+            gemsAbsolute = true;
+            gems = value;
+            gemsFloor = 0;
+        }
+
+        void addGems(int delta) {
+            if (gemsAbsolute) {
+                gems = Math.max(0, gems + delta);
+            } else {
+                gems += delta;
+                gemsFloor = Math.max(0, gemsFloor + delta);
+            }
+        }
+
+        /** Applies {@code newer} on top of this (older) change. */
+        PendingChange followedBy(PendingChange newer) {
+            if (newer.coinsAbsolute) {
+                setCoins(newer.coins);
+            } else if (coinsAbsolute) {
+                coins = Math.max(newer.coinsFloor, coins + newer.coins);
+            } else {
+                coinsFloor = Math.max(newer.coinsFloor, coinsFloor + newer.coins);
+                coins += newer.coins;
+            }
+
+            if (newer.gemsAbsolute) {
+                setGems(newer.gems);
+            } else if (gemsAbsolute) {
+                gems = Math.max(newer.gemsFloor, gems + newer.gems);
+            } else {
+                gemsFloor = Math.max(newer.gemsFloor, gemsFloor + newer.gems);
+                gems += newer.gems;
+            }
+            return this;
+        }
+
+        void applyTo(CurrencyData d) {
+            d.coins = coinsAbsolute ? coins : Math.max(coinsFloor, d.coins + coins);
+            d.gems = gemsAbsolute ? gems : Math.max(gemsFloor, d.gems + gems);
+        }
+    }
+
+    // Batch ownership: the DB task claims it when it starts; if it never gets to run, the
+    // failure handler claims it instead. Whoever claims it decides whether to re-queue.
+    private static final int BATCH_QUEUED = 0;
+    private static final int BATCH_RUNNING = 1;
+    private static final int BATCH_ABANDONED = 2;
+
     public CurrencyManager(Plugin plugin, DatabaseManager databaseManager) {
         this.plugin = plugin;
-        this.database = databaseManager;
+        this.databaseManager = databaseManager;
+        this.db = databaseManager.getExecutor();
+        this.flushIntervalTicks = Math.max(20L, plugin.getConfig().getLong("currency.flush-interval-ticks", 100L));
+        this.flushThreshold = Math.max(1, plugin.getConfig().getInt("currency.flush-threshold", 200));
     }
 
     // ------------------------------------------------------------------------
     // TABLE CREATION
     // ------------------------------------------------------------------------
     public void ensureTable() {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-            String sql = """
-                CREATE TABLE IF NOT EXISTS player_currency (
-                    uuid CHAR(36) NOT NULL PRIMARY KEY,
-                    coins INT NOT NULL DEFAULT 0,
-                    gems INT NOT NULL DEFAULT 0
-                )
-                """;
-
-            try (Connection conn = database.getConnection();
-                 Statement st = conn.createStatement()) {
+        String sql = """
+            CREATE TABLE IF NOT EXISTS player_currency (
+                uuid CHAR(36) NOT NULL PRIMARY KEY,
+                coins INT NOT NULL DEFAULT 0,
+                gems INT NOT NULL DEFAULT 0
+            )
+            """;
+
+        db.run(Lane.WRITE, conn -> {
+            try (Statement st = conn.createStatement()) {
                 st.executeUpdate(sql);
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.SEVERE,
-                        "[PortalPlugin] Failed to create player_currency table", e);
             }
+        }).exceptionally(e -> {
+            plugin.getLogger().log(Level.SEVERE,
+                    "[PortalPlugin] Failed to create player_currency table", e);
+            return null;
         });
     }
 
@@ -69,42 +173,42 @@ public class CurrencyManager {
         // prevent spamming async loads
         if (loading.putIfAbsent(uuid, Boolean.TRUE) != null) return;
 
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-            try {
-                CurrencyData data = loadFromDb(uuid);
-                cache.put(uuid, data);
-            } catch (Exception e) {
-                plugin.getLogger().warning("[CurrencyManager] load failed: " + e.getMessage());
-                // keep default 0/0 in cache to avoid repeated loads every tick
-                cache.putIfAbsent(uuid, new CurrencyData(0, 0));
-            } finally {
-                loading.remove(uuid);
-            }
-        });
+        db.submit(Lane.READ, conn -> loadFromDb(conn, uuid))
+                .whenComplete((data, e) -> {
+                    if (e != null) {
+                        plugin.getLogger().warning("[CurrencyManager] load failed: " + e.getMessage());
+                        // keep default 0/0 in cache to avoid repeated loads every tick
+                        cache.putIfAbsent(uuid, new CurrencyData(0, 0));
+                    } else {
+                        // Mutations made while the load was in flight are still in the journal; keep them visible.
+                        PendingChange pending = journal.get(uuid);
+                        if (pending != null) pending.applyTo(data);
+                        cache.put(uuid, data);
+                    }
+                    loading.remove(uuid);
+                });
     }
 
-    private CurrencyData loadFromDb(UUID uuid) throws SQLException {
+    private CurrencyData loadFromDb(Connection conn, UUID uuid) throws SQLException {
         String select = "SELECT coins, gems FROM player_currency WHERE uuid=?";
         String insert = "INSERT INTO player_currency (uuid, coins, gems) VALUES (?, 0, 0)";
 
-        try (Connection conn = database.getConnection()) {
-            try (PreparedStatement ps = conn.prepareStatement(select)) {
-                ps.setString(1, uuid.toString());
-                try (ResultSet rs = ps.executeQuery()) {
-                    if (rs.next()) {
-                        return new CurrencyData(rs.getInt("coins"), rs.getInt("gems"));
-                    }
+        try (PreparedStatement ps = conn.prepareStatement(select)) {
+            ps.setString(1, uuid.toString());
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return new CurrencyData(rs.getInt("coins"), rs.getInt("gems"));
                 }
             }
+        }
 
-            // row doesn't exist yet: create it
-            try (PreparedStatement ps = conn.prepareStatement(insert)) {
-                ps.setString(1, uuid.toString());
-                ps.executeUpdate();
-            }
-
-            return new CurrencyData(0, 0);
+        // row doesn't exist yet: create it
+        try (PreparedStatement ps = conn.prepareStatement(insert)) {
+            ps.setString(1, uuid.toString());
+            ps.executeUpdate();
         }
+
+        return new CurrencyData(0, 0);
     }
 
     // ------------------------------------------------------------------------
@@ -123,7 +227,7 @@ public class CurrencyManager {
     }
 
     // ------------------------------------------------------------------------
-    // PUBLIC SETTERS (ASYNC WRITE + CACHE)
+    // PUBLIC SETTERS (CACHE + WRITE-BEHIND JOURNAL)
     // ------------------------------------------------------------------------
     public void setCoins(UUID uuid, int amount) {
         if (uuid == null) return;
@@ -135,7 +239,8 @@ public class CurrencyManager {
             return d;
         });
 
-        upsertSet(uuid, "coins", value);
+        journal(uuid, p -> p.setCoins(value));
+        afterJournalWrite();
     }
 
     public void setGems(UUID uuid, int amount) {
@@ -148,31 +253,12 @@ public class CurrencyManager {
             return d;
         });
 
-        upsertSet(uuid, "gems", value);
-    }
-
-    private void upsertSet(UUID uuid, String column, int value) {
-        String sql = """
-            INSERT INTO player_currency (uuid, coins, gems)
-            VALUES (?, 0, 0)
-            ON DUPLICATE KEY UPDATE """ + column + "=?";
-
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-            try (Connection conn = database.getConnection();
-                 PreparedStatement ps = conn.prepareStatement(sql)) {
-
-                ps.setString(1, uuid.toString());
-                ps.setInt(2, value);
-                ps.executeUpdate();
-
-            } catch (SQLException e) {
-                plugin.getLogger().warning("[CurrencyManager] upsertSet failed: " + e.getMessage());
-            }
-        });
+        journal(uuid, p -> p.setGems(value));
+        afterJournalWrite();
     }
 
     // ------------------------------------------------------------------------
-    // ADD / REMOVE (ASYNC DB UPDATE + CACHE)
+    // ADD / REMOVE (CACHE + WRITE-BEHIND JOURNAL)
     // ------------------------------------------------------------------------
     public void addCoins(UUID uuid, int amount) {
         if (uuid == null || amount <= 0) return;
@@ -183,7 +269,8 @@ public class CurrencyManager {
             return d;
         });
 
-        applyDelta(uuid, "coins", amount);
+        journal(uuid, p -> p.addCoins(amount));
+        afterJournalWrite();
     }
 
     public void addGems(UUID uuid, int amount) {
@@ -195,7 +282,8 @@ public class CurrencyManager {
             return d;
         });
 
-        applyDelta(uuid, "gems", amount);
+        journal(uuid, p -> p.addGems(amount));
+        afterJournalWrite();
     }
 
     public void removeCoins(UUID uuid, int amount) {
@@ -207,7 +295,8 @@ public class CurrencyManager {
             return d;
         });
 
-        applyDelta(uuid, "coins", -amount);
+        journal(uuid, p -> p.addCoins(-amount));
+        afterJournalWrite();
     }
 
     public void removeGems(UUID uuid, int amount) {
@@ -219,37 +308,208 @@ public class CurrencyManager {
             return d;
         });
 
-        applyDelta(uuid, "gems", -amount);
+        journal(uuid, p -> p.addGems(-amount));
+        afterJournalWrite();
     }
 
-    private void applyDelta(UUID uuid, String column, int delta) {
-        // 1) ensure row exists
-        String ensure = """
-            INSERT INTO player_currency (uuid, coins, gems)
-            VALUES (?, 0, 0)
-            ON DUPLICATE KEY UPDATE uuid=uuid
-            """;
+    // ------------------------------------------------------------------------
+    // WRITE-BEHIND FLUSHING
+    // ------------------------------------------------------------------------
+    public void start() {
+        if (flushTask != null) return;
+        flushTask = Bukkit.getScheduler().runTaskTimer(plugin, this::flushAll, flushIntervalTicks, flushIntervalTicks);
+    }
 
-        // 2) atomic update with clamp
-        String update = "UPDATE player_currency SET " + column + " = GREATEST(0, " + column + " + ?) WHERE uuid=?";
+    /**
+     * Stops the interval flush and hands every pending change to the DB executor,
+     * which drains queued writes before the pool closes. Anything it doesn't get to is
+     * left for {@link #writeRemaining}.
+     */
+    public void shutdown() {
+        stopping = true;
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        flushAll();
+    }
 
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-            try (Connection conn = database.getConnection()) {
+    /**
+     * Last step of shutdown, on the calling thread after the DB executor has stopped (see
+     * {@link DatabaseManager#shutdown(Runnable)}): writes whatever is still in the journal,
+     * i.e. batches the executor never ran or that rolled back while it drained.
+     */
+    public void writeRemaining() {
+        closed = true;
+        Map<UUID, PendingChange> batch = new HashMap<>();
+        for (UUID uuid : new ArrayList<>(journal.keySet())) {
+            PendingChange pending = journal.remove(uuid);
+            if (pending != null) batch.put(uuid, pending);
+        }
+        if (batch.isEmpty()) return;
 
-                try (PreparedStatement ps = conn.prepareStatement(ensure)) {
-                    ps.setString(1, uuid.toString());
-                    ps.executeUpdate();
-                }
+        try (Connection conn = databaseManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                writeRows(conn, new ArrayList<>(batch.entrySet()));
+                conn.commit();
+                plugin.getLogger().info("[CurrencyManager] wrote " + batch.size() + " player(s) directly at shutdown");
+            } catch (SQLException | RuntimeException e) {
+                try {
+                    conn.rollback();
+                } catch (SQLException ignored) {}
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException | RuntimeException e) {
+            plugin.getLogger().log(Level.SEVERE, "[CurrencyManager] final write at shutdown failed; coin/gem changes for "
+                    + batch.size() + " player(s) dropped", e);
+        }
+    }
 
-                try (PreparedStatement ps = conn.prepareStatement(update)) {
-                    ps.setInt(1, delta);
-                    ps.setString(2, uuid.toString());
-                    ps.executeUpdate();
-                }
+    /** Flushes one player's pending change right away (e.g. on quit, before another server loads them). */
+    public CompletableFuture<Void> flush(UUID uuid) {
+        if (uuid == null) return CompletableFuture.completedFuture(null);
+
+        PendingChange pending = journal.remove(uuid);
+        if (pending == null) return CompletableFuture.completedFuture(null);
+
+        Map<UUID, PendingChange> batch = new HashMap<>();
+        batch.put(uuid, pending);
+        return writeBatch(batch);
+    }
+
+    public CompletableFuture<Void> flushAll() {
+        flushQueued = false;
+        if (journal.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        Map<UUID, PendingChange> batch = new HashMap<>();
+        for (UUID uuid : new ArrayList<>(journal.keySet())) {
+            PendingChange pending = journal.remove(uuid);
+            if (pending != null) batch.put(uuid, pending);
+        }
+        return writeBatch(batch);
+    }
+
+    private void journal(UUID uuid, Consumer<PendingChange> change) {
+        journal.compute(uuid, (k, p) -> {
+            if (p == null) p = new PendingChange();
+            change.accept(p);
+            return p;
+        });
+    }
+
+    private void afterJournalWrite() {
+        // Size threshold: flush on the next tick rather than waiting for the interval.
+        if (!flushQueued && journal.size() >= flushThreshold && plugin.isEnabled()) {
+            flushQueued = true;
+            Bukkit.getScheduler().runTask(plugin, this::flushAll);
+        }
+    }
 
-            } catch (SQLException e) {
-                plugin.getLogger().warning("[CurrencyManager] applyDelta failed: " + e.getMessage());
+    private CompletableFuture<Void> writeBatch(Map<UUID, PendingChange> batch) {
+        if (batch.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        List<Map.Entry<UUID, PendingChange>> rows = new ArrayList<>(batch.entrySet());
+        AtomicInteger state = new AtomicInteger(BATCH_QUEUED);
+
+        return db.run(Lane.WRITE, conn -> {
+            // Timed out or rejected before we got here: the failure handler already re-queued it
+            if (!state.compareAndSet(BATCH_QUEUED, BATCH_RUNNING)) return;
+
+            conn.setAutoCommit(false);
+            try {
+                writeRows(conn, rows);
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackFailed) {
+                    // Can't tell what reached the table; re-applying could double-count
+                    plugin.getLogger().log(Level.SEVERE, "[CurrencyManager] rollback after failed flush of "
+                            + batch.size() + " player(s) failed; changes dropped", rollbackFailed);
+                    throw e;
+                }
+                // Nothing was written, so the whole batch can safely go back in the journal
+                requeue(batch);
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
             }
+        }).exceptionally(e -> {
+            if (state.compareAndSet(BATCH_QUEUED, BATCH_ABANDONED)) {
+                // Never ran (queue full, expired in queue, shut down): nothing was written
+                requeue(batch);
+                plugin.getLogger().warning("[CurrencyManager] flush of " + batch.size() + " player(s) not run: "
+                        + e.getMessage() + (stopping ? " (left for the final write at shutdown)" : " (re-queued)"));
+            } else {
+                plugin.getLogger().warning("[CurrencyManager] flush of " + batch.size() + " player(s) failed: "
+                        + e.getMessage());
+            }
+            return null;
         });
     }
+
+    private void writeRows(Connection conn, List<Map.Entry<UUID, PendingChange>> rows) throws SQLException {
+        // Make sure every row exists, so the update below covers every player in the batch.
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Map.Entry<UUID, PendingChange>> chunk =
+                    rows.subList(from, Math.min(rows.size(), from + MAX_ROWS_PER_STATEMENT));
+            String sql = "INSERT IGNORE INTO player_currency (uuid) VALUES " + placeholders("(?)", chunk.size());
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                int i = 1;
+                for (Map.Entry<UUID, PendingChange> row : chunk) ps.setString(i++, row.getKey().toString());
+                ps.executeUpdate();
+            }
+        }
+
+        // One multi-row UPDATE per chunk; each row carries set-or-(floor, delta) per column.
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Map.Entry<UUID, PendingChange>> chunk =
+                    rows.subList(from, Math.min(rows.size(), from + MAX_ROWS_PER_STATEMENT));
+
+            String sql = "UPDATE player_currency p JOIN ("
+                    + "SELECT ? AS uuid, ? AS c_set, ? AS c_val, ? AS c_floor, ? AS g_set, ? AS g_val, ? AS g_floor"
+                    + " UNION ALL SELECT ?, ?, ?, ?, ?, ?, ?".repeat(chunk.size() - 1)
+                    + ") v ON p.uuid = v.uuid SET"
+                    + " p.coins = IF(v.c_set, v.c_val, GREATEST(v.c_floor, p.coins + v.c_val)),"
+                    + " p.gems = IF(v.g_set, v.g_val, GREATEST(v.g_floor, p.gems + v.g_val))";
+
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                int i = 1;
+                for (Map.Entry<UUID, PendingChange> row : chunk) {
+                    PendingChange c = row.getValue();
+                    ps.setString(i++, row.getKey().toString());
+                    ps.setBoolean(i++, c.coinsAbsolute);
+                    ps.setInt(i++, c.coins);
+                    ps.setInt(i++, c.coinsFloor);
+                    ps.setBoolean(i++, c.gemsAbsolute);
+                    ps.setInt(i++, c.gems);
+                    ps.setInt(i++, c.gemsFloor);
+                }
+                ps.executeUpdate();
+            }
+        }
+    }
+
+    /** Puts a failed batch back in front of anything that happened since, so nothing is lost. */
+    private void requeue(Map<UUID, PendingChange> batch) {
+        if (closed) {
+            // The final write already ran; a worker that outlived the shutdown wait ends up here
+            plugin.getLogger().severe("[CurrencyManager] flush of " + batch.size()
+                    + " player(s) failed after shutdown; coin/gem changes dropped");
+            return;
+        }
+        batch.forEach((uuid, failed) -> journal.merge(uuid, failed, (newer, older) -> older.followedBy(newer)));
+    }
+
+    private static String placeholders(String group, int count) {
+        StringBuilder sb = new StringBuilder(count * (group.length() + 2));
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(group);
+        }
+        return sb.toString();
+    }
 }
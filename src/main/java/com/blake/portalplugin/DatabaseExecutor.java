@@ -0,0 +1,282 @@
+package com.blake.portalplugin.stats;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * Plugin-owned executor for JDBC work.
+ *
+ * Replaces Bukkit's shared async scheduler for database calls:
+ *  - fixed number of worker threads (never more than the connection pool can serve)
+ *  - bounded queue; submissions beyond capacity fail fast instead of piling up threads
+ *  - two lanes: READ (player-facing lookups) is served ahead of WRITE (background persistence),
+ *    with every few picks going to WRITE so a busy read lane can't starve writes forever
+ *  - per-task timeout; tasks that expire while queued are skipped without touching the DB
+ *
+ * Each task gets a pooled connection for its duration. Results come back as CompletableFutures;
+ * use {@link #mainThread()} to hop back onto the server thread.
+ */
+public class DatabaseExecutor {
+
+    public enum Lane {
+        READ,
+        WRITE
+    }
+
+    @FunctionalInterface
+    public interface SqlTask<T> {
+        T run(Connection conn) throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface SqlAction {
+        void run(Connection conn) throws SQLException;
+    }
+
+    public record Metrics(int readQueued,
+                          int writeQueued,
+                          int capacity,
+                          int workers,
+                          long completed,
+                          long failed,
+                          long rejected,
+                          long timedOut,
+                          LatencyHistogram queueWait,
+                          LatencyHistogram execution) {
+    }
+
+    private static final int WRITE_EVERY_N_PICKS = 4;
+
+    private final class Job<T> {
+        final Lane lane;
+        final SqlTask<T> task;
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final long enqueuedAt = System.nanoTime();
+        final long deadline;
+
+        Job(Lane lane, SqlTask<T> task, long timeoutMs) {
+            this.lane = lane;
+            this.task = task;
+            this.deadline = enqueuedAt + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        }
+
+        void execute() {
+            long started = System.nanoTime();
+            queueWait.record(started - enqueuedAt);
+
+            if (future.isDone()) return;
+            if (started - deadline > 0) {
+                timedOut.incrementAndGet();
+                future.completeExceptionally(new TimeoutException("DB task expired in " + lane + " queue"));
+                return;
+            }
+
+            try (Connection conn = databaseManager.getConnection()) {
+                T result = task.run(conn);
+                completed.incrementAndGet();
+                future.complete(result);
+            } catch (Throwable t) {
+                failed.incrementAndGet();
+                future.completeExceptionally(t);
+            } finally {
+                execution.record(System.nanoTime() - started);
+            }
+        }
+    }
+
+    private final Plugin plugin;
+    private final DatabaseManager databaseManager;
+
+    private final int capacity;
+    private final long readTimeoutMs;
+    private final long writeTimeoutMs;
+
+    private final Object lock = new Object();
+    private final ArrayDeque<Job<?>> readLane = new ArrayDeque<>();
+    private final ArrayDeque<Job<?>> writeLane = new ArrayDeque<>();
+    private int picks;
+    private volatile boolean accepting = true;
+    private volatile boolean running = true;
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final LatencyHistogram execution = new LatencyHistogram();
+
+    private final Executor mainThread;
+
+    public DatabaseExecutor(Plugin plugin, DatabaseManager databaseManager,
+                            int threads, int capacity, long readTimeoutMs, long writeTimeoutMs) {
+        this.plugin = plugin;
+        this.databaseManager = databaseManager;
+        this.capacity = Math.max(1, capacity);
+        this.readTimeoutMs = Math.max(1L, readTimeoutMs);
+        this.writeTimeoutMs = Math.max(1L, writeTimeoutMs);
+        this.mainThread = r -> {
+            if (Bukkit.isPrimaryThread()) {
+                r.run();
+            } else if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, r);
+            }
+        };
+
+        int count = Math.max(1, threads);
+        for (int i = 0; i < count; i++) {
+            Thread t = new Thread(this::workLoop, "PortalPlugin-DB-" + (i + 1));
+            t.setDaemon(true);
+            workers.add(t);
+            t.start();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Submission
+    // -------------------------------------------------------------------------
+
+    public <T> CompletableFuture<T> submit(Lane lane, SqlTask<T> task) {
+        return submit(lane, task, lane == Lane.READ ? readTimeoutMs : writeTimeoutMs);
+    }
+
+    public <T> CompletableFuture<T> submit(Lane lane, SqlTask<T> task, long timeoutMs) {
+        Job<T> job = new Job<>(lane, task, timeoutMs);
+
+        synchronized (lock) {
+            if (!accepting) {
+                rejected.incrementAndGet();
+                job.future.completeExceptionally(new RejectedExecutionException("Database executor is shut down"));
+                return job.future;
+            }
+            if (readLane.size() + writeLane.size() >= capacity) {
+                rejected.incrementAndGet();
+                job.future.completeExceptionally(new RejectedExecutionException(
+                        "Database queue full (" + capacity + " pending)"));
+                return job.future;
+            }
+
+            (lane == Lane.READ ? readLane : writeLane).addLast(job);
+            lock.notify();
+        }
+
+        // Callers waiting on the future give up at the deadline even if the query is still running.
+        return job.future.orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    public CompletableFuture<Void> run(Lane lane, SqlAction action) {
+        return submit(lane, conn -> {
+            action.run(conn);
+            return null;
+        });
+    }
+
+    /**
+     * Executor that runs callbacks on the server thread (dropped once the plugin is disabled).
+     */
+    public Executor mainThread() {
+        return mainThread;
+    }
+
+    // -------------------------------------------------------------------------
+    // Workers
+    // -------------------------------------------------------------------------
+
+    private void workLoop() {
+        while (true) {
+            Job<?> job;
+            synchronized (lock) {
+                while (running && readLane.isEmpty() && writeLane.isEmpty()) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        if (!running) break;
+                    }
+                }
+                job = next();
+                if (job == null) return;
+            }
+
+            try {
+                job.execute();
+            } catch (Throwable t) {
+                plugin.getLogger().log(Level.WARNING, "[PortalPlugin] DB worker task failed", t);
+            }
+        }
+    }
+
+    private Job<?> next() {
+        picks++;
+        boolean preferWrite = picks % WRITE_EVERY_N_PICKS == 0;
+
+        if (preferWrite && !writeLane.isEmpty()) return writeLane.pollFirst();
+        if (!readLane.isEmpty()) return readLane.pollFirst();
+        return writeLane.pollFirst();
+    }
+
+    /**
+     * Stops accepting work, lets queued tasks (pending writes in particular) finish,
+     * then stops the workers. Waits at most {@code waitMs}.
+     */
+    public void shutdown(long waitMs) {
+        synchronized (lock) {
+            accepting = false;
+            running = false;
+            lock.notifyAll();
+        }
+
+        long deadline = System.currentTimeMillis() + Math.max(0L, waitMs);
+        for (Thread t : workers) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) break;
+            try {
+                t.join(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        int dropped;
+        synchronized (lock) {
+            dropped = readLane.size() + writeLane.size();
+            readLane.forEach(j -> j.future.completeExceptionally(new RejectedExecutionException("Shutdown")));
+            writeLane.forEach(j -> j.future.completeExceptionally(new RejectedExecutionException("Shutdown")));
+            readLane.clear();
+            writeLane.clear();
+        }
+        if (dropped > 0) {
+            plugin.getLogger().warning("[PortalPlugin] DB executor shut down with " + dropped + " task(s) not run.");
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Metrics
+    // -------------------------------------------------------------------------
+
+    public Metrics getMetrics() {
+        int reads;
+        int writes;
+        synchronized (lock) {
+            reads = readLane.size();
+            writes = writeLane.size();
+        }
+        return new Metrics(reads, writes, capacity, workers.size(),
+                completed.get(), failed.get(), rejected.get(), timedOut.get(),
+                queueWait, execution);
+    }
+}
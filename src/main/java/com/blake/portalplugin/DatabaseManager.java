@@ -1,7 +1,9 @@
 package com.blake.portalplugin.stats;
 
+import org.bukkit.Bukkit;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.io.File;
 import java.net.InetAddress;
@@ -30,6 +32,11 @@ public class DatabaseManager {
 
     private final String jdbcUrl;
 
+    private final int prepStmtCacheSize;
+    private final ConnectionPool pool;
+    private final DatabaseExecutor executor;
+    private BukkitTask housekeepingTask;
+
     public DatabaseManager(Plugin plugin) {
         this.plugin = plugin;
 
@@ -73,6 +80,7 @@ public class DatabaseManager {
 
         this.connectTimeoutMs = cfg.getInt("database.connect-timeout-ms", 3000);
         this.socketTimeoutMs = cfg.getInt("database.socket-timeout-ms", 5000);
+        this.prepStmtCacheSize = Math.max(0, cfg.getInt("database.pool.prepared-statement-cache-size", 250));
 
         // Prefer explicit IPv4 and schema selection
         this.jdbcUrl = "jdbc:mysql://" + host + ":" + port + "/" + database;
@@ -85,15 +93,77 @@ public class DatabaseManager {
 
         // Run connection diagnostics immediately
         runStartupDiagnostics();
+
+        // Pool is created after diagnostics so a bad config is reported once, not per warm-up connection.
+        ConnectionPool.Settings settings = new ConnectionPool.Settings(
+                Math.max(1, cfg.getInt("database.pool.max-size", 10)),
+                Math.max(0, cfg.getInt("database.pool.min-idle", 2)),
+                Math.max(1L, cfg.getLong("database.pool.borrow-timeout-ms", 5000L)),
+                Math.max(0L, cfg.getLong("database.pool.validation-interval-ms", 30000L)),
+                Math.max(0L, cfg.getLong("database.pool.max-lifetime-ms", 1800000L)),
+                Math.max(0L, cfg.getLong("database.pool.leak-detection-ms", 15000L))
+        );
+        this.pool = new ConnectionPool(plugin.getLogger(), jdbcUrl, buildConnectionProperties(), settings);
+        pool.prewarm();
+
+        // Workers beyond the pool size would only queue on borrow(), so cap them there.
+        int threads = Math.min(settings.maxSize(), Math.max(1, cfg.getInt("database.executor.threads", 4)));
+        this.executor = new DatabaseExecutor(
+                plugin,
+                this,
+                threads,
+                cfg.getInt("database.executor.queue-capacity", 2000),
+                cfg.getLong("database.executor.read-timeout-ms", 5000L),
+                cfg.getLong("database.executor.write-timeout-ms", 15000L)
+        );
+
+        long housekeepingTicks = Math.max(20L, cfg.getLong("database.pool.housekeeping-seconds", 30L) * 20L);
+        this.housekeepingTask = Bukkit.getScheduler().runTaskTimerAsynchronously(
+                plugin, pool::housekeep, housekeepingTicks, housekeepingTicks);
     }
 
     // -------------------------------------------------------------------------
     // Public API
     // -------------------------------------------------------------------------
 
+    /**
+     * Borrows a pooled connection. Closing it returns it to the pool.
+     */
     public Connection getConnection() throws SQLException {
-        Properties props = buildConnectionProperties();
-        return DriverManager.getConnection(jdbcUrl, props);
+        return pool.borrow();
+    }
+
+    public ConnectionPool getPool() {
+        return pool;
+    }
+
+    public DatabaseExecutor getExecutor() {
+        return executor;
+    }
+
+    public void shutdown() {
+        shutdown(null);
+    }
+
+    /**
+     * {@code afterDrain} runs on the calling thread once the executor has stopped but before
+     * the pool closes, for writes that have to land even though the executor couldn't run them.
+     */
+    public void shutdown(Runnable afterDrain) {
+        if (housekeepingTask != null) {
+            housekeepingTask.cancel();
+            housekeepingTask = null;
+        }
+        // Let queued writes land before connections are closed.
+        executor.shutdown(10000L);
+        if (afterDrain != null) {
+            try {
+                afterDrain.run();
+            } catch (RuntimeException e) {
+                plugin.getLogger().log(Level.SEVERE, "[PortalPlugin] Final database write at shutdown failed", e);
+            }
+        }
+        pool.shutdown();
     }
 
     public Plugin getPlugin() {
@@ -247,6 +317,15 @@ public class DatabaseManager {
         props.setProperty("characterEncoding", "utf8");
         props.setProperty("useUnicode", "true");
 
+        // Server-side prepared statements, cached per connection (Connector/J + MariaDB both honor these).
+        // Pooled connections live long enough for the cache to pay off.
+        if (prepStmtCacheSize > 0) {
+            props.setProperty("useServerPrepStmts", "true");
+            props.setProperty("cachePrepStmts", "true");
+            props.setProperty("prepStmtCacheSize", String.valueOf(prepStmtCacheSize));
+            props.setProperty("prepStmtCacheSqlLimit", "2048");
+        }
+
         return props;
     }
 }
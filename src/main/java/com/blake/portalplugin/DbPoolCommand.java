@@ -0,0 +1,68 @@
+package com.blake.portalplugin.commands;
+
+import com.blake.portalplugin.stats.ConnectionPool;
+import com.blake.portalplugin.stats.DatabaseExecutor;
+import com.blake.portalplugin.stats.DatabaseManager;
+import com.blake.portalplugin.stats.LatencyHistogram;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+
+import java.util.Locale;
+
+public class DbPoolCommand implements CommandExecutor {
+
+    private final DatabaseManager databaseManager;
+
+    public DbPoolCommand(DatabaseManager databaseManager) {
+        this.databaseManager = databaseManager;
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+
+        if (!sender.isOp() && !sender.hasPermission("portalplugin.dbpool")) {
+            sender.sendMessage("§cNo permission.");
+            return true;
+        }
+
+        if (databaseManager == null || databaseManager.getPool() == null) {
+            sender.sendMessage("§cDatabase pool is not available.");
+            return true;
+        }
+
+        ConnectionPool.Metrics m = databaseManager.getPool().getMetrics();
+
+        sender.sendMessage("§e------ DB Pool ------");
+        sender.sendMessage("§7Active: §a" + m.active() + " §7Idle: §a" + m.idle()
+                + " §7Max: §f" + m.maxSize() + " §7Waiting: §f" + m.waiting());
+        sender.sendMessage("§7Borrows: §f" + m.borrows() + " §7Timeouts: §c" + m.timeouts()
+                + " §7Leaks: §c" + m.leaks());
+        sender.sendMessage("§7Borrow wait: §favg " + fmt(m.avgWaitMs()) + "ms §7/ §fmax " + fmt(m.maxWaitMs()) + "ms");
+        sender.sendMessage("§7Connections created: §f" + m.created() + " §7retired: §f" + m.retired());
+
+        DatabaseExecutor executor = databaseManager.getExecutor();
+        if (executor != null) {
+            DatabaseExecutor.Metrics e = executor.getMetrics();
+
+            sender.sendMessage("§e------ DB Executor ------");
+            sender.sendMessage("§7Workers: §f" + e.workers() + " §7Queued: §fread " + e.readQueued()
+                    + " §7/ §fwrite " + e.writeQueued() + " §7(cap " + e.capacity() + ")");
+            sender.sendMessage("§7Completed: §a" + e.completed() + " §7Failed: §c" + e.failed()
+                    + " §7Rejected: §c" + e.rejected() + " §7Expired: §c" + e.timedOut());
+            sender.sendMessage("§7Queue wait: " + describe(e.queueWait()));
+            sender.sendMessage("§7Execution: " + describe(e.execution()));
+        }
+
+        return true;
+    }
+
+    private static String describe(LatencyHistogram h) {
+        return "§fp50 " + fmt(h.percentileMs(50)) + "ms §7/ §fp95 " + fmt(h.percentileMs(95))
+                + "ms §7/ §fp99 " + fmt(h.percentileMs(99)) + "ms §7/ §fmax " + fmt(h.maxMs()) + "ms";
+    }
+
+    private static String fmt(double ms) {
+        return String.format(Locale.ROOT, "%.2f", ms);
+    }
+}
@@ -0,0 +1,280 @@
+package com.blake.portalplugin.worldedit;
+
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * One queued fill/clear/copy/paste, run by {@link EditScheduler}.
+ *
+ * Blocks are visited chunk by chunk (serpentine over chunk columns, then y, z, x inside
+ * the column) so consecutive writes stay in the same chunk section. The next few chunks
+ * are loaded asynchronously ahead of the cursor; a job whose current chunk isn't loaded
+ * yet simply yields its slice to other jobs instead of forcing a sync load.
+ */
+public abstract class EditJob {
+
+    // Give up waiting on an async load after this many ticks and load synchronously
+    private static final int MAX_WAIT_TICKS = 40;
+
+    // How often (in blocks) the deadline is checked; System.nanoTime isn't free
+    private static final int DEADLINE_CHECK_INTERVAL = 64;
+
+    protected final Plugin plugin;
+    protected final UUID playerId;
+    protected final World world;
+
+    protected final int minX, minY, minZ;
+    protected final int maxX, maxY, maxZ;
+    protected final long total;
+
+    private final int chunkMinX, chunkMinZ;
+    private final int chunksX, chunkCount;
+
+    private int chunkIndex;
+    private int x, y, z;          // cursor inside the current chunk column
+    private boolean cursorReady;
+
+    private long index;
+    private boolean stopped;
+    private int lastProgressBucket = -1;
+
+    private int preloadAhead = 4;
+    private int waitedTicks;
+    private final Set<Long> requested = new HashSet<>();
+    private final Set<Long> ticketed = new HashSet<>();
+
+    protected EditJob(Plugin plugin, UUID playerId, World world,
+                      int minX, int minY, int minZ,
+                      int maxX, int maxY, int maxZ) {
+        this.plugin = plugin;
+        this.playerId = playerId;
+        this.world = world;
+
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+
+        this.total = (long) (maxX - minX + 1) * (long) (maxY - minY + 1) * (long) (maxZ - minZ + 1);
+
+        this.chunkMinX = minX >> 4;
+        this.chunkMinZ = minZ >> 4;
+        this.chunksX = (maxX >> 4) - chunkMinX + 1;
+        int chunksZ = (maxZ >> 4) - chunkMinZ + 1;
+        this.chunkCount = chunksX * chunksZ;
+    }
+
+    // ---------------------------------------------------------------------
+    // Hooks
+    // ---------------------------------------------------------------------
+
+    /**
+     * Handle one block. World coordinates; always inside the job's bounds.
+     */
+    protected abstract void visit(int x, int y, int z);
+
+    /**
+     * Action bar verb, e.g. "Copying".
+     */
+    protected abstract String label();
+
+    /**
+     * Called once the last block is visited. {@code p} is null when the owner is offline
+     * and the job doesn't {@link #requiresOnlinePlayer() require} them.
+     */
+    protected abstract void complete(Player p);
+
+    /**
+     * Player edits are dropped when their owner leaves; system jobs (map resets) override this.
+     */
+    protected boolean requiresOnlinePlayer() {
+        return true;
+    }
+
+    /**
+     * Called once the job leaves the scheduler, whether it finished, stopped or was cancelled.
+     */
+    protected void close() {
+    }
+
+    /**
+     * Ends the job early, e.g. from {@link #visit} when its source can't be read.
+     * {@link #complete} is not called.
+     */
+    protected final void stop() {
+        stopped = true;
+    }
+
+    // ---------------------------------------------------------------------
+    // Scheduler entry points
+    // ---------------------------------------------------------------------
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public boolean isDone() {
+        return stopped || index >= total;
+    }
+
+    void setPreloadAhead(int chunks) {
+        this.preloadAhead = Math.max(0, chunks);
+    }
+
+    /**
+     * Processes blocks until the job is done, the deadline passes, or the current chunk
+     * isn't loaded yet. Returns how many blocks were visited.
+     */
+    int work(long deadlineNanos) {
+        int processed = 0;
+
+        while (!isDone()) {
+            if (!cursorReady) {
+                if (!enterChunk()) break;
+            }
+
+            visit(x, y, z);
+            index++;
+            processed++;
+
+            if (!advanceInChunk()) {
+                leaveChunk();
+            }
+
+            if (processed % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() >= deadlineNanos) break;
+        }
+
+        return processed;
+    }
+
+    void reportProgress(Player p) {
+        if (p == null || total <= 0) return;
+
+        int pct = (int) ((index * 100L) / total);
+        int bucket = pct / 5;
+        if (bucket == lastProgressBucket) return;
+        lastProgressBucket = bucket;
+
+        p.sendActionBar(label() + ": " + pct + "% (" + index + "/" + total + ")");
+    }
+
+    void finish(Player p) {
+        releaseTickets();
+        close();
+        if (stopped) return;
+        if (p != null || !requiresOnlinePlayer()) complete(p);
+    }
+
+    void cancel() {
+        releaseTickets();
+        close();
+    }
+
+    // ---------------------------------------------------------------------
+    // Chunk traversal
+    // ---------------------------------------------------------------------
+
+    private int chunkX(int i) {
+        int row = i / chunksX;
+        int col = i % chunksX;
+        // serpentine: odd rows walk back so the next chunk is always adjacent
+        if ((row & 1) == 1) col = chunksX - 1 - col;
+        return chunkMinX + col;
+    }
+
+    private int chunkZ(int i) {
+        return chunkMinZ + i / chunksX;
+    }
+
+    private boolean enterChunk() {
+        int cx = chunkX(chunkIndex);
+        int cz = chunkZ(chunkIndex);
+
+        preload();
+
+        if (!world.isChunkLoaded(cx, cz)) {
+            if (++waitedTicks < MAX_WAIT_TICKS) return false;
+            world.getChunkAt(cx, cz);
+        }
+        waitedTicks = 0;
+
+        x = Math.max(minX, cx << 4);
+        y = minY;
+        z = Math.max(minZ, cz << 4);
+        cursorReady = true;
+        return true;
+    }
+
+    private boolean advanceInChunk() {
+        int cx = chunkX(chunkIndex);
+        int cz = chunkZ(chunkIndex);
+        int loX = Math.max(minX, cx << 4);
+        int hiX = Math.min(maxX, (cx << 4) + 15);
+        int loZ = Math.max(minZ, cz << 4);
+        int hiZ = Math.min(maxZ, (cz << 4) + 15);
+
+        if (++x <= hiX) return true;
+        x = loX;
+        if (++z <= hiZ) return true;
+        z = loZ;
+        return ++y <= maxY;
+    }
+
+    private void leaveChunk() {
+        long key = key(chunkX(chunkIndex), chunkZ(chunkIndex));
+        if (ticketed.remove(key)) {
+            world.removePluginChunkTicket(chunkX(chunkIndex), chunkZ(chunkIndex), plugin);
+        }
+        chunkIndex++;
+        cursorReady = false;
+    }
+
+    private void preload() {
+        int end = Math.min(chunkCount, chunkIndex + 1 + preloadAhead);
+        for (int i = chunkIndex; i < end; i++) {
+            int cx = chunkX(i);
+            int cz = chunkZ(i);
+            long key = key(cx, cz);
+            if (!requested.add(key)) continue;
+
+            if (world.isChunkLoaded(cx, cz)) {
+                hold(cx, cz, key);
+                continue;
+            }
+
+            world.getChunkAtAsync(cx, cz).thenAccept(chunk -> {
+                // Chunk may already be done (or the job cancelled) by the time the load lands
+                if (requested.contains(key) && !isDone()) hold(cx, cz, key);
+            });
+        }
+    }
+
+    private void hold(int cx, int cz, long key) {
+        if (ticketed.add(key)) {
+            world.addPluginChunkTicket(cx, cz, plugin);
+        }
+    }
+
+    private void releaseTickets() {
+        for (long key : ticketed) {
+            world.removePluginChunkTicket((int) (key >> 32), (int) key, plugin);
+        }
+        ticketed.clear();
+        requested.clear();
+    }
+
+    private static long key(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+}
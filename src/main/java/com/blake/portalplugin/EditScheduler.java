@@ -0,0 +1,233 @@
+package com.blake.portalplugin.worldedit;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Single main-thread driver for all fill/clear/copy/paste jobs.
+ *
+ * Instead of each job placing a fixed number of blocks per tick, the scheduler spends a
+ * per-tick time budget that shrinks as MSPT rises (target-mspt - current MSPT, clamped to
+ * [min, max]). The budget is split evenly between players with pending work; each player's
+ * jobs run in submission order, so one player's edits land in the order they were issued.
+ * A {@link Hold} keeps later jobs waiting while a region capture reads the world.
+ */
+public class EditScheduler {
+
+    private static final long NANOS_PER_MS = 1_000_000L;
+
+    private final Plugin plugin;
+    private final Map<UUID, ArrayDeque<EditJob>> queues = new LinkedHashMap<>();
+    private final Map<UUID, List<Hold>> holds = new HashMap<>();
+
+    private final double minBudgetMs;
+    private final double maxBudgetMs;
+    private final double targetMspt;
+    private final int preloadChunks;
+
+    private BukkitTask task;
+
+    public EditScheduler(Plugin plugin) {
+        this.plugin = plugin;
+        this.minBudgetMs = Math.max(0.1, plugin.getConfig().getDouble("worldedit.min-tick-budget-ms", 1.0));
+        this.maxBudgetMs = Math.max(minBudgetMs, plugin.getConfig().getDouble("worldedit.max-tick-budget-ms", 10.0));
+        this.targetMspt = plugin.getConfig().getDouble("worldedit.target-mspt", 40.0);
+        this.preloadChunks = plugin.getConfig().getInt("worldedit.preload-chunks", 4);
+    }
+
+    // ---------------------------------------------------------------------
+    // Submission
+    // ---------------------------------------------------------------------
+
+    /**
+     * Queues a job behind the player's other edits. Returns how many jobs are ahead of it.
+     */
+    public int submit(EditJob job) {
+        job.setPreloadAhead(preloadChunks);
+
+        ArrayDeque<EditJob> queue = queues.computeIfAbsent(job.getPlayerId(), k -> new ArrayDeque<>());
+        int ahead = queue.size();
+        queue.addLast(job);
+
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+        return ahead;
+    }
+
+    /**
+     * Jobs the player still has queued or running.
+     */
+    public int pending(UUID playerId) {
+        ArrayDeque<EditJob> queue = queues.get(playerId);
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * Pauses the player's queue at its current end: jobs already queued still run, anything
+     * submitted later waits until the hold is released. Lets work that isn't an EditJob
+     * (region captures) take its place in the player's edit order.
+     */
+    public Hold hold(UUID playerId) {
+        ArrayDeque<EditJob> queue = queues.get(playerId);
+        Hold hold = new Hold(playerId, queue == null ? null : queue.peekLast());
+        holds.computeIfAbsent(playerId, k -> new ArrayList<>()).add(hold);
+        return hold;
+    }
+
+    public final class Hold {
+        private final UUID playerId;
+        private final EditJob lastAhead;
+        private boolean released;
+
+        private Hold(UUID playerId, EditJob lastAhead) {
+            this.playerId = playerId;
+            this.lastAhead = lastAhead;
+        }
+
+        /**
+         * Whether every job queued before the hold has finished (or was cancelled).
+         */
+        public boolean isReached() {
+            if (lastAhead == null) return true;
+            ArrayDeque<EditJob> queue = queues.get(playerId);
+            return queue == null || !queue.contains(lastAhead);
+        }
+
+        public void release() {
+            if (released) return;
+            released = true;
+            List<Hold> list = holds.get(playerId);
+            if (list != null) {
+                list.remove(this);
+                if (list.isEmpty()) holds.remove(playerId);
+            }
+        }
+    }
+
+    private boolean isHeld(UUID playerId) {
+        List<Hold> list = holds.get(playerId);
+        if (list == null) return false;
+        for (Hold h : list) {
+            if (h.isReached()) return true;
+        }
+        return false;
+    }
+
+    public void cancelAll(UUID playerId) {
+        ArrayDeque<EditJob> queue = queues.remove(playerId);
+        if (queue != null) queue.forEach(EditJob::cancel);
+    }
+
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        for (ArrayDeque<EditJob> queue : queues.values()) {
+            queue.forEach(EditJob::cancel);
+        }
+        queues.clear();
+        holds.clear();
+    }
+
+    // ---------------------------------------------------------------------
+    // Tick
+    // ---------------------------------------------------------------------
+
+    private void tick() {
+        long start = System.nanoTime();
+        long deadline = start + (long) (budgetMs() * NANOS_PER_MS);
+
+        // Players who left lose their queued edits, same as the old per-task behaviour
+        for (Map.Entry<UUID, ArrayDeque<EditJob>> e : queues.entrySet()) {
+            Player p = Bukkit.getPlayer(e.getKey());
+            if (p != null && p.isOnline()) continue;
+
+            e.getValue().removeIf(job -> {
+                if (!job.requiresOnlinePlayer()) return false;
+                job.cancel();
+                return true;
+            });
+        }
+        queues.values().removeIf(ArrayDeque::isEmpty);
+
+        List<UUID> active = new ArrayList<>(queues.keySet());
+
+        // Round-robin: each pass splits what's left of the budget between players still making progress
+        boolean progressed = true;
+        while (progressed && !active.isEmpty()) {
+            long now = System.nanoTime();
+            if (now >= deadline) break;
+
+            long slice = (deadline - now) / active.size();
+            progressed = false;
+
+            Iterator<UUID> players = active.iterator();
+            while (players.hasNext()) {
+                UUID id = players.next();
+                long sliceEnd = Math.min(deadline, System.nanoTime() + slice);
+
+                int done = runPlayer(id, sliceEnd);
+                if (done > 0) {
+                    progressed = true;
+                } else {
+                    players.remove(); // finished, or waiting on a chunk load
+                }
+            }
+        }
+
+        for (Map.Entry<UUID, ArrayDeque<EditJob>> e : queues.entrySet()) {
+            EditJob head = e.getValue().peekFirst();
+            if (head != null) head.reportProgress(Bukkit.getPlayer(e.getKey()));
+        }
+        queues.values().removeIf(ArrayDeque::isEmpty);
+
+        if (queues.isEmpty() && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private int runPlayer(UUID id, long sliceEnd) {
+        ArrayDeque<EditJob> queue = queues.get(id);
+        if (queue == null) return 0;
+
+        int processed = 0;
+        while (!queue.isEmpty() && System.nanoTime() < sliceEnd) {
+            if (isHeld(id)) break; // the rest was queued behind a capture still reading the world
+            EditJob job = queue.peekFirst();
+            int n = job.work(sliceEnd);
+            processed += n;
+
+            if (job.isDone()) {
+                queue.pollFirst();
+                job.finish(Bukkit.getPlayer(id));
+            } else if (n == 0) {
+                break; // chunk not loaded yet
+            }
+        }
+        return processed;
+    }
+
+    private double budgetMs() {
+        double mspt;
+        try {
+            mspt = Bukkit.getAverageTickTime();
+        } catch (Throwable ignored) {
+            return minBudgetMs;
+        }
+        return Math.max(minBudgetMs, Math.min(maxBudgetMs, targetMspt - mspt));
+    }
+}
@@ -70,7 +70,6 @@ public class FillRegionCommand implements CommandExecutor, TabCompleter {
         long volume = selections.getVolume(p.getUniqueId());
 
         long maxBlocks = plugin.getConfig().getLong("worldedit.max-blocks", 2_000_000L);
-        int blocksPerTick = plugin.getConfig().getInt("worldedit.blocks-per-tick", 8000);
 
         if (volume <= 0) {
             p.sendMessage("Invalid selection.");
@@ -91,17 +90,19 @@ public class FillRegionCommand implements CommandExecutor, TabCompleter {
         p.sendMessage("Filling " + volume + " blocks with " + setTo
                 + (replaceOnly != null ? " (only replacing " + replaceOnly + ")" : "") + "...");
 
-        new BlockEditTask(
+        int ahead = plugin.getEditScheduler().submit(new BlockEditTask(
                 plugin,
                 p.getUniqueId(),
                 a.getWorld(),
                 bounds.minX(), bounds.minY(), bounds.minZ(),
                 bounds.maxX(), bounds.maxY(), bounds.maxZ(),
-                blocksPerTick,
                 BlockEditOperation.FILL,
                 setTo,
                 replaceOnly
-        ).runTaskTimer(plugin, 1L, 1L);
+        ));
+        if (ahead > 0) {
+            p.sendMessage("Queued behind " + ahead + " of your other edit(s).");
+        }
 
         return true;
     }
@@ -236,6 +236,7 @@ public class GameQueueManager {
 
             for (Arena arena : allArenas) {
                 if (!arena.isInUse()
+                        && !arena.isResetting()
                         && arena.getPlayers().size() < arena.getMaxPlayers()) {
                     chosenArena = arena;
                     arena.setInUse(true);
@@ -1,5 +1,6 @@
 package com.blake.portalplugin;
 
+import com.blake.portalplugin.config.SettingsManager;
 import com.blake.portalplugin.scoreboard.ScoreboardManager;
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
@@ -35,6 +36,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class GameStateManager implements Listener {
 
     private final Plugin plugin;
+    private final SettingsManager settings;
     private final Map<UUID, GameState> states = new ConcurrentHashMap<>();
     private final Map<UUID, PermissionAttachment> attachments = new ConcurrentHashMap<>();
     private final Map<GameState, Set<String>> statePermissions = new EnumMap<>(GameState.class);
@@ -52,9 +54,8 @@ public class GameStateManager implements Listener {
 
     private static final int UI_MAX_STACKS = 3;
 
-    // Powerup items go in these "base" slots; indicator is base+1 (to the right).
-    // These are MAIN inventory slots (9..35).
-    private static final List<Integer> DEFAULT_UI_BASE_SLOTS = List.of(9, 11, 13, 15, 17, 19, 21, 23, 25, 27);
+    // Powerup items go in base slots (MAIN inventory, 9..35); indicator is base+1 (to the right).
+    // Slot layout is parsed once into PluginSettings.Blast.
 
     private static final List<BlastPowerupType> UI_POWERUPS = List.of(
             BlastPowerupType.SPEED,
@@ -68,8 +69,9 @@ public class GameStateManager implements Listener {
             BlastPowerupType.MARK_TARGET
     );
 
-    public GameStateManager(Plugin plugin) {
+    public GameStateManager(Plugin plugin, SettingsManager settings) {
         this.plugin = plugin;
+        this.settings = settings;
         this.kitKey = new NamespacedKey(plugin, "portalplugin_kit");
         this.blastPowerupUiKey = new NamespacedKey(plugin, "blast_powerup_ui");
         this.blastPowerupUiIndicatorKey = new NamespacedKey(plugin, "blast_powerup_ui_ind");
@@ -522,8 +524,7 @@ public class GameStateManager implements Listener {
     private void applyCombatSwingRules(Player player, GameState state) {
         if (player == null || state == null) return;
 
-        boolean enabled = plugin.getConfig().getBoolean("legacy-combat.enabled", true);
-        if (!enabled) {
+        if (!settings.get().legacyCombat().enabled()) {
             restoreAttackSpeed(player);
             return;
         }
@@ -542,8 +543,7 @@ public class GameStateManager implements Listener {
 
             originalAttackSpeed.putIfAbsent(player.getUniqueId(), inst.getBaseValue());
 
-            double value = plugin.getConfig().getDouble("legacy-combat.attackSpeed", 1024.0);
-            inst.setBaseValue(value);
+            inst.setBaseValue(settings.get().legacyCombat().attackSpeed());
         } catch (Throwable ignored) {}
     }
 
@@ -632,55 +632,15 @@ public class GameStateManager implements Listener {
     // =========================
 
     private boolean blastPowerupUiEnabled() {
-        if (plugin.getConfig().contains("blast.powerups.ui.enabled")) {
-            return plugin.getConfig().getBoolean("blast.powerups.ui.enabled", true);
-        }
-        if (plugin.getConfig().contains("blast.powerups.hud.enabled")) {
-            return plugin.getConfig().getBoolean("blast.powerups.hud.enabled", true);
-        }
-        return true;
+        return settings.get().blast().powerupUiEnabled();
     }
 
     private List<Integer> getUiBaseSlots() {
-        List<Integer> slots = null;
-        try {
-            if (plugin.getConfig().contains("blast.powerups.ui.base-slots")) {
-                slots = plugin.getConfig().getIntegerList("blast.powerups.ui.base-slots");
-            } else if (plugin.getConfig().contains("blast.powerups.hud.slots")) {
-                slots = null;
-            }
-        } catch (Throwable ignored) {
-            slots = null;
-        }
-
-        List<Integer> base = new ArrayList<>();
-        if (slots != null) {
-            for (Integer s : slots) {
-                if (s == null) continue;
-                int v = s;
-                if (v < 9 || v > 35) continue;
-                if ((v % 9) == 8) continue;
-                if (!base.contains(v)) base.add(v);
-                if (base.size() >= UI_POWERUPS.size()) break;
-            }
-        }
-
-        if (base.size() < UI_POWERUPS.size()) {
-            base.clear();
-            base.addAll(DEFAULT_UI_BASE_SLOTS);
-        }
-
-        return base;
+        return settings.get().blast().powerupUiBaseSlots();
     }
 
     private Set<Integer> getReservedUiSlots() {
-        List<Integer> base = getUiBaseSlots();
-        Set<Integer> out = new HashSet<>();
-        for (int s : base) {
-            out.add(s);
-            out.add(s + 1);
-        }
-        return out;
+        return settings.get().blast().powerupUiReserved();
     }
 
     private BlastPowerupManager resolvePowerupManager() {
@@ -8,19 +8,42 @@ import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.ArmorStand;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 
 public class HologramManager {
 
+    private static final double LINE_SPACING = 0.25;
+
+    // Config writes are coalesced: at most one save per window, however many results come in.
+    private static final long SAVE_DEBOUNCE_TICKS = 100L;
+
     private final PortalPlugin plugin;
     private final Map<String, List<ArmorStand>> holograms = new HashMap<>();
 
+    // Last lines written to config per hologram, so unchanged boards don't dirty the file
+    private final Map<String, List<String>> persistedLines = new HashMap<>();
+
+    private StatsManager pendingUpdateSource;
+    private BukkitTask pendingUpdateTask;
+    private BukkitTask pendingSaveTask;
+
     public HologramManager(PortalPlugin plugin) {
         this.plugin = plugin;
     }
 
     public void clearAll() {
+        if (pendingUpdateTask != null) {
+            pendingUpdateTask.cancel();
+            pendingUpdateTask = null;
+        }
+        // onDisable saves the config right after this, so a pending save isn't needed.
+        if (pendingSaveTask != null) {
+            pendingSaveTask.cancel();
+            pendingSaveTask = null;
+        }
+
         for (List<ArmorStand> list : holograms.values()) {
             list.forEach(ArmorStand::remove);
         }
@@ -39,28 +62,44 @@ public class HologramManager {
         Location base = loc.clone();
 
         for (String line : lines) {
-            ArmorStand as = base.getWorld().spawn(base, ArmorStand.class, a -> {
-                a.setVisible(false);
-                a.setGravity(false);
-                a.setMarker(true);
-                a.setCustomNameVisible(true);
-                a.setCustomName(line);
-            });
-
-            created.add(as);
-            base.subtract(0, 0.25, 0);
+            created.add(spawnLine(base, line));
+            base.subtract(0, LINE_SPACING, 0);
         }
 
         holograms.put(id, created);
     }
 
+    private ArmorStand spawnLine(Location at, String line) {
+        return at.getWorld().spawn(at, ArmorStand.class, a -> {
+            a.setVisible(false);
+            a.setGravity(false);
+            a.setMarker(true);
+            a.setCustomNameVisible(true);
+            a.setCustomName(line);
+        });
+    }
+
     // ---------------------------------------------------------------------
     // AUTO UPDATE (called after wins change)
     // ---------------------------------------------------------------------
+
+    /**
+     * Coalesces refresh requests: several results in the same tick trigger one pass on the next tick.
+     */
     public void updateAll(StatsManager statsManager) {
-        for (String id : new HashSet<>(holograms.keySet())) {
-            updateLeaderboard(id, statsManager);
-        }
+        pendingUpdateSource = statsManager;
+        if (pendingUpdateTask != null) return;
+
+        pendingUpdateTask = Bukkit.getScheduler().runTask(plugin, () -> {
+            pendingUpdateTask = null;
+            StatsManager source = pendingUpdateSource;
+            pendingUpdateSource = null;
+            if (source == null) return;
+
+            for (String id : new HashSet<>(holograms.keySet())) {
+                updateLeaderboard(id, source);
+            }
+        });
     }
 
     public void updateLeaderboard(String id, StatsManager statsManager) {
@@ -72,19 +111,75 @@ public class HologramManager {
 
         if (!type.equalsIgnoreCase("wins")) return;
 
+        // Served from the in-memory leaderboard: no SQL, no OfflinePlayer lookups
         List<String> lines = statsManager.getTopTenWinsSync(gamemode);
-        List<ArmorStand> old = holograms.get(id);
-        if (old == null || old.isEmpty()) return;
 
-        Location loc = old.get(0).getLocation().clone().add(0, 0.25 * old.size(), 0);
+        List<ArmorStand> stands = holograms.get(id);
+        if (stands == null || stands.isEmpty()) return;
 
-        remove(id);
-        create(id, loc, lines);
+        applyLines(id, stands, lines);
+        persistLines(id, lines);
+    }
 
-        // Also update lines in config so they reflect the latest state
-        FileConfiguration cfg = plugin.getConfig();
-        String base = "holograms." + id;
-        cfg.set(base + ".lines", lines);
+    /**
+     * Diffs new lines against the existing stands: only changed names are touched,
+     * and stands are spawned/removed only at the tail when the line count changes.
+     */
+    private void applyLines(String id, List<ArmorStand> stands, List<String> lines) {
+        Location top = stands.get(0).getLocation();
+
+        // A stand was removed behind our back (e.g. /kill): rebuild at the same place.
+        for (ArmorStand as : stands) {
+            if (as.isDead()) {
+                create(id, top, lines);
+                return;
+            }
+        }
+
+        int shared = Math.min(stands.size(), lines.size());
+        for (int i = 0; i < shared; i++) {
+            ArmorStand as = stands.get(i);
+            String line = lines.get(i);
+            if (!line.equals(as.getCustomName())) {
+                as.setCustomName(line);
+            }
+        }
+
+        if (lines.size() > stands.size()) {
+            for (int i = stands.size(); i < lines.size(); i++) {
+                Location at = top.clone().subtract(0, LINE_SPACING * i, 0);
+                stands.add(spawnLine(at, lines.get(i)));
+            }
+        } else {
+            while (stands.size() > lines.size()) {
+                stands.remove(stands.size() - 1).remove();
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // DEBOUNCED PERSISTENCE
+    // ---------------------------------------------------------------------
+
+    private void persistLines(String id, List<String> lines) {
+        if (lines.equals(persistedLines.get(id))) return;
+
+        persistedLines.put(id, new ArrayList<>(lines));
+        plugin.getConfig().set("holograms." + id + ".lines", lines);
+        scheduleSave();
+    }
+
+    private void scheduleSave() {
+        if (pendingSaveTask != null) return;
+        pendingSaveTask = Bukkit.getScheduler().runTaskLater(plugin, this::saveNow, SAVE_DEBOUNCE_TICKS);
+    }
+
+    /**
+     * Saves on the main thread like every other config.yml writer, so a later saveConfig()
+     * elsewhere can never be overwritten by an older snapshot finishing in the background.
+     */
+    private void saveNow() {
+        pendingSaveTask = null;
         plugin.saveConfig();
     }
 
@@ -148,6 +243,7 @@ public class HologramManager {
             }
 
             create(id, loc, lines);
+            persistedLines.put(id, new ArrayList<>(sec.getStringList("lines")));
         }
     }
 }
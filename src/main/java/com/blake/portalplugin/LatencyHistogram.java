@@ -0,0 +1,66 @@
+package com.blake.portalplugin.stats;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with power-of-two millisecond buckets
+ * (&lt;1ms, &lt;2ms, &lt;4ms ... &lt;4096ms, overflow). Cheap enough to record on every task.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 14;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong sumNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+
+        long micros = nanos / 1_000L;
+        int bucket = 0;
+        long upper = 1_000L;
+        while (bucket < BUCKETS - 1 && micros >= upper) {
+            upper <<= 1;
+            bucket++;
+        }
+
+        counts.incrementAndGet(bucket);
+        total.incrementAndGet();
+        sumNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long count() {
+        return total.get();
+    }
+
+    public double meanMs() {
+        long n = total.get();
+        return n == 0 ? 0.0 : (sumNanos.get() / (double) n) / 1_000_000.0;
+    }
+
+    public double maxMs() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Upper bound (ms) of the bucket containing the given percentile (0..100).
+     */
+    public double percentileMs(double percentile) {
+        long n = total.get();
+        if (n == 0) return 0.0;
+
+        long target = (long) Math.ceil(n * (percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return i == BUCKETS - 1 ? maxMs() : (double) (1L << i);
+            }
+        }
+        return maxMs();
+    }
+}
@@ -0,0 +1,227 @@
+package com.blake.portalplugin.stats;
+
+import com.blake.portalplugin.stats.DatabaseExecutor.Lane;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory wins leaderboards, one per gamemode.
+ *
+ * Seeded once from player_stats, then kept current by {@link #applyResult} as games finish,
+ * so a hologram or GUI refresh walks the first K entries of a skip list instead of running
+ * ORDER BY + LIMIT. Player names are cached here (from joins, game results and the seed)
+ * so rendering never has to resolve an OfflinePlayer.
+ */
+public class LeaderboardManager implements Listener {
+
+    private static final String UNKNOWN_NAME = "Unknown";
+
+    /** Names resolved up front during seeding, per gamemode. */
+    private static final int SEED_NAME_DEPTH = 50;
+
+    public record Standing(UUID uuid, int wins) implements Comparable<Standing> {
+        @Override
+        public int compareTo(Standing o) {
+            int c = Integer.compare(o.wins, wins);
+            return c != 0 ? c : uuid.compareTo(o.uuid);
+        }
+    }
+
+    static final class Board {
+        final Map<UUID, Integer> wins = new ConcurrentHashMap<>();
+        final ConcurrentSkipListSet<Standing> order = new ConcurrentSkipListSet<>();
+
+        void add(UUID uuid, int delta) {
+            if (delta == 0) return;
+            Integer old = wins.get(uuid);
+            int now = Math.max(0, (old == null ? 0 : old) + delta);
+
+            if (old != null) order.remove(new Standing(uuid, old));
+            wins.put(uuid, now);
+            order.add(new Standing(uuid, now));
+        }
+    }
+
+    private record PendingResult(String gamemode, UUID winner, List<UUID> participants) {
+    }
+
+    private final Plugin plugin;
+    private final DatabaseExecutor db;
+
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+    private final Map<UUID, String> names = new ConcurrentHashMap<>();
+
+    private final List<PendingResult> beforeSeed = new ArrayList<>();
+    private volatile boolean ready;
+    private final CompletableFuture<Void> seeded = new CompletableFuture<>();
+
+    public LeaderboardManager(Plugin plugin, DatabaseExecutor db) {
+        this.plugin = plugin;
+        this.db = db;
+    }
+
+    // ---------------------------------------------------------------------
+    //  SEEDING
+    // ---------------------------------------------------------------------
+
+    /**
+     * Loads every gamemode's wins in one query (off-thread) and installs the boards on the main thread.
+     */
+    public CompletableFuture<Void> seed() {
+        String sql = "SELECT uuid, gamemode, wins FROM player_stats WHERE wins > 0";
+
+        db.submit(Lane.READ, conn -> {
+            Map<String, Board> loaded = new HashMap<>();
+            try (PreparedStatement ps = conn.prepareStatement(sql);
+                 ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    UUID uuid;
+                    try {
+                        uuid = UUID.fromString(rs.getString("uuid"));
+                    } catch (IllegalArgumentException ignored) {
+                        continue;
+                    }
+                    String gm = key(rs.getString("gamemode"));
+                    loaded.computeIfAbsent(gm, k -> new Board()).add(uuid, rs.getInt("wins"));
+                }
+            }
+
+            // Resolve names for the visible part of each board while we're off the main thread.
+            Map<UUID, String> resolved = new HashMap<>();
+            for (Board board : loaded.values()) {
+                int depth = 0;
+                for (Standing s : board.order) {
+                    if (depth++ >= SEED_NAME_DEPTH) break;
+                    if (names.containsKey(s.uuid()) || resolved.containsKey(s.uuid())) continue;
+                    OfflinePlayer op = Bukkit.getOfflinePlayer(s.uuid());
+                    if (op.getName() != null) resolved.put(s.uuid(), op.getName());
+                }
+            }
+            resolved.forEach(names::putIfAbsent);
+            return loaded;
+        }).whenCompleteAsync((loaded, e) -> {
+            if (e != null) {
+                plugin.getLogger().warning("[PortalPlugin] Leaderboard seed failed: " + e.getMessage());
+            }
+            install(e == null ? loaded : Map.of());
+        }, db.mainThread());
+
+        return seeded;
+    }
+
+    /**
+     * Installs seeded boards and replays results that finished while seeding. Main thread.
+     * Package-private so benchmarks can seed without a database.
+     */
+    void install(Map<String, Board> loaded) {
+        boards.putAll(loaded);
+
+        ready = true;
+        for (PendingResult r : beforeSeed) {
+            applyToBoard(r.gamemode(), r.winner(), r.participants());
+        }
+        beforeSeed.clear();
+
+        seeded.complete(null);
+    }
+
+    /**
+     * Completes (on the main thread) once the boards are seeded.
+     */
+    public CompletableFuture<Void> whenReady() {
+        return seeded;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ---------------------------------------------------------------------
+    //  INCREMENTAL UPDATES
+    // ---------------------------------------------------------------------
+
+    /**
+     * Mirrors StatsManager.recordGameResult: +1 win for the winner. Main thread.
+     */
+    public void applyResult(String gamemode, UUID winnerId, Collection<UUID> participants) {
+        for (UUID uuid : participants) {
+            Player p = Bukkit.getPlayer(uuid);
+            if (p != null) names.put(uuid, p.getName());
+        }
+
+        if (!ready) {
+            beforeSeed.add(new PendingResult(gamemode, winnerId, new ArrayList<>(participants)));
+            return;
+        }
+        applyToBoard(gamemode, winnerId, participants);
+    }
+
+    private void applyToBoard(String gamemode, UUID winnerId, Collection<UUID> participants) {
+        if (winnerId == null || !participants.contains(winnerId)) return;
+        boards.computeIfAbsent(key(gamemode), k -> new Board()).add(winnerId, 1);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent e) {
+        names.put(e.getPlayer().getUniqueId(), e.getPlayer().getName());
+    }
+
+    // ---------------------------------------------------------------------
+    //  QUERIES (O(K), no SQL)
+    // ---------------------------------------------------------------------
+
+    public List<Standing> top(String gamemode, int limit) {
+        Board board = boards.get(key(gamemode));
+        if (board == null || limit <= 0) return List.of();
+
+        List<Standing> out = new ArrayList<>(Math.min(limit, 16));
+        Iterator<Standing> it = board.order.iterator();
+        while (it.hasNext() && out.size() < limit) {
+            out.add(it.next());
+        }
+        return out;
+    }
+
+    public List<PlayerStats> topStats(String gamemode, int limit) {
+        List<PlayerStats> list = new ArrayList<>();
+        for (Standing s : top(gamemode, limit)) {
+            list.add(new PlayerStats(s.uuid().toString(), nameOf(s.uuid()), gamemode, s.wins(), 0));
+        }
+        return list;
+    }
+
+    public String nameOf(UUID uuid) {
+        String cached = names.get(uuid);
+        if (cached != null) return cached;
+
+        // Someone reached the board without being seen here (rare); resolve once and remember.
+        OfflinePlayer op = Bukkit.getOfflinePlayer(uuid);
+        String name = op.getName() == null ? UNKNOWN_NAME : op.getName();
+        names.put(uuid, name);
+        return name;
+    }
+
+    private static String key(String gamemode) {
+        return gamemode == null ? "unknown" : gamemode.toLowerCase(Locale.ROOT);
+    }
+}
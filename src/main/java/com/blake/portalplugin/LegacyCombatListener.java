@@ -2,10 +2,11 @@ package com.blake.portalplugin.listeners;
 
 import com.blake.portalplugin.GameState;
 import com.blake.portalplugin.GameStateManager;
+import com.blake.portalplugin.config.PluginSettings;
+import com.blake.portalplugin.config.SettingsManager;
 import org.bukkit.Bukkit;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
-import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
@@ -22,15 +23,16 @@ public class LegacyCombatListener implements Listener {
 
     private final Plugin plugin;
     private final GameStateManager gameStateManager;
+    private final SettingsManager settings;
 
-    public LegacyCombatListener(Plugin plugin, GameStateManager gameStateManager) {
+    public LegacyCombatListener(Plugin plugin, GameStateManager gameStateManager, SettingsManager settings) {
         this.plugin = plugin;
         this.gameStateManager = gameStateManager;
+        this.settings = settings;
     }
 
     private boolean isLegacyPvpEnabled() {
-        FileConfiguration cfg = plugin.getConfig();
-        return cfg.getBoolean("legacy-combat.enabled", true);
+        return settings.get().legacyCombat().enabled();
     }
 
     private boolean isPvp(Player p) {
@@ -68,15 +70,14 @@ public class LegacyCombatListener implements Listener {
         // Only apply to melee "ENTITY_ATTACK" (not projectiles)
         if (event.getCause() != EntityDamageEvent.DamageCause.ENTITY_ATTACK) return;
 
-        FileConfiguration cfg = plugin.getConfig();
+        PluginSettings.LegacyCombat cfg = settings.get().legacyCombat();
 
         // ---- 1.8 style crit logic (approx) ----
-        if (cfg.getBoolean("legacy-combat.crit.enabled", true)) {
+        if (cfg.critEnabled()) {
             if (shouldClassicCrit(attacker)) {
-                double mult = cfg.getDouble("legacy-combat.crit.multiplier", 1.5);
-                event.setDamage(event.getDamage() * mult);
+                event.setDamage(event.getDamage() * cfg.critMultiplier());
 
-                if (cfg.getBoolean("legacy-combat.crit.effects", true)) {
+                if (cfg.critEffects()) {
                     Bukkit.getScheduler().runTask(plugin, () -> {
                         try {
                             victim.getWorld().spawnParticle(
@@ -94,7 +95,7 @@ public class LegacyCombatListener implements Listener {
         }
 
         // ---- old knockback (override vanilla velocity next tick) ----
-        if (cfg.getBoolean("legacy-combat.knockback.enabled", true)) {
+        if (cfg.knockbackEnabled()) {
             int kbLevel = 0;
             try {
                 kbLevel = attacker.getInventory().getItemInMainHand()
@@ -102,7 +103,7 @@ public class LegacyCombatListener implements Listener {
             } catch (Throwable ignored) {}
 
             final int finalKbLevel = kbLevel;
-            Bukkit.getScheduler().runTask(plugin, () -> applyLegacyKnockback(attacker, victim, finalKbLevel));
+            Bukkit.getScheduler().runTask(plugin, () -> applyLegacyKnockback(attacker, victim, finalKbLevel, cfg));
         }
     }
 
@@ -131,22 +132,20 @@ public class LegacyCombatListener implements Listener {
         return true;
     }
 
-    private void applyLegacyKnockback(Player attacker, LivingEntity victim, int knockbackLevel) {
+    private void applyLegacyKnockback(Player attacker, LivingEntity victim, int knockbackLevel, PluginSettings.LegacyCombat cfg) {
         if (attacker == null || victim == null) return;
         if (!attacker.isOnline()) return;
         if (victim.isDead()) return;
         if (!isPvp(attacker)) return;
 
-        FileConfiguration cfg = plugin.getConfig();
+        double baseH = cfg.baseHorizontal();
+        double baseY = cfg.baseVertical();
 
-        double baseH = cfg.getDouble("legacy-combat.knockback.baseHorizontal", 0.40);
-        double baseY = cfg.getDouble("legacy-combat.knockback.baseVertical", 0.35);
+        double sprintBonusH = cfg.sprintBonusHorizontal();
+        boolean sprintReset = cfg.sprintResetOnHit();
 
-        double sprintBonusH = cfg.getDouble("legacy-combat.knockback.sprintBonusHorizontal", 0.20);
-        boolean sprintReset = cfg.getBoolean("legacy-combat.knockback.sprintResetOnHit", true);
-
-        double kbBonusH = cfg.getDouble("legacy-combat.knockback.enchantHorizontalPerLevel", 0.50);
-        double kbBonusY = cfg.getDouble("legacy-combat.knockback.enchantVerticalPerLevel", 0.05);
+        double kbBonusH = cfg.enchantHorizontalPerLevel();
+        double kbBonusY = cfg.enchantVerticalPerLevel();
 
         boolean attackerSprinting = attacker.isSprinting();
 
@@ -3,6 +3,8 @@ package com.blake.portalplugin.listeners;
 
 import com.blake.portalplugin.GameState;
 import com.blake.portalplugin.GameStateManager;
+import com.blake.portalplugin.config.PluginSettings;
+import com.blake.portalplugin.config.SettingsManager;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -13,24 +15,27 @@ public class MobSpawnBlockerListener implements Listener {
 
     private final Plugin plugin;
     private final GameStateManager gameStateManager;
+    private final SettingsManager settings;
 
-    public MobSpawnBlockerListener(Plugin plugin, GameStateManager gameStateManager) {
+    public MobSpawnBlockerListener(Plugin plugin, GameStateManager gameStateManager, SettingsManager settings) {
         this.plugin = plugin;
         this.gameStateManager = gameStateManager;
+        this.settings = settings;
     }
 
     @EventHandler
     public void onCreatureSpawn(CreatureSpawnEvent event) {
         if (event == null) return;
 
+        PluginSettings.MobSpawns cfg = settings.get().mobSpawns();
+
         // Optional enable switch
-        if (!plugin.getConfig().getBoolean("mob-spawns.enabled", true)) return;
+        if (!cfg.enabled()) return;
 
         CreatureSpawnEvent.SpawnReason reason = event.getSpawnReason();
 
         // Allow custom/plugin spawns if you want (set to false to block everything)
-        boolean blockCustom = plugin.getConfig().getBoolean("mob-spawns.block-custom", false);
-        if (!blockCustom && (reason == CreatureSpawnEvent.SpawnReason.CUSTOM || reason == CreatureSpawnEvent.SpawnReason.SPAWNER_EGG)) {
+        if (!cfg.blockCustom() && (reason == CreatureSpawnEvent.SpawnReason.CUSTOM || reason == CreatureSpawnEvent.SpawnReason.SPAWNER_EGG)) {
             return;
         }
 
@@ -56,7 +61,7 @@ public class MobSpawnBlockerListener implements Listener {
 
                 // Optional: only block in specific game states
                 // If you want it global, leave this as-is (always cancel)
-                if (plugin.getConfig().getBoolean("mob-spawns.only-block-in-hub-arena", false)) {
+                if (cfg.onlyBlockInHubArena()) {
                     Player nearest = event.getLocation() != null && event.getLocation().getWorld() != null
                             ? event.getLocation().getWorld().getNearbyPlayers(event.getLocation(), 128).stream().findFirst().orElse(null)
                             : null;
@@ -55,7 +55,6 @@ public class PasteRegionCommand implements CommandExecutor, TabCompleter {
 
         long volume = cb.getVolume();
         long maxBlocks = plugin.getConfig().getLong("worldedit.max-blocks", 2_000_000L);
-        int blocksPerTick = plugin.getConfig().getInt("worldedit.blocks-per-tick", 8000);
 
         if (volume > maxBlocks && !p.hasPermission("portalplugin.worldedit.bypasslimit")) {
             p.sendMessage("Clipboard too large (" + volume + " blocks). Limit is " + maxBlocks + ".");
@@ -67,15 +66,17 @@ public class PasteRegionCommand implements CommandExecutor, TabCompleter {
                 + origin.getBlockX() + " " + origin.getBlockY() + " " + origin.getBlockZ()
                 + (pasteAir ? "" : " (no air)") + "...");
 
-        new BlockPasteTask(
+        int ahead = plugin.getEditScheduler().submit(new BlockPasteTask(
                 plugin,
                 p.getUniqueId(),
                 origin.getWorld(),
                 origin.getBlockX(), origin.getBlockY(), origin.getBlockZ(),
                 cb,
-                blocksPerTick,
                 pasteAir
-        ).runTaskTimer(plugin, 1L, 1L);
+        ));
+        if (ahead > 0) {
+            p.sendMessage("Queued behind " + ahead + " of your other edit(s).");
+        }
 
         return true;
     }
@@ -3,11 +3,16 @@ package com.blake.portalplugin.listeners;
 import com.blake.portalplugin.ArenaEliminationHandler;
 import com.blake.portalplugin.arenas.Arena;
 import com.blake.portalplugin.arenas.ArenaManager;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
 import org.bukkit.event.player.PlayerMoveEvent;
 
-public class PlayerArenaEliminationListener implements Listener {
+/**
+ * Any-state rule for {@link PlayerMoveDispatcher}.
+ */
+public class PlayerArenaEliminationListener {
+
+    private static final double VOID_Y = -65.0;
 
     private final ArenaManager arenaManager;
     private final ArenaEliminationHandler eliminationHandler;
@@ -22,13 +27,10 @@ public class PlayerArenaEliminationListener implements Listener {
      * Once an arena has started, if a player in that arena falls below Y = -65,
      * that player is eliminated.
      */
-    @EventHandler
-    public void onPlayerMove(PlayerMoveEvent event) {
-        if (event.getTo() == null) return;
-
-        if (event.getTo().getY() >= -65.0) return;
+    public void onPlayerMove(PlayerMoveEvent event, Player player, Location to, boolean blockChanged) {
+        if (!blockChanged) return;
+        if (to.getY() >= VOID_Y) return;
 
-        var player = event.getPlayer();
         Arena arena = arenaManager.getArenaPlayerIsIn(player);
         if (arena == null) return;
         if (!arena.hasStarted()) return;
@@ -43,9 +43,9 @@ public class PlayerJoinQuitListener implements Listener {
 
         Location joinSpawn = null;
         if (plugin.getBlastMinigameManager() != null) {
-            String activeMap = plugin.getConfig().getString("blast.active-map", "");
-            if (activeMap != null && !activeMap.isBlank()) {
-                BlastMap map = plugin.getBlastMinigameManager().getMapStore().getMap(activeMap.trim().toLowerCase());
+            String activeMap = plugin.getSettingsManager().get().blast().activeMap();
+            if (!activeMap.isEmpty()) {
+                BlastMap map = plugin.getBlastMinigameManager().getMapStore().getMap(activeMap);
                 if (map != null) {
                     joinSpawn = map.getStartSpawn();
                 }
@@ -89,7 +89,7 @@ public class PlayerJoinQuitListener implements Listener {
             eliminationHandler.eliminatePlayer(e.getPlayer(), arena, "disconnected", false);
         } else if (arena != null && !arena.hasStarted()) {
 
-            arena.getPlayers().remove(e.getPlayer().getUniqueId());
+            arena.removePlayer(e.getPlayer());
 
             if (arena.getPlayers().size() < 2) {
                 arena.broadcast("&cPlayer left – countdown stopped.");
@@ -103,6 +103,15 @@ public class PlayerJoinQuitListener implements Listener {
             }
         }
 
+        // Write-behind currency: persist this player's pending changes now, before another server loads them
+        if (plugin.getCurrencyManager() != null) {
+            plugin.getCurrencyManager().flush(e.getPlayer().getUniqueId());
+        }
+
+        if (plugin.getScoreboardManager() != null) {
+            plugin.getScoreboardManager().forget(e.getPlayer());
+        }
+
         manager.clear(e.getPlayer());
     }
 }
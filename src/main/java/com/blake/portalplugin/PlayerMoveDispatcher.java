@@ -0,0 +1,94 @@
+package com.blake.portalplugin.listeners;
+
+import com.blake.portalplugin.GameState;
+import com.blake.portalplugin.GameStateManager;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The plugin's only PlayerMoveEvent handler.
+ *
+ * Look-only packets are dropped before anything else runs. The player's GameState is then
+ * looked up once and only the rules registered for that state (plus the few registered for
+ * every state) are called. Each rule is told whether the player entered a new block, so
+ * coarse checks (void thresholds) can skip sub-block movement while precise ones (ceiling
+ * cap, strike lock) still see every position change.
+ */
+public class PlayerMoveDispatcher implements Listener {
+
+    @FunctionalInterface
+    public interface MoveRule {
+        void onMove(PlayerMoveEvent event, Player player, Location to, boolean blockChanged);
+    }
+
+    private static final MoveRule[] NONE = new MoveRule[0];
+
+    private final GameStateManager gameStateManager;
+
+    private final Map<GameState, MoveRule[]> byState = new EnumMap<>(GameState.class);
+    private MoveRule[] anyState = NONE;
+
+    public PlayerMoveDispatcher(GameStateManager gameStateManager) {
+        this.gameStateManager = gameStateManager;
+    }
+
+    // ---------------------------------------------------------------------
+    // Registration (plugin enable, main thread)
+    // ---------------------------------------------------------------------
+
+    public void on(GameState state, MoveRule rule) {
+        byState.put(state, append(byState.getOrDefault(state, NONE), rule));
+    }
+
+    public void onAny(MoveRule rule) {
+        anyState = append(anyState, rule);
+    }
+
+    private static MoveRule[] append(MoveRule[] rules, MoveRule rule) {
+        MoveRule[] out = new MoveRule[rules.length + 1];
+        System.arraycopy(rules, 0, out, 0, rules.length);
+        out[rules.length] = rule;
+        return out;
+    }
+
+    // ---------------------------------------------------------------------
+    // Dispatch
+    // ---------------------------------------------------------------------
+
+    @EventHandler
+    public void onMove(PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (to == null) return;
+
+        // Head rotation only
+        if (from.getX() == to.getX() && from.getY() == to.getY() && from.getZ() == to.getZ()
+                && from.getWorld() == to.getWorld()) {
+            return;
+        }
+
+        boolean blockChanged = from.getBlockX() != to.getBlockX()
+                || from.getBlockY() != to.getBlockY()
+                || from.getBlockZ() != to.getBlockZ()
+                || from.getWorld() != to.getWorld();
+
+        Player player = event.getPlayer();
+
+        MoveRule[] rules = byState.get(gameStateManager.getGameState(player));
+        if (rules != null) {
+            for (MoveRule rule : rules) {
+                rule.onMove(event, player, event.getTo(), blockChanged);
+            }
+        }
+
+        for (MoveRule rule : anyState) {
+            rule.onMove(event, player, event.getTo(), blockChanged);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.blake.portalplugin.config;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Immutable, typed view of the config.yml values read on hot paths (per hit, per join,
+ * per inventory click). Compiled once by {@link SettingsManager}; listeners keep a reference
+ * to the manager and read fields instead of walking YAML paths.
+ *
+ * Defaults here must match the defaults the old getX(path, def) call sites used.
+ */
+public record PluginSettings(LegacyCombat legacyCombat,
+                             MobSpawns mobSpawns,
+                             Blast blast) {
+
+    public record LegacyCombat(boolean enabled,
+                               double attackSpeed,
+                               boolean critEnabled,
+                               double critMultiplier,
+                               boolean critEffects,
+                               boolean knockbackEnabled,
+                               double baseHorizontal,
+                               double baseVertical,
+                               double sprintBonusHorizontal,
+                               boolean sprintResetOnHit,
+                               double enchantHorizontalPerLevel,
+                               double enchantVerticalPerLevel) {
+    }
+
+    public record MobSpawns(boolean enabled,
+                            boolean blockCustom,
+                            boolean onlyBlockInHubArena) {
+    }
+
+    /**
+     * @param activeMap          trimmed, lower-cased map name ("" when unset)
+     * @param powerupUiBaseSlots validated inventory slots for the powerup UI (one per powerup)
+     * @param powerupUiReserved  base slots plus their indicator slot (base + 1)
+     */
+    public record Blast(String activeMap,
+                        boolean powerupUiEnabled,
+                        List<Integer> powerupUiBaseSlots,
+                        Set<Integer> powerupUiReserved) {
+    }
+
+    // 17 is left out: its indicator slot (base + 1) would wrap onto the next row
+    public static final List<Integer> DEFAULT_UI_BASE_SLOTS = List.of(9, 11, 13, 15, 19, 21, 23, 25, 27);
+
+    // One base slot per powerup in GameStateManager's UI list
+    private static final int UI_SLOT_COUNT = 9;
+
+    // ---------------------------------------------------------------------
+    // Compilation
+    // ---------------------------------------------------------------------
+
+    public static PluginSettings compile(ConfigurationSection cfg) {
+        return new PluginSettings(
+                compileLegacyCombat(cfg),
+                new MobSpawns(
+                        cfg.getBoolean("mob-spawns.enabled", true),
+                        cfg.getBoolean("mob-spawns.block-custom", false),
+                        cfg.getBoolean("mob-spawns.only-block-in-hub-arena", false)
+                ),
+                compileBlast(cfg)
+        );
+    }
+
+    private static LegacyCombat compileLegacyCombat(ConfigurationSection cfg) {
+        return new LegacyCombat(
+                cfg.getBoolean("legacy-combat.enabled", true),
+                cfg.getDouble("legacy-combat.attackSpeed", 1024.0),
+                cfg.getBoolean("legacy-combat.crit.enabled", true),
+                cfg.getDouble("legacy-combat.crit.multiplier", 1.5),
+                cfg.getBoolean("legacy-combat.crit.effects", true),
+                cfg.getBoolean("legacy-combat.knockback.enabled", true),
+                cfg.getDouble("legacy-combat.knockback.baseHorizontal", 0.40),
+                cfg.getDouble("legacy-combat.knockback.baseVertical", 0.35),
+                cfg.getDouble("legacy-combat.knockback.sprintBonusHorizontal", 0.20),
+                cfg.getBoolean("legacy-combat.knockback.sprintResetOnHit", true),
+                cfg.getDouble("legacy-combat.knockback.enchantHorizontalPerLevel", 0.50),
+                cfg.getDouble("legacy-combat.knockback.enchantVerticalPerLevel", 0.05)
+        );
+    }
+
+    private static Blast compileBlast(ConfigurationSection cfg) {
+        String activeMap = cfg.getString("blast.active-map", "");
+        activeMap = activeMap == null ? "" : activeMap.trim().toLowerCase(Locale.ROOT);
+
+        // ui.enabled wins; older configs used hud.enabled
+        boolean uiEnabled = true;
+        if (cfg.contains("blast.powerups.ui.enabled")) {
+            uiEnabled = cfg.getBoolean("blast.powerups.ui.enabled", true);
+        } else if (cfg.contains("blast.powerups.hud.enabled")) {
+            uiEnabled = cfg.getBoolean("blast.powerups.hud.enabled", true);
+        }
+
+        // ui.base-slots wins; older configs used hud.slots
+        List<Integer> base = new ArrayList<>();
+        if (cfg.contains("blast.powerups.ui.base-slots")) {
+            base = readUiSlots(cfg, "blast.powerups.ui.base-slots");
+        } else if (cfg.contains("blast.powerups.hud.slots")) {
+            base = readUiSlots(cfg, "blast.powerups.hud.slots");
+        }
+        if (base.size() < UI_SLOT_COUNT) {
+            base = new ArrayList<>(DEFAULT_UI_BASE_SLOTS);
+        }
+
+        Set<Integer> reserved = new HashSet<>();
+        for (int s : base) {
+            reserved.add(s);
+            reserved.add(s + 1);
+        }
+
+        return new Blast(activeMap, uiEnabled, List.copyOf(base), Set.copyOf(reserved));
+    }
+
+    // Main inventory rows only, and never the last column (the indicator goes in base + 1)
+    private static List<Integer> readUiSlots(ConfigurationSection cfg, String path) {
+        List<Integer> base = new ArrayList<>();
+        for (Integer s : cfg.getIntegerList(path)) {
+            if (s == null) continue;
+            int v = s;
+            if (v < 9 || v > 35) continue;
+            if ((v % 9) == 8) continue;
+            if (!base.contains(v)) base.add(v);
+            if (base.size() >= UI_SLOT_COUNT) break;
+        }
+        return base;
+    }
+}
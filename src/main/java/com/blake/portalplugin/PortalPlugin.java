@@ -3,6 +3,7 @@ package com.blake.portalplugin;
 
 import com.blake.portalplugin.arenas.ArenaManager;
 import com.blake.portalplugin.commands.*;
+import com.blake.portalplugin.config.SettingsManager;
 import com.blake.portalplugin.currency.CurrencyManager;
 import com.blake.portalplugin.holograms.HologramManager;
 import com.blake.portalplugin.listeners.*;
@@ -13,6 +14,7 @@ import com.blake.portalplugin.scoreboard.ScoreboardManager;
 import com.blake.portalplugin.stats.DatabaseManager;
 import com.blake.portalplugin.stats.StatsManager;
 import com.blake.portalplugin.worldedit.ClipboardManager;
+import com.blake.portalplugin.worldedit.EditScheduler;
 import com.blake.portalplugin.worldedit.SelectionManager;
 import org.bukkit.Bukkit;
 import org.bukkit.block.Block;
@@ -28,12 +30,14 @@ import java.util.List;
 
 public class PortalPlugin extends JavaPlugin {
 
+    private SettingsManager settingsManager;
     private GameStateManager gameStateManager;
     private ArenaManager arenaManager;
     private GameQueueManager queueManager;
     private HubSpawnManager hubSpawnManager;
     private ArenaEliminationHandler arenaEliminationHandler;
     private ScoreboardManager scoreboardManager;
+    private PlayerMoveDispatcher moveDispatcher;
 
     private DatabaseManager databaseManager;
     private StatsManager statsManager;
@@ -54,10 +58,13 @@ public class PortalPlugin extends JavaPlugin {
 
     // NEW: per-player clipboard for pcopy/ppaste/protate/pflip
     private ClipboardManager clipboardManager;
+    private EditScheduler editScheduler;
 
     private MinigameQueueManager minigameQueueManager;
 
     private BlastMinigameManager blastMinigameManager;
+    private BlastProjectileEngine blastProjectileEngine;
+    private BlastParticleService blastParticleService;
 
     private BlastGeneratorService blastGeneratorService;
     private BlastMiddleGeneratorService blastMiddleGeneratorService;
@@ -68,6 +75,7 @@ public class PortalPlugin extends JavaPlugin {
     // NEW: BLAST powerups manager (used by blaster cooldown adjustments, etc.)
     private BlastPowerupManager blastPowerupManager;
     private BlastCooldownTracker blastCooldownTracker;
+    private BlastItemClassifier blastItemClassifier;
     private BlastCooldownHudService blastCooldownHudService;
 
     private final List<String> spawnSignEntries = new ArrayList<>();
@@ -79,7 +87,10 @@ public class PortalPlugin extends JavaPlugin {
 
         getServer().getMessenger().registerOutgoingPluginChannel(this, "BungeeCord");
 
-        this.gameStateManager = new GameStateManager(this);
+        this.settingsManager = new SettingsManager(this);
+        settingsManager.startWatching();
+
+        this.gameStateManager = new GameStateManager(this, settingsManager);
         this.arenaManager = new ArenaManager(this);
         this.queueManager = new GameQueueManager(arenaManager, gameStateManager, this);
         this.hubSpawnManager = new HubSpawnManager(this);
@@ -94,11 +105,17 @@ public class PortalPlugin extends JavaPlugin {
 
         // NEW: clipboard manager
         this.clipboardManager = new ClipboardManager();
+        this.editScheduler = new EditScheduler(this);
 
+        this.blastProjectileEngine = new BlastProjectileEngine(this);
+        this.blastParticleService = new BlastParticleService(this);
+        Bukkit.getPluginManager().registerEvents(blastParticleService, this);
         this.blastMinigameManager = new BlastMinigameManager(this, gameStateManager);
 
         // NEW: powerups manager (keep before listeners register)
         this.blastPowerupManager = new BlastPowerupManager(this, gameStateManager);
+        this.blastItemClassifier = new BlastItemClassifier(this);
+        Bukkit.getPluginManager().registerEvents(blastItemClassifier, this);
         this.blastCooldownTracker = new BlastCooldownTracker();
         this.blastCooldownHudService = new BlastCooldownHudService(
                 this,
@@ -106,15 +123,19 @@ public class PortalPlugin extends JavaPlugin {
                 blastPowerupManager,
                 blastCooldownTracker
         );
+        Bukkit.getPluginManager().registerEvents(blastCooldownHudService, this);
 
         this.blastGeneratorService = new BlastGeneratorService(this, gameStateManager);
+        Bukkit.getPluginManager().registerEvents(blastGeneratorService, this);
         this.blastGeneratorService.start();
 
         this.blastMiddleGeneratorService = new BlastMiddleGeneratorService(this, gameStateManager);
+        Bukkit.getPluginManager().registerEvents(blastMiddleGeneratorService, this);
         this.blastMiddleGeneratorService.start();
 
         // NEW: diamond spawner
         this.blastDiamondSpawnerService = new BlastDiamondSpawnerService(this, gameStateManager);
+        Bukkit.getPluginManager().registerEvents(blastDiamondSpawnerService, this);
         this.blastDiamondSpawnerService.start();
 
         this.minigameQueueManager = new MinigameQueueManager(this, gameStateManager);
@@ -137,9 +158,11 @@ public class PortalPlugin extends JavaPlugin {
 
         this.currencyManager = new CurrencyManager(this, databaseManager);
         currencyManager.ensureTable();
+        currencyManager.start();
 
         this.rankManager = new RankManager(this, databaseManager);
         rankManager.ensureTable();
+        rankManager.reload();
 
         this.hologramsManagerInit();
 
@@ -170,9 +193,15 @@ public class PortalPlugin extends JavaPlugin {
     @Override
     public void onDisable() {
 
-        if (arenaManager != null) arenaManager.saveArenasToFile();
+        if (settingsManager != null) settingsManager.shutdown();
+        if (arenaManager != null) {
+            arenaManager.finishPendingResets();
+            arenaManager.saveArenasToFile();
+        }
         if (gameStateManager != null) gameStateManager.clearAllOnline();
         if (hologramManager != null) hologramManager.clearAll();
+        if (editScheduler != null) editScheduler.shutdown();
+        if (blastProjectileEngine != null) blastProjectileEngine.shutdown();
 
         if (minigameQueueManager != null) {
             minigameQueueManager.shutdown();
@@ -202,6 +231,16 @@ public class PortalPlugin extends JavaPlugin {
         getConfig().set("spawn-signs", new ArrayList<>(spawnSignEntries));
 
         saveConfig();
+
+        // Pending coin/gem changes must be queued before the DB executor drains and stops;
+        // whatever it couldn't write is written directly before the pool closes.
+        if (currencyManager != null) {
+            currencyManager.shutdown();
+        }
+
+        if (databaseManager != null) {
+            databaseManager.shutdown(currencyManager == null ? null : currencyManager::writeRemaining);
+        }
     }
 
     private void registerCommands() {
@@ -247,6 +286,9 @@ public class PortalPlugin extends JavaPlugin {
                     new CreateScoreboardCommand(statsManager, hologramManager)
             );
 
+        if (getCommand("dbpool") != null)
+            getCommand("dbpool").setExecutor(new DbPoolCommand(databaseManager));
+
         if (getCommand("gameset") != null)
             getCommand("gameset").setExecutor(new GameSetCommand(this));
 
@@ -320,6 +362,10 @@ public class PortalPlugin extends JavaPlugin {
             getCommand("blastregen").setExecutor(new BlastRegenCommand(this));
         }
 
+        if (getCommand("blastprojectiles") != null) {
+            getCommand("blastprojectiles").setExecutor(new BlastProjectilesCommand(this));
+        }
+
         if (getCommand("blastmap") != null) {
             var cmd = new BlastMapCommand(this);
             getCommand("blastmap").setExecutor(cmd);
@@ -348,22 +394,27 @@ public class PortalPlugin extends JavaPlugin {
 
     private void registerListeners() {
 
+        // Every PlayerMoveEvent rule goes through this one handler, routed by GameState
+        moveDispatcher = new PlayerMoveDispatcher(gameStateManager);
+        Bukkit.getPluginManager().registerEvents(moveDispatcher, this);
+
         Bukkit.getPluginManager().registerEvents(new InstantSoupListener(this), this);
 
         Bukkit.getPluginManager().registerEvents(
-                new LegacyCombatListener(this, gameStateManager),
+                new LegacyCombatListener(this, gameStateManager, settingsManager),
                 this
         );
 
         Bukkit.getPluginManager().registerEvents(
-                new MobSpawnBlockerListener(this, gameStateManager),
+                new MobSpawnBlockerListener(this, gameStateManager, settingsManager),
                 this
         );
 
-        Bukkit.getPluginManager().registerEvents(
-                new SumoVoidEliminationListener(arenaManager, arenaEliminationHandler, gameStateManager),
-                this
-        );
+        SumoVoidEliminationListener sumoVoid = new SumoVoidEliminationListener(arenaManager, arenaEliminationHandler);
+        moveDispatcher.on(GameState.SUMO, sumoVoid::onMove);
+        Bukkit.getPluginManager().registerEvents(sumoVoid, this);
+
+        Bukkit.getPluginManager().registerEvents(new ArenaChangeJournalListener(arenaManager), this);
 
         Bukkit.getPluginManager().registerEvents(
                 new PlayerJoinQuitListener(this, gameStateManager, arenaManager, queueManager, arenaEliminationHandler, hubSpawnManager),
@@ -371,10 +422,14 @@ public class PortalPlugin extends JavaPlugin {
         );
 
         Bukkit.getPluginManager().registerEvents(
-                new PlayerArenaEliminationListener(arenaManager, arenaEliminationHandler),
+                new RankPreloadListener(rankManager),
                 this
         );
 
+        Bukkit.getPluginManager().registerEvents(statsManager.getLeaderboards(), this);
+
+        moveDispatcher.onAny(new PlayerArenaEliminationListener(arenaManager, arenaEliminationHandler)::onPlayerMove);
+
         Bukkit.getPluginManager().registerEvents(
                 new PlayerDeathSpawnListener(arenaManager, arenaEliminationHandler, gameStateManager, hubSpawnManager, this),
                 this
@@ -448,10 +503,9 @@ public class PortalPlugin extends JavaPlugin {
                 this
         );
 
-        Bukkit.getPluginManager().registerEvents(
-                new BlastCeilingListener(this, gameStateManager),
-                this
-        );
+        BlastCeilingListener ceiling = new BlastCeilingListener(this, gameStateManager);
+        moveDispatcher.on(GameState.BLAST, ceiling::onMove);
+        Bukkit.getPluginManager().registerEvents(ceiling, this);
 
         registerOptionalListener(
                 "com.blake.portalplugin.listeners.BlastNewBlastersListener",
@@ -552,6 +606,7 @@ public class PortalPlugin extends JavaPlugin {
     public ArenaManager getArenaManager() { return arenaManager; }
     public HubSpawnManager getHubSpawnManager() { return hubSpawnManager; }
     public ScoreboardManager getScoreboardManager() { return scoreboardManager; }
+    public PlayerMoveDispatcher getMoveDispatcher() { return moveDispatcher; }
     public StatsManager getStatsManager() { return statsManager; }
     public DatabaseManager getDatabaseManager() { return databaseManager; }
     public HologramManager getHologramManager() { return hologramManager; }
@@ -562,17 +617,23 @@ public class PortalPlugin extends JavaPlugin {
     public NavigationManager getNavigationManager() { return navigationManager; }
     public CosmeticsManager getCosmeticsManager() { return cosmeticsManager; }
 
+    public SettingsManager getSettingsManager() { return settingsManager; }
+
     public SelectionManager getSelectionManager() { return selectionManager; }
+    public EditScheduler getEditScheduler() { return editScheduler; }
 
     public MinigameQueueManager getMinigameQueueManager() { return minigameQueueManager; }
 
     public BlastMinigameManager getBlastMinigameManager() { return blastMinigameManager; }
+    public BlastProjectileEngine getBlastProjectileEngine() { return blastProjectileEngine; }
+    public BlastParticleService getBlastParticleService() { return blastParticleService; }
 
     // NEW getter
     public BlastDiamondSpawnerService getBlastDiamondSpawnerService() { return blastDiamondSpawnerService; }
 
     // NEW getter
     public BlastPowerupManager getBlastPowerupManager() { return blastPowerupManager; }
+    public BlastItemClassifier getBlastItemClassifier() { return blastItemClassifier; }
 
     public String getActiveGame() {
         return getConfig().getString("active-game", "none");
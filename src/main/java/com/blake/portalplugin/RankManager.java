@@ -1,6 +1,12 @@
 package com.blake.portalplugin.ranks;
 
+import com.blake.portalplugin.PortalPlugin;
+import com.blake.portalplugin.scoreboard.ScoreboardManager;
+import com.blake.portalplugin.stats.DatabaseExecutor;
+import com.blake.portalplugin.stats.DatabaseExecutor.Lane;
 import com.blake.portalplugin.stats.DatabaseManager;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 
 import java.sql.Connection;
@@ -8,19 +14,56 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Rank lookups never touch JDBC on the calling thread.
+ *
+ * Ranks are prefetched during AsyncPlayerPreLoginEvent and bulk-loaded for everyone online
+ * on startup/reload. A cache miss (or an expired entry) returns the best known value
+ * immediately and schedules a background load; the player's scoreboard is refreshed
+ * if the loaded rank turns out to be different.
+ */
 public class RankManager {
 
+    private static final int MAX_IDS_PER_QUERY = 500;
+
+    private record CachedRank(Rank rank, long loadedAt) {
+    }
+
     private final Plugin plugin;
     private final DatabaseManager databaseManager;
-    private final Map<UUID, Rank> cache = new ConcurrentHashMap<>();
+    private final DatabaseExecutor db;
+    // Access-ordered, so trimming evicts from the least recently used end. Guarded by itself.
+    private final LinkedHashMap<UUID, CachedRank> cache = new LinkedHashMap<>(256, 0.75f, true);
+    private final Set<UUID> loading = ConcurrentHashMap.newKeySet();
+    // Ranks set locally whose DB write hasn't landed yet; background loads must not overwrite them
+    private final Map<UUID, Rank> pendingWrites = new ConcurrentHashMap<>();
+    // Maintained on the main thread (reload, join, quit) so trim() can read it from DB threads
+    private final Set<UUID> online = ConcurrentHashMap.newKeySet();
+
+    private final int maxEntries;
+    private final long expireMillis;
+    private final long preloginWaitMs;
 
     public RankManager(Plugin plugin, DatabaseManager databaseManager) {
         this.plugin = plugin;
         this.databaseManager = databaseManager;
+        this.db = databaseManager.getExecutor();
+        this.maxEntries = Math.max(100, plugin.getConfig().getInt("ranks.cache.max-entries", 5000));
+        this.expireMillis = TimeUnit.MINUTES.toMillis(Math.max(1L, plugin.getConfig().getLong("ranks.cache.expire-minutes", 30L)));
+        this.preloginWaitMs = Math.max(0L, plugin.getConfig().getLong("ranks.prelogin-wait-ms", 2000L));
     }
 
     // ---------------------------------------------------------
@@ -45,17 +88,23 @@ public class RankManager {
     // ---------------------------------------------------------
     // Public API
     // ---------------------------------------------------------
+
+    /**
+     * Non-blocking. Returns the cached rank (possibly stale), or NONE while the first load is in flight.
+     */
     public Rank getRank(UUID uuid) {
         if (uuid == null) return Rank.NONE;
 
-        Rank cached = cache.get(uuid);
-        if (cached != null) {
-            return cached;
+        CachedRank cached = cached(uuid);
+        if (cached == null) {
+            loadAsync(uuid);
+            return Rank.NONE;
         }
 
-        Rank loaded = loadRankFromDatabase(uuid);
-        cache.put(uuid, loaded);
-        return loaded;
+        if (System.currentTimeMillis() - cached.loadedAt() >= expireMillis) {
+            loadAsync(uuid);
+        }
+        return cached.rank();
     }
 
     public Rank getRankOrDefault(UUID uuid) {
@@ -67,65 +116,201 @@ public class RankManager {
         if (uuid == null) return;
         if (rank == null) rank = Rank.NONE;
 
-        if (rank == Rank.NONE) {
-            deleteRank(uuid);
-            cache.put(uuid, Rank.NONE);
-        } else {
-            upsertRank(uuid, rank);
-            cache.put(uuid, rank);
+        Rank target = rank;
+        pendingWrites.put(uuid, target);
+        put(uuid, target);
+
+        CompletableFuture<Void> write = (target == Rank.NONE) ? deleteRank(uuid) : upsertRank(uuid, target);
+        write.whenComplete((v, ex) -> pendingWrites.remove(uuid, target));
+    }
+
+    /**
+     * Called from AsyncPlayerPreLoginEvent (off the main thread): waits briefly for the rank
+     * so the first scoreboard after join is already correct.
+     */
+    public void prefetchBlocking(UUID uuid) {
+        if (uuid == null) return;
+
+        CachedRank cached = cached(uuid);
+        if (cached != null && System.currentTimeMillis() - cached.loadedAt() < expireMillis) return;
+
+        try {
+            loadBulk(List.of(uuid)).get(preloginWaitMs, TimeUnit.MILLISECONDS);
+        } catch (Exception ex) {
+            // Join continues; getRank() will pick it up in the background.
+            plugin.getLogger().warning("[PortalPlugin] Rank prefetch for " + uuid + " did not finish: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Drops cached ranks and bulk-loads everyone currently online (startup and reload).
+     */
+    public CompletableFuture<Void> reload() {
+        synchronized (cache) {
+            cache.clear();
+        }
+
+        online.clear();
+        for (Player p : Bukkit.getOnlinePlayers()) {
+            online.add(p.getUniqueId());
         }
+        return loadBulk(List.copyOf(online));
+    }
+
+    /**
+     * Loads ranks for many players with one IN (...) query per 500 ids.
+     */
+    public CompletableFuture<Void> loadBulk(Collection<UUID> uuids) {
+        if (uuids == null || uuids.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        List<UUID> ids = new ArrayList<>(uuids);
+        long startedAt = System.currentTimeMillis();
+
+        return db.submit(Lane.READ, conn -> {
+            Map<UUID, Rank> found = new HashMap<>();
+            for (int from = 0; from < ids.size(); from += MAX_IDS_PER_QUERY) {
+                List<UUID> chunk = ids.subList(from, Math.min(ids.size(), from + MAX_IDS_PER_QUERY));
+                found.putAll(queryRanks(conn, chunk));
+            }
+            return found;
+        }).thenAccept(found -> {
+            for (UUID uuid : ids) {
+                if (pendingWrites.containsKey(uuid)) continue;
+
+                Rank loaded = found.getOrDefault(uuid, Rank.NONE);
+                Rank previous;
+                synchronized (cache) {
+                    CachedRank current = cache.get(uuid);
+                    if (current != null && current.loadedAt() > startedAt) continue;
+
+                    previous = current == null ? null : current.rank();
+                    put(uuid, loaded);
+                }
+                if (previous != loaded) onRankChanged(uuid);
+            }
+        }).exceptionally(ex -> {
+            plugin.getLogger().warning("[PortalPlugin] Failed to load ranks for " + ids.size() + " player(s): " + ex.getMessage());
+            return null;
+        });
+    }
+
+    /**
+     * Main thread, on join. Online players' ranks are never trimmed from the cache.
+     */
+    public void playerJoined(UUID uuid) {
+        if (uuid != null) online.add(uuid);
+    }
+
+    /**
+     * Main thread, on quit. The rank stays cached for a quick rejoin but may now be trimmed.
+     */
+    public void playerQuit(UUID uuid) {
+        if (uuid != null) online.remove(uuid);
     }
 
     // ---------------------------------------------------------
-    // DB helpers
+    // Cache helpers
     // ---------------------------------------------------------
-    private Rank loadRankFromDatabase(UUID uuid) {
-        String sql = "SELECT rank FROM player_ranks WHERE uuid = ?";
+    private void loadAsync(UUID uuid) {
+        if (!loading.add(uuid)) return;
+        loadBulk(List.of(uuid)).whenComplete((v, ex) -> loading.remove(uuid));
+    }
 
-        try (Connection conn = databaseManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+    private CachedRank cached(UUID uuid) {
+        synchronized (cache) {
+            return cache.get(uuid);
+        }
+    }
+
+    private void put(UUID uuid, Rank rank) {
+        synchronized (cache) {
+            cache.put(uuid, new CachedRank(rank, System.currentTimeMillis()));
+            if (cache.size() > maxEntries) trim();
+        }
+    }
+
+    /**
+     * Over capacity: drop the least recently used entries of players who aren't online.
+     * Caller holds the cache lock.
+     */
+    private void trim() {
+        int excess = cache.size() - maxEntries;
+        Iterator<Map.Entry<UUID, CachedRank>> it = cache.entrySet().iterator();
+        while (excess > 0 && it.hasNext()) {
+            if (online.contains(it.next().getKey())) continue;
+            it.remove();
+            excess--;
+        }
+    }
+
+    private void onRankChanged(UUID uuid) {
+        if (!plugin.isEnabled()) return;
+
+        db.mainThread().execute(() -> {
+            Player p = Bukkit.getPlayer(uuid);
+            if (p == null || !(plugin instanceof PortalPlugin portal)) return;
+
+            ScoreboardManager sb = portal.getScoreboardManager();
+            if (sb != null) sb.applyScoreboard(p);
+        });
+    }
 
-            ps.setString(1, uuid.toString());
+    // ---------------------------------------------------------
+    // DB helpers
+    // ---------------------------------------------------------
+    private Map<UUID, Rank> queryRanks(Connection conn, List<UUID> ids) throws SQLException {
+        StringBuilder sql = new StringBuilder("SELECT uuid, rank FROM player_ranks WHERE uuid IN (");
+        for (int i = 0; i < ids.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(")");
+
+        Map<UUID, Rank> found = new HashMap<>();
+        try (PreparedStatement ps = conn.prepareStatement(sql.toString())) {
+            for (int i = 0; i < ids.size(); i++) {
+                ps.setString(i + 1, ids.get(i).toString());
+            }
             try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    String rankName = rs.getString("rank");
-                    Rank r = Rank.fromString(rankName);
-                    return (r != null ? r : Rank.NONE);
+                while (rs.next()) {
+                    try {
+                        found.put(UUID.fromString(rs.getString("uuid")), Rank.fromString(rs.getString("rank")));
+                    } catch (IllegalArgumentException ignored) {
+                        // malformed uuid row
+                    }
                 }
             }
-        } catch (SQLException ex) {
-            plugin.getLogger().warning("[PortalPlugin] Failed to load rank for " + uuid + ": " + ex.getMessage());
         }
-
-        return Rank.NONE;
+        return found;
     }
 
-    private void upsertRank(UUID uuid, Rank rank) {
+    private CompletableFuture<Void> upsertRank(UUID uuid, Rank rank) {
         String sql =
                 "INSERT INTO player_ranks (uuid, rank) VALUES (?, ?) " +
                 "ON DUPLICATE KEY UPDATE rank = VALUES(rank);";
 
-        try (Connection conn = databaseManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setString(1, uuid.toString());
-            ps.setString(2, rank.name());
-            ps.executeUpdate();
-        } catch (SQLException ex) {
+        return db.run(Lane.WRITE, conn -> {
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                ps.setString(1, uuid.toString());
+                ps.setString(2, rank.name());
+                ps.executeUpdate();
+            }
+        }).exceptionally(ex -> {
             plugin.getLogger().warning("[PortalPlugin] Failed to save rank for " + uuid + ": " + ex.getMessage());
-        }
+            return null;
+        });
     }
 
-    private void deleteRank(UUID uuid) {
+    private CompletableFuture<Void> deleteRank(UUID uuid) {
         String sql = "DELETE FROM player_ranks WHERE uuid = ?";
 
-        try (Connection conn = databaseManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setString(1, uuid.toString());
-            ps.executeUpdate();
-        } catch (SQLException ex) {
+        return db.run(Lane.WRITE, conn -> {
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                ps.setString(1, uuid.toString());
+                ps.executeUpdate();
+            }
+        }).exceptionally(ex -> {
             plugin.getLogger().warning("[PortalPlugin] Failed to delete rank for " + uuid + ": " + ex.getMessage());
-        }
+            return null;
+        });
     }
 }
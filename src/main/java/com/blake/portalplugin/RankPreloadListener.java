@@ -0,0 +1,35 @@
+package com.blake.portalplugin.listeners;
+
+import com.blake.portalplugin.ranks.RankManager;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+public class RankPreloadListener implements Listener {
+
+    private final RankManager rankManager;
+
+    public RankPreloadListener(RankManager rankManager) {
+        this.rankManager = rankManager;
+    }
+
+    // Runs on the login thread, so waiting here keeps rank queries off the main thread entirely.
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent e) {
+        if (e.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+        rankManager.prefetchBlocking(e.getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(PlayerJoinEvent e) {
+        rankManager.playerJoined(e.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        rankManager.playerQuit(e.getPlayer().getUniqueId());
+    }
+}
@@ -0,0 +1,287 @@
+package com.blake.portalplugin.worldedit;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reads a region into a palette + index array without walking blocks on the main thread.
+ *
+ * The main thread only takes a {@link ChunkSnapshot} of each covered chunk (a few per tick,
+ * loading missing chunks asynchronously). Every snapshot is decoded on an async worker into
+ * its own small palette, writing straight into the shared index array (chunks never overlap).
+ * Once the last chunk is in, the per-chunk palettes are merged and the indices remapped, and
+ * the result is completed on the main thread.
+ *
+ * A capture takes its place in the player's edit queue through an {@link EditScheduler.Hold}:
+ * edits queued before it finish first, and edits queued after it wait until every snapshot has
+ * been taken, so a copy sees exactly the blocks as of when it was issued.
+ *
+ * Rows above or below the world's build height are captured as air.
+ */
+public final class RegionCapture {
+
+    /**
+     * Captured region: {@code indices[x + sizeX*(y + sizeY*z)]} indexes into {@code palette},
+     * relative to the min corner. Palette entries are shared; don't mutate them.
+     */
+    public record Result(int sizeX, int sizeY, int sizeZ, int[] indices, BlockData[] palette) {
+
+        public Clipboard toClipboard() {
+            if (palette.length > Character.MAX_VALUE + 1) {
+                throw new IllegalStateException("Clipboard palette exceeded " + (Character.MAX_VALUE + 1) + " entries");
+            }
+            char[] packed = new char[indices.length];
+            for (int i = 0; i < indices.length; i++) packed[i] = (char) indices[i];
+            return new Clipboard(sizeX, sizeY, sizeZ, palette, packed);
+        }
+    }
+
+    private final Plugin plugin;
+    private final EditScheduler.Hold hold;
+    private final UUID playerId;
+    private final String label;
+    private final World world;
+
+    private final int minX, minY, minZ, maxX, maxY, maxZ;
+    private final int sizeX, sizeY;
+    private final int[] indices;
+
+    // Part of minY..maxY inside the world; ChunkSnapshot can't be read outside it
+    private final int readMinY, readMaxY;
+    private final BlockData air;
+
+    private final int chunkMinX, chunkMinZ, chunksX, chunkCount;
+    private final List<BlockData>[] chunkPalettes;
+
+    private final int snapshotsPerTick;
+    private final int maxPendingLoads;
+
+    private final CompletableFuture<Result> result = new CompletableFuture<>();
+    private final AtomicInteger decoded = new AtomicInteger();
+
+    private int cursor;
+    private int grabbed;
+    private int pendingLoads;
+    private int lastProgressBucket = -1;
+    private volatile boolean failed;
+    private BukkitTask task;
+
+    @SuppressWarnings("unchecked")
+    private RegionCapture(Plugin plugin, EditScheduler scheduler, UUID playerId, String label, World world,
+                          int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this.plugin = plugin;
+        this.playerId = playerId;
+        this.label = label;
+        this.world = world;
+
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+
+        this.sizeX = maxX - minX + 1;
+        this.sizeY = maxY - minY + 1;
+        long volume = (long) sizeX * sizeY * (maxZ - minZ + 1);
+        if (volume > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Region too large: " + volume + " blocks");
+        }
+        this.indices = new int[(int) volume];
+
+        this.readMinY = Math.max(minY, world.getMinHeight());
+        this.readMaxY = Math.min(maxY, world.getMaxHeight() - 1);
+        this.air = Bukkit.createBlockData(Material.AIR);
+
+        this.chunkMinX = minX >> 4;
+        this.chunkMinZ = minZ >> 4;
+        this.chunksX = (maxX >> 4) - chunkMinX + 1;
+        this.chunkCount = chunksX * ((maxZ >> 4) - chunkMinZ + 1);
+        this.chunkPalettes = new List[chunkCount];
+
+        this.snapshotsPerTick = Math.max(1, plugin.getConfig().getInt("worldedit.capture.snapshots-per-tick", 8));
+        this.maxPendingLoads = Math.max(1, plugin.getConfig().getInt("worldedit.capture.max-pending-loads", 16));
+
+        // Last, so a rejected region never leaves the player's queue paused
+        this.hold = scheduler.hold(playerId);
+    }
+
+    /**
+     * Starts capturing min..max (inclusive). {@code label} is the action bar verb, e.g. "Copying".
+     * The future completes on the main thread.
+     */
+    public static CompletableFuture<Result> start(Plugin plugin, EditScheduler scheduler, UUID playerId,
+                                                  String label, World world,
+                                                  int minX, int minY, int minZ,
+                                                  int maxX, int maxY, int maxZ) {
+        RegionCapture capture = new RegionCapture(plugin, scheduler, playerId, label, world,
+                minX, minY, minZ, maxX, maxY, maxZ);
+        capture.task = Bukkit.getScheduler().runTaskTimer(plugin, capture::tick, 1L, 1L);
+        return capture.result;
+    }
+
+    // ---------------------------------------------------------------------
+    // Main thread: snapshot grabs + progress
+    // ---------------------------------------------------------------------
+
+    private void tick() {
+        if (result.isDone()) {
+            task.cancel();
+            return;
+        }
+
+        reportProgress();
+
+        // Edits the player queued earlier land first
+        if (!hold.isReached()) return;
+
+        int grabbedThisTick = 0;
+        while (cursor < chunkCount && grabbedThisTick < snapshotsPerTick && !failed) {
+            int i = cursor;
+            int cx = chunkMinX + i % chunksX;
+            int cz = chunkMinZ + i / chunksX;
+
+            if (world.isChunkLoaded(cx, cz)) {
+                grab(i, world.getChunkAt(cx, cz));
+                grabbedThisTick++;
+            } else {
+                if (pendingLoads >= maxPendingLoads) break;
+                pendingLoads++;
+                world.getChunkAtAsync(cx, cz).whenComplete((chunk, err) -> {
+                    pendingLoads--;
+                    if (err != null) {
+                        fail(err);
+                    } else {
+                        grab(i, chunk);
+                    }
+                });
+            }
+            cursor++;
+        }
+    }
+
+    private void grab(int chunkIndex, Chunk chunk) {
+        if (failed) return;
+        ChunkSnapshot snap = chunk.getChunkSnapshot(false, false, false);
+        // Every chunk is copied; the player's later edits can't change what we capture any more
+        if (++grabbed == chunkCount) hold.release();
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> decode(chunkIndex, snap));
+    }
+
+    private void reportProgress() {
+        Player p = Bukkit.getPlayer(playerId);
+        if (p == null || !p.isOnline()) return;
+
+        int pct = (int) (decoded.get() * 100L / chunkCount);
+        int bucket = pct / 5;
+        if (bucket == lastProgressBucket) return;
+        lastProgressBucket = bucket;
+
+        p.sendActionBar(label + ": " + pct + "% (" + decoded.get() + "/" + chunkCount + " chunks)");
+    }
+
+    private void fail(Throwable t) {
+        failed = true;
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            hold.release();
+            result.completeExceptionally(t);
+        });
+    }
+
+    // ---------------------------------------------------------------------
+    // Workers
+    // ---------------------------------------------------------------------
+
+    private void decode(int chunkIndex, ChunkSnapshot snap) {
+        try {
+            int baseX = snap.getX() << 4;
+            int baseZ = snap.getZ() << 4;
+            int loX = Math.max(minX, baseX), hiX = Math.min(maxX, baseX + 15);
+            int loZ = Math.max(minZ, baseZ), hiZ = Math.min(maxZ, baseZ + 15);
+
+            // Local ids for now; remapped to the merged palette at the end
+            Map<BlockData, Integer> lookup = new HashMap<>();
+            List<BlockData> palette = new ArrayList<>();
+
+            for (int z = loZ; z <= hiZ; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    int row = sizeX * ((y - minY) + sizeY * (z - minZ)) - minX;
+                    boolean inWorld = y >= readMinY && y <= readMaxY;
+                    for (int x = loX; x <= hiX; x++) {
+                        BlockData bd = inWorld ? snap.getBlockData(x & 15, y, z & 15) : air;
+                        Integer id = lookup.get(bd);
+                        if (id == null) {
+                            id = palette.size();
+                            palette.add(bd);
+                            lookup.put(bd, id);
+                        }
+                        indices[row + x] = id;
+                    }
+                }
+            }
+
+            chunkPalettes[chunkIndex] = palette;
+            if (decoded.incrementAndGet() == chunkCount) merge();
+        } catch (Throwable t) {
+            fail(t);
+        }
+    }
+
+    // Runs on whichever worker finished last; it sees every other worker's writes via the counter
+    private void merge() {
+        Map<BlockData, Integer> merged = new LinkedHashMap<>();
+
+        for (int i = 0; i < chunkCount; i++) {
+            List<BlockData> local = chunkPalettes[i];
+            int[] remap = new int[local.size()];
+            boolean identity = true;
+            for (int j = 0; j < remap.length; j++) {
+                BlockData bd = local.get(j);
+                Integer id = merged.get(bd);
+                if (id == null) {
+                    id = merged.size();
+                    merged.put(bd, id);
+                }
+                remap[j] = id;
+                identity &= id == j;
+            }
+            if (!identity) remapChunk(i, remap);
+            chunkPalettes[i] = null;
+        }
+
+        Result out = new Result(sizeX, sizeY, maxZ - minZ + 1, indices, merged.keySet().toArray(new BlockData[0]));
+        Bukkit.getScheduler().runTask(plugin, () -> result.complete(out));
+    }
+
+    private void remapChunk(int chunkIndex, int[] remap) {
+        int baseX = (chunkMinX + chunkIndex % chunksX) << 4;
+        int baseZ = (chunkMinZ + chunkIndex / chunksX) << 4;
+        int loX = Math.max(minX, baseX), hiX = Math.min(maxX, baseX + 15);
+        int loZ = Math.max(minZ, baseZ), hiZ = Math.min(maxZ, baseZ + 15);
+
+        for (int z = loZ; z <= hiZ; z++) {
+            for (int y = minY; y <= maxY; y++) {
+                int row = sizeX * ((y - minY) + sizeY * (z - minZ)) - minX;
+                for (int x = loX; x <= hiX; x++) {
+                    indices[row + x] = remap[indices[row + x]];
+                }
+            }
+        }
+    }
+}
@@ -12,6 +12,12 @@ import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.scoreboard.*;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 public class ScoreboardManager {
 
     private final PortalPlugin plugin;
@@ -25,6 +31,21 @@ public class ScoreboardManager {
     private static final String BLANK_3 = "   ";
     private static final String BLANK_4 = "    ";
 
+    // Sidebar is capped at 15 lines by the client
+    private static final int MAX_LINES = 15;
+
+    // One fixed, invisible entry per line; the visible text lives in the line team's prefix
+    private static final String[] LINE_ENTRIES = new String[MAX_LINES];
+
+    static {
+        String codes = "0123456789abcdef";
+        for (int i = 0; i < MAX_LINES; i++) {
+            LINE_ENTRIES[i] = "§" + codes.charAt(i) + "§r";
+        }
+    }
+
+    private final Map<UUID, PlayerBoard> boards = new HashMap<>();
+
     public ScoreboardManager(PortalPlugin plugin,
                              GameStateManager gsm,
                              ArenaManager arenaManager,
@@ -42,18 +63,24 @@ public class ScoreboardManager {
 
         GameState state = gameStateManager.getGameState(player);
 
-        switch (state) {
-            case SPLEEF -> applySpleefBoard(player);
-            case ARENA  -> applyArenaBoard(player);
-            case PVP    -> applyPvpBoard(player);
-            case SUMO   -> applySumoBoard(player);
-            case BLAST  -> applyBlastBoard(player);
-            case SPECTATOR -> applySpectatorBoard(player);
-            default     -> applyHubBoard(player);
-        }
-
+        // Each builder fills in the sidebar lines and returns the title
+        List<String> lines = new ArrayList<>(MAX_LINES);
+        String title = switch (state) {
+            case SPLEEF -> buildSpleefBoardLines(player, lines);
+            case ARENA  -> buildArenaBoardLines(player, lines);
+            case PVP    -> buildPvpBoardLines(player, lines);
+            case SUMO   -> buildSumoBoardLines(player, lines);
+            case BLAST  -> buildBlastBoardLines(player, lines);
+            case SPECTATOR -> buildSpectatorBoardLines(player, lines);
+            default     -> buildHubBoardLines(player, lines);
+        };
+
+        PlayerBoard board = boardFor(player);
+        board.render(title, lines);
+
+        // Team colours live on the same (persistent) board; the Blast manager only touches entries that changed
         BlastMinigameManager bm = plugin.getBlastMinigameManager();
-        if (bm != null && bm.isInProgress()) {
+        if (bm != null) {
             bm.applyBlastTeamsToScoreboard(player);
         }
     }
@@ -64,54 +91,129 @@ public class ScoreboardManager {
         }
     }
 
+    /**
+     * Drops the cached board for a player who left.
+     */
+    public void forget(Player player) {
+        if (player == null) return;
+        boards.remove(player.getUniqueId());
+    }
+
+    // --------------------------------------------------------------------
+    // BOARD CACHE
+    // --------------------------------------------------------------------
+    private PlayerBoard boardFor(Player player) {
+        PlayerBoard board = boards.get(player.getUniqueId());
+
+        if (board == null) {
+            board = new PlayerBoard(Bukkit.getScoreboardManager().getNewScoreboard());
+            boards.put(player.getUniqueId(), board);
+        }
+
+        // Something else swapped the player's scoreboard; put ours back (still the same object)
+        if (player.getScoreboard() != board.scoreboard) {
+            player.setScoreboard(board.scoreboard);
+        }
+        return board;
+    }
+
+    /**
+     * One Scoreboard + sidebar Objective per player, kept for the whole session.
+     * Each line is a fixed entry whose text is the prefix of a per-line team, so
+     * changing a line is a single team update instead of a score remove/add pair,
+     * and unchanged lines send nothing.
+     */
+    private static final class PlayerBoard {
+        final Scoreboard scoreboard;
+        final Objective objective;
+        final Team[] lineTeams = new Team[MAX_LINES];
+        final String[] rendered = new String[MAX_LINES];
+        String title;
+        int shown;
+
+        PlayerBoard(Scoreboard scoreboard) {
+            this.scoreboard = scoreboard;
+            this.objective = scoreboard.registerNewObjective("sidebar", "dummy", " ");
+            this.objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+
+            for (int i = 0; i < MAX_LINES; i++) {
+                Team t = scoreboard.registerNewTeam("line_" + i);
+                t.addEntry(LINE_ENTRIES[i]);
+                lineTeams[i] = t;
+            }
+        }
+
+        void render(String newTitle, List<String> lines) {
+            if (!newTitle.equals(title)) {
+                objective.setDisplayName(newTitle);
+                title = newTitle;
+            }
+
+            int count = Math.min(lines.size(), MAX_LINES);
+
+            for (int i = 0; i < count; i++) {
+                String text = lines.get(i);
+                if (!text.equals(rendered[i])) {
+                    lineTeams[i].setPrefix(text);
+                    rendered[i] = text;
+                }
+            }
+
+            // Scores are fixed per slot (15 at the top); only lines appearing or disappearing touch them
+            for (int i = shown; i < count; i++) {
+                objective.getScore(LINE_ENTRIES[i]).setScore(MAX_LINES - i);
+            }
+            for (int i = count; i < shown; i++) {
+                scoreboard.resetScores(LINE_ENTRIES[i]);
+                lineTeams[i].setPrefix("");
+                rendered[i] = null;
+            }
+            shown = count;
+        }
+    }
+
     // --------------------------------------------------------------------
     // BLAST BOARD
     // --------------------------------------------------------------------
-    private void applyBlastBoard(Player p) {
+    private String buildBlastBoardLines(Player p, List<String> lines) {
         BlastMinigameManager bm = plugin.getBlastMinigameManager();
 
-        Scoreboard board = Bukkit.getScoreboardManager().getNewScoreboard();
-        Objective obj = board.registerNewObjective("blast", "dummy", "§6§lBLAST");
-        obj.setDisplaySlot(DisplaySlot.SIDEBAR);
-
-        int line = 15;
+        String title = "§6§lBLAST";
 
-        // Make borders unique so scoreboard lines don't collide
-        obj.getScore("§7--------------------").setScore(line--);
+        lines.add("§7--------------------");
 
         String time = "00:00";
         if (bm != null && bm.isInProgress()) {
             time = formatSeconds(bm.getSecondsRemaining());
         }
-        obj.getScore("§fTime: §e" + time).setScore(line--);
+        lines.add("§fTime: §e" + time);
 
-        obj.getScore(BLANK_1).setScore(line--);
+        lines.add(BLANK_1);
 
         BlastTeam team = bm != null ? bm.getTeam(p) : null;
-        obj.getScore("§fTeam: " + (team != null ? (team.getColor() + team.getKey().toUpperCase()) : "§7NONE")).setScore(line--);
+        lines.add("§fTeam: " + (team != null ? (team.getColor() + team.getKey().toUpperCase()) : "§7NONE"));
 
-        obj.getScore(BLANK_2).setScore(line--);
+        lines.add(BLANK_2);
 
         int tokens = (bm != null) ? bm.getElimTokens(p) : 0;
-        obj.getScore("§fElim Tokens: §b" + tokens).setScore(line--);
+        lines.add("§fElim Tokens: §b" + tokens);
 
         // REQUIRED: space between Elim Tokens and Team Lives
-        obj.getScore(BLANK_3).setScore(line--);
+        lines.add(BLANK_3);
 
-        obj.getScore("§fTeam Lives").setScore(line--);
+        lines.add("§fTeam Lives");
 
         for (BlastTeam t : BlastTeam.values()) {
             int lives = bm != null ? bm.getTeamLives(t) : 0;
             String label = t.getColor() + t.getKey().toUpperCase() + "§7: §f" + lives;
-            obj.getScore(label).setScore(line--);
+            lines.add(label);
         }
 
-        obj.getScore(BLANK_4).setScore(line--);
-        obj.getScore("www.example.com").setScore(line--);
-        obj.getScore("§8--------------------").setScore(line--);
-
-        p.setScoreboard(board);
+        lines.add(BLANK_4);
+        lines.add("www.example.com");
+        lines.add("§8--------------------");
 
+        return title;
     }
 
     private String formatSeconds(int seconds) {
@@ -124,53 +226,46 @@ public class ScoreboardManager {
     // --------------------------------------------------------------------
     // SPECTATOR BOARD
     // --------------------------------------------------------------------
-    private void applySpectatorBoard(Player p) {
-        Scoreboard board = Bukkit.getScoreboardManager().getNewScoreboard();
-        Objective obj = board.registerNewObjective("spectator", "dummy", "§7§lSPECTATOR");
-        obj.setDisplaySlot(DisplaySlot.SIDEBAR);
+    private String buildSpectatorBoardLines(Player p, List<String> lines) {
+        String title = "§7§lSPECTATOR";
 
         BlastMinigameManager bm = plugin.getBlastMinigameManager();
         boolean blastActive = bm != null && bm.isInProgress();
         String gameName = blastActive ? "§6BLAST" : "§7NONE";
         String time = blastActive ? formatSeconds(bm.getSecondsRemaining()) : "--:--";
 
-        int line = 15;
+        lines.add("§7--------------------");
 
-        obj.getScore("§7--------------------").setScore(line--);
+        lines.add("§fGame: " + gameName);
+        lines.add("§fTime: §e" + time);
 
-        obj.getScore("§fGame: " + gameName).setScore(line--);
-        obj.getScore("§fTime: §e" + time).setScore(line--);
+        lines.add(BLANK_1);
 
-        obj.getScore(BLANK_1).setScore(line--);
-
-        obj.getScore("§fTeam Lives").setScore(line--);
+        lines.add("§fTeam Lives");
         for (BlastTeam t : BlastTeam.values()) {
             int lives = blastActive ? bm.getTeamLives(t) : 0;
             String label = t.getColor() + t.getKey().toUpperCase() + "§7: §f" + lives;
-            obj.getScore(label).setScore(line--);
+            lines.add(label);
         }
 
-        obj.getScore(BLANK_2).setScore(line--);
+        lines.add(BLANK_2);
 
         String serverCode = getServerCode();
-        obj.getScore("§fServer").setScore(line--);
-        obj.getScore("§e" + serverCode).setScore(line--);
+        lines.add("§fServer");
+        lines.add("§e" + serverCode);
 
-        obj.getScore(BLANK_3).setScore(line--);
-        obj.getScore("www.example.com").setScore(line--);
-        obj.getScore("§8--------------------").setScore(line--);
+        lines.add(BLANK_3);
+        lines.add("www.example.com");
+        lines.add("§8--------------------");
 
-        p.setScoreboard(board);
+        return title;
     }
 
     // --------------------------------------------------------------------
     // HUB BOARD
     // --------------------------------------------------------------------
-    private void applyHubBoard(Player p) {
-
-        Scoreboard board = Bukkit.getScoreboardManager().getNewScoreboard();
-        Objective obj = board.registerNewObjective("hub", "dummy", "§b§lHUB");
-        obj.setDisplaySlot(DisplaySlot.SIDEBAR);
+    private String buildHubBoardLines(Player p, List<String> lines) {
+        String title = "§b§lHUB";
 
         String serverCode = getServerCode();
         CurrencyManager cur = plugin.getCurrencyManager();
@@ -178,39 +273,34 @@ public class ScoreboardManager {
         int gems = cur.getGems(p.getUniqueId());
         Rank rank = rankManager.getRankOrDefault(p.getUniqueId());
 
-        int line = 15;
-
-        obj.getScore("--------------------").setScore(line--);
-        obj.getScore("§fServer").setScore(line--);
-        obj.getScore("§e" + serverCode).setScore(line--);
-        obj.getScore(BLANK_1).setScore(line--);
+        lines.add("--------------------");
+        lines.add("§fServer");
+        lines.add("§e" + serverCode);
+        lines.add(BLANK_1);
 
-        obj.getScore("§fRank").setScore(line--);
-        obj.getScore("§a" + rank.name()).setScore(line--);
-        obj.getScore(BLANK_2).setScore(line--);
+        lines.add("§fRank");
+        lines.add("§a" + rank.name());
+        lines.add(BLANK_2);
 
-        obj.getScore("§fGems").setScore(line--);
-        obj.getScore("§d" + gems).setScore(line--);
+        lines.add("§fGems");
+        lines.add("§d" + gems);
 
-        obj.getScore("§fCoins").setScore(line--);
-        obj.getScore("§6" + coins).setScore(line--);
+        lines.add("§fCoins");
+        lines.add("§6" + coins);
 
-        obj.getScore(BLANK_3).setScore(line--);
+        lines.add(BLANK_3);
 
-        obj.getScore("www.example.com").setScore(line--);
-        obj.getScore("--------------------").setScore(line--);
+        lines.add("www.example.com");
+        lines.add("--------------------");
 
-        p.setScoreboard(board);
+        return title;
     }
 
     // --------------------------------------------------------------------
     // ARENA BOARD
     // --------------------------------------------------------------------
-    private void applyArenaBoard(Player p) {
-
-        Scoreboard board = Bukkit.getScoreboardManager().getNewScoreboard();
-        Objective obj = board.registerNewObjective("arena", "dummy", "§e§lARENA");
-        obj.setDisplaySlot(DisplaySlot.SIDEBAR);
+    private String buildArenaBoardLines(Player p, List<String> lines) {
+        String title = "§e§lARENA";
 
         String serverCode = getServerCode();
         Rank rank = rankManager.getRankOrDefault(p.getUniqueId());
@@ -218,37 +308,32 @@ public class ScoreboardManager {
         Arena arena = arenaManager.getArenaPlayerIsIn(p);
         int players = arena != null ? arena.getPlayers().size() : 0;
 
-        int line = 15;
-
-        obj.getScore("--------------------").setScore(line--);
+        lines.add("--------------------");
 
-        obj.getScore("§fServer").setScore(line--);
-        obj.getScore("§e" + serverCode).setScore(line--);
-        obj.getScore(BLANK_1).setScore(line--);
+        lines.add("§fServer");
+        lines.add("§e" + serverCode);
+        lines.add(BLANK_1);
 
-        obj.getScore("§fPlayers Joined").setScore(line--);
-        obj.getScore("§a" + players).setScore(line--);
-        obj.getScore(BLANK_2).setScore(line--);
+        lines.add("§fPlayers Joined");
+        lines.add("§a" + players);
+        lines.add(BLANK_2);
 
-        obj.getScore("§fRank").setScore(line--);
-        obj.getScore("§a" + rank.name()).setScore(line--);
+        lines.add("§fRank");
+        lines.add("§a" + rank.name());
 
-        obj.getScore(BLANK_3).setScore(line--);
+        lines.add(BLANK_3);
 
-        obj.getScore("www.example.com").setScore(line--);
-        obj.getScore("--------------------").setScore(line--);
+        lines.add("www.example.com");
+        lines.add("--------------------");
 
-        p.setScoreboard(board);
+        return title;
     }
 
     // --------------------------------------------------------------------
     // SPLEEF BOARD
     // --------------------------------------------------------------------
-    private void applySpleefBoard(Player p) {
-
-        Scoreboard board = Bukkit.getScoreboardManager().getNewScoreboard();
-        Objective obj = board.registerNewObjective("spleef", "dummy", "§c§lSPLEEF");
-        obj.setDisplaySlot(DisplaySlot.SIDEBAR);
+    private String buildSpleefBoardLines(Player p, List<String> lines) {
+        String title = "§c§lSPLEEF";
 
         String serverCode = getServerCode();
         Rank rank = rankManager.getRankOrDefault(p.getUniqueId());
@@ -256,37 +341,32 @@ public class ScoreboardManager {
         Arena arena = arenaManager.getArenaPlayerIsIn(p);
         int alive = arena != null ? arena.getPlayers().size() : 0;
 
-        int line = 15;
+        lines.add("--------------------");
 
-        obj.getScore("--------------------").setScore(line--);
+        lines.add("§fServer");
+        lines.add("§e" + serverCode);
+        lines.add(BLANK_1);
 
-        obj.getScore("§fServer").setScore(line--);
-        obj.getScore("§e" + serverCode).setScore(line--);
-        obj.getScore(BLANK_1).setScore(line--);
+        lines.add("§fPlayers Left");
+        lines.add("§c" + alive);
+        lines.add(BLANK_2);
 
-        obj.getScore("§fPlayers Left").setScore(line--);
-        obj.getScore("§c" + alive).setScore(line--);
-        obj.getScore(BLANK_2).setScore(line--);
+        lines.add("§fRank");
+        lines.add("§a" + rank.name());
 
-        obj.getScore("§fRank").setScore(line--);
-        obj.getScore("§a" + rank.name()).setScore(line--);
+        lines.add(BLANK_3);
 
-        obj.getScore(BLANK_3).setScore(line--);
+        lines.add("www.example.com");
+        lines.add("--------------------");
 
-        obj.getScore("www.example.com").setScore(line--);
-        obj.getScore("--------------------").setScore(line--);
-
-        p.setScoreboard(board);
+        return title;
     }
 
     // --------------------------------------------------------------------
     // PVP BOARD
     // --------------------------------------------------------------------
-    private void applyPvpBoard(Player p) {
-
-        Scoreboard board = Bukkit.getScoreboardManager().getNewScoreboard();
-        Objective obj = board.registerNewObjective("pvp", "dummy", "§4§lPVP");
-        obj.setDisplaySlot(DisplaySlot.SIDEBAR);
+    private String buildPvpBoardLines(Player p, List<String> lines) {
+        String title = "§4§lPVP";
 
         String serverCode = getServerCode();
         Rank rank = rankManager.getRankOrDefault(p.getUniqueId());
@@ -298,37 +378,32 @@ public class ScoreboardManager {
             }
         }
 
-        int line = 15;
-
-        obj.getScore("--------------------").setScore(line--);
+        lines.add("--------------------");
 
-        obj.getScore("§fServer").setScore(line--);
-        obj.getScore("§e" + serverCode).setScore(line--);
-        obj.getScore(BLANK_1).setScore(line--);
+        lines.add("§fServer");
+        lines.add("§e" + serverCode);
+        lines.add(BLANK_1);
 
-        obj.getScore("§fPlayers in PVP").setScore(line--);
-        obj.getScore("§c" + pvpPlayers).setScore(line--);
-        obj.getScore(BLANK_2).setScore(line--);
+        lines.add("§fPlayers in PVP");
+        lines.add("§c" + pvpPlayers);
+        lines.add(BLANK_2);
 
-        obj.getScore("§fRank").setScore(line--);
-        obj.getScore("§a" + rank.name()).setScore(line--);
+        lines.add("§fRank");
+        lines.add("§a" + rank.name());
 
-        obj.getScore(BLANK_3).setScore(line--);
+        lines.add(BLANK_3);
 
-        obj.getScore("www.example.com").setScore(line--);
-        obj.getScore("--------------------").setScore(line--);
+        lines.add("www.example.com");
+        lines.add("--------------------");
 
-        p.setScoreboard(board);
+        return title;
     }
 
     // --------------------------------------------------------------------
     // SUMO BOARD
     // --------------------------------------------------------------------
-    private void applySumoBoard(Player p) {
-
-        Scoreboard board = Bukkit.getScoreboardManager().getNewScoreboard();
-        Objective obj = board.registerNewObjective("sumo", "dummy", "§6§lSUMO");
-        obj.setDisplaySlot(DisplaySlot.SIDEBAR);
+    private String buildSumoBoardLines(Player p, List<String> lines) {
+        String title = "§6§lSUMO";
 
         String serverCode = getServerCode();
         Rank rank = rankManager.getRankOrDefault(p.getUniqueId());
@@ -336,27 +411,25 @@ public class ScoreboardManager {
         Arena arena = arenaManager.getArenaPlayerIsIn(p);
         int alive = arena != null ? arena.getPlayers().size() : 0;
 
-        int line = 15;
-
-        obj.getScore("--------------------").setScore(line--);
+        lines.add("--------------------");
 
-        obj.getScore("§fServer").setScore(line--);
-        obj.getScore("§e" + serverCode).setScore(line--);
-        obj.getScore(BLANK_1).setScore(line--);
+        lines.add("§fServer");
+        lines.add("§e" + serverCode);
+        lines.add(BLANK_1);
 
-        obj.getScore("§fPlayers Left").setScore(line--);
-        obj.getScore("§c" + alive).setScore(line--);
-        obj.getScore(BLANK_2).setScore(line--);
+        lines.add("§fPlayers Left");
+        lines.add("§c" + alive);
+        lines.add(BLANK_2);
 
-        obj.getScore("§fRank").setScore(line--);
-        obj.getScore("§a" + rank.name()).setScore(line--);
+        lines.add("§fRank");
+        lines.add("§a" + rank.name());
 
-        obj.getScore(BLANK_3).setScore(line--);
+        lines.add(BLANK_3);
 
-        obj.getScore("www.example.com").setScore(line--);
-        obj.getScore("--------------------").setScore(line--);
+        lines.add("www.example.com");
+        lines.add("--------------------");
 
-        p.setScoreboard(board);
+        return title;
     }
 
     private String getServerCode() {
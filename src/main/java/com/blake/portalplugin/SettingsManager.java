@@ -0,0 +1,143 @@
+package com.blake.portalplugin.config;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.logging.Level;
+
+/**
+ * Holds the current {@link PluginSettings} snapshot and swaps it atomically.
+ *
+ * The snapshot is rebuilt from the in-memory config on {@link #reload()} (startup, or after
+ * code that changes config values). A watch thread notices edits to config.yml and hands them
+ * to the main thread, which reloads plugin.getConfig() from disk and recompiles, so the live
+ * config, later reloads and other managers' saveConfig() calls all see the edit.
+ * Readers just call {@link #get()}; a snapshot never changes once published.
+ */
+public class SettingsManager {
+
+    // Editors often write a file in several steps; wait for the burst to settle
+    private static final long WATCH_SETTLE_MS = 500L;
+
+    private final Plugin plugin;
+    private volatile PluginSettings current;
+
+    private WatchService watchService;
+    private Thread watchThread;
+
+    public SettingsManager(Plugin plugin) {
+        this.plugin = plugin;
+        reload();
+    }
+
+    public PluginSettings get() {
+        return current;
+    }
+
+    /**
+     * Recompiles from plugin.getConfig(). Main thread.
+     */
+    public void reload() {
+        this.current = PluginSettings.compile(plugin.getConfig());
+    }
+
+    // ---------------------------------------------------------------------
+    // File watch
+    // ---------------------------------------------------------------------
+
+    public void startWatching() {
+        if (watchThread != null) return;
+
+        Path folder = plugin.getDataFolder().toPath();
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            folder.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+        } catch (IOException e) {
+            plugin.getLogger().warning("[PortalPlugin] Could not watch config.yml for changes: " + e.getMessage());
+            return;
+        }
+
+        watchThread = new Thread(this::watchLoop, "PortalPlugin-ConfigWatch");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    public void shutdown() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {}
+        }
+        watchService = null;
+        watchThread = null;
+    }
+
+    private void watchLoop() {
+        File file = new File(plugin.getDataFolder(), "config.yml");
+
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            boolean touched = false;
+            for (WatchEvent<?> event : key.pollEvents()) {
+                Object ctx = event.context();
+                if (ctx instanceof Path p && p.getFileName().toString().equals("config.yml")) {
+                    touched = true;
+                }
+            }
+            if (!key.reset()) return;
+            if (!touched) continue;
+
+            try {
+                Thread.sleep(WATCH_SETTLE_MS);
+                WatchService ws = watchService;
+                if (ws == null) return;
+                // Drain the rest of the burst
+                WatchKey extra;
+                while ((extra = ws.poll()) != null) {
+                    extra.pollEvents();
+                    extra.reset();
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            // The live config object belongs to the main thread
+            if (!plugin.isEnabled()) return;
+            Bukkit.getScheduler().runTask(plugin, () -> reloadFromDisk(file));
+        }
+    }
+
+    private void reloadFromDisk(File file) {
+        try {
+            // Our own saveConfig() writes land here too; only reload if the file differs from memory
+            String onDisk = Files.readString(file.toPath(), StandardCharsets.UTF_8);
+            if (onDisk.equals(plugin.getConfig().saveToString())) return;
+
+            plugin.reloadConfig();
+            PluginSettings previous = current;
+            reload();
+            if (!current.equals(previous)) {
+                plugin.getLogger().info("[PortalPlugin] config.yml changed; settings reloaded.");
+            }
+        } catch (Throwable t) {
+            plugin.getLogger().log(Level.WARNING, "[PortalPlugin] Failed to reload settings from config.yml", t);
+        }
+    }
+}
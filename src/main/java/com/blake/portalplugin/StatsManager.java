@@ -3,8 +3,7 @@ package com.blake.portalplugin.stats;
 import com.blake.portalplugin.PortalPlugin;
 import com.blake.portalplugin.holograms.HologramManager;
 import com.blake.portalplugin.scoreboard.ScoreboardManager;
-import org.bukkit.Bukkit;
-import org.bukkit.OfflinePlayer;
+import com.blake.portalplugin.stats.DatabaseExecutor.Lane;
 
 import java.sql.*;
 import java.util.*;
@@ -15,37 +14,42 @@ import java.util.logging.Level;
 public class StatsManager {
 
     private final PortalPlugin plugin;
-    private final DatabaseManager databaseManager;
+    private final DatabaseExecutor db;
+    private final LeaderboardManager leaderboards;
 
     public StatsManager(PortalPlugin plugin, DatabaseManager databaseManager) {
         this.plugin = plugin;
-        this.databaseManager = databaseManager;
+        this.db = databaseManager.getExecutor();
+        this.leaderboards = new LeaderboardManager(plugin, db);
+    }
+
+    public LeaderboardManager getLeaderboards() {
+        return leaderboards;
     }
 
     // ---------------------------------------------------------------------
     //  CREATE TABLE IF MISSING
     // ---------------------------------------------------------------------
     public void ensureTable() {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-            String sql = """
-                    CREATE TABLE IF NOT EXISTS player_stats (
-                        uuid CHAR(36) NOT NULL,
-                        gamemode VARCHAR(32) NOT NULL,
-                        wins INT NOT NULL DEFAULT 0,
-                        losses INT NOT NULL DEFAULT 0,
-                        PRIMARY KEY (uuid, gamemode)
-                    )
-                    """;
-            try (Connection conn = databaseManager.getConnection();
-                 Statement st = conn.createStatement()) {
+        String sql = """
+                CREATE TABLE IF NOT EXISTS player_stats (
+                    uuid CHAR(36) NOT NULL,
+                    gamemode VARCHAR(32) NOT NULL,
+                    wins INT NOT NULL DEFAULT 0,
+                    losses INT NOT NULL DEFAULT 0,
+                    PRIMARY KEY (uuid, gamemode)
+                )
+                """;
 
+        db.run(Lane.WRITE, conn -> {
+            try (Statement st = conn.createStatement()) {
                 st.executeUpdate(sql);
-
-            } catch (SQLException e) {
-                plugin.getLogger().log(Level.SEVERE,
-                        "[PortalPlugin] Failed to create player_stats table", e);
             }
-        });
+        }).exceptionally(e -> {
+            plugin.getLogger().log(Level.SEVERE,
+                    "[PortalPlugin] Failed to create player_stats table", e);
+            return null;
+        }).thenRun(() -> leaderboards.seed().thenRun(this::refreshLeaderboardViews));
     }
 
     // ---------------------------------------------------------------------
@@ -58,20 +62,20 @@ public class StatsManager {
             return;
         }
 
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        List<UUID> players = new ArrayList<>(participants);
 
-            String sql = """
-                    INSERT INTO player_stats (uuid, gamemode, wins, losses)
-                    VALUES (?, ?, ?, ?)
-                    ON DUPLICATE KEY UPDATE
-                        wins = wins + VALUES(wins),
-                        losses = losses + VALUES(losses)
-                    """;
+        String sql = """
+                INSERT INTO player_stats (uuid, gamemode, wins, losses)
+                VALUES (?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE
+                    wins = wins + VALUES(wins),
+                    losses = losses + VALUES(losses)
+                """;
 
-            try (Connection conn = databaseManager.getConnection();
-                 PreparedStatement ps = conn.prepareStatement(sql)) {
+        db.run(Lane.WRITE, conn -> {
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
 
-                for (UUID uuid : participants) {
+                for (UUID uuid : players) {
                     boolean isWinner = uuid.equals(winnerId);
 
                     ps.clearParameters();
@@ -83,41 +87,42 @@ public class StatsManager {
                 }
 
                 ps.executeBatch();
+            }
+        }).exceptionally(e -> {
+            plugin.getLogger().log(Level.SEVERE,
+                    "[PortalPlugin] Failed to record game result", e);
+            return null;
+        });
 
-                // Refresh holograms and scoreboards on the main thread
-                Bukkit.getScheduler().runTask(plugin, () -> {
-                    HologramManager hm = plugin.getHologramManager();
-                    if (hm != null) hm.updateAll(this);
+        // Leaderboards are kept in memory, so views can refresh right away without waiting on the write.
+        leaderboards.applyResult(gamemode, winnerId, players);
+        refreshLeaderboardViews();
 
-                    ScoreboardManager sb = plugin.getScoreboardManager();
-                    if (sb != null) sb.refreshAll();
-                });
+        ScoreboardManager sb = plugin.getScoreboardManager();
+        if (sb != null) sb.refreshAll();
+    }
 
-            } catch (SQLException e) {
-                plugin.getLogger().log(Level.SEVERE,
-                        "[PortalPlugin] Failed to record game result", e);
-            }
-        });
+    private void refreshLeaderboardViews() {
+        HologramManager hm = plugin.getHologramManager();
+        if (hm != null) hm.updateAll(this);
     }
 
     // ---------------------------------------------------------------------
     //  INTERNAL SYNC LOADER
     // ---------------------------------------------------------------------
-    private List<PlayerStats> loadStatsSync(UUID uuid) throws SQLException {
+    private List<PlayerStats> loadStatsSync(Connection conn, UUID uuid) throws SQLException {
 
         List<PlayerStats> list = new ArrayList<>();
 
         String sql = "SELECT gamemode, wins, losses FROM player_stats WHERE uuid = ?";
 
-        try (Connection conn = databaseManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
 
             ps.setString(1, uuid.toString());
 
             try (ResultSet rs = ps.executeQuery()) {
 
-                OfflinePlayer offline = Bukkit.getOfflinePlayer(uuid);
-                String name = offline.getName() == null ? "Unknown" : offline.getName();
+                String name = leaderboards.nameOf(uuid);
 
                 while (rs.next()) {
 
@@ -137,21 +142,14 @@ public class StatsManager {
     // ---------------------------------------------------------------------
     public void loadStatsAsync(UUID uuid, Consumer<List<PlayerStats>> callback) {
 
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-
-            List<PlayerStats> stats = null;
-
-            try {
-                stats = loadStatsSync(uuid);
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.SEVERE,
-                        "[PortalPlugin] Failed to load stats async", e);
-            }
-
-            List<PlayerStats> finalStats = stats;
-
-            Bukkit.getScheduler().runTask(plugin, () -> callback.accept(finalStats));
-        });
+        db.submit(Lane.READ, conn -> loadStatsSync(conn, uuid))
+                .whenCompleteAsync((stats, e) -> {
+                    if (e != null) {
+                        plugin.getLogger().log(Level.SEVERE,
+                                "[PortalPlugin] Failed to load stats async", e);
+                    }
+                    callback.accept(e == null ? stats : null);
+                }, db.mainThread());
     }
 
     // ---------------------------------------------------------------------
@@ -190,117 +188,53 @@ public class StatsManager {
     // ---------------------------------------------------------------------
     public void getWinsForGamemode(UUID uuid, String gamemode, IntConsumer callback) {
 
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        String sql = "SELECT wins FROM player_stats WHERE uuid = ? AND gamemode = ?";
 
-            int wins = 0;
-
-            String sql = "SELECT wins FROM player_stats WHERE uuid = ? AND gamemode = ?";
-
-            try (Connection conn = databaseManager.getConnection();
-                 PreparedStatement ps = conn.prepareStatement(sql)) {
+        db.submit(Lane.READ, conn -> {
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
 
                 ps.setString(1, uuid.toString());
                 ps.setString(2, gamemode);
 
                 try (ResultSet rs = ps.executeQuery()) {
-                    if (rs.next()) wins = rs.getInt("wins");
+                    return rs.next() ? rs.getInt("wins") : 0;
                 }
-
-            } catch (SQLException e) {
+            }
+        }).whenCompleteAsync((wins, e) -> {
+            if (e != null) {
                 plugin.getLogger().log(Level.SEVERE,
                         "[PortalPlugin] Failed getWinsForGamemode", e);
             }
-
-            int finalWins = wins;
-            Bukkit.getScheduler().runTask(plugin, () -> callback.accept(finalWins));
-        });
+            callback.accept(e == null ? wins : 0);
+        }, db.mainThread());
     }
 
     // ---------------------------------------------------------------------
-    //  TOP 10 WINS (SYNC)
+    //  TOP 10 WINS (SYNC, IN-MEMORY)
     // ---------------------------------------------------------------------
     public List<String> getTopTenWinsSync(String gamemode) {
 
         List<String> lines = new ArrayList<>();
         lines.add("§e§lTop Wins - " + gamemode);
 
-        String sql = """
-                SELECT uuid, wins
-                FROM player_stats
-                WHERE gamemode = ?
-                ORDER BY wins DESC
-                LIMIT 10
-                """;
-
-        try (Connection conn = databaseManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setString(1, gamemode);
-
-            try (ResultSet rs = ps.executeQuery()) {
-                int rank = 1;
-
-                while (rs.next()) {
-
-                    String uuidStr = rs.getString("uuid");
-                    int wins = rs.getInt("wins");
-
-                    OfflinePlayer op = Bukkit.getOfflinePlayer(UUID.fromString(uuidStr));
-                    String name = op.getName() == null ? "Unknown" : op.getName();
-
-                    lines.add("§f" + rank + ". §a" + name + " §7- §b" + wins);
-                    rank++;
-                }
-            }
-
-        } catch (SQLException e) {
-            plugin.getLogger().warning("[PortalPlugin] Failed getTopTenWinsSync: " + e.getMessage());
+        int rank = 1;
+        for (LeaderboardManager.Standing s : leaderboards.top(gamemode, 10)) {
+            lines.add("§f" + rank + ". §a" + leaderboards.nameOf(s.uuid()) + " §7- §b" + s.wins());
+            rank++;
         }
 
         return lines;
     }
 
     // ---------------------------------------------------------------------
-    //  TOP X WINS (ASYNC)
+    //  TOP X WINS
     // ---------------------------------------------------------------------
     public void getTopWins(String gamemode, int limit, Consumer<List<PlayerStats>> callback) {
 
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-
-            List<PlayerStats> list = new ArrayList<>();
-
-            String sql = """
-                    SELECT uuid, wins
-                    FROM player_stats
-                    WHERE gamemode = ?
-                    ORDER BY wins DESC
-                    LIMIT ?
-                    """;
-
-            try (Connection conn = databaseManager.getConnection();
-                 PreparedStatement ps = conn.prepareStatement(sql)) {
-
-                ps.setString(1, gamemode);
-                ps.setInt(2, limit);
-
-                try (ResultSet rs = ps.executeQuery()) {
-
-                    while (rs.next()) {
-                        String uuidStr = rs.getString("uuid");
-                        int wins = rs.getInt("wins");
-
-                        OfflinePlayer op = Bukkit.getOfflinePlayer(UUID.fromString(uuidStr));
-                        String name = op.getName() == null ? "Unknown" : op.getName();
-
-                        list.add(new PlayerStats(uuidStr, name, gamemode, wins, 0));
-                    }
-                }
-
-            } catch (SQLException e) {
-                plugin.getLogger().warning("[PortalPlugin] getTopWins failed: " + e.getMessage());
-            }
-
-            Bukkit.getScheduler().runTask(plugin, () -> callback.accept(list));
-        });
+        // Served from memory; only waits if the initial seed hasn't finished yet.
+        leaderboards.whenReady().thenRunAsync(
+                () -> callback.accept(leaderboards.topStats(gamemode, limit)),
+                db.mainThread()
+        );
     }
 }
@@ -1,50 +1,49 @@
 package com.blake.portalplugin.listeners;
 
 import com.blake.portalplugin.ArenaEliminationHandler;
-import com.blake.portalplugin.GameState;
-import com.blake.portalplugin.GameStateManager;
 import com.blake.portalplugin.arenas.Arena;
 import com.blake.portalplugin.arenas.ArenaManager;
+import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * SUMO rule for {@link PlayerMoveDispatcher}: falling to the void threshold eliminates.
+ */
 public class SumoVoidEliminationListener implements Listener {
 
+    private static final double VOID_Y = -61.0;
+
     private final ArenaManager arenaManager;
     private final ArenaEliminationHandler eliminationHandler;
-    private final GameStateManager gameStateManager;
 
     // Prevents repeated eliminate calls while the player is still falling/moving
     private final Set<UUID> recentlyEliminated = ConcurrentHashMap.newKeySet();
 
     public SumoVoidEliminationListener(ArenaManager arenaManager,
-                                      ArenaEliminationHandler eliminationHandler,
-                                      GameStateManager gameStateManager) {
+                                      ArenaEliminationHandler eliminationHandler) {
         this.arenaManager = arenaManager;
         this.eliminationHandler = eliminationHandler;
-        this.gameStateManager = gameStateManager;
     }
 
-    @EventHandler
-    public void onMove(PlayerMoveEvent event) {
-        Player player = event.getPlayer();
-        if (player == null) return;
+    public void onMove(PlayerMoveEvent event, Player player, Location to, boolean blockChanged) {
+        if (!blockChanged) return;
 
-        if (gameStateManager.getGameState(player) != GameState.SUMO) {
-            recentlyEliminated.remove(player.getUniqueId());
+        UUID uuid = player.getUniqueId();
+
+        // Back above the void (new round, or re-queued into SUMO): allow the next fall to count
+        if (to.getY() > VOID_Y) {
+            if (!recentlyEliminated.isEmpty()) recentlyEliminated.remove(uuid);
             return;
         }
 
-        // Only care when their Y is at/below the threshold
-        if (player.getLocation().getY() > -61.0) return;
-
-        UUID uuid = player.getUniqueId();
         if (!recentlyEliminated.add(uuid)) return;
 
         Arena arena = arenaManager.getArenaPlayerIsIn(player);
@@ -52,4 +51,9 @@ public class SumoVoidEliminationListener implements Listener {
 
         eliminationHandler.eliminatePlayer(player, arena, "Fell", true);
     }
-}
\ No newline at end of file
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        recentlyEliminated.remove(event.getPlayer().getUniqueId());
+    }
+}
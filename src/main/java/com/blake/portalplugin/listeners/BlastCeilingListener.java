@@ -5,31 +5,37 @@ import com.blake.portalplugin.BlastMinigameManager;
 import com.blake.portalplugin.GameState;
 import com.blake.portalplugin.GameStateManager;
 import com.blake.portalplugin.PortalPlugin;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
 
+/**
+ * Caps BLAST players at the active map's ceiling. Movement comes through
+ * {@link PlayerMoveDispatcher} (BLAST only); teleports are handled here directly.
+ */
 public class BlastCeilingListener implements Listener {
 
     private final PortalPlugin plugin;
     private final GameStateManager gameStateManager;
 
+    // Active map's world, resolved once per map (a failed lookup included) instead of a name
+    // compare per packet
+    private BlastMap cachedMap;
+    private String cachedWorldName;
+    private World cachedWorld;
+
     public BlastCeilingListener(PortalPlugin plugin, GameStateManager gameStateManager) {
         this.plugin = plugin;
         this.gameStateManager = gameStateManager;
     }
 
-    @EventHandler
-    public void onMove(PlayerMoveEvent event) {
-        Player player = event.getPlayer();
-        if (player == null) return;
-
-        Location to = event.getTo();
-        if (to == null) return;
-
+    public void onMove(PlayerMoveEvent event, Player player, Location to, boolean blockChanged) {
+        // The dispatcher only routes BLAST players here
         Integer ceilingY = resolveCeilingY(player, to);
         if (ceilingY == null) return;
 
@@ -48,6 +54,8 @@ public class BlastCeilingListener implements Listener {
         Location to = event.getTo();
         if (to == null) return;
 
+        if (gameStateManager.getGameState(player) != GameState.BLAST) return;
+
         Integer ceilingY = resolveCeilingY(player, to);
         if (ceilingY == null) return;
 
@@ -58,9 +66,11 @@ public class BlastCeilingListener implements Listener {
         }
     }
 
+    /**
+     * Ceiling for a BLAST player heading to {@code destination}; callers check the state.
+     */
     private Integer resolveCeilingY(Player player, Location destination) {
         if (player == null || destination == null) return null;
-        if (gameStateManager.getGameState(player) != GameState.BLAST) return null;
 
         BlastMinigameManager bm = plugin.getBlastMinigameManager();
         if (bm == null || !bm.isInProgress() || !bm.isParticipant(player)) return null;
@@ -68,12 +78,26 @@ public class BlastCeilingListener implements Listener {
         BlastMap map = bm.getActiveMap();
         if (map == null) return null;
 
+        Integer ceilingY = map.getCeilingY();
+        if (ceilingY == null) return null;
+
         String worldName = map.getWorldName();
-        if (worldName != null && destination.getWorld() != null
-                && !worldName.equalsIgnoreCase(destination.getWorld().getName())) {
+        World world = destination.getWorld();
+        if (worldName != null && world != null && world != mapWorld(map)
+                && !worldName.equalsIgnoreCase(world.getName())) {
             return null;
         }
 
-        return map.getCeilingY();
+        return ceilingY;
+    }
+
+    private World mapWorld(BlastMap map) {
+        String worldName = map.getWorldName();
+        if (map != cachedMap || worldName != cachedWorldName) {
+            cachedMap = map;
+            cachedWorldName = worldName;
+            cachedWorld = worldName == null ? null : Bukkit.getWorld(worldName);
+        }
+        return cachedWorld;
     }
 }
@@ -34,7 +34,8 @@ public class BlastDashListener implements Listener {
 
         ItemStack item = e.getItem();
         if (item == null) return;
-        if (!BlastItems.isBasicBlaster(plugin, item) && !BlastItems.isBigBlaster(plugin, item)) return;
+        BlastItemClassifier.Kind kind = BlastItemClassifier.classify(plugin, item).kind();
+        if (kind != BlastItemClassifier.Kind.BASIC_BLASTER && kind != BlastItemClassifier.Kind.BIG_BLASTER) return;
 
         BlastPowerupManager pm = plugin.getBlastPowerupManager();
         if (pm == null) return;